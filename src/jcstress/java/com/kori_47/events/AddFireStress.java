@@ -0,0 +1,133 @@
+/**
+ * 
+ */
+package com.kori_47.events;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.I_Result;
+
+/**
+ * Races adding a handler against firing an event that the handler supports. The event is delivered to the handler at 
+ * most once and only if the handler was added first, the result is the number of times it was delivered.
+ * 
+ * @author Kennedy Kori
+ *
+ * @since Oct 20, 2026, 10:48:13 AM
+ */
+public class AddFireStress {
+
+	@JCStressTest
+	@Outcome(id = "0", expect = ACCEPTABLE, desc = "The event was fired before the handler was added.")
+	@Outcome(id = "1", expect = ACCEPTABLE, desc = "The handler was added before the event was fired.")
+	@Outcome(expect = FORBIDDEN, desc = "The event was delivered more than once.")
+	@State
+	public static class Simple {
+
+		private final ListenerFixture fixture = ListenerFixture.simple();
+
+		@Actor
+		public void add() {
+			fixture.listener().addHandler(SimpleEvent.class, fixture.handler);
+		}
+
+		@Actor
+		public void fire() {
+			fixture.publisher().fireEvent(fixture.event);
+		}
+
+		@Arbiter
+		public void arbiter(I_Result result) {
+			fixture.settle();
+			result.r1 = fixture.deliveries.get();
+			fixture.dispose();
+		}
+	}
+
+	@JCStressTest
+	@Outcome(id = "0", expect = ACCEPTABLE, desc = "The event was fired before the handler was added.")
+	@Outcome(id = "1", expect = ACCEPTABLE, desc = "The handler was added before the event was fired.")
+	@Outcome(expect = FORBIDDEN, desc = "The event was delivered more than once.")
+	@State
+	public static class Threaded {
+
+		private final ListenerFixture fixture = ListenerFixture.threaded();
+
+		@Actor
+		public void add() {
+			fixture.listener().addHandler(SimpleEvent.class, fixture.handler);
+		}
+
+		@Actor
+		public void fire() {
+			fixture.publisher().fireEvent(fixture.event);
+		}
+
+		@Arbiter
+		public void arbiter(I_Result result) {
+			fixture.settle();
+			result.r1 = fixture.deliveries.get();
+			fixture.dispose();
+		}
+	}
+
+	@JCStressTest
+	@Outcome(id = "0", expect = ACCEPTABLE, desc = "The event was fired before the handler was added.")
+	@Outcome(id = "1", expect = ACCEPTABLE, desc = "The handler was added before the event was fired.")
+	@Outcome(expect = FORBIDDEN, desc = "The event was delivered more than once.")
+	@State
+	public static class Sequential {
+
+		private final ListenerFixture fixture = ListenerFixture.sequential();
+
+		@Actor
+		public void add() {
+			fixture.listener().addHandler(SimpleEvent.class, fixture.handler);
+		}
+
+		@Actor
+		public void fire() {
+			fixture.publisher().fireEvent(fixture.event);
+		}
+
+		@Arbiter
+		public void arbiter(I_Result result) {
+			fixture.settle();
+			result.r1 = fixture.deliveries.get();
+			fixture.dispose();
+		}
+	}
+
+	@JCStressTest
+	@Outcome(id = "0", expect = ACCEPTABLE, desc = "The event was fired before the handler was added.")
+	@Outcome(id = "1", expect = ACCEPTABLE, desc = "The handler was added before the event was fired.")
+	@Outcome(expect = FORBIDDEN, desc = "The event was delivered more than once.")
+	@State
+	public static class Hierarchical {
+
+		private final ListenerFixture fixture = ListenerFixture.hierarchical();
+
+		@Actor
+		public void add() {
+			fixture.listener().addHandler(SimpleEvent.class, fixture.handler);
+		}
+
+		@Actor
+		public void fire() {
+			fixture.publisher().fireEvent(fixture.event);
+		}
+
+		@Arbiter
+		public void arbiter(I_Result result) {
+			fixture.settle();
+			result.r1 = fixture.deliveries.get();
+			fixture.dispose();
+		}
+	}
+}
@@ -0,0 +1,149 @@
+/**
+ * 
+ */
+package com.kori_47.events;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.II_Result;
+
+/**
+ * Races adding a handler against removing another handler of the same event type. Neither change may be lost, the 
+ * result is the number of handlers left and whether the added handler is one of them.
+ * 
+ * @author Kennedy Kori
+ *
+ * @since Oct 20, 2026, 10:53:36 AM
+ */
+public class AddRemoveStress {
+
+	@JCStressTest
+	@Outcome(id = "1, 1", expect = ACCEPTABLE, desc = "Both changes were applied.")
+	@Outcome(expect = FORBIDDEN, desc = "One of the changes was lost.")
+	@State
+	public static class Simple {
+
+		private final ListenerFixture fixture = ListenerFixture.simple();
+
+		public Simple() {
+			fixture.listener().addHandler(SimpleEvent.class, fixture.otherHandler);
+		}
+
+		@Actor
+		public void add() {
+			fixture.listener().addHandler(SimpleEvent.class, fixture.handler);
+		}
+
+		@Actor
+		public void remove() {
+			fixture.listener().removeHandler(SimpleEvent.class, fixture.otherHandler);
+		}
+
+		@Arbiter
+		public void arbiter(II_Result result) {
+			ListenerSnapshot snapshot = fixture.listener().getSnapshot();
+			result.r1 = snapshot.handlerCount(SimpleEvent.class);
+			result.r2 = snapshot.getHandlers(SimpleEvent.class).contains(fixture.handler)? 1 : 0;
+			fixture.dispose();
+		}
+	}
+
+	@JCStressTest
+	@Outcome(id = "1, 1", expect = ACCEPTABLE, desc = "Both changes were applied.")
+	@Outcome(expect = FORBIDDEN, desc = "One of the changes was lost.")
+	@State
+	public static class Threaded {
+
+		private final ListenerFixture fixture = ListenerFixture.threaded();
+
+		public Threaded() {
+			fixture.listener().addHandler(SimpleEvent.class, fixture.otherHandler);
+		}
+
+		@Actor
+		public void add() {
+			fixture.listener().addHandler(SimpleEvent.class, fixture.handler);
+		}
+
+		@Actor
+		public void remove() {
+			fixture.listener().removeHandler(SimpleEvent.class, fixture.otherHandler);
+		}
+
+		@Arbiter
+		public void arbiter(II_Result result) {
+			ListenerSnapshot snapshot = fixture.listener().getSnapshot();
+			result.r1 = snapshot.handlerCount(SimpleEvent.class);
+			result.r2 = snapshot.getHandlers(SimpleEvent.class).contains(fixture.handler)? 1 : 0;
+			fixture.dispose();
+		}
+	}
+
+	@JCStressTest
+	@Outcome(id = "1, 1", expect = ACCEPTABLE, desc = "Both changes were applied.")
+	@Outcome(expect = FORBIDDEN, desc = "One of the changes was lost.")
+	@State
+	public static class Sequential {
+
+		private final ListenerFixture fixture = ListenerFixture.sequential();
+
+		public Sequential() {
+			fixture.listener().addHandler(SimpleEvent.class, fixture.otherHandler);
+		}
+
+		@Actor
+		public void add() {
+			fixture.listener().addHandler(SimpleEvent.class, fixture.handler);
+		}
+
+		@Actor
+		public void remove() {
+			fixture.listener().removeHandler(SimpleEvent.class, fixture.otherHandler);
+		}
+
+		@Arbiter
+		public void arbiter(II_Result result) {
+			ListenerSnapshot snapshot = fixture.listener().getSnapshot();
+			result.r1 = snapshot.handlerCount(SimpleEvent.class);
+			result.r2 = snapshot.getHandlers(SimpleEvent.class).contains(fixture.handler)? 1 : 0;
+			fixture.dispose();
+		}
+	}
+
+	@JCStressTest
+	@Outcome(id = "1, 1", expect = ACCEPTABLE, desc = "Both changes were applied.")
+	@Outcome(expect = FORBIDDEN, desc = "One of the changes was lost.")
+	@State
+	public static class Hierarchical {
+
+		private final ListenerFixture fixture = ListenerFixture.hierarchical();
+
+		public Hierarchical() {
+			fixture.listener().addHandler(SimpleEvent.class, fixture.otherHandler);
+		}
+
+		@Actor
+		public void add() {
+			fixture.listener().addHandler(SimpleEvent.class, fixture.handler);
+		}
+
+		@Actor
+		public void remove() {
+			fixture.listener().removeHandler(SimpleEvent.class, fixture.otherHandler);
+		}
+
+		@Arbiter
+		public void arbiter(II_Result result) {
+			ListenerSnapshot snapshot = fixture.listener().getSnapshot();
+			result.r1 = snapshot.handlerCount(SimpleEvent.class);
+			result.r2 = snapshot.getHandlers(SimpleEvent.class).contains(fixture.handler)? 1 : 0;
+			fixture.dispose();
+		}
+	}
+}
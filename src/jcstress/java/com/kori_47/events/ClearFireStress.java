@@ -0,0 +1,153 @@
+/**
+ * 
+ */
+package com.kori_47.events;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.II_Result;
+
+/**
+ * Races clearing a listener against firing an event to it's only handler. The event is delivered at most once, and 
+ * the listener has no handlers left, the result is the number of deliveries and the number of remaining handlers.
+ * 
+ * @author Kennedy Kori
+ *
+ * @since Oct 20, 2026, 10:58:02 AM
+ */
+public class ClearFireStress {
+
+	@JCStressTest
+	@Outcome(id = "0, 0", expect = ACCEPTABLE, desc = "The listener was cleared before the event was fired.")
+	@Outcome(id = "1, 0", expect = ACCEPTABLE, desc = "The event was fired before the listener was cleared.")
+	@Outcome(expect = FORBIDDEN, desc = "The event was delivered more than once or the handler survived clear.")
+	@State
+	public static class Simple {
+
+		private final ListenerFixture fixture = ListenerFixture.simple();
+
+		public Simple() {
+			fixture.listener().addHandler(SimpleEvent.class, fixture.handler);
+		}
+
+		@Actor
+		public void clear() {
+			fixture.listener().clear();
+		}
+
+		@Actor
+		public void fire() {
+			fixture.publisher().fireEvent(fixture.event);
+		}
+
+		@Arbiter
+		public void arbiter(II_Result result) {
+			result.r2 = fixture.listener().handlerCount(SimpleEvent.class);
+			fixture.settle();
+			result.r1 = fixture.deliveries.get();
+			fixture.dispose();
+		}
+	}
+
+	@JCStressTest
+	@Outcome(id = "0, 0", expect = ACCEPTABLE, desc = "The listener was cleared before the event was fired.")
+	@Outcome(id = "1, 0", expect = ACCEPTABLE, desc = "The event was fired before the listener was cleared.")
+	@Outcome(expect = FORBIDDEN, desc = "The event was delivered more than once or the handler survived clear.")
+	@State
+	public static class Threaded {
+
+		private final ListenerFixture fixture = ListenerFixture.threaded();
+
+		public Threaded() {
+			fixture.listener().addHandler(SimpleEvent.class, fixture.handler);
+		}
+
+		@Actor
+		public void clear() {
+			fixture.listener().clear();
+		}
+
+		@Actor
+		public void fire() {
+			fixture.publisher().fireEvent(fixture.event);
+		}
+
+		@Arbiter
+		public void arbiter(II_Result result) {
+			result.r2 = fixture.listener().handlerCount(SimpleEvent.class);
+			fixture.settle();
+			result.r1 = fixture.deliveries.get();
+			fixture.dispose();
+		}
+	}
+
+	@JCStressTest
+	@Outcome(id = "0, 0", expect = ACCEPTABLE, desc = "The listener was cleared before the event was fired.")
+	@Outcome(id = "1, 0", expect = ACCEPTABLE, desc = "The event was fired before the listener was cleared.")
+	@Outcome(expect = FORBIDDEN, desc = "The event was delivered more than once or the handler survived clear.")
+	@State
+	public static class Sequential {
+
+		private final ListenerFixture fixture = ListenerFixture.sequential();
+
+		public Sequential() {
+			fixture.listener().addHandler(SimpleEvent.class, fixture.handler);
+		}
+
+		@Actor
+		public void clear() {
+			fixture.listener().clear();
+		}
+
+		@Actor
+		public void fire() {
+			fixture.publisher().fireEvent(fixture.event);
+		}
+
+		@Arbiter
+		public void arbiter(II_Result result) {
+			result.r2 = fixture.listener().handlerCount(SimpleEvent.class);
+			fixture.settle();
+			result.r1 = fixture.deliveries.get();
+			fixture.dispose();
+		}
+	}
+
+	@JCStressTest
+	@Outcome(id = "0, 0", expect = ACCEPTABLE, desc = "The listener was cleared before the event was fired.")
+	@Outcome(id = "1, 0", expect = ACCEPTABLE, desc = "The event was fired before the listener was cleared.")
+	@Outcome(expect = FORBIDDEN, desc = "The event was delivered more than once or the handler survived clear.")
+	@State
+	public static class Hierarchical {
+
+		private final ListenerFixture fixture = ListenerFixture.hierarchical();
+
+		public Hierarchical() {
+			fixture.listener().addHandler(SimpleEvent.class, fixture.handler);
+		}
+
+		@Actor
+		public void clear() {
+			fixture.listener().clear();
+		}
+
+		@Actor
+		public void fire() {
+			fixture.publisher().fireEvent(fixture.event);
+		}
+
+		@Arbiter
+		public void arbiter(II_Result result) {
+			result.r2 = fixture.listener().handlerCount(SimpleEvent.class);
+			fixture.settle();
+			result.r1 = fixture.deliveries.get();
+			fixture.dispose();
+		}
+	}
+}
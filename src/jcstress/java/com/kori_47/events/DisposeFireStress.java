@@ -0,0 +1,84 @@
+/**
+ * 
+ */
+package com.kori_47.events;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.I_Result;
+
+/**
+ * Races disposing a listener against firing an event to it. Firing either succeeds, whether or not the event is 
+ * delivered, or fails with an {@code IllegalStateException} because the listener is already disposed, any other 
+ * exception, such as the listener's executor rejecting the event, is a failure. The result is {@code 1} if firing 
+ * succeeded and {@code 0} if it was rejected.
+ * 
+ * @author Kennedy Kori
+ *
+ * @since Oct 20, 2026, 11:04:47 AM
+ */
+public class DisposeFireStress {
+
+	@JCStressTest
+	@Outcome(id = "1", expect = ACCEPTABLE, desc = "The event was fired before the listener was disposed.")
+	@Outcome(id = "0", expect = ACCEPTABLE, desc = "The listener was disposed before the event was fired.")
+	@Outcome(expect = FORBIDDEN, desc = "Firing the event failed in some other way.")
+	@State
+	public static class ThreadedPool {
+
+		private final ListenerFixture fixture = ListenerFixture.threadedPool();
+
+		public ThreadedPool() {
+			fixture.listener().addHandler(SimpleEvent.class, fixture.handler);
+		}
+
+		@Actor
+		public void dispose() {
+			fixture.dispose();
+		}
+
+		@Actor
+		public void fire(I_Result result) {
+			try {
+				fixture.publisher().fireEvent(fixture.event);
+				result.r1 = 1;
+			} catch (IllegalStateException ex) {
+				result.r1 = 0;
+			}
+		}
+	}
+
+	@JCStressTest
+	@Outcome(id = "1", expect = ACCEPTABLE, desc = "The event was fired before the listener was disposed.")
+	@Outcome(id = "0", expect = ACCEPTABLE, desc = "The listener was disposed before the event was fired.")
+	@Outcome(expect = FORBIDDEN, desc = "Firing the event failed in some other way.")
+	@State
+	public static class Sequential {
+
+		private final ListenerFixture fixture = ListenerFixture.sequential();
+
+		public Sequential() {
+			fixture.listener().addHandler(SimpleEvent.class, fixture.handler);
+		}
+
+		@Actor
+		public void dispose() {
+			fixture.dispose();
+		}
+
+		@Actor
+		public void fire(I_Result result) {
+			try {
+				fixture.publisher().fireEvent(fixture.event);
+				result.r1 = 1;
+			} catch (IllegalStateException ex) {
+				result.r1 = 0;
+			}
+		}
+	}
+}
@@ -0,0 +1,188 @@
+/**
+ * 
+ */
+package com.kori_47.events;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A listener under test together with the handlers that the stress tests register on it. Handlers are registered on 
+ * {@link #listener()} while events are fired through {@link #publisher()}, which is a different listener only for a 
+ * {@link HierarchicalListener} where events are fired from a descendant so that they have to propagate.
+ * 
+ * @author Kennedy Kori
+ *
+ * @since Oct 20, 2026, 10:26:51 AM
+ */
+abstract class ListenerFixture {
+	
+	/**
+	 * the number of times {@link #handler} has been executed
+	 */
+	final AtomicInteger deliveries = new AtomicInteger();
+	final Handler<SimpleEvent> handler = event -> deliveries.incrementAndGet();
+	final Handler<SimpleEvent> otherHandler = event -> {};
+	final SimpleEvent event = new SimpleEvent(this);
+	
+	/**
+	 * Returns the listener that handlers are registered on.
+	 */
+	abstract AbstractListener listener();
+	
+	/**
+	 * Returns the listener that events are fired through.
+	 */
+	Listener publisher() {
+		return listener();
+	}
+	
+	/**
+	 * Waits until every event fired so far has been delivered. The listener may be unusable afterwards.
+	 */
+	void settle() {}
+	
+	/**
+	 * Frees the resources of the listener, if any.
+	 */
+	void dispose() {}
+	
+	static ListenerFixture simple() {
+		SimpleListener listener = new SimpleListener();
+		return new ListenerFixture() {
+			@Override
+			AbstractListener listener() {
+				return listener;
+			}
+		};
+	}
+	
+	/**
+	 * A {@code ThreadedListener} whose service executes tasks on the thread that fires the event, so that an event 
+	 * has been delivered by the time {@code fireEvent} returns.
+	 */
+	static ListenerFixture threaded() {
+		return threaded(new CallerRunsExecutorService());
+	}
+	
+	/**
+	 * A {@code ThreadedListener} backed by a real, single thread, pool that is shutdown when the listener is disposed.
+	 */
+	static ListenerFixture threadedPool() {
+		return threaded(Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable);
+			thread.setDaemon(true);
+			return thread;
+		}));
+	}
+	
+	private static ListenerFixture threaded(ExecutorService service) {
+		ThreadedListener listener = new ThreadedListener(service, true);
+		return new ListenerFixture() {
+			@Override
+			AbstractListener listener() {
+				return listener;
+			}
+			
+			@Override
+			void dispose() {
+				listener.dispose();
+			}
+		};
+	}
+	
+	static ListenerFixture sequential() {
+		Thread[] consumer = new Thread[1];
+		SequentialListener listener = new SequentialListener(16, runnable -> {
+			Thread thread = new Thread(runnable);
+			thread.setDaemon(true);
+			return consumer[0] = thread;
+		});
+		return new ListenerFixture() {
+			@Override
+			AbstractListener listener() {
+				return listener;
+			}
+			
+			/*
+			 * Once the queue is empty the consumer is at most delivering the last event, disposing the listener and 
+			 * waiting for the consumer to exit lets it finish.
+			 */
+			@Override
+			void settle() {
+				while (listener.queuedEvents() > 0) Thread.yield();
+				dispose();
+				try {
+					consumer[0].join();
+				} catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			
+			@Override
+			void dispose() {
+				listener.dispose();
+			}
+		};
+	}
+	
+	static ListenerFixture hierarchical() {
+		HierarchicalListener root = new HierarchicalListener();
+		HierarchicalListener leaf = root.child("stress.leaf");
+		return new ListenerFixture() {
+			@Override
+			AbstractListener listener() {
+				return root;
+			}
+			
+			@Override
+			Listener publisher() {
+				return leaf;
+			}
+		};
+	}
+	
+	/**
+	 * An {@code ExecutorService} that executes every task on the thread that submits it.
+	 */
+	private static final class CallerRunsExecutorService extends AbstractExecutorService {
+
+		private volatile boolean shutdown;
+
+		@Override
+		public void execute(Runnable command) {
+			command.run();
+		}
+
+		@Override
+		public void shutdown() {
+			shutdown = true;
+		}
+
+		@Override
+		public List<Runnable> shutdownNow() {
+			shutdown = true;
+			return Collections.emptyList();
+		}
+
+		@Override
+		public boolean isShutdown() {
+			return shutdown;
+		}
+
+		@Override
+		public boolean isTerminated() {
+			return shutdown;
+		}
+
+		@Override
+		public boolean awaitTermination(long timeout, TimeUnit unit) {
+			return shutdown;
+		}
+	}
+}
@@ -0,0 +1,133 @@
+/**
+ * 
+ */
+package com.kori_47.events;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares looking up the handlers of an event type by {@code Class} in a hash map against looking them up by
+ * {@link EventTypeIndex event type id} in an array, with many registered event types. Events are fired in a fixed
+ * pseudo random order where a couple of hot types account for {@code hotRatio} of the events and the rest are spread
+ * over the remaining, colder, types.
+ *
+ * @author Kennedy Kori
+ *
+ * @since Oct 20, 2026, 9:41:05 AM
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventTypeIndexBenchmark {
+
+	private static final int HOT_TYPES = 2;
+	private static final int SEQUENCE_LENGTH = 1 << 12;
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static final Class<? extends SimpleEvent>[] TYPES = new Class[] {
+		Type0.class, Type1.class, Type2.class, Type3.class, Type4.class, Type5.class, Type6.class, Type7.class,
+		Type8.class, Type9.class, Type10.class, Type11.class, Type12.class, Type13.class, Type14.class, Type15.class,
+		Type16.class, Type17.class, Type18.class, Type19.class, Type20.class, Type21.class, Type22.class,
+		Type23.class, Type24.class, Type25.class, Type26.class, Type27.class, Type28.class, Type29.class,
+		Type30.class, Type31.class
+	};
+
+	@Param({"4", "32"})
+	private int typeCount;
+
+	@Param({"0.9", "0.5"})
+	private double hotRatio;
+
+	private SimpleListener listener;
+	private ListenerSnapshot snapshot;
+	private Map<Class<? extends Event>, Handler<? extends Event>[]> classKeyedHandlers;
+	private Event[] events;
+	private int next;
+
+	@Setup
+	public void setUp(Blackhole blackhole) throws ReflectiveOperationException {
+		listener = new SimpleListener();
+		for (int type = 0; type < typeCount; type++)
+			listener.addHandler(TYPES[type], blackhole::consume);
+		snapshot = listener.getSnapshot();
+		classKeyedHandlers = new HashMap<>();
+		for (Class<? extends Event> eventClass : snapshot.getSupportedEventTypes())
+			classKeyedHandlers.put(eventClass, snapshot.handlerArray(eventClass));
+		
+		Random random = new Random(47);
+		events = new Event[SEQUENCE_LENGTH];
+		for (int index = 0; index < events.length; index++) {
+			int type = (random.nextDouble() < hotRatio || typeCount <= HOT_TYPES)?
+					random.nextInt(Math.min(HOT_TYPES, typeCount)) : HOT_TYPES + random.nextInt(typeCount - HOT_TYPES);
+			events[index] = TYPES[type].getConstructor(Object.class).newInstance(this);
+		}
+	}
+
+	private Event nextEvent() {
+		return events[next++ & (SEQUENCE_LENGTH - 1)];
+	}
+
+	@Benchmark
+	public Handler<? extends Event>[] classKeyedLookup() {
+		return classKeyedHandlers.get(nextEvent().getClass());
+	}
+
+	@Benchmark
+	public Handler<? extends Event>[] indexedLookup() {
+		return snapshot.handlerArray(nextEvent().getClass());
+	}
+
+	@Benchmark
+	public void fireEvent() {
+		listener.fireEvent(nextEvent());
+	}
+
+	/*
+	 * Distinct event types, each gets it's own event type id.
+	 */
+	public static final class Type0 extends SimpleEvent { public Type0(Object source) { super(source); } }
+	public static final class Type1 extends SimpleEvent { public Type1(Object source) { super(source); } }
+	public static final class Type2 extends SimpleEvent { public Type2(Object source) { super(source); } }
+	public static final class Type3 extends SimpleEvent { public Type3(Object source) { super(source); } }
+	public static final class Type4 extends SimpleEvent { public Type4(Object source) { super(source); } }
+	public static final class Type5 extends SimpleEvent { public Type5(Object source) { super(source); } }
+	public static final class Type6 extends SimpleEvent { public Type6(Object source) { super(source); } }
+	public static final class Type7 extends SimpleEvent { public Type7(Object source) { super(source); } }
+	public static final class Type8 extends SimpleEvent { public Type8(Object source) { super(source); } }
+	public static final class Type9 extends SimpleEvent { public Type9(Object source) { super(source); } }
+	public static final class Type10 extends SimpleEvent { public Type10(Object source) { super(source); } }
+	public static final class Type11 extends SimpleEvent { public Type11(Object source) { super(source); } }
+	public static final class Type12 extends SimpleEvent { public Type12(Object source) { super(source); } }
+	public static final class Type13 extends SimpleEvent { public Type13(Object source) { super(source); } }
+	public static final class Type14 extends SimpleEvent { public Type14(Object source) { super(source); } }
+	public static final class Type15 extends SimpleEvent { public Type15(Object source) { super(source); } }
+	public static final class Type16 extends SimpleEvent { public Type16(Object source) { super(source); } }
+	public static final class Type17 extends SimpleEvent { public Type17(Object source) { super(source); } }
+	public static final class Type18 extends SimpleEvent { public Type18(Object source) { super(source); } }
+	public static final class Type19 extends SimpleEvent { public Type19(Object source) { super(source); } }
+	public static final class Type20 extends SimpleEvent { public Type20(Object source) { super(source); } }
+	public static final class Type21 extends SimpleEvent { public Type21(Object source) { super(source); } }
+	public static final class Type22 extends SimpleEvent { public Type22(Object source) { super(source); } }
+	public static final class Type23 extends SimpleEvent { public Type23(Object source) { super(source); } }
+	public static final class Type24 extends SimpleEvent { public Type24(Object source) { super(source); } }
+	public static final class Type25 extends SimpleEvent { public Type25(Object source) { super(source); } }
+	public static final class Type26 extends SimpleEvent { public Type26(Object source) { super(source); } }
+	public static final class Type27 extends SimpleEvent { public Type27(Object source) { super(source); } }
+	public static final class Type28 extends SimpleEvent { public Type28(Object source) { super(source); } }
+	public static final class Type29 extends SimpleEvent { public Type29(Object source) { super(source); } }
+	public static final class Type30 extends SimpleEvent { public Type30(Object source) { super(source); } }
+	public static final class Type31 extends SimpleEvent { public Type31(Object source) { super(source); } }
+}
@@ -0,0 +1,64 @@
+/**
+ * 
+ */
+package com.kori_47.events;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the cost of populating a listener with a large number of handlers at startup and firing the first event,
+ * once by adding the handlers one at a time and once by adding them all at once from a {@link ListenerSnapshot}
+ * built with a {@link ListenerSnapshot.Builder}.
+ * 
+ * @author Kennedy Kori
+ *
+ * @since Oct 20, 2026, 12:02:44 PM
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RegistrationBenchmark {
+
+	@Param({"1000", "20000"})
+	private int handlerCount;
+
+	private Handler<SimpleEvent> handler;
+	private SimpleEvent event;
+
+	@Setup
+	public void setUp(Blackhole blackhole) {
+		handler = blackhole::consume;
+		event = new SimpleEvent(this);
+	}
+
+	@Benchmark
+	public SimpleListener addHandler() {
+		SimpleListener listener = new SimpleListener();
+		for (int count = 0; count < handlerCount; count++)
+			listener.addHandler(SimpleEvent.class, handler);
+		listener.fireEvent(event);
+		return listener;
+	}
+
+	@Benchmark
+	public SimpleListener addHandlers() {
+		SimpleListener listener = new SimpleListener();
+		ListenerSnapshot.Builder builder = ListenerSnapshot.builder();
+		for (int count = 0; count < handlerCount; count++)
+			builder.add(SimpleEvent.class, handler);
+		listener.addHandlers(builder.build());
+		listener.freeze();
+		listener.fireEvent(event);
+		return listener;
+	}
+}
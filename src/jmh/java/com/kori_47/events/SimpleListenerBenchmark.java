@@ -0,0 +1,58 @@
+/**
+ * 
+ */
+package com.kori_47.events;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the cost of {@link SimpleListener#fireEvent(Event)} when a single thread fires events and when several 
+ * threads fire events into the same listener at once. Both should cost about the same per event since firing only 
+ * reads the listener's current snapshot.
+ *
+ * @author Kennedy Kori
+ *
+ * @since Oct 20, 2026, 12:31:18 AM
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SimpleListenerBenchmark {
+
+	@Param({"1", "5"})
+	private int handlerCount;
+
+	private SimpleListener listener;
+	private SimpleEvent event;
+
+	@Setup
+	public void setUp(Blackhole blackhole) {
+		listener = new SimpleListener();
+		event = new SimpleEvent(this);
+		for (int count = 0; count < handlerCount; count++)
+			listener.addHandler(SimpleEvent.class, blackhole::consume);
+	}
+
+	@Benchmark
+	@Threads(1)
+	public void fireEvent() {
+		listener.fireEvent(event);
+	}
+
+	@Benchmark
+	@Threads(4)
+	public void fireEventFromManyThreads() {
+		listener.fireEvent(event);
+	}
+}
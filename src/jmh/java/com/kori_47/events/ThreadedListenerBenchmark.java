@@ -0,0 +1,98 @@
+/**
+ * 
+ */
+package com.kori_47.events;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the cost of {@link ThreadedListener#fireEvent(Event)}. The listener is backed by an
+ * {@code ExecutorService} that runs tasks on the calling thread so that the scores, and the allocation
+ * rates reported by the gc profiler, reflect the work done by the listener rather than by a thread pool.
+ *
+ * @author Kennedy Kori
+ *
+ * @since Oct 19, 2026, 10:12:40 AM
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ThreadedListenerBenchmark {
+
+	@Param({"1", "5"})
+	private int handlerCount;
+
+	private ThreadedListener listener;
+	private SimpleEvent event;
+
+	@Setup
+	public void setUp(Blackhole blackhole) {
+		listener = new ThreadedListener(new CallerRunsExecutorService(), true);
+		event = new SimpleEvent(this);
+		for (int count = 0; count < handlerCount; count++)
+			listener.addHandler(SimpleEvent.class, blackhole::consume);
+	}
+
+	@TearDown
+	public void tearDown() {
+		listener.dispose();
+	}
+
+	@Benchmark
+	public void fireEvent() {
+		listener.fireEvent(event);
+	}
+
+	/**
+	 * An {@code ExecutorService} that executes every task on the thread that submits it.
+	 */
+	private static final class CallerRunsExecutorService extends AbstractExecutorService {
+
+		private volatile boolean shutdown;
+
+		@Override
+		public void execute(Runnable command) {
+			command.run();
+		}
+
+		@Override
+		public void shutdown() {
+			shutdown = true;
+		}
+
+		@Override
+		public List<Runnable> shutdownNow() {
+			shutdown = true;
+			return Collections.emptyList();
+		}
+
+		@Override
+		public boolean isShutdown() {
+			return shutdown;
+		}
+
+		@Override
+		public boolean isTerminated() {
+			return shutdown;
+		}
+
+		@Override
+		public boolean awaitTermination(long timeout, TimeUnit unit) {
+			return shutdown;
+		}
+	}
+}
@@ -4,17 +4,40 @@
 package com.kori_47.events;
 
 import static java.util.Objects.requireNonNull;
-import static java.util.stream.Collectors.toList;
 
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
+ * <p>
  * This is a skeletal implementation of the {@link Listener} interface from which more concrete implementations 
  * of {@code Event} can inherit from.
+ * </p>
+ * <p>
+ * A {@link Handler} that throws a {@code RuntimeException} never prevents the rest of the handlers interested in an 
+ * event from being executed. If an {@link ErrorHandler} has been {@link #setErrorHandler(ErrorHandler) set}, every 
+ * such exception is passed to it, otherwise it is up to the implementation to decide what to do with the exception. 
+ * A {@link CircuitBreaker} can also be {@link #setCircuitBreaker(CircuitBreaker) set} so that handlers that keep 
+ * failing are skipped for a while instead of being executed on every event.
+ * </p>
+ * <p>
+ * Reads of the registered handlers, including {@link #fireEvent(Event)}, are served from an immutable 
+ * {@link ListenerSnapshot} that is only rebuilt after the handlers change. Modifications of the handlers are 
+ * made while holding the lock of {@link #registeredHandlers}.
+ * </p>
+ * <p>
+ * An {@link EventFilter} can be {@link #setEventFilter(EventFilter) set} to drop unwanted events before their 
+ * handlers are looked up. When {@link #setStampingEnabled(boolean) stamping} is enabled, every fired event is given an {@link EventStamp} 
+ * that it's handlers can read using {@link EventStamp#current()}.
+ * </p>
+ * <p>
+ * Large numbers of handlers are best registered at once with {@link #addHandlers(ListenerSnapshot)}, and a listener 
+ * whose handlers never change after they are registered can be {@link #freeze() frozen}.
+ * </p>
  * 
  * @author Kennedy Kori
  *
@@ -23,9 +46,32 @@ import java.util.Set;
 public abstract class AbstractListener implements Listener {
 	
 	/**
-	 * stores all registered handlers
+	 * stores all registered handlers. Subclasses that modify this map, or the lists in it, directly must do so 
+	 * while holding the lock of this map and call {@link #handlersChanged()} before releasing the lock.
 	 */
 	protected final Map<Class<? extends Event>, List<Handler<? extends Event>>> registeredHandlers;
+	
+	/**
+	 * the snapshot of the current handlers or {@code null} if the handlers have changed since it was taken
+	 */
+	private volatile ListenerSnapshot snapshot;
+	/**
+	 * the version of the registered handlers, guarded by the lock of {@code registeredHandlers}
+	 */
+	private long version;
+	
+	/**
+	 * stores the circuits of handlers that have failed since they last succeeded
+	 */
+	private final Map<Handler<? extends Event>, HandlerCircuit> failingHandlers = new ConcurrentHashMap<>();
+	private volatile ErrorHandler errorHandler;
+	private volatile CircuitBreaker circuitBreaker;
+	private volatile EventFilter eventFilter;
+	private volatile boolean stampingEnabled;
+	/**
+	 * whether the handlers can no longer be changed, only set while holding the lock of {@code registeredHandlers}
+	 */
+	private volatile boolean frozen;
 
 	/**
 	 * Creates a new Listener with the given listener storage.
@@ -40,77 +86,498 @@ public abstract class AbstractListener implements Listener {
 
 	/**
 	* {@inheritDoc} 
+	* @throws IllegalStateException if this listener is {@link #freeze() frozen}.
 	*/
 	@Override
 	public <T extends Event> void addHandler(Class<T> eventClass, Handler<T> handler) {
 		requireNonNull(eventClass, "eventClass cannot be null.");
 		requireNonNull(handler, "handler cannot be null.");
-		registeredHandlers.merge(
-			eventClass, createHandlerList(),
-			(oldValue, value) -> oldValue
-		);
-		registeredHandlers.get(eventClass).add(handler);
+		synchronized (registeredHandlers) {
+			checkNotFrozen();
+			registeredHandlers.computeIfAbsent(eventClass, key -> createHandlerList()).add(handler);
+			handlersChanged();
+		}
 	}
 
 	/**
 	* {@inheritDoc}
+	* <p>
+	* All the handlers are added while holding the lock of {@link #registeredHandlers} once. If this listener has no 
+	* handlers, the given snapshot becomes it's current snapshot rather than being rebuilt from the added handlers.
+	* </p>
+	* @throws IllegalStateException if this listener is {@link #freeze() frozen}.
+	*/
+	@Override
+	public void addHandlers(ListenerSnapshot handlers) {
+		requireNonNull(handlers, "handlers cannot be null.");
+		synchronized (registeredHandlers) {
+			checkNotFrozen();
+			boolean empty = registeredHandlers.isEmpty();
+			for (Class<? extends Event> eventClass : handlers.getSupportedEventTypes())
+				registeredHandlers.computeIfAbsent(eventClass, key -> createHandlerList()).addAll(handlers.handlerList(eventClass));
+			handlersChanged();
+			if (empty) snapshot = handlers.withVersion(version);
+		}
+	}
+
+	/**
+	 * Registers the given {@link AsyncHandler} to be executed when an {@link Event} of the given class is fired. The 
+	 * asynchronous handler is wrapped in a regular {@link Handler}, which is registered using 
+	 * {@link #addHandler(Class, Handler)} and returned so that it can later be removed. Delivering an event to the 
+	 * returned handler only starts the asynchronous handler's operation, or queues the event if the given policy's 
+	 * in-flight limit has been reached, and never waits for the operation to complete. This lets a listener with a 
+	 * few threads keep many more operations in flight.
+	 * <p>
+	 * An operation that fails or times out is passed to this listener's {@link ErrorHandler}, with the returned 
+	 * handler as the failing handler, and is recorded by it's {@link CircuitBreaker}. A {@link PooledEvent} is 
+	 * retained until the operation handling it completes or times out.
+	 * </p>
+	 * 
+	 * @param <T> the type of {@link Event} being handled.
+	 * 
+	 * @param eventClass the class of the events to handle.
+	 * @param handler the asynchronous handler to register.
+	 * @param policy the in-flight limit and timeout of the handler's operations.
+	 * 
+	 * @return the handler that was registered for the asynchronous handler.
+	 * 
+	 * @throws IllegalStateException if this listener is {@link #freeze() frozen}.
+	 * @throws NullPointerException if {@code eventClass}, {@code handler} or {@code policy} is {@code null}.
+	 */
+	public <T extends Event> Handler<T> addAsyncHandler(Class<T> eventClass, AsyncHandler<T> handler, AsyncPolicy policy) {
+		requireNonNull(eventClass, "eventClass cannot be null.");
+		requireNonNull(handler, "handler cannot be null.");
+		requireNonNull(policy, "policy cannot be null.");
+		Handler<T> invoker = new AsyncInvoker<>(this, handler, policy);
+		addHandler(eventClass, invoker);
+		return invoker;
+	}
+
+	/**
+	* {@inheritDoc}
+	* @throws IllegalStateException if this listener is {@link #freeze() frozen}.
 	*/
 	@Override
 	public <T extends Event> void removeHandler(Class<T> eventClass, Handler<T> handler) {
 		requireNonNull(eventClass, "eventClass cannot be null.");
 		requireNonNull(handler, "handler cannot be null.");
-		registeredHandlers.computeIfPresent(
-			eventClass,
-			(key, value) -> {
-				value.remove(handler);
-				return value;
-			}
-		);
+		synchronized (registeredHandlers) {
+			checkNotFrozen();
+			registeredHandlers.computeIfPresent(
+				eventClass,
+				(key, value) -> {
+					value.remove(handler);
+					return value;
+				}
+			);
+			handlersChanged();
+		}
+		failingHandlers.remove(handler);
 	}
 
 	/**
 	* {@inheritDoc}
+	* <p>
+	* Handlers are executed on the calling thread. If no {@link ErrorHandler} has been set, the first 
+	* {@code RuntimeException} thrown by a handler is rethrown once all the other handlers have been 
+	* executed, with the exceptions thrown by the rest of the failing handlers added to it as suppressed exceptions.
+	* A {@link PooledEvent} is released once all the handlers have been executed.
+	* </p>
 	*/
-	@SuppressWarnings("unchecked")
 	@Override
 	public <T extends Event> void fireEvent(T event) {
 		requireNonNull(event, "event cannot be null.");
-		if (registeredHandlers.containsKey(event.getClass())) {
-			registeredHandlers.get(event.getClass()).forEach(
-				handler -> ((Handler<T>) handler).handle(event)
-			);
+		if (!accept(event)) return;
+		try {
+			invokeHandlers(snapshot().handlerArray(event.getClass()), event, stamp(event));
+		} finally {
+			PooledEvent.releaseIfPooled(event);
 		}
 	}
 
 	/**
 	* {@inheritDoc}
+	* @throws IllegalStateException if this listener is {@link #freeze() frozen}.
 	*/
 	@Override
 	public void clear() {
-		// First clear the lists to avoid memory risks
-		registeredHandlers.values().forEach(list -> list.clear());
-		// Clear the map
-		registeredHandlers.clear();
+		synchronized (registeredHandlers) {
+			checkNotFrozen();
+			// First clear the lists to avoid memory risks
+			registeredHandlers.values().forEach(list -> list.clear());
+			// Clear the map
+			registeredHandlers.clear();
+			handlersChanged();
+		}
+		// Forget about the handlers that were failing
+		failingHandlers.clear();
 	}
 
 	/**
 	* {@inheritDoc}
+	* <p>
+	* The returned list is an unmodifiable view taken from the current {@link ListenerSnapshot}, it is not 
+	* updated when handlers are added or removed.
+	* </p>
 	*/
 	@Override
 	public <T extends Event> Optional<List<Handler<T>>> getHandlers(Class<T> eventClass) {
 		requireNonNull(eventClass, "eventClass cannot be null.");
-		if (!registeredHandlers.containsKey(eventClass)) return Optional.ofNullable(null);
-		@SuppressWarnings("unchecked")
-		List<Handler<T>> handlers = registeredHandlers.get(eventClass).stream().map(handler -> (Handler<T>) handler).collect(toList());
-		return Optional.ofNullable(handlers);
+		ListenerSnapshot snapshot = snapshot();
+		if (!snapshot.isRegistered(eventClass)) return Optional.empty();
+		return Optional.of(snapshot.getHandlers(eventClass));
 	}
 
 	/**
 	* {@inheritDoc}
+	* <p>
+	* The returned set is an unmodifiable view taken from the current {@link ListenerSnapshot}, it is not 
+	* updated when handlers are added or removed.
+	* </p>
 	*/
 	@Override
 	public Set<Class<? extends Event>> getSupportedEventTypes() {
-		return new HashSet<>(registeredHandlers.keySet());
+		return snapshot().getSupportedEventTypes();
+	}
+	
+	/**
+	* {@inheritDoc}
+	*/
+	@Override
+	public boolean hasHandlers(Class<? extends Event> eventClass) {
+		return snapshot().hasHandlers(eventClass);
+	}
+	
+	/**
+	* {@inheritDoc}
+	*/
+	@Override
+	public int handlerCount(Class<? extends Event> eventClass) {
+		return snapshot().handlerCount(eventClass);
+	}
+	
+	/**
+	 * Returns an immutable {@link ListenerSnapshot} of the handlers currently registered to this listener. The same 
+	 * snapshot is returned until the handlers change, so calling this method repeatedly is cheap.
+	 * 
+	 * @return a snapshot of the current handlers.
+	 */
+	public ListenerSnapshot getSnapshot() {
+		return snapshot();
+	}
+	
+	/**
+	 * Freezes this listener, after which it's handlers can no longer be added, removed or cleared. A frozen listener 
+	 * keeps serving events from the same {@link ListenerSnapshot} for the rest of it's life, which suits registries 
+	 * that are populated once at startup, e.g using {@link #addHandlers(ListenerSnapshot)}, and never change after. 
+	 * Freezing a listener that is already frozen has no effect.
+	 */
+	public void freeze() {
+		synchronized (registeredHandlers) {
+			frozen = true;
+		}
+		snapshot();
+	}
+	
+	/**
+	 * Returns {@code true} if this listener has been {@link #freeze() frozen}.
+	 * 
+	 * @return {@code true} if this listener is frozen, {@code false} otherwise.
+	 */
+	public boolean isFrozen() {
+		return frozen;
+	}
+	
+	/**
+	 * Sets the {@link ErrorHandler} that is passed the exceptions thrown by the handlers registered to this listener. 
+	 * Passing {@code null} removes the current error handler.
+	 * 
+	 * @param errorHandler the error handler to use or {@code null} to remove the current error handler.
+	 */
+	public void setErrorHandler(ErrorHandler errorHandler) {
+		this.errorHandler = errorHandler;
+	}
+	
+	/**
+	 * Returns an {@link Optional} containing the {@link ErrorHandler} currently used by this listener.
+	 * 
+	 * @return an {@code Optional} containing the current error handler.
+	 */
+	public Optional<ErrorHandler> getErrorHandler() {
+		return Optional.ofNullable(errorHandler);
+	}
+	
+	/**
+	 * Sets the {@link CircuitBreaker} used to skip failing handlers. Passing {@code null} disables circuit breaking, 
+	 * in which case every handler is executed on every event regardless of how often it has failed.
+	 * 
+	 * @param circuitBreaker the circuit breaker to use or {@code null} to disable circuit breaking.
+	 */
+	public void setCircuitBreaker(CircuitBreaker circuitBreaker) {
+		this.circuitBreaker = circuitBreaker;
+		if (circuitBreaker == null) failingHandlers.clear();
+	}
+	
+	/**
+	 * Returns an {@link Optional} containing the {@link CircuitBreaker} currently used by this listener.
+	 * 
+	 * @return an {@code Optional} containing the current circuit breaker.
+	 */
+	public Optional<CircuitBreaker> getCircuitBreaker() {
+		return Optional.ofNullable(circuitBreaker);
+	}
+	
+	/**
+	 * Sets the {@link EventFilter} that decides which of the events fired on this listener are delivered to their 
+	 * handlers. Passing {@code null} removes the current filter so that every event is delivered.
+	 * 
+	 * @param eventFilter the filter to use or {@code null} to remove the current filter.
+	 */
+	public void setEventFilter(EventFilter eventFilter) {
+		this.eventFilter = eventFilter;
+	}
+	
+	/**
+	 * Returns an {@link Optional} containing the {@link EventFilter} currently used by this listener.
+	 * 
+	 * @return an {@code Optional} containing the current event filter.
+	 */
+	public Optional<EventFilter> getEventFilter() {
+		return Optional.ofNullable(eventFilter);
+	}
+	
+	/**
+	 * Enables or disables stamping of the events fired on this listener. While stamping is enabled, every fired event 
+	 * is given an {@link EventStamp} holding it's sequence number and the time it was fired, which the handlers of the 
+	 * event can read using {@link EventStamp#current()}. Stamping is disabled by default.
+	 * 
+	 * @param stampingEnabled {@code true} to stamp fired events, {@code false} otherwise.
+	 */
+	public void setStampingEnabled(boolean stampingEnabled) {
+		this.stampingEnabled = stampingEnabled;
+	}
+	
+	/**
+	 * Returns {@code true} if the events fired on this listener are being stamped.
+	 * 
+	 * @return {@code true} if stamping is enabled, {@code false} otherwise.
+	 */
+	public boolean isStampingEnabled() {
+		return stampingEnabled;
+	}
+	
+	/**
+	 * Returns {@code true} if the given handler is currently being skipped by this listener's {@link CircuitBreaker}.
+	 * 
+	 * @param handler the handler whose circuit to check.
+	 * 
+	 * @return {@code true} if the circuit of the given handler is open, {@code false} otherwise.
+	 * 
+	 * @throws NullPointerException if {@code handler} is {@code null}.
+	 */
+	public boolean isCircuitOpen(Handler<? extends Event> handler) {
+		requireNonNull(handler, "handler cannot be null.");
+		CircuitBreaker breaker = circuitBreaker;
+		HandlerCircuit circuit = failingHandlers.get(handler);
+		return breaker != null && circuit != null && circuit.isOpen(breaker);
+	}
+	
+	/**
+	 * Executes the given handler with the given event, isolating this listener from any {@code RuntimeException} 
+	 * thrown by the handler. The handler isn't executed if it's circuit is open. If the handler fails and an 
+	 * {@link ErrorHandler} has been set, the exception is passed to the error handler, otherwise the exception is 
+	 * returned to the caller.
+	 * 
+	 * @param <T> the type of {@link Event} being handled.
+	 * 
+	 * @param handler the handler to execute.
+	 * @param event the event to handle.
+	 * 
+	 * @return the exception thrown by the handler if it failed and no error handler is set, {@code null} otherwise.
+	 */
+	protected final <T extends Event> RuntimeException invokeHandler(Handler<T> handler, T event) {
+		CircuitBreaker breaker = circuitBreaker;
+		HandlerCircuit circuit = (breaker == null || failingHandlers.isEmpty())? null : failingHandlers.get(handler);
+		if (circuit != null && !circuit.allowsExecution(breaker)) return null;
+		Object recording = FlightRecorder.beginHandler();
+		try {
+			handler.handle(event);
+		} catch (RuntimeException ex) {
+			FlightRecorder.endHandler(recording, this, handler, event, true);
+			return handlerFailed(handler, event, ex, breaker);
+		}
+		FlightRecorder.endHandler(recording, this, handler, event, false);
+		// The handler succeeded, close it's circuit, unless it only started an operation that may still fail
+		if (circuit != null && !(handler instanceof AsyncInvoker)) failingHandlers.remove(handler, circuit);
+		return null;
+	}
+	
+	/**
+	 * Records the outcome of an operation of an {@link AsyncHandler}, registered as the given handler, the same way 
+	 * {@link #invokeHandler(Handler, Event)} records the outcome of a regular handler. Failures are dropped if there 
+	 * is no {@link ErrorHandler} since there is no caller to return them to.
+	 */
+	final void asyncCompleted(Handler<? extends Event> handler, Event event, Throwable failure) {
+		if (failure == null) {
+			if (!failingHandlers.isEmpty()) failingHandlers.remove(handler);
+			return;
+		}
+		RuntimeException ex = (failure instanceof RuntimeException)? (RuntimeException) failure : new CompletionException(failure);
+		handlerFailed(handler, event, ex, circuitBreaker);
+	}
+	
+	/**
+	 * Records a failure of the given handler with the given breaker, if any, and passes it to the error handler. 
+	 * Returns the exception if there is no error handler. An exception thrown by the error handler is dropped, it 
+	 * would otherwise escape the threads and consumers of the listeners that deliver events on their own threads.
+	 */
+	private RuntimeException handlerFailed(Handler<? extends Event> handler, Event event, RuntimeException ex, CircuitBreaker breaker) {
+		if (breaker != null)
+			failingHandlers.computeIfAbsent(handler, key -> new HandlerCircuit()).recordFailure(breaker);
+		ErrorHandler errorHandler = this.errorHandler;
+		if (errorHandler == null) return ex;
+		try {
+			errorHandler.handleError(event, handler, ex);
+		} catch (RuntimeException ignored) {
+			// A failing ErrorHandler has no one to report to
+		}
+		return null;
+	}
+	
+	/**
+	 * Reports the given exception to the {@link Thread.UncaughtExceptionHandler} of the calling thread. This is how 
+	 * listeners that execute handlers on their own threads, and have no caller to rethrow to, surface the exceptions 
+	 * that weren't passed to an {@link ErrorHandler}.
+	 */
+	static void reportUncaught(Throwable ex) {
+		Thread thread = Thread.currentThread();
+		thread.getUncaughtExceptionHandler().uncaughtException(thread, ex);
+	}
+	
+	/**
+	 * Executes the given handler using {@link #invokeHandler(Handler, Event)} with the given stamp as the 
+	 * {@link EventStamp#current() current stamp} of the calling thread.
+	 * 
+	 * @param <T> the type of {@link Event} being handled.
+	 * 
+	 * @param handler the handler to execute.
+	 * @param event the event to handle.
+	 * @param stamp the stamp of the event or {@code null} if the event wasn't stamped.
+	 * 
+	 * @return the exception thrown by the handler if it wasn't passed to an {@code ErrorHandler}, {@code null} otherwise.
+	 */
+	protected final <T extends Event> RuntimeException invokeHandler(Handler<T> handler, T event, EventStamp stamp) {
+		if (stamp == null) return invokeHandler(handler, event);
+		EventStamp previous = EventStamp.enter(stamp);
+		try {
+			return invokeHandler(handler, event);
+		} finally {
+			EventStamp.exit(previous);
+		}
+	}
+	
+	/**
+	 * Returns {@code true} if the given event is accepted by the current {@link EventFilter}, or if there is no filter. 
+	 * A {@link PooledEvent} that is rejected is released.
+	 * 
+	 * @param event the event being fired.
+	 * 
+	 * @return {@code true} if the event should be delivered, {@code false} if it should be dropped.
+	 */
+	protected final boolean accept(Event event) {
+		EventFilter filter = eventFilter;
+		boolean accepted = filter == null || filter.accept(event);
+		FlightRecorder.published(this, event, accepted);
+		if (!accepted) PooledEvent.releaseIfPooled(event);
+		return accepted;
+	}
+	
+	/**
+	 * Returns a new {@link EventStamp} for the given event if stamping is enabled, {@code null} otherwise.
+	 * 
+	 * @param event the event being fired.
+	 * 
+	 * @return the stamp of the event or {@code null} if stamping is disabled.
+	 */
+	protected final EventStamp stamp(Event event) {
+		return stampingEnabled? EventStamp.stamp(event) : null;
+	}
+	
+	/**
+	 * Records that the registered handlers have changed, increasing the version of this listener and discarding it's 
+	 * current snapshot. Must be called while holding the lock of {@link #registeredHandlers}.
+	 */
+	protected final void handlersChanged() {
+		version++;
+		snapshot = null;
+	}
+	
+	/**
+	 * Returns the current snapshot, taking a new one if the handlers have changed since the last one was taken. Unlike 
+	 * {@link #getSnapshot()}, this method cannot be overridden and performs no checks.
+	 * 
+	 * @return a snapshot of the current handlers.
+	 */
+	protected final ListenerSnapshot snapshot() {
+		ListenerSnapshot snapshot = this.snapshot;
+		if (snapshot != null) return snapshot;
+		synchronized (registeredHandlers) {
+			if (this.snapshot == null) this.snapshot = new ListenerSnapshot(version, registeredHandlers);
+			return this.snapshot;
+		}
+	}
+	
+	/**
+	 * Executes the given handlers, one after the other, on the calling thread using {@link #invokeHandler(Handler, Event)}. 
+	 * Once all the handlers have been executed, the first exception returned by {@code invokeHandler} is rethrown with 
+	 * the rest of the returned exceptions added to it as suppressed exceptions.
+	 * 
+	 * @param <T> the type of {@link Event} being handled.
+	 * 
+	 * @param handlers the handlers to execute, all of which must support the given event.
+	 * @param event the event to handle.
+	 */
+	@SuppressWarnings("unchecked")
+	protected final <T extends Event> void invokeHandlers(Handler<? extends Event>[] handlers, T event) {
+		RuntimeException failure = null;
+		for (Handler<? extends Event> handler : handlers) {
+			RuntimeException exception = invokeHandler((Handler<T>) handler, event);
+			if (exception == null) continue;
+			if (failure == null) failure = exception;
+			else failure.addSuppressed(exception);
+		}
+		if (failure != null) throw failure;
+	}
+	
+	/**
+	 * Executes the given handlers using {@link #invokeHandlers(Handler[], Event)} with the given stamp as the 
+	 * {@link EventStamp#current() current stamp} of the calling thread.
+	 * 
+	 * @param <T> the type of {@link Event} being handled.
+	 * 
+	 * @param handlers the handlers to execute, all of which must support the given event.
+	 * @param event the event to handle.
+	 * @param stamp the stamp of the event or {@code null} if the event wasn't stamped.
+	 */
+	protected final <T extends Event> void invokeHandlers(Handler<? extends Event>[] handlers, T event, EventStamp stamp) {
+		if (stamp == null) {
+			invokeHandlers(handlers, event);
+			return;
+		}
+		EventStamp previous = EventStamp.enter(stamp);
+		try {
+			invokeHandlers(handlers, event);
+		} finally {
+			EventStamp.exit(previous);
+		}
+	}
+	
+	/**
+	 * Throws an {@code IllegalStateException} if this listener is frozen.
+	 */
+	private void checkNotFrozen() {
+		if (frozen)
+			throw new IllegalStateException("This listener is frozen.");
 	}
 	
 	/**
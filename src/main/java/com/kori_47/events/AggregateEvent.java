@@ -0,0 +1,129 @@
+/**
+ * 
+ */
+package com.kori_47.events;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * This is an {@link Event event} fired by a {@link WindowAggregator} once a window has closed, with the aggregates of
+ * the values of the events of a single class and {@link #source() source} that were handled during the window. The
+ * source of an aggregate is the source of the aggregated events.
+ * </p>
+ * 
+ * <p>
+ * <i><b>NOTE:</b> Instances of this class are immutable and thread safe.</i>
+ * </p>
+ * 
+ * @author Kennedy Kori
+ *
+ * @since Oct 20, 2026, 3:47:30 PM
+ */
+public final class AggregateEvent extends SimpleEvent {
+
+	private final Class<? extends Event> eventClass;
+	private final long windowNanos;
+	private final double sum;
+	private final ValueHistogram histogram;
+
+	AggregateEvent(Object source, Class<? extends Event> eventClass, long windowNanos, double sum, ValueHistogram histogram) {
+		super(source);
+		this.eventClass = eventClass;
+		this.windowNanos = windowNanos;
+		this.sum = sum;
+		this.histogram = histogram;
+	}
+
+	/**
+	 * Returns the class of the aggregated events.
+	 * 
+	 * @return the class of the aggregated events.
+	 */
+	public Class<? extends Event> getEventClass() {
+		return eventClass;
+	}
+
+	/**
+	 * Returns the length of the window over which the events were aggregated.
+	 * 
+	 * @param unit the unit of the returned length.
+	 * 
+	 * @return the length of the window.
+	 * 
+	 * @throws NullPointerException if {@code unit} is {@code null}.
+	 */
+	public long getWindow(TimeUnit unit) {
+		return requireNonNull(unit, "unit cannot be null.").convert(windowNanos, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Returns the number of aggregated events, which is always greater than {@code 0}.
+	 * 
+	 * @return the number of events.
+	 */
+	public long getCount() {
+		return histogram.getCount();
+	}
+
+	/**
+	 * Returns the sum of the values of the aggregated events.
+	 * 
+	 * @return the sum of the values.
+	 */
+	public double getSum() {
+		return sum;
+	}
+
+	/**
+	 * Returns the lowest value of the aggregated events.
+	 * 
+	 * @return the lowest value.
+	 */
+	public double getMin() {
+		return histogram.getMin();
+	}
+
+	/**
+	 * Returns the highest value of the aggregated events.
+	 * 
+	 * @return the highest value.
+	 */
+	public double getMax() {
+		return histogram.getMax();
+	}
+
+	/**
+	 * Returns the mean of the values of the aggregated events.
+	 * 
+	 * @return the mean value.
+	 */
+	public double getMean() {
+		return sum / histogram.getCount();
+	}
+
+	/**
+	 * Returns the value below which the given percentage of the values of the aggregated events fall. The returned
+	 * value is approximate, it is never off by more than an eighth of itself, but is always within the lowest and
+	 * highest values.
+	 * 
+	 * @param percentile the percentage of values, between {@code 0} and {@code 100}.
+	 * 
+	 * @return the value at the given percentile.
+	 * 
+	 * @throws IllegalArgumentException if {@code percentile} isn't between {@code 0} and {@code 100}.
+	 */
+	public double getPercentile(double percentile) {
+		if (!(percentile >= 0 && percentile <= 100))
+			throw new IllegalArgumentException("percentile must be between 0 and 100.");
+		return histogram.getPercentile(percentile);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("AggregateEvent[source=%s, eventClass=%s, count=%d, sum=%s, min=%s, max=%s]",
+				source(), eventClass.getSimpleName(), getCount(), sum, getMin(), getMax());
+	}
+}
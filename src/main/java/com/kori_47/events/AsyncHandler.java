@@ -0,0 +1,47 @@
+/**
+ * 
+ */
+package com.kori_47.events;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * <p>
+ * This is a {@link Handler} whose work completes asynchronously, e.g. a handler that calls an asynchronous client. 
+ * Rather than blocking the thread that delivers the event until the work is done, {@link #handleAsync(Event)} starts 
+ * the work and returns a {@link CompletionStage} that completes once it is done. An asynchronous handler is 
+ * registered using {@link AbstractListener#addAsyncHandler(Class, AsyncHandler, AsyncPolicy)}, which tracks the 
+ * completion of the returned stages, limits how many of them can be in flight at once and times out the ones that 
+ * take too long, as described by an {@link AsyncPolicy}.
+ * </p>
+ * <p>
+ * A stage that completes exceptionally, or an exception thrown by {@code handleAsync} itself, is treated like an 
+ * exception thrown by a regular handler. It is passed to the listener's {@link ErrorHandler} and counts against 
+ * the handler's {@link CircuitBreaker circuit}. Since the stage may complete long after the event was fired, such 
+ * exceptions are never rethrown to the code that fired the event and are ignored if there is no error handler.
+ * </p>
+ * <p>
+ * <i><b>NOTE:</b> This is a {@link FunctionalInterface} as it only declares one abstract method: 
+ * {@code handleAsync(T Event)}.</i>
+ * </p>
+ * 
+ * @param <T> The type of {@code Event} that this handler is intrested in.
+ * 
+ * @author Kennedy Kori
+ *
+ * @since Oct 20, 2026, 2:41:17 PM
+ */
+@FunctionalInterface
+public interface AsyncHandler<T extends Event> {
+	
+	/**
+	 * Starts handling the given event and returns a stage that completes once the event has been handled. This 
+	 * method should not block, a pooled event remains valid until the returned stage completes or times out.
+	 * 
+	 * @param event the event of interest to handle.
+	 * 
+	 * @return a {@code CompletionStage} that completes once the event has been handled.
+	 */
+	CompletionStage<Void> handleAsync(T event);
+
+}
@@ -0,0 +1,168 @@
+/**
+ * 
+ */
+package com.kori_47.events;
+
+import java.util.Queue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.function.BiConsumer;
+
+/**
+ * This is the {@link Handler} that a listener registers for an {@link AsyncHandler}. Handling an event only queues it
+ * and starts as many queued events as the {@link AsyncPolicy} allows, the rest are started by the threads that
+ * complete earlier operations. No thread ever waits for an operation, timeouts are run by a single daemon thread
+ * shared by every asynchronous handler.
+ * 
+ * @author Kennedy Kori
+ *
+ * @since Oct 20, 2026, 2:52:36 PM
+ */
+final class AsyncInvoker<T extends Event> implements Handler<T> {
+
+	@SuppressWarnings("rawtypes")
+	private static final AtomicIntegerFieldUpdater<AsyncInvoker> DRAINING =
+			AtomicIntegerFieldUpdater.newUpdater(AsyncInvoker.class, "draining");
+
+	private final AbstractListener listener;
+	private final AsyncHandler<T> handler;
+	private final int maxInFlight;
+	private final long timeoutNanos;
+	private final Queue<T> pending = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger inFlight = new AtomicInteger();
+	/**
+	 * the number of requests to drain the pending events, only the thread that raises it from {@code 0} drains
+	 */
+	private volatile int draining;
+
+	AsyncInvoker(AbstractListener listener, AsyncHandler<T> handler, AsyncPolicy policy) {
+		this.listener = listener;
+		this.handler = handler;
+		this.maxInFlight = policy.getMaxInFlight();
+		this.timeoutNanos = policy.getTimeoutNanos();
+	}
+
+	@Override
+	public void handle(T event) {
+		// The listener releases the event once this returns, hold on to it until the operation completes
+		if (event instanceof PooledEvent) ((PooledEvent) event).retain();
+		pending.offer(event);
+		drain();
+	}
+
+	/**
+	 * Returns the number of operations that have been started and haven't completed or timed out yet.
+	 */
+	int inFlight() {
+		return inFlight.get();
+	}
+
+	/**
+	 * Returns the number of events waiting for an operation to complete before they can be started.
+	 */
+	int pending() {
+		return pending.size();
+	}
+
+	/**
+	 * Starts pending events while there are free slots. Operations that complete while the events are being started,
+	 * including ones that complete immediately, ask the draining thread to go round again instead of draining
+	 * recursively.
+	 */
+	private void drain() {
+		if (DRAINING.getAndIncrement(this) != 0) return;
+		do {
+			T event;
+			// Only the draining thread takes slots, completing operations only give them back
+			while (inFlight.get() < maxInFlight && (event = pending.poll()) != null) {
+				inFlight.incrementAndGet();
+				start(event);
+			}
+		} while (DRAINING.decrementAndGet(this) != 0);
+	}
+
+	private void start(T event) {
+		Operation operation = new Operation(event);
+		if (timeoutNanos > 0)
+			operation.timeout = Timeouts.SCHEDULER.schedule(operation, timeoutNanos, TimeUnit.NANOSECONDS);
+		try {
+			CompletionStage<Void> stage = handler.handleAsync(event);
+			if (stage == null) throw new NullPointerException("handleAsync returned null.");
+			stage.whenComplete(operation);
+		} catch (RuntimeException ex) {
+			operation.complete(ex);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "AsyncInvoker[" + handler + "]";
+	}
+
+	/**
+	 * A single operation of the handler, completed either by it's stage or by it's timeout, whichever comes first.
+	 */
+	private final class Operation implements BiConsumer<Void, Throwable>, Runnable {
+
+		private final T event;
+		private final AtomicInteger done = new AtomicInteger();
+		private ScheduledFuture<?> timeout;
+
+		private Operation(T event) {
+			this.event = event;
+		}
+
+		@Override
+		public void accept(Void result, Throwable failure) {
+			complete(failure);
+		}
+
+		@Override
+		public void run() {
+			complete(new CompletionException(new TimeoutException(
+					"The handler did not complete within " + timeoutNanos + " nanoseconds.")));
+		}
+
+		private void complete(Throwable failure) {
+			if (!done.compareAndSet(0, 1)) return;
+			if (timeout != null) timeout.cancel(false);
+			try {
+				listener.asyncCompleted(AsyncInvoker.this, event, failure);
+			} catch (RuntimeException ex) {
+				// A failing ErrorHandler has no caller to fail, and must not stop the pending events from being started
+			} finally {
+				PooledEvent.releaseIfPooled(event);
+				inFlight.decrementAndGet();
+				drain();
+			}
+		}
+	}
+
+	/**
+	 * Holds the timeout scheduler, which is only created once a handler with a timeout runs.
+	 */
+	private static final class Timeouts {
+
+		private static final ScheduledThreadPoolExecutor SCHEDULER = createScheduler();
+
+		private static ScheduledThreadPoolExecutor createScheduler() {
+			ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+				Thread thread = new Thread(runnable, "AsyncHandler Timeout Thread");
+				thread.setDaemon(true);
+
+				return thread;
+			});
+			// Most operations complete before they time out, don't keep their cancelled timeouts around
+			scheduler.setRemoveOnCancelPolicy(true);
+
+			return scheduler;
+		}
+	}
+}
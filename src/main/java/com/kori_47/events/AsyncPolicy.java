@@ -0,0 +1,93 @@
+/**
+ * 
+ */
+package com.kori_47.events;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * This describes how a listener runs an {@link AsyncHandler}. At most {@link #getMaxInFlight()} operations of the 
+ * handler are in flight at once, the events that arrive while the limit is reached are queued, without blocking 
+ * the thread that delivered them, and are handed to the handler, in the order they arrived, as earlier operations 
+ * complete.
+ * </p>
+ * <p>
+ * If a {@link #getTimeout(TimeUnit) timeout} is set, an operation that doesn't complete in time is failed with a 
+ * {@link java.util.concurrent.TimeoutException TimeoutException} and it's slot is given to the next queued event. 
+ * The listener can't cancel the work behind a {@link java.util.concurrent.CompletionStage CompletionStage}, so the 
+ * operation itself keeps running and it's eventual outcome is ignored.
+ * </p>
+ * 
+ * <p>
+ * <i><b>NOTE:</b> Instances of this class are immutable.</i>
+ * </p>
+ * 
+ * @author Kennedy Kori
+ *
+ * @since Oct 20, 2026, 2:44:52 PM
+ */
+public final class AsyncPolicy {
+	
+	private final int maxInFlight;
+	private final long timeoutNanos;
+	
+	/**
+	 * Creates a new {@code AsyncPolicy} with the given in-flight limit and no timeout.
+	 * 
+	 * @param maxInFlight the maximum number of operations of a handler that can be in flight at once.
+	 * 
+	 * @throws IllegalArgumentException if {@code maxInFlight} is not greater than {@code 0}.
+	 */
+	public AsyncPolicy(int maxInFlight) {
+		this(maxInFlight, 0, TimeUnit.NANOSECONDS);
+	}
+	
+	/**
+	 * Creates a new {@code AsyncPolicy} with the given in-flight limit and timeout.
+	 * 
+	 * @param maxInFlight the maximum number of operations of a handler that can be in flight at once.
+	 * @param timeout the time an operation has to complete before it is failed, or {@code 0} for no timeout.
+	 * @param unit the unit of {@code timeout}.
+	 * 
+	 * @throws IllegalArgumentException if {@code maxInFlight} is not greater than {@code 0} or if {@code timeout} 
+	 * is negative.
+	 * @throws NullPointerException if {@code unit} is {@code null}.
+	 */
+	public AsyncPolicy(int maxInFlight, long timeout, TimeUnit unit) {
+		requireNonNull(unit, "unit cannot be null.");
+		if (maxInFlight <= 0) throw new IllegalArgumentException("maxInFlight must be greater than 0.");
+		if (timeout < 0) throw new IllegalArgumentException("timeout cannot be negative.");
+		this.maxInFlight = maxInFlight;
+		this.timeoutNanos = unit.toNanos(timeout);
+	}
+	
+	/**
+	 * Returns the maximum number of operations of a handler that can be in flight at once.
+	 * 
+	 * @return the in-flight limit of this policy.
+	 */
+	public int getMaxInFlight() {
+		return maxInFlight;
+	}
+	
+	/**
+	 * Returns the time an operation has to complete before it is failed, {@code 0} means that operations never time 
+	 * out.
+	 * 
+	 * @param unit the unit of the returned time.
+	 * 
+	 * @return the timeout of this policy.
+	 * 
+	 * @throws NullPointerException if {@code unit} is {@code null}.
+	 */
+	public long getTimeout(TimeUnit unit) {
+		return requireNonNull(unit, "unit cannot be null.").convert(timeoutNanos, TimeUnit.NANOSECONDS);
+	}
+	
+	long getTimeoutNanos() {
+		return timeoutNanos;
+	}
+}
@@ -0,0 +1,112 @@
+/**
+ * 
+ */
+package com.kori_47.events;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * This describes how a {@link ThreadedListener} should batch the delivery of {@link Event events}. When a listener is 
+ * created with a {@code BatchPolicy}, fired events are queued and then drained by a small number of consumer tasks 
+ * running on the listener's {@code ExecutorService}. Each consumer drains a batch of queued events and executes the 
+ * handlers of each event in a tight loop, avoiding the cost of scheduling a task for every handler of every event.
+ * </p>
+ * <p>
+ * The size of the batches adapts to the depth of the queue; it grows, up to {@link #getMaxBatchSize()}, while events 
+ * keep queuing faster than they are consumed and shrinks once the queue runs dry or a batch takes longer than the 
+ * {@link #getLatencyTarget(TimeUnit) latency target} to complete. When the queue is empty, a consumer lingers for new 
+ * events for a period of time that also adapts to the rate of events and never exceeds the latency target, or a 
+ * millisecond. A lingering consumer parks rather than spins, so it doesn't take a core away from other tasks.
+ * </p>
+ * 
+ * <p>
+ * <i><b>NOTE:</b> Instances of this class are immutable.</i>
+ * </p>
+ * 
+ * @author Kennedy Kori
+ *
+ * @since Oct 19, 2026, 1:48:22 PM
+ */
+public final class BatchPolicy {
+	
+	private final int consumers;
+	private final int maxBatchSize;
+	private final long latencyTargetNanos;
+	
+	/**
+	 * Creates a new {@code BatchPolicy} with the given maximum batch size and latency target and a single consumer. With 
+	 * a single consumer, events are delivered in the order they were fired.
+	 * 
+	 * @param maxBatchSize the maximum number of events that a consumer drains at a time.
+	 * @param latencyTarget the length of time that a single batch should take to complete.
+	 * @param unit the {@code TimeUnit} of {@code latencyTarget}.
+	 * 
+	 * @throws IllegalArgumentException if {@code maxBatchSize} is less than 1 or {@code latencyTarget} is negative.
+	 * @throws NullPointerException if {@code unit} is {@code null}.
+	 */
+	public BatchPolicy(int maxBatchSize, long latencyTarget, TimeUnit unit) {
+		this(1, maxBatchSize, latencyTarget, unit);
+	}
+
+	/**
+	 * Creates a new {@code BatchPolicy} with the given number of consumers, maximum batch size and latency target. 
+	 * 
+	 * @param consumers the maximum number of consumers that can drain events concurrently.
+	 * @param maxBatchSize the maximum number of events that a consumer drains at a time.
+	 * @param latencyTarget the length of time that a single batch should take to complete.
+	 * @param unit the {@code TimeUnit} of {@code latencyTarget}.
+	 * 
+	 * @throws IllegalArgumentException if {@code consumers} or {@code maxBatchSize} is less than 1 or 
+	 * 		{@code latencyTarget} is negative.
+	 * @throws NullPointerException if {@code unit} is {@code null}.
+	 */
+	public BatchPolicy(int consumers, int maxBatchSize, long latencyTarget, TimeUnit unit) {
+		if (consumers < 1)
+			throw new IllegalArgumentException("consumers must be greater than 0.");
+		if (maxBatchSize < 1)
+			throw new IllegalArgumentException("maxBatchSize must be greater than 0.");
+		if (latencyTarget < 0)
+			throw new IllegalArgumentException("latencyTarget cannot be negative.");
+		this.consumers = consumers;
+		this.maxBatchSize = maxBatchSize;
+		this.latencyTargetNanos = requireNonNull(unit, "unit cannot be null.").toNanos(latencyTarget);
+	}
+	
+	/**
+	 * Returns the maximum number of consumers that can drain events concurrently.
+	 * 
+	 * @return the maximum number of consumers.
+	 */
+	public int getConsumers() {
+		return consumers;
+	}
+	
+	/**
+	 * Returns the maximum number of events that a consumer drains at a time.
+	 * 
+	 * @return the maximum batch size.
+	 */
+	public int getMaxBatchSize() {
+		return maxBatchSize;
+	}
+	
+	/**
+	 * Returns the length of time, in the given {@code TimeUnit}, that a single batch should take to complete.
+	 * 
+	 * @param unit the {@code TimeUnit} to return the latency target in.
+	 * 
+	 * @return the latency target.
+	 * 
+	 * @throws NullPointerException if {@code unit} is {@code null}.
+	 */
+	public long getLatencyTarget(TimeUnit unit) {
+		return requireNonNull(unit, "unit cannot be null.").convert(latencyTargetNanos, TimeUnit.NANOSECONDS);
+	}
+	
+	long getLatencyTargetNanos() {
+		return latencyTargetNanos;
+	}
+}
@@ -0,0 +1,80 @@
+/**
+ * 
+ */
+package com.kori_47.events;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * This describes when a {@link AbstractListener listener} should stop executing a failing {@link Handler}. Once a 
+ * handler has thrown an exception on {@link #getFailureThreshold()} consecutive events, it's circuit is opened and 
+ * the handler is skipped for all events fired within the {@link #getRetryDelay(TimeUnit) retry delay} that follows. 
+ * After the retry delay has elapsed, the handler is executed once more as a probe. If the probe succeeds, the circuit 
+ * is closed again and the handler is executed normally, otherwise the handler is skipped for another retry delay.
+ * </p>
+ * <p>
+ * A {@code CircuitBreaker} can be set on a listener using it's {@link AbstractListener#setCircuitBreaker(CircuitBreaker) 
+ * setCircuitBreaker} method. Each handler registered to the listener gets it's own circuit.
+ * </p>
+ * 
+ * <p>
+ * <i><b>NOTE:</b> Instances of this class are immutable.</i>
+ * </p>
+ * 
+ * @author Kennedy Kori
+ *
+ * @since Oct 19, 2026, 11:12:51 AM
+ */
+public final class CircuitBreaker {
+	
+	private final int failureThreshold;
+	private final long retryDelayNanos;
+
+	/**
+	 * Creates a new {@code CircuitBreaker} with the given failure threshold and retry delay.
+	 * 
+	 * @param failureThreshold the number of consecutive failures after which a handler is skipped.
+	 * @param retryDelay the length of time to wait before a skipped handler is executed again.
+	 * @param unit the {@code TimeUnit} of {@code retryDelay}.
+	 * 
+	 * @throws IllegalArgumentException if {@code failureThreshold} is less than 1 or {@code retryDelay} is negative.
+	 * @throws NullPointerException if {@code unit} is {@code null}.
+	 */
+	public CircuitBreaker(int failureThreshold, long retryDelay, TimeUnit unit) {
+		if (failureThreshold < 1)
+			throw new IllegalArgumentException("failureThreshold must be greater than 0.");
+		if (retryDelay < 0)
+			throw new IllegalArgumentException("retryDelay cannot be negative.");
+		this.failureThreshold = failureThreshold;
+		this.retryDelayNanos = requireNonNull(unit, "unit cannot be null.").toNanos(retryDelay);
+	}
+	
+	/**
+	 * Returns the number of consecutive failures after which a handler is skipped.
+	 * 
+	 * @return the failure threshold.
+	 */
+	public int getFailureThreshold() {
+		return failureThreshold;
+	}
+	
+	/**
+	 * Returns the length of time, in the given {@code TimeUnit}, to wait before a skipped handler is executed again.
+	 * 
+	 * @param unit the {@code TimeUnit} to return the retry delay in.
+	 * 
+	 * @return the retry delay.
+	 * 
+	 * @throws NullPointerException if {@code unit} is {@code null}.
+	 */
+	public long getRetryDelay(TimeUnit unit) {
+		return requireNonNull(unit, "unit cannot be null.").convert(retryDelayNanos, TimeUnit.NANOSECONDS);
+	}
+	
+	long getRetryDelayNanos() {
+		return retryDelayNanos;
+	}
+}
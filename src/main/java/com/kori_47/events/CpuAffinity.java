@@ -0,0 +1,116 @@
+/**
+ * 
+ */
+package com.kori_47.events;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads the CPU topology of the machine and pins threads to sets of CPUs, without any native code. Both only work
+ * on Linux: the topology is read from {@code /sys}, and a thread is pinned by looking up it's native id in
+ * {@code /proc/thread-self} and running {@code taskset} on it, which uses {@code sched_setaffinity}. Everything
+ * fails quietly elsewhere, leaving threads free to run on any CPU.
+ * 
+ * @author Kennedy Kori
+ *
+ * @since Oct 20, 2026, 4:31:48 PM
+ */
+final class CpuAffinity {
+
+	private static final Path NODES = Paths.get("/sys/devices/system/node");
+	private static final Path CPUS = Paths.get("/sys/devices/system/cpu");
+	private static final Path THREAD_SELF = Paths.get("/proc/thread-self");
+	private static final long TASKSET_TIMEOUT_SECONDS = 5;
+
+	private CpuAffinity() {}
+
+	/**
+	 * Returns the CPU lists, in the format used by {@code taskset}, of the NUMA nodes of this machine or, if the
+	 * kernel doesn't expose them, of it's sockets. Returns an empty list if the topology can't be read.
+	 */
+	static List<String> cacheDomains() {
+		try {
+			List<String> nodes = nodeCpuLists();
+			return nodes.isEmpty()? socketCpuLists() : nodes;
+		} catch (IOException | RuntimeException ex) {
+			return Collections.emptyList();
+		}
+	}
+
+	/**
+	 * Pins the calling thread to the given CPU list, returns {@code true} if the thread was pinned.
+	 */
+	static boolean pinCurrentThread(String cpuList) {
+		if (!Files.isSymbolicLink(THREAD_SELF)) return false;
+		try {
+			// The link reads <pid>/task/<tid>
+			String tid = Files.readSymbolicLink(THREAD_SELF).getFileName().toString();
+			Process taskset = new ProcessBuilder("taskset", "-p", "-c", cpuList, tid)
+					.redirectErrorStream(true)
+					.redirectOutput(new File("/dev/null"))
+					.start();
+			if (!taskset.waitFor(TASKSET_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+				taskset.destroy();
+				return false;
+			}
+			return taskset.exitValue() == 0;
+		} catch (IOException | RuntimeException ex) {
+			return false;
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	private static List<String> nodeCpuLists() throws IOException {
+		List<String> cpuLists = new ArrayList<>();
+		if (!Files.isDirectory(NODES)) return cpuLists;
+		try (DirectoryStream<Path> nodes = Files.newDirectoryStream(NODES, "node[0-9]*")) {
+			Map<Integer, String> byNode = new TreeMap<>();
+			for (Path node : nodes) {
+				String cpuList = read(node.resolve("cpulist"));
+				// Memory only nodes have no CPUs
+				if (!cpuList.isEmpty())
+					byNode.put(Integer.parseInt(node.getFileName().toString().substring(4)), cpuList);
+			}
+			cpuLists.addAll(byNode.values());
+		}
+		return cpuLists;
+	}
+
+	private static List<String> socketCpuLists() throws IOException {
+		Map<Integer, StringBuilder> bySocket = new TreeMap<>();
+		Map<Integer, Path> cpus = new TreeMap<>();
+		try (DirectoryStream<Path> entries = Files.newDirectoryStream(CPUS, "cpu[0-9]*")) {
+			for (Path cpu : entries)
+				cpus.put(Integer.parseInt(cpu.getFileName().toString().substring(3)), cpu);
+		}
+		for (Map.Entry<Integer, Path> cpu : cpus.entrySet()) {
+			Path packageId = cpu.getValue().resolve("topology/physical_package_id");
+			// Offline CPUs have no topology
+			if (!Files.exists(packageId)) continue;
+			StringBuilder cpuList = bySocket.computeIfAbsent(Integer.parseInt(read(packageId)), key -> new StringBuilder());
+			if (cpuList.length() > 0) cpuList.append(',');
+			cpuList.append(cpu.getKey());
+		}
+		List<String> cpuLists = new ArrayList<>();
+		bySocket.values().forEach(cpuList -> cpuLists.add(cpuList.toString()));
+		return cpuLists;
+	}
+
+	private static String read(Path path) throws IOException {
+		return new String(Files.readAllBytes(path), StandardCharsets.US_ASCII).trim();
+	}
+}
@@ -0,0 +1,105 @@
+/**
+ * 
+ */
+package com.kori_47.events;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+/**
+ * <p>
+ * This determines which thread executes a {@link Handler} registered to a {@link ThreadedListener} using the 
+ * listener's {@link ThreadedListener#addHandler(Class, Handler, Delivery) addHandler} method. There are three kinds 
+ * of deliveries:
+ * </p>
+ * <ul>
+ * 		<li>{@link #inline()} - the handler is executed on the thread that fires the event.</li>
+ * 		<li>{@link #pooled()} - the handler is executed on one of the listener's threads, this is the default.</li>
+ * 		<li>{@link #on(Executor)} - the handler is executed by the given {@code Executor}, e.g. a single thread 
+ * 		executor that runs an event loop or a UI thread.</li>
+ * </ul>
+ * 
+ * <p>
+ * <i><b>NOTE:</b> Instances of this class are immutable.</i>
+ * </p>
+ * 
+ * @author Kennedy Kori
+ *
+ * @since Oct 19, 2026, 7:18:36 PM
+ */
+public final class Delivery {
+	
+	private static final Delivery INLINE = new Delivery(null, true);
+	private static final Delivery POOLED = new Delivery(null, false);
+	
+	private final Executor executor;
+	private final boolean inline;
+	
+	private Delivery(Executor executor, boolean inline) {
+		this.executor = executor;
+		this.inline = inline;
+	}
+	
+	/**
+	 * Returns a {@code Delivery} that executes handlers on the thread that fires the event.
+	 * 
+	 * @return an inline delivery.
+	 */
+	public static Delivery inline() {
+		return INLINE;
+	}
+	
+	/**
+	 * Returns a {@code Delivery} that executes handlers on the threads of the listener they are registered to.
+	 * 
+	 * @return a pooled delivery.
+	 */
+	public static Delivery pooled() {
+		return POOLED;
+	}
+	
+	/**
+	 * Returns a {@code Delivery} that executes handlers using the given {@code Executor}. Handlers delivered by a 
+	 * single thread executor are executed in the order they were registered and events are received in the order 
+	 * they were fired.
+	 * 
+	 * @param executor the executor that should execute the handlers.
+	 * 
+	 * @return a delivery that uses the given executor.
+	 * 
+	 * @throws NullPointerException if {@code executor} is {@code null}.
+	 */
+	public static Delivery on(Executor executor) {
+		return new Delivery(requireNonNull(executor, "executor cannot be null."), false);
+	}
+	
+	/**
+	 * Returns {@code true} if this delivery executes handlers on the thread that fires the event.
+	 * 
+	 * @return {@code true} if this is an inline delivery, {@code false} otherwise.
+	 */
+	public boolean isInline() {
+		return inline;
+	}
+	
+	/**
+	 * Returns {@code true} if this delivery executes handlers on the threads of the listener.
+	 * 
+	 * @return {@code true} if this is a pooled delivery, {@code false} otherwise.
+	 */
+	public boolean isPooled() {
+		return !inline && executor == null;
+	}
+	
+	/**
+	 * Returns an {@link Optional} containing the {@code Executor} used by this delivery, which is only present for 
+	 * deliveries created using {@link #on(Executor)}.
+	 * 
+	 * @return an {@code Optional} containing the executor of this delivery.
+	 */
+	public Optional<Executor> getExecutor() {
+		return Optional.ofNullable(executor);
+	}
+}
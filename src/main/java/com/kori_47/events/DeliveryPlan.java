@@ -0,0 +1,144 @@
+/**
+ * 
+ */
+package com.kori_47.events;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+/**
+ * This is the dispatch table of a {@link ThreadedListener}. It is compiled from a {@link ListenerSnapshot} and the 
+ * {@link Delivery deliveries} of the listener's handlers and groups the handlers of each event type by the thread 
+ * that should execute them, so that firing an event only branches once per group rather than once per handler.
+ * 
+ * @author Kennedy Kori
+ *
+ * @since Oct 19, 2026, 7:40:58 PM
+ */
+final class DeliveryPlan {
+	
+	private static final Handler<?>[] NO_HANDLERS = new Handler<?>[0];
+	private static final Executor[] NO_EXECUTORS = new Executor[0];
+	private static final Handler<?>[][] NO_HANDLER_GROUPS = new Handler<?>[0][];
+	private static final Route[] NO_ROUTES = new Route[0];
+	
+	private final long version;
+	/**
+	 * the route of each event type, indexed by {@link EventTypeIndex event type id}
+	 */
+	private final Route[] routes;
+	
+	/**
+	 * Compiles a plan for the given snapshot. Handlers without an entry in {@code deliveries} are pooled, and the 
+	 * pooled handlers of an event type with {@code dependencies} are compiled into a {@link HandlerGraph}.
+	 */
+	DeliveryPlan(ListenerSnapshot snapshot, Map<Class<? extends Event>, Map<Handler<? extends Event>, Delivery>> deliveries, 
+			Map<Class<? extends Event>, Map<Handler<? extends Event>, Set<Handler<? extends Event>>>> dependencies) {
+		this.version = snapshot.getVersion();
+		Map<Class<? extends Event>, Route> routes = new HashMap<>();
+		for (Class<? extends Event> eventClass : snapshot.getSupportedEventTypes()) {
+			Handler<? extends Event>[] handlers = snapshot.handlerArray(eventClass);
+			if (handlers.length == 0) continue;
+			Map<Handler<? extends Event>, Delivery> classDeliveries = deliveries.getOrDefault(eventClass, Collections.emptyMap());
+			Route route = classDeliveries.isEmpty()? new Route(handlers) : new Route(handlers, classDeliveries);
+			Map<Handler<? extends Event>, Set<Handler<? extends Event>>> classDependencies = dependencies.get(eventClass);
+			if (classDependencies != null && !classDependencies.isEmpty()) route = route.withGraph(classDependencies);
+			routes.put(eventClass, route);
+		}
+		this.routes = EventTypeIndex.table(routes, NO_ROUTES);
+	}
+	
+	/**
+	 * Returns the version of the snapshot this plan was compiled from.
+	 */
+	long getVersion() {
+		return version;
+	}
+	
+	/**
+	 * Returns the route of the given event type or {@code null} if the event type has no handlers.
+	 */
+	Route route(Class<? extends Event> eventClass) {
+		return EventTypeIndex.lookup(routes, eventClass);
+	}
+	
+	/**
+	 * The handlers of a single event type grouped by delivery.
+	 */
+	static final class Route {
+		
+		final Handler<? extends Event>[] inline;
+		/**
+		 * the pooled handlers, in the topological order of {@code graph} if there is one
+		 */
+		final Handler<? extends Event>[] pooled;
+		final Executor[] executors;
+		/**
+		 * the handlers of each executor, in the same order as {@code executors}
+		 */
+		final Handler<? extends Event>[][] executorHandlers;
+		/**
+		 * the dependencies between the pooled handlers or {@code null} if they are all independent
+		 */
+		final HandlerGraph graph;
+		
+		private Route(Handler<? extends Event>[] pooled) {
+			this.inline = NO_HANDLERS;
+			this.pooled = pooled;
+			this.executors = NO_EXECUTORS;
+			this.executorHandlers = NO_HANDLER_GROUPS;
+			this.graph = null;
+		}
+		
+		private Route(Route route, HandlerGraph graph) {
+			this.inline = route.inline;
+			this.pooled = graph.handlers;
+			this.executors = route.executors;
+			this.executorHandlers = route.executorHandlers;
+			this.graph = graph;
+		}
+		
+		private Route(Handler<? extends Event>[] handlers, Map<Handler<? extends Event>, Delivery> deliveries) {
+			List<Handler<? extends Event>> inline = new ArrayList<>();
+			List<Handler<? extends Event>> pooled = new ArrayList<>();
+			Map<Executor, List<Handler<? extends Event>>> executorHandlers = new IdentityHashMap<>();
+			List<Executor> executors = new ArrayList<>();
+			for (Handler<? extends Event> handler : handlers) {
+				Delivery delivery = deliveries.getOrDefault(handler, Delivery.pooled());
+				if (delivery.isInline()) {
+					inline.add(handler);
+				} else if (delivery.isPooled()) {
+					pooled.add(handler);
+				} else {
+					Executor executor = delivery.getExecutor().get();
+					if (!executorHandlers.containsKey(executor)) executors.add(executor);
+					executorHandlers.computeIfAbsent(executor, key -> new ArrayList<>()).add(handler);
+				}
+			}
+			this.inline = inline.toArray(new Handler<?>[inline.size()]);
+			this.pooled = pooled.toArray(new Handler<?>[pooled.size()]);
+			this.executors = executors.toArray(new Executor[executors.size()]);
+			this.executorHandlers = new Handler<?>[executors.size()][];
+			for (int index = 0; index < this.executors.length; index++) {
+				List<Handler<? extends Event>> group = executorHandlers.get(this.executors[index]);
+				this.executorHandlers[index] = group.toArray(new Handler<?>[group.size()]);
+			}
+			this.graph = null;
+		}
+		
+		/**
+		 * Returns a copy of this route whose pooled handlers are ordered by the given dependencies, or this route if 
+		 * none of the pooled handlers depends on another.
+		 */
+		private Route withGraph(Map<Handler<? extends Event>, Set<Handler<? extends Event>>> dependencies) {
+			HandlerGraph graph = HandlerGraph.compile(pooled, dependencies);
+			return (graph == null)? this : new Route(this, graph);
+		}
+	}
+}
@@ -0,0 +1,36 @@
+/**
+ * 
+ */
+package com.kori_47.events;
+
+/**
+ * <p>
+ * This is a callback that is executed when a {@link Handler} registered to a {@link AbstractListener listener} throws 
+ * a {@code RuntimeException} while handling an {@link Event}. An {@code ErrorHandler} can be set on a listener using it's 
+ * {@link AbstractListener#setErrorHandler(ErrorHandler) setErrorHandler} method, once set, a failing handler will no 
+ * longer prevent the rest of the handlers interested in an event from being executed.
+ * </p>
+ * <p>
+ * <i><b>NOTE:</b> This is a {@link FunctionalInterface} as it only declares one abstract method: 
+ * {@code handleError(Event event, Handler handler, RuntimeException exception)}.</i>
+ * </p>
+ * 
+ * @author Kennedy Kori
+ *
+ * @since Oct 19, 2026, 11:05:18 AM
+ */
+@FunctionalInterface
+public interface ErrorHandler {
+	
+	/**
+	 * Performs a given action when a {@link Handler} fails to handle an {@link Event}. Depending on the listener, 
+	 * this method may be called on the thread that fired the event or on a thread owned by the listener. A 
+	 * {@code RuntimeException} thrown by this method is ignored.
+	 * 
+	 * @param event the event that was being handled.
+	 * @param handler the handler that failed.
+	 * @param exception the exception thrown by the handler.
+	 */
+	void handleError(Event event, Handler<? extends Event> handler, RuntimeException exception);
+
+}
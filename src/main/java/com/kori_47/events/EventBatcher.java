@@ -0,0 +1,208 @@
+/**
+ * 
+ */
+package com.kori_47.events;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * This queues the events fired on a {@link ThreadedListener} and drains them in batches according to a 
+ * {@link BatchPolicy}. Consumers are only scheduled on the listener's {@code Executor} when fewer than 
+ * {@link BatchPolicy#getConsumers()} consumers are active, so under saturation firing an event costs no 
+ * more than adding it to the queue.
+ * 
+ * @author Kennedy Kori
+ *
+ * @since Oct 19, 2026, 2:10:46 PM
+ */
+final class EventBatcher implements Runnable {
+	
+	/**
+	 * lingering for less than this is not worth the cost of reading the clock
+	 */
+	private static final long MIN_LINGER_NANOS = 1_000;
+	/**
+	 * a lingering consumer holds on to a thread of the executor, which may be shared, so it never lingers for longer
+	 */
+	private static final long MAX_LINGER_NANOS = 1_000_000;
+	/**
+	 * a lingering consumer yields for up to this long before parking until an event is queued
+	 */
+	private static final long MAX_SPIN_NANOS = 20_000;
+	
+	private static final AtomicIntegerFieldUpdater<EventBatcher> ACTIVE_CONSUMERS = 
+			AtomicIntegerFieldUpdater.newUpdater(EventBatcher.class, "activeConsumers");
+	
+	private final ThreadedListener listener;
+	private final Executor executor;
+	private final BatchPolicy policy;
+	/**
+	 * holds the queued events, or their stamps if they were stamped
+	 */
+	private final Queue<Object> queue;
+	/**
+	 * the consumers parked while lingering, unparked when an event is queued
+	 */
+	private final Queue<Thread> lingering;
+	private volatile int activeConsumers;
+	// The adaptive state below is shared by all consumers, lost updates only delay adaptation.
+	private volatile int batchSize;
+	private volatile long lingerNanos;
+	private volatile long lastRetiredAt;
+	
+	EventBatcher(ThreadedListener listener, Executor executor, BatchPolicy policy) {
+		this.listener = listener;
+		this.executor = executor;
+		this.policy = policy;
+		this.queue = new ConcurrentLinkedQueue<>();
+		this.lingering = new ConcurrentLinkedQueue<>();
+		this.batchSize = 1;
+	}
+	
+	/**
+	 * Queues the given event, or it's stamp if it isn't {@code null}, and starts a consumer if fewer than the maximum 
+	 * number of consumers are active. If a consumer can't be started and none is active, the queued events are 
+	 * discarded before the exception is rethrown.
+	 */
+	void enqueue(Event event, EventStamp stamp) {
+		queue.offer((stamp == null)? event : stamp);
+		if (!lingering.isEmpty()) {
+			Thread consumer = lingering.poll();
+			if (consumer != null) LockSupport.unpark(consumer);
+		}
+		if (activeConsumers >= policy.getConsumers()) return;
+		try {
+			startConsumer();
+		} catch (RejectedExecutionException ex) {
+			if (activeConsumers == 0) discard();
+			throw ex;
+		}
+	}
+	
+	/**
+	 * Removes all the queued events without delivering them, releasing the pooled ones.
+	 */
+	void discard() {
+		Object eventOrStamp;
+		while ((eventOrStamp = queue.poll()) != null) {
+			Event event = (eventOrStamp instanceof EventStamp)? ((EventStamp) eventOrStamp).getEvent() : (Event) eventOrStamp;
+			PooledEvent.releaseIfPooled(event);
+		}
+	}
+	
+	@Override
+	public void run() {
+		Object[] batch = new Object[policy.getMaxBatchSize()];
+		// Retire even if a delivery throws, a consumer that stays active forever would stop new ones from starting
+		try {
+			for (;;) {
+				int size = batchSize;
+				int drained = drain(batch, size);
+				if (drained == 0 && !linger()) break;
+				long start = System.nanoTime();
+				for (int index = 0; index < drained; index++) {
+					listener.deliver(batch[index]);
+					batch[index] = null;
+				}
+				adapt(size, drained, System.nanoTime() - start);
+				if (listener.isDisposed()) {
+					discard();
+					break;
+				}
+			}
+		} finally {
+			retire();
+		}
+	}
+	
+	private int drain(Object[] batch, int size) {
+		int drained = 0;
+		Object event;
+		while (drained < size && (event = queue.poll()) != null)
+			batch[drained++] = event;
+		return drained;
+	}
+	
+	/**
+	 * Waits for new events for up to the current linger time, returns {@code true} if an event arrived. The consumer 
+	 * yields for a short while and then parks until an event is queued, so it doesn't keep a core busy.
+	 */
+	private boolean linger() {
+		long linger = lingerNanos;
+		if (linger == 0) return false;
+		long start = System.nanoTime();
+		long deadline = start + linger;
+		long spinDeadline = start + Math.min(linger, MAX_SPIN_NANOS);
+		while (queue.isEmpty()) {
+			long now = System.nanoTime();
+			if (now - deadline >= 0) {
+				// Nothing arrived, linger for a shorter time next time
+				lingerNanos = (linger / 2 < MIN_LINGER_NANOS)? 0 : linger / 2;
+				return false;
+			}
+			if (now - spinDeadline < 0) {
+				Thread.yield();
+				continue;
+			}
+			Thread consumer = Thread.currentThread();
+			lingering.offer(consumer);
+			// Check again once visible to enqueue, an event queued in between would otherwise not unpark it
+			if (queue.isEmpty()) LockSupport.parkNanos(this, deadline - now);
+			lingering.remove(consumer);
+		}
+		return true;
+	}
+	
+	/**
+	 * Grows the batch size while full batches complete within the latency target and shrinks it when the 
+	 * queue runs dry or a batch overshoots the latency target.
+	 */
+	private void adapt(int size, int drained, long elapsedNanos) {
+		boolean withinTarget = elapsedNanos <= policy.getLatencyTargetNanos();
+		if (drained == size && withinTarget) {
+			if (size < policy.getMaxBatchSize()) batchSize = Math.min(size * 2, policy.getMaxBatchSize());
+		} else if (size > 1 && (!withinTarget || drained < size / 4)) {
+			batchSize = size / 2;
+		}
+	}
+	
+	private void startConsumer() {
+		for (;;) {
+			int active = activeConsumers;
+			if (active >= policy.getConsumers()) return;
+			if (ACTIVE_CONSUMERS.compareAndSet(this, active, active + 1)) break;
+		}
+		// A consumer retired only to be needed again shortly after, it should have lingered for longer
+		long latencyTarget = policy.getLatencyTargetNanos();
+		if (latencyTarget > 0 && System.nanoTime() - lastRetiredAt < latencyTarget)
+			lingerNanos = Math.min(Math.max(lingerNanos * 2, MIN_LINGER_NANOS), Math.min(latencyTarget, MAX_LINGER_NANOS));
+		try {
+			executor.execute(this);
+		} catch (RejectedExecutionException ex) {
+			ACTIVE_CONSUMERS.decrementAndGet(this);
+			throw ex;
+		}
+	}
+	
+	private void retire() {
+		lastRetiredAt = System.nanoTime();
+		ACTIVE_CONSUMERS.decrementAndGet(this);
+		// An event may have been queued after the queue was last found empty but before this consumer retired
+		if (queue.isEmpty()) return;
+		if (listener.isDisposed()) {
+			discard();
+			return;
+		}
+		try {
+			startConsumer();
+		} catch (RejectedExecutionException ex) {
+			// The executor has been shutdown, the remaining events can't be delivered
+			if (activeConsumers == 0) discard();
+		}
+	}
+}
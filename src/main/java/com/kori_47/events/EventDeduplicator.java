@@ -0,0 +1,387 @@
+/**
+ * 
+ */
+package com.kori_47.events;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * <p>
+ * This is an {@link EventFilter} that drops events that repeat an event fired within a given window of time. Two 
+ * events are considered to be the same if they are of the same class, have equal {@link Event#source() sources} and 
+ * have equal keys, where the key of an event is extracted by a pluggable key extractor. By default, the key of a 
+ * {@link ValueChangedEvent} is it's previous and new value and any other event has no key, so it is identified by 
+ * it's class and source alone. An event is never used as it's own key, so a deduplicator doesn't hold on to the 
+ * events it has seen.
+ * </p>
+ * 
+ * <p>
+ * A {@link PooledEvent} is reused once it has been handled, so there is nothing about the instance that identifies 
+ * it and the default key extractor refuses pooled events. Deduplicating pooled events requires a key extractor that 
+ * copies whatever identifies an event out of it, and never returns the event itself.
+ * </p>
+ * 
+ * <p>
+ * A deduplicator is either:
+ * </p>
+ * <ul>
+ * 		<li><b>{@link #exact(long, TimeUnit, int) exact}</b> - the events seen within the window are kept in a bounded 
+ * 		cache that evicts the oldest events first once it's full. An event is only dropped if it really is a repeat, 
+ * 		but a repeat may get through if the event it repeats has already been evicted.</li>
+ * 		<li><b>{@link #approximate(long, TimeUnit, int, double) approximate}</b> - the events seen within the window 
+ * 		are recorded in a pair of Bloom filters that are rotated every window, so a repeat is always dropped for at 
+ * 		least one window but a distinct event is dropped with the given false positive probability. The memory used 
+ * 		doesn't depend on the number of events or on the number of sources.</li>
+ * </ul>
+ * 
+ * <p>
+ * A deduplicator is used by {@link AbstractListener#setEventFilter(EventFilter) setting it} as the event filter of a 
+ * listener and can be shared by several listeners.
+ * </p>
+ * 
+ * <p>
+ * <i><b>NOTE:</b> Instances of this class are thread safe.</i>
+ * </p>
+ * 
+ * @author Kennedy Kori
+ *
+ * @since Oct 19, 2026, 10:34:50 PM
+ */
+public final class EventDeduplicator implements EventFilter {
+	
+	private static final int MAX_STRIPES = 16;
+	
+	private final long windowNanos;
+	private final Function<? super Event, ?> keyExtractor;
+	private final Window window;
+	private final LongAdder duplicates = new LongAdder();
+	
+	private EventDeduplicator(long window, TimeUnit unit, Function<? super Event, ?> keyExtractor, Window eventWindow) {
+		this.windowNanos = unit.toNanos(window);
+		this.keyExtractor = keyExtractor;
+		this.window = eventWindow;
+	}
+	
+	/**
+	 * Returns an exact {@code EventDeduplicator} that uses the default key extractor.
+	 * 
+	 * @param window the length of time for which an event's repeats are dropped.
+	 * @param unit the unit of {@code window}.
+	 * @param capacity the maximum number of events to remember.
+	 * 
+	 * @return an exact deduplicator.
+	 * 
+	 * @throws IllegalArgumentException if {@code window} or {@code capacity} is less than 1.
+	 * @throws NullPointerException if {@code unit} is {@code null}.
+	 */
+	public static EventDeduplicator exact(long window, TimeUnit unit, int capacity) {
+		return exact(window, unit, capacity, EventDeduplicator::defaultKey);
+	}
+	
+	/**
+	 * Returns an exact {@code EventDeduplicator} that uses the given key extractor. The key returned by the extractor 
+	 * must implement {@code equals} and {@code hashCode}, and may be {@code null}. The key of a {@link PooledEvent} 
+	 * must not be, or refer to, the event itself.
+	 * 
+	 * @param window the length of time for which an event's repeats are dropped.
+	 * @param unit the unit of {@code window}.
+	 * @param capacity the maximum number of events to remember.
+	 * @param keyExtractor the function used to extract the key of an event.
+	 * 
+	 * @return an exact deduplicator.
+	 * 
+	 * @throws IllegalArgumentException if {@code window} or {@code capacity} is less than 1.
+	 * @throws NullPointerException if {@code unit} or {@code keyExtractor} is {@code null}.
+	 */
+	public static EventDeduplicator exact(long window, TimeUnit unit, int capacity, Function<? super Event, ?> keyExtractor) {
+		checkArguments(window, unit, keyExtractor);
+		if (capacity < 1)
+			throw new IllegalArgumentException("capacity must be greater than 0.");
+		return new EventDeduplicator(window, unit, keyExtractor, new ExactWindow(capacity));
+	}
+	
+	/**
+	 * Returns an approximate {@code EventDeduplicator} that uses the default key extractor.
+	 * 
+	 * @param window the length of time for which an event's repeats are dropped.
+	 * @param unit the unit of {@code window}.
+	 * @param expectedEvents the number of distinct events expected within a window.
+	 * @param falsePositiveRate the probability that a distinct event is dropped when no more than 
+	 * {@code expectedEvents} events are fired within a window.
+	 * 
+	 * @return an approximate deduplicator.
+	 * 
+	 * @throws IllegalArgumentException if {@code window} or {@code expectedEvents} is less than 1 or 
+	 * {@code falsePositiveRate} isn't between {@code 0} and {@code 1}.
+	 * @throws NullPointerException if {@code unit} is {@code null}.
+	 */
+	public static EventDeduplicator approximate(long window, TimeUnit unit, int expectedEvents, double falsePositiveRate) {
+		return approximate(window, unit, expectedEvents, falsePositiveRate, EventDeduplicator::defaultKey);
+	}
+	
+	/**
+	 * Returns an approximate {@code EventDeduplicator} that uses the given key extractor. The key returned by the 
+	 * extractor must implement {@code hashCode}, and may be {@code null}. The key of a {@link PooledEvent} must not be, 
+	 * or refer to, the event itself.
+	 * 
+	 * @param window the length of time for which an event's repeats are dropped.
+	 * @param unit the unit of {@code window}.
+	 * @param expectedEvents the number of distinct events expected within a window.
+	 * @param falsePositiveRate the probability that a distinct event is dropped when no more than 
+	 * {@code expectedEvents} events are fired within a window.
+	 * @param keyExtractor the function used to extract the key of an event.
+	 * 
+	 * @return an approximate deduplicator.
+	 * 
+	 * @throws IllegalArgumentException if {@code window} or {@code expectedEvents} is less than 1 or 
+	 * {@code falsePositiveRate} isn't between {@code 0} and {@code 1}.
+	 * @throws NullPointerException if {@code unit} or {@code keyExtractor} is {@code null}.
+	 */
+	public static EventDeduplicator approximate(long window, TimeUnit unit, int expectedEvents, double falsePositiveRate, 
+			Function<? super Event, ?> keyExtractor) {
+		checkArguments(window, unit, keyExtractor);
+		if (expectedEvents < 1)
+			throw new IllegalArgumentException("expectedEvents must be greater than 0.");
+		if (!(falsePositiveRate > 0 && falsePositiveRate < 1))
+			throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1.");
+		return new EventDeduplicator(window, unit, keyExtractor, new BloomWindow(expectedEvents, falsePositiveRate));
+	}
+	
+	/**
+	 * Returns {@code true} if the given event doesn't repeat an event accepted within the window, and remembers it.
+	 * 
+	 * @param event the event being fired.
+	 * 
+	 * @return {@code true} if the event should be delivered, {@code false} if it is a repeat.
+	 * 
+	 * @throws IllegalArgumentException if the event is a {@link PooledEvent} and this deduplicator uses the default 
+	 * key extractor.
+	 */
+	@Override
+	public boolean accept(Event event) {
+		Key key = new Key(event.getClass(), event.source(), keyExtractor.apply(event));
+		if (!window.record(key, System.nanoTime(), windowNanos)) return true;
+		duplicates.increment();
+		return false;
+	}
+	
+	/**
+	 * Returns the length of time for which an event's repeats are dropped in the given unit.
+	 * 
+	 * @param unit the unit of the returned window.
+	 * 
+	 * @return the deduplication window.
+	 * 
+	 * @throws NullPointerException if {@code unit} is {@code null}.
+	 */
+	public long getWindow(TimeUnit unit) {
+		return requireNonNull(unit, "unit cannot be null.").convert(windowNanos, TimeUnit.NANOSECONDS);
+	}
+	
+	/**
+	 * Returns {@code true} if this deduplicator may drop events that aren't repeats.
+	 * 
+	 * @return {@code true} if this deduplicator is approximate, {@code false} if it is exact.
+	 */
+	public boolean isApproximate() {
+		return window instanceof BloomWindow;
+	}
+	
+	/**
+	 * Returns the number of events that have been dropped by this deduplicator.
+	 * 
+	 * @return the number of dropped events.
+	 */
+	public long getDuplicateCount() {
+		return duplicates.sum();
+	}
+	
+	private static void checkArguments(long window, TimeUnit unit, Function<? super Event, ?> keyExtractor) {
+		requireNonNull(unit, "unit cannot be null.");
+		requireNonNull(keyExtractor, "keyExtractor cannot be null.");
+		if (window < 1)
+			throw new IllegalArgumentException("window must be greater than 0.");
+	}
+	
+	private static Object defaultKey(Event event) {
+		if (event instanceof PooledEvent)
+			throw new IllegalArgumentException("PooledEvents cannot be deduplicated without a key extractor.");
+		if (!(event instanceof ValueChangedEvent)) return null;
+		ValueChangedEvent<?> valueChangedEvent = (ValueChangedEvent<?>) event;
+		return Arrays.asList(valueChangedEvent.getPreviousValue(), valueChangedEvent.getNewValue());
+	}
+	
+	/**
+	 * Remembers the events seen within a window.
+	 */
+	private interface Window {
+		
+		/**
+		 * Returns {@code true} if the given key was recorded within the window, otherwise records it and returns 
+		 * {@code false}.
+		 */
+		boolean record(Key key, long now, long windowNanos);
+	}
+	
+	/**
+	 * Remembers events in striped, insertion ordered maps from their keys to the time they were seen.
+	 */
+	private static final class ExactWindow implements Window {
+		
+		private final LinkedHashMap<Key, Long>[] stripes;
+		private final int stripeCapacity;
+		
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		private ExactWindow(int capacity) {
+			int stripeCount = Math.min(MAX_STRIPES, Integer.highestOneBit(capacity));
+			this.stripes = new LinkedHashMap[stripeCount];
+			for (int index = 0; index < stripeCount; index++)
+				stripes[index] = new LinkedHashMap<>();
+			this.stripeCapacity = (capacity + stripeCount - 1) / stripeCount;
+		}
+
+		@Override
+		public boolean record(Key key, long now, long windowNanos) {
+			LinkedHashMap<Key, Long> stripe = stripes[(key.hash ^ (key.hash >>> 16)) & (stripes.length - 1)];
+			synchronized (stripe) {
+				Long seenAt = stripe.get(key);
+				if (seenAt != null && now - seenAt < windowNanos) return true;
+				stripe.remove(key);
+				stripe.put(key, now);
+				// The oldest events are first, evict them until the rest are within the window and the capacity
+				Iterator<Map.Entry<Key, Long>> entries = stripe.entrySet().iterator();
+				while (entries.hasNext()) {
+					Map.Entry<Key, Long> entry = entries.next();
+					if (stripe.size() <= stripeCapacity && now - entry.getValue() < windowNanos) break;
+					entries.remove();
+				}
+				return false;
+			}
+		}
+	}
+	
+	/**
+	 * Remembers events in a Bloom filter that is replaced every window, the filter of the previous window is kept so 
+	 * that events seen at the end of a window are still remembered at the start of the next one.
+	 */
+	private static final class BloomWindow implements Window {
+		
+		private final int bitMask;
+		private final int hashCount;
+		private final AtomicReference<Generation> current;
+		
+		private BloomWindow(int expectedEvents, double falsePositiveRate) {
+			double ln2 = Math.log(2);
+			long optimalBits = (long) Math.ceil(-expectedEvents * Math.log(falsePositiveRate) / (ln2 * ln2));
+			int bits = (int) Math.max(Long.SIZE, Long.highestOneBit(Math.min(optimalBits, 1L << 30) - 1) << 1);
+			this.bitMask = bits - 1;
+			this.hashCount = (int) Math.max(1, Math.round((double) bits / expectedEvents * ln2));
+			this.current = new AtomicReference<>(new Generation(bits, System.nanoTime(), null));
+		}
+
+		@Override
+		public boolean record(Key key, long now, long windowNanos) {
+			Generation generation = current.get();
+			if (now - generation.start >= windowNanos) {
+				// Forget the previous window as well if a whole window has passed without any events
+				AtomicLongArray previous = (now - generation.start >= windowNanos * 2)? null : generation.bits;
+				Generation next = new Generation(bitMask + 1, now, previous);
+				generation = current.compareAndSet(generation, next)? next : current.get();
+			}
+			long hash = key.hash64();
+			int hash1 = (int) hash;
+			int hash2 = (int) (hash >>> 32) | 1;
+			if (contains(generation.bits, hash1, hash2) 
+					|| (generation.previous != null && contains(generation.previous, hash1, hash2))) return true;
+			for (int index = 0; index < hashCount; index++)
+				set(generation.bits, (hash1 + index * hash2) & bitMask);
+			return false;
+		}
+		
+		private boolean contains(AtomicLongArray bits, int hash1, int hash2) {
+			for (int index = 0; index < hashCount; index++) {
+				int bit = (hash1 + index * hash2) & bitMask;
+				if ((bits.get(bit >>> 6) & (1L << bit)) == 0) return false;
+			}
+			return true;
+		}
+		
+		private static void set(AtomicLongArray bits, int bit) {
+			long mask = 1L << bit;
+			for (;;) {
+				long word = bits.get(bit >>> 6);
+				if ((word & mask) != 0 || bits.compareAndSet(bit >>> 6, word, word | mask)) return;
+			}
+		}
+	}
+	
+	/**
+	 * The Bloom filter of a single window.
+	 */
+	private static final class Generation {
+		
+		private final AtomicLongArray bits;
+		private final long start;
+		private final AtomicLongArray previous;
+		
+		private Generation(int bits, long start, AtomicLongArray previous) {
+			this.bits = new AtomicLongArray(bits / Long.SIZE);
+			this.start = start;
+			this.previous = previous;
+		}
+	}
+	
+	/**
+	 * The identity of an event, it's class, source and extracted key.
+	 */
+	private static final class Key {
+		
+		private final Class<?> eventClass;
+		private final Object source;
+		private final Object value;
+		private final int hash;
+		
+		private Key(Class<?> eventClass, Object source, Object value) {
+			this.eventClass = eventClass;
+			this.source = source;
+			this.value = value;
+			this.hash = (eventClass.hashCode() * 31 + source.hashCode()) * 31 + Objects.hashCode(value);
+		}
+		
+		/**
+		 * Returns a 64 bit hash of this key, mixing each part separately so that the two halves are independent 
+		 * enough to be used for double hashing.
+		 */
+		private long hash64() {
+			long hash = eventClass.hashCode() * 0x9E3779B97F4A7C15L;
+			hash = (hash ^ source.hashCode()) * 0xBF58476D1CE4E5B9L;
+			hash = (hash ^ Objects.hashCode(value)) * 0x94D049BB133111EBL;
+			return hash ^ (hash >>> 31);
+		}
+		
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+		
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) return true;
+			if (!(obj instanceof Key)) return false;
+			Key other = (Key) obj;
+			return hash == other.hash && eventClass == other.eventClass 
+					&& source.equals(other.source) && Objects.equals(value, other.value);
+		}
+	}
+}
@@ -0,0 +1,52 @@
+/**
+ * 
+ */
+package com.kori_47.events;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * <p>
+ * This decides whether an {@link Event} fired on a {@link AbstractListener listener} should be delivered to it's 
+ * handlers. An {@code EventFilter} can be set on a listener using it's 
+ * {@link AbstractListener#setEventFilter(EventFilter) setEventFilter} method, once set, every event passed to 
+ * {@link Listener#fireEvent(Event) fireEvent} is checked by the filter before the listener looks up it's handlers and 
+ * events that are rejected are dropped.
+ * </p>
+ * <p>
+ * <i><b>NOTE:</b> This is a {@link FunctionalInterface} as it only declares one abstract method: 
+ * {@code accept(Event event)}. Filters are called on the thread firing the event and must be thread safe if the 
+ * listener they are set on is used from multiple threads.</i>
+ * </p>
+ * 
+ * @author Kennedy Kori
+ *
+ * @since Oct 19, 2026, 10:21:37 PM
+ */
+@FunctionalInterface
+public interface EventFilter {
+	
+	/**
+	 * Returns {@code true} if the given event should be delivered to the handlers interested in it.
+	 * 
+	 * @param event the event being fired.
+	 * 
+	 * @return {@code true} if the event should be delivered, {@code false} if it should be dropped.
+	 */
+	boolean accept(Event event);
+	
+	/**
+	 * Returns a filter that only accepts an event if both this filter and the given filter accept it. The given filter 
+	 * is not called for events that this filter rejects.
+	 * 
+	 * @param other the filter to check after this filter.
+	 * 
+	 * @return a filter that accepts the events accepted by both filters.
+	 * 
+	 * @throws NullPointerException if {@code other} is {@code null}.
+	 */
+	default EventFilter and(EventFilter other) {
+		requireNonNull(other, "other cannot be null.");
+		return event -> accept(event) && other.accept(event);
+	}
+}
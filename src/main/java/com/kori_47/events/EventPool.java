@@ -0,0 +1,148 @@
+/**
+ * 
+ */
+package com.kori_47.events;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * This is a bounded pool of {@link PooledEvent pooled events}. {@link #acquire(Object)} returns a recycled event when 
+ * one is available and creates a new one using the pool's factory otherwise, and released events are returned to the 
+ * pool as long as it isn't full. Events that don't fit in the pool are simply left to the garbage collector.
+ * </p>
+ * 
+ * <p>
+ * The pool is split into stripes and each thread starts looking for an event, or for a free slot, in it's own stripe. 
+ * This keeps threads that acquire and release events at the same time from contending with each other, while events 
+ * released by another thread, e.g. by the threads of a {@link ThreadedListener}, can still be reused by the thread 
+ * firing them.
+ * </p>
+ * 
+ * <p>
+ * A pool created in debug mode never recycles events, so that an event that is used after it has been released is 
+ * always detected, see {@link PooledEvent#checkNotReleased()}. This mode is meant for tests and should not be used in 
+ * production.
+ * </p>
+ * 
+ * <p>
+ * <i><b>NOTE:</b> Instances of this class are thread safe and can be called from multiple threads.</i>
+ * </p>
+ * 
+ * @param <T> the type of events in this pool.
+ * 
+ * @author Kennedy Kori
+ *
+ * @since Oct 19, 2026, 9:20:48 PM
+ */
+public final class EventPool<T extends PooledEvent> {
+	
+	private static final int STRIPE_SIZE = 8;
+	
+	private final Supplier<? extends T> factory;
+	private final AtomicReferenceArray<T> slots;
+	private final int mask;
+	private final boolean debug;
+	
+	/**
+	 * Creates a new {@code EventPool} that holds at least the given number of events and uses the given factory to 
+	 * create new events.
+	 * 
+	 * @param factory the factory used to create events when none are available in the pool.
+	 * @param capacity the number of released events that the pool can hold. The capacity is rounded up to the next 
+	 * power of two.
+	 * 
+	 * @throws IllegalArgumentException if {@code capacity} is less than 1 or greater than 2^30.
+	 * @throws NullPointerException if {@code factory} is {@code null}.
+	 */
+	public EventPool(Supplier<? extends T> factory, int capacity) {
+		this(factory, capacity, false);
+	}
+	
+	/**
+	 * Creates a new {@code EventPool} that holds at least the given number of events and uses the given factory to 
+	 * create new events. If {@code debug} is {@code true}, released events are never recycled and accessing them 
+	 * throws an {@link IllegalStateException}.
+	 * 
+	 * @param factory the factory used to create events when none are available in the pool.
+	 * @param capacity the number of released events that the pool can hold. The capacity is rounded up to the next 
+	 * power of two.
+	 * @param debug {@code true} if use of released events should be detected.
+	 * 
+	 * @throws IllegalArgumentException if {@code capacity} is less than 1 or greater than 2^30.
+	 * @throws NullPointerException if {@code factory} is {@code null}.
+	 */
+	public EventPool(Supplier<? extends T> factory, int capacity, boolean debug) {
+		if (capacity < 1 || capacity > (1 << 30))
+			throw new IllegalArgumentException("capacity must be between 1 and 2^30.");
+		int size = (capacity == 1)? 1 : Integer.highestOneBit(capacity - 1) << 1;
+		this.factory = requireNonNull(factory, "factory cannot be null.");
+		this.slots = new AtomicReferenceArray<>(size);
+		this.mask = size - 1;
+		this.debug = debug;
+	}
+	
+	/**
+	 * Returns an event with the given source and a single reference, either recycled from this pool or newly created.
+	 * 
+	 * @param source the source of the returned event.
+	 * 
+	 * @return an event with the given source.
+	 * 
+	 * @throws NullPointerException if {@code source} is {@code null} or the factory of this pool returned {@code null}.
+	 */
+	public T acquire(Object source) {
+		requireNonNull(source, "source cannot be null.");
+		T event = null;
+		int start = stripe();
+		for (int probe = 0; probe < STRIPE_SIZE && event == null; probe++) {
+			int index = (start + probe) & mask;
+			T pooled = slots.get(index);
+			if (pooled != null && slots.compareAndSet(index, pooled, null)) event = pooled;
+		}
+		if (event == null) event = requireNonNull(factory.get(), "factory cannot return null.");
+		event.acquired(this, source);
+		return event;
+	}
+	
+	/**
+	 * Returns the number of events that this pool can hold.
+	 * 
+	 * @return the capacity of this pool.
+	 */
+	public int getCapacity() {
+		return slots.length();
+	}
+	
+	/**
+	 * Returns {@code true} if this pool is in debug mode.
+	 * 
+	 * @return {@code true} if this pool detects the use of released events, {@code false} otherwise.
+	 */
+	public boolean isDebug() {
+		return debug;
+	}
+	
+	/**
+	 * Returns the given released event to this pool if there is room for it.
+	 */
+	@SuppressWarnings("unchecked")
+	void recycle(PooledEvent event) {
+		if (debug) return;
+		int start = stripe();
+		for (int probe = 0; probe < STRIPE_SIZE; probe++) {
+			int index = (start + probe) & mask;
+			if (slots.get(index) == null && slots.compareAndSet(index, null, (T) event)) return;
+		}
+	}
+	
+	/**
+	 * Returns the index of the first slot in the stripe of the calling thread.
+	 */
+	private int stripe() {
+		return ((int) Thread.currentThread().getId() * STRIPE_SIZE) & mask;
+	}
+}
@@ -0,0 +1,524 @@
+/**
+ * 
+ */
+package com.kori_47.events;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <p>
+ * This fires {@link Event events} on {@link Listener listeners} after a delay, at a given time or periodically. A
+ * single scheduler can serve any number of listeners, of any type, and holds all of it's pending deliveries in a
+ * hierarchical timing wheel driven by a single ticker thread. Scheduling and cancelling a delivery are both constant
+ * time operations regardless of the number of pending deliveries, which makes this class suitable for holding large
+ * numbers of timeouts and heartbeats.
+ * </p>
+ * <p>
+ * Time is divided into ticks of a fixed duration and a delivery is fired on the first tick at or after it is due, so
+ * the tick duration is the precision of the scheduler. Events are fired on the ticker thread, which means that the
+ * handlers registered to a {@link SimpleListener} are executed on the ticker thread and should be quick, while those
+ * registered to a {@link ThreadedListener} are executed on the listener's own threads. Exceptions thrown while firing
+ * an event are ignored.
+ * </p>
+ * <p>
+ * The ticker thread is started when the first delivery is scheduled. The {@link #shutdown()} method stops the ticker
+ * thread and discards all pending deliveries, after which scheduling a delivery throws an {@link IllegalStateException}.
+ * </p>
+ * 
+ * <p>
+ * <i><b>NOTE:</b> Instances of this class are thread safe and can be called from multiple threads.</i>
+ * </p>
+ * 
+ * @author Kennedy Kori
+ *
+ * @since Oct 19, 2026, 4:52:30 PM
+ */
+public class EventScheduler {
+
+	private static final long DEFAULT_TICK_MILLIS = 1;
+
+	/**
+	 * each level of the wheel has 2^WHEEL_BITS slots
+	 */
+	private static final int WHEEL_BITS = 6;
+	private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+	private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+	private static final int WHEEL_LEVELS = 5;
+	/**
+	 * deliveries further than this in the future are parked in the last level and cascaded again when reached
+	 */
+	private static final long MAX_WHEEL_TICKS = (1L << (WHEEL_BITS * WHEEL_LEVELS)) - 1;
+
+	private static final AtomicLong schedulerCount = new AtomicLong(1);
+
+	private final long tickNanos;
+	private final long startTime;
+	private final Thread ticker;
+	private final Bucket[][] wheel;
+	// deliveries and cancellations are handed over to the ticker thread through these queues
+	private final Queue<Timeout> newTimeouts;
+	private final Queue<Timeout> cancelledTimeouts;
+	private volatile boolean started;
+	private volatile boolean shutdown;
+	/**
+	 * set by the ticker thread when it parks because it has nothing to do
+	 */
+	private volatile boolean idle;
+	/**
+	 * the next tick to be processed, only accessed by the ticker thread
+	 */
+	private long currentTick;
+	/**
+	 * the number of timeouts in the wheel, only accessed by the ticker thread
+	 */
+	private long timeoutCount;
+
+	/**
+	 * Creates a new {@code EventScheduler} with a tick duration of 1 millisecond.
+	 * 
+	 * <p>
+	 * <i><b>Note:</b> The ticker thread of the scheduler returned by this constructor is a daemon thread.</i>
+	 * </p>
+	 */
+	public EventScheduler() {
+		this(DEFAULT_TICK_MILLIS, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Creates a new {@code EventScheduler} with the given tick duration.
+	 * 
+	 * <p>
+	 * <i><b>Note:</b> The ticker thread of the scheduler returned by this constructor is a daemon thread.</i>
+	 * </p>
+	 * 
+	 * @param tickDuration the precision of the scheduler.
+	 * @param unit the {@code TimeUnit} of {@code tickDuration}.
+	 * 
+	 * @throws IllegalArgumentException if {@code tickDuration} is less than 1.
+	 * @throws NullPointerException if {@code unit} is {@code null}.
+	 */
+	public EventScheduler(long tickDuration, TimeUnit unit) {
+		this(tickDuration, unit, createDefaultThreadFactory());
+	}
+
+	/**
+	 * Creates a new {@code EventScheduler} with the given tick duration whose ticker thread is created by the given
+	 * {@link ThreadFactory}.
+	 * 
+	 * @param tickDuration the precision of the scheduler.
+	 * @param unit the {@code TimeUnit} of {@code tickDuration}.
+	 * @param factory the {@code ThreadFactory} used to create the ticker thread.
+	 * 
+	 * @throws IllegalArgumentException if {@code tickDuration} is less than 1.
+	 * @throws NullPointerException if {@code unit} or {@code factory} is {@code null}.
+	 */
+	public EventScheduler(long tickDuration, TimeUnit unit, ThreadFactory factory) {
+		if (tickDuration < 1)
+			throw new IllegalArgumentException("tickDuration must be greater than 0.");
+		this.tickNanos = requireNonNull(unit, "unit cannot be null.").toNanos(tickDuration);
+		this.ticker = requireNonNull(factory, "factory cannot be null.").newThread(this::tick);
+		this.startTime = System.nanoTime();
+		this.wheel = new Bucket[WHEEL_LEVELS][WHEEL_SIZE];
+		for (Bucket[] level : wheel)
+			for (int slot = 0; slot < WHEEL_SIZE; slot++) level[slot] = new Bucket();
+		this.newTimeouts = new ConcurrentLinkedQueue<>();
+		this.cancelledTimeouts = new ConcurrentLinkedQueue<>();
+	}
+
+	/**
+	 * Fires the given event on the given listener once the given delay has elapsed.
+	 * 
+	 * @param <T> the type of {@link Event} to fire.
+	 * 
+	 * @param listener the listener to fire the event on.
+	 * @param event the event to fire.
+	 * @param delay the length of time to wait before firing the event.
+	 * @param unit the {@code TimeUnit} of {@code delay}.
+	 * 
+	 * @return a {@link ScheduledDelivery} that can be used to cancel the delivery.
+	 * 
+	 * @throws IllegalStateException if this scheduler has been shutdown.
+	 * @throws NullPointerException if any of the arguments given is/are {@code null}.
+	 */
+	public <T extends Event> ScheduledDelivery fireEventAfter(Listener listener, T event, long delay, TimeUnit unit) {
+		requireNonNull(unit, "unit cannot be null.");
+		return schedule(listener, event, unit.toNanos(delay), 0);
+	}
+
+	/**
+	 * Fires the given event on the given listener at the given time. If the time is in the past, the event is fired
+	 * on the next tick.
+	 * 
+	 * @param <T> the type of {@link Event} to fire.
+	 * 
+	 * @param listener the listener to fire the event on.
+	 * @param event the event to fire.
+	 * @param time the time at which to fire the event.
+	 * 
+	 * @return a {@link ScheduledDelivery} that can be used to cancel the delivery.
+	 * 
+	 * @throws IllegalStateException if this scheduler has been shutdown.
+	 * @throws NullPointerException if any of the arguments given is/are {@code null}.
+	 */
+	public <T extends Event> ScheduledDelivery fireEventAt(Listener listener, T event, Instant time) {
+		requireNonNull(time, "time cannot be null.");
+		Duration delay = Duration.between(Instant.now(), time);
+		return schedule(listener, event, delay.isNegative()? 0 : saturatedNanos(delay), 0);
+	}
+
+	/**
+	 * Fires the given event on the given listener once the given initial delay has elapsed and then repeatedly, every
+	 * time the given period elapses, until the returned {@link ScheduledDelivery} is cancelled. The period is measured
+	 * from the time the event was due rather than the time it was fired, so late deliveries don't accumulate drift. 
+	 * A {@link PooledEvent} can't be fired periodically since it is recycled once the first delivery has been handled.
+	 * 
+	 * @param <T> the type of {@link Event} to fire.
+	 * 
+	 * @param listener the listener to fire the event on.
+	 * @param event the event to fire.
+	 * @param initialDelay the length of time to wait before firing the event for the first time.
+	 * @param period the length of time between two consecutive firings.
+	 * @param unit the {@code TimeUnit} of {@code initialDelay} and {@code period}.
+	 * 
+	 * @return a {@link ScheduledDelivery} that can be used to cancel the delivery.
+	 * 
+	 * @throws IllegalArgumentException if {@code period} is less than 1 or {@code event} is a {@code PooledEvent}.
+	 * @throws IllegalStateException if this scheduler has been shutdown.
+	 * @throws NullPointerException if any of the arguments given is/are {@code null}.
+	 */
+	public <T extends Event> ScheduledDelivery fireEventAtFixedRate(Listener listener, T event, long initialDelay, long period, TimeUnit unit) {
+		requireNonNull(unit, "unit cannot be null.");
+		if (period < 1)
+			throw new IllegalArgumentException("period must be greater than 0.");
+		if (event instanceof PooledEvent)
+			throw new IllegalArgumentException("event cannot be a PooledEvent.");
+		return schedule(listener, event, unit.toNanos(initialDelay), Math.max(toTicks(unit.toNanos(period)), 1));
+	}
+
+	/**
+	 * Shuts this scheduler down, stopping it's ticker thread and discarding all pending deliveries. Calling this method
+	 * after the scheduler has already been shutdown has no effect.
+	 */
+	public void shutdown() {
+		shutdown = true;
+		LockSupport.unpark(ticker);
+	}
+
+	/**
+	 * Returns {@code true} if this scheduler has been shutdown.
+	 * 
+	 * @return {@code true} if this scheduler has been shutdown, {@code false} otherwise.
+	 */
+	public boolean isShutdown() {
+		return shutdown;
+	}
+
+	private ScheduledDelivery schedule(Listener listener, Event event, long delayNanos, long periodTicks) {
+		requireNonNull(listener, "listener cannot be null.");
+		requireNonNull(event, "event cannot be null.");
+		checkState();
+		long elapsed = System.nanoTime() - startTime;
+		long deadline = (delayNanos > Long.MAX_VALUE - elapsed)? Long.MAX_VALUE : elapsed + Math.max(delayNanos, 0);
+		Timeout timeout = new Timeout(this, listener, event, toTicks(deadline), periodTicks);
+		newTimeouts.offer(timeout);
+		start();
+		if (idle) LockSupport.unpark(ticker);
+		return timeout;
+	}
+
+	private void start() {
+		if (started) return;
+		synchronized (this) {
+			if (started) return;
+			ticker.start();
+			started = true;
+		}
+	}
+
+	/**
+	 * The body of the ticker thread.
+	 */
+	private void tick() {
+		while (!shutdown) {
+			if (timeoutCount == 0 && newTimeouts.isEmpty() && cancelledTimeouts.isEmpty()) {
+				// Nothing is pending, sleep until a delivery is scheduled instead of waking up on every tick
+				idle = true;
+				if (newTimeouts.isEmpty() && !shutdown) LockSupport.park(this);
+				idle = false;
+				// The wheel is empty so the ticks that passed while sleeping can be skipped
+				currentTick = Math.max(currentTick, (System.nanoTime() - startTime) / tickNanos);
+				continue;
+			}
+			long now = System.nanoTime() - startTime;
+			long dueTick = now / tickNanos;
+			if (dueTick < currentTick) {
+				// Sleep until the start of the next tick
+				LockSupport.parkNanos(this, currentTick * tickNanos - now);
+				continue;
+			}
+			transferTimeouts();
+			while (currentTick <= dueTick && !shutdown) {
+				cascade();
+				Timeout expired = wheel[0][(int) (currentTick & WHEEL_MASK)].detach();
+				// Advance first, timeouts rescheduled while expiring must not land in the slot just emptied
+				currentTick++;
+				expire(expired);
+			}
+		}
+		// Discard all the pending deliveries
+		newTimeouts.clear();
+		cancelledTimeouts.clear();
+		for (Bucket[] level : wheel)
+			for (Bucket bucket : level) bucket.clear();
+	}
+
+	/**
+	 * Moves newly scheduled timeouts into the wheel and unlinks cancelled ones.
+	 */
+	private void transferTimeouts() {
+		Timeout timeout;
+		while ((timeout = cancelledTimeouts.poll()) != null) {
+			if (timeout.bucket == null) continue;
+			timeout.bucket.remove(timeout);
+			timeoutCount--;
+		}
+		while ((timeout = newTimeouts.poll()) != null) {
+			if (timeout.isCancelled()) continue;
+			insert(timeout);
+			timeoutCount++;
+		}
+	}
+
+	/**
+	 * Inserts the given timeout in the wheel. Timeouts due within the current rotation of a level are placed in that
+	 * level, so each level only ever needs to be cascaded into the one below it.
+	 */
+	private void insert(Timeout timeout) {
+		long delta = timeout.deadlineTick - currentTick;
+		Bucket bucket;
+		if (delta < WHEEL_SIZE) {
+			// Overdue timeouts are placed in the slot that is about to be expired
+			long expires = (delta < 0)? currentTick : timeout.deadlineTick;
+			bucket = wheel[0][(int) (expires & WHEEL_MASK)];
+		} else {
+			long expires = (delta > MAX_WHEEL_TICKS)? currentTick + MAX_WHEEL_TICKS : timeout.deadlineTick;
+			int level = 1;
+			while (level < WHEEL_LEVELS - 1 && (expires - currentTick) >= (1L << (WHEEL_BITS * (level + 1)))) level++;
+			bucket = wheel[level][(int) ((expires >>> (WHEEL_BITS * level)) & WHEEL_MASK)];
+		}
+		bucket.add(timeout);
+	}
+
+	/**
+	 * Re-inserts the timeouts of the higher levels whose slot is reached by the current tick.
+	 */
+	private void cascade() {
+		for (int level = 1; level < WHEEL_LEVELS; level++) {
+			// A level's slot is only reached once every slot in the level below has been passed
+			if ((currentTick & ((1L << (WHEEL_BITS * level)) - 1)) != 0) return;
+			Timeout timeout = wheel[level][(int) ((currentTick >>> (WHEEL_BITS * level)) & WHEEL_MASK)].detach();
+			while (timeout != null) {
+				Timeout next = timeout.next;
+				timeout.next = null;
+				insert(timeout);
+				timeout = next;
+			}
+		}
+	}
+
+	/**
+	 * Fires the events of the given detached timeouts, rescheduling periodic ones.
+	 */
+	private void expire(Timeout timeout) {
+		while (timeout != null) {
+			Timeout next = timeout.next;
+			timeout.next = null;
+			if (timeout.isPeriodic() && !timeout.isCancelled()) {
+				timeout.fire();
+				timeout.deadlineTick += timeout.periodTicks;
+			} else if (timeout.expire()) {
+				timeout.fire();
+			}
+			if (timeout.isPeriodic() && !timeout.isCancelled()) insert(timeout);
+			else timeoutCount--;
+			timeout = next;
+		}
+	}
+
+	private long toTicks(long nanos) {
+		// Round up so that deliveries are never fired early
+		long ticks = nanos / tickNanos;
+		return (nanos % tickNanos == 0)? ticks : ticks + 1;
+	}
+
+	private void checkState() {
+		if (isShutdown())
+			throw new IllegalStateException("This scheduler is already shutdown.");
+	}
+
+	private static long saturatedNanos(Duration duration) {
+		try {
+			return duration.toNanos();
+		} catch (ArithmeticException ex) {
+			return Long.MAX_VALUE;
+		}
+	}
+
+	/**
+	 * Creates a {@code ThreadFactory} that returns daemon threads
+	 */
+	private static ThreadFactory createDefaultThreadFactory() {
+		return runnable -> {
+			Thread thread = new Thread(runnable, "EventScheduler Ticker Thread:" + schedulerCount.getAndIncrement());
+			thread.setDaemon(true);
+
+			return thread;
+		};
+	}
+
+	/**
+	 * A doubly linked list of timeouts, only accessed by the ticker thread.
+	 */
+	private static final class Bucket {
+
+		private Timeout head;
+		private Timeout tail;
+
+		private void add(Timeout timeout) {
+			timeout.bucket = this;
+			timeout.prev = tail;
+			timeout.next = null;
+			if (tail == null) head = timeout;
+			else tail.next = timeout;
+			tail = timeout;
+		}
+
+		private void remove(Timeout timeout) {
+			if (timeout.prev == null) head = timeout.next;
+			else timeout.prev.next = timeout.next;
+			if (timeout.next == null) tail = timeout.prev;
+			else timeout.next.prev = timeout.prev;
+			timeout.bucket = null;
+			timeout.prev = null;
+			timeout.next = null;
+		}
+
+		/**
+		 * Empties this bucket and returns it's former head, the returned timeouts are still linked through their
+		 * {@code next} field.
+		 */
+		private Timeout detach() {
+			Timeout timeout = head;
+			head = null;
+			tail = null;
+			for (Timeout current = timeout; current != null; current = current.next) {
+				current.bucket = null;
+				current.prev = null;
+			}
+			return timeout;
+		}
+
+		private void clear() {
+			Timeout timeout = detach();
+			while (timeout != null) {
+				Timeout next = timeout.next;
+				timeout.next = null;
+				timeout = next;
+			}
+		}
+	}
+
+	/**
+	 * A scheduled delivery and it's position in the wheel.
+	 */
+	private static final class Timeout implements ScheduledDelivery {
+
+		private static final int PENDING = 0;
+		private static final int EXPIRED = 1;
+		private static final int CANCELLED = 2;
+
+		private static final AtomicIntegerFieldUpdater<Timeout> STATE =
+				AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "state");
+
+		private final EventScheduler scheduler;
+		private final Listener listener;
+		private final Event event;
+		private final long periodTicks;
+		private volatile long deadlineTick;
+		private volatile int state;
+		// The fields below are only accessed by the ticker thread
+		private Bucket bucket;
+		private Timeout prev;
+		private Timeout next;
+
+		private Timeout(EventScheduler scheduler, Listener listener, Event event, long deadlineTick, long periodTicks) {
+			this.scheduler = scheduler;
+			this.listener = listener;
+			this.event = event;
+			this.deadlineTick = deadlineTick;
+			this.periodTicks = periodTicks;
+		}
+
+		@Override
+		public Event getEvent() {
+			return event;
+		}
+
+		@Override
+		public Listener getListener() {
+			return listener;
+		}
+
+		@Override
+		public boolean isPeriodic() {
+			return periodTicks > 0;
+		}
+
+		@Override
+		public long getDelay(TimeUnit unit) {
+			requireNonNull(unit, "unit cannot be null.");
+			long remaining = deadlineTick * scheduler.tickNanos - (System.nanoTime() - scheduler.startTime);
+			return unit.convert(remaining, TimeUnit.NANOSECONDS);
+		}
+
+		@Override
+		public boolean cancel() {
+			if (!STATE.compareAndSet(this, PENDING, CANCELLED)) return false;
+			// Let the ticker thread unlink this timeout, it's the only thread allowed to modify the wheel
+			scheduler.cancelledTimeouts.offer(this);
+			return true;
+		}
+
+		@Override
+		public boolean isCancelled() {
+			return state == CANCELLED;
+		}
+
+		@Override
+		public boolean isDone() {
+			return state != PENDING;
+		}
+
+		private boolean expire() {
+			return STATE.compareAndSet(this, PENDING, EXPIRED);
+		}
+
+		private void fire() {
+			try {
+				listener.fireEvent(event);
+			} catch (RuntimeException ex) {
+				// Ignore the exception, a failing listener must not stop the ticker thread
+			}
+		}
+	}
+}
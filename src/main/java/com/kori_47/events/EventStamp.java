@@ -0,0 +1,137 @@
+/**
+ * 
+ */
+package com.kori_47.events;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>
+ * This is the record of when an {@link Event} was fired on a listener that has 
+ * {@link AbstractListener#setStampingEnabled(boolean) stamping enabled}. Each stamp carries a sequence number that is 
+ * unique across all listeners and increases in the order that events were fired, and the time at which the event was 
+ * fired as returned by {@link System#nanoTime()}.
+ * </p>
+ * 
+ * <p>
+ * A {@link Handler} doesn't receive the stamp directly, instead the stamp of the event being handled can be read using 
+ * {@link #current()} from the thread executing the handler, on whichever thread that is. For example, a handler can 
+ * measure how long an event waited before being handled:
+ * </p>
+ * <pre>
+ * 	listener.addHandler(SimpleEvent.class, event -&gt; 
+ * 		EventStamp.current().ifPresent(stamp -&gt; recordLatency(stamp.getLatency(TimeUnit.MICROSECONDS))));
+ * </pre>
+ * 
+ * <p>
+ * <i><b>NOTE:</b> Instances of this class are immutable and thread safe.</i>
+ * </p>
+ * 
+ * @author Kennedy Kori
+ *
+ * @since Oct 19, 2026, 9:58:03 PM
+ */
+public final class EventStamp {
+	
+	private static final AtomicLong SEQUENCE = new AtomicLong();
+	/**
+	 * holds the stamp of the event whose handler is being executed on each thread
+	 */
+	private static final ThreadLocal<EventStamp[]> CURRENT = ThreadLocal.withInitial(() -> new EventStamp[1]);
+	
+	private final Event event;
+	private final long sequence;
+	private final long publishTime;
+	
+	private EventStamp(Event event, long sequence, long publishTime) {
+		this.event = event;
+		this.sequence = sequence;
+		this.publishTime = publishTime;
+	}
+	
+	/**
+	 * Returns the stamp of the event being handled by the calling thread, or an empty {@code Optional} if the calling 
+	 * thread isn't executing a handler or the event wasn't stamped.
+	 * 
+	 * @return an {@code Optional} containing the stamp of the event being handled.
+	 */
+	public static Optional<EventStamp> current() {
+		return Optional.ofNullable(CURRENT.get()[0]);
+	}
+	
+	/**
+	 * Returns the event that this stamp belongs to.
+	 * 
+	 * @return the stamped event.
+	 */
+	public Event getEvent() {
+		return event;
+	}
+	
+	/**
+	 * Returns the sequence number of the stamped event. Sequence numbers are unique and events fired later have 
+	 * greater sequence numbers.
+	 * 
+	 * @return the sequence number of the stamped event.
+	 */
+	public long getSequence() {
+		return sequence;
+	}
+	
+	/**
+	 * Returns the value of {@link System#nanoTime()} when the event was fired. The value is only meaningful when 
+	 * compared to other values of {@code System.nanoTime()} from the same JVM.
+	 * 
+	 * @return the time at which the event was fired in nanoseconds.
+	 */
+	public long getPublishTime() {
+		return publishTime;
+	}
+	
+	/**
+	 * Returns the time that has elapsed since the event was fired in the given unit.
+	 * 
+	 * @param unit the unit of the returned latency.
+	 * 
+	 * @return the time elapsed since the event was fired.
+	 * 
+	 * @throws NullPointerException if {@code unit} is {@code null}.
+	 */
+	public long getLatency(TimeUnit unit) {
+		return requireNonNull(unit, "unit cannot be null.").convert(System.nanoTime() - publishTime, TimeUnit.NANOSECONDS);
+	}
+	
+	@Override
+	public String toString() {
+		return String.format("[EventStamp:[ sequence=%d, publishTime=%d ]]", sequence, publishTime);
+	}
+	
+	/**
+	 * Stamps the given event with the next sequence number and the current time.
+	 */
+	static EventStamp stamp(Event event) {
+		return new EventStamp(event, SEQUENCE.getAndIncrement(), System.nanoTime());
+	}
+	
+	/**
+	 * Makes the given stamp the current stamp of the calling thread and returns the previous one, which must be 
+	 * restored using {@link #exit(EventStamp)}.
+	 */
+	static EventStamp enter(EventStamp stamp) {
+		EventStamp[] current = CURRENT.get();
+		EventStamp previous = current[0];
+		current[0] = stamp;
+		return previous;
+	}
+	
+	/**
+	 * Restores the given stamp as the current stamp of the calling thread.
+	 */
+	static void exit(EventStamp previous) {
+		CURRENT.get()[0] = previous;
+	}
+}
@@ -0,0 +1,224 @@
+/**
+ * 
+ */
+package com.kori_47.events;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * This is an {@link EventFilter} that limits the rate at which events of given types are delivered and samples them. 
+ * Each event type can have:
+ * </p>
+ * <ul>
+ * 		<li>a <b>rate limit</b> - a token bucket that refills at a given number of events per second and holds up to a 
+ * 		given burst of events. Events fired while the bucket is empty are dropped.</li>
+ * 		<li>a <b>sampling rate</b> - the probability that an event is kept. Events that aren't picked are dropped before 
+ * 		they take a token from the bucket.</li>
+ * </ul>
+ * 
+ * <p>
+ * Limits apply to the exact class of an event, just like the handlers of a listener, and events of types without 
+ * limits are always accepted. Limits can be changed at any time, even while events are being fired, without losing the 
+ * {@link #getAcceptedCount(Class) accepted}, {@link #getDroppedCount(Class) dropped} and 
+ * {@link #getSampledOutCount(Class) sampled out} counts of an event type. A throttle is used by 
+ * {@link AbstractListener#setEventFilter(EventFilter) setting it} as the event filter of a listener, so rejected events 
+ * never reach the handlers or the threads of a listener.
+ * </p>
+ * 
+ * <p>
+ * <i><b>NOTE:</b> Instances of this class are thread safe. Checking an event takes no locks.</i>
+ * </p>
+ * 
+ * @author Kennedy Kori
+ *
+ * @since Oct 19, 2026, 11:02:14 PM
+ */
+public final class EventThrottle implements EventFilter {
+	
+	private final Map<Class<? extends Event>, Throttle> throttles = new ConcurrentHashMap<>();
+	
+	/**
+	 * Returns {@code true} if the given event is picked by the sampling rate of it's type and the rate limit of it's 
+	 * type hasn't been reached.
+	 * 
+	 * @param event the event being fired.
+	 * 
+	 * @return {@code true} if the event should be delivered, {@code false} if it should be dropped.
+	 */
+	@Override
+	public boolean accept(Event event) {
+		Throttle throttle = throttles.get(event.getClass());
+		return throttle == null || throttle.accept(System.nanoTime());
+	}
+	
+	/**
+	 * Limits the events of the given type to the given rate, allowing bursts of up to {@code burst} events. This 
+	 * replaces the current rate limit of the event type, if any, and keeps it's sampling rate.
+	 * 
+	 * @param eventClass the class of the events to limit.
+	 * @param eventsPerSecond the number of events per second to accept on average.
+	 * @param burst the number of events that can be accepted at once after the event type has been idle.
+	 * 
+	 * @throws IllegalArgumentException if {@code eventsPerSecond} isn't greater than 0 or {@code burst} is less than 1.
+	 * @throws NullPointerException if {@code eventClass} is {@code null}.
+	 */
+	public void setRateLimit(Class<? extends Event> eventClass, double eventsPerSecond, int burst) {
+		requireNonNull(eventClass, "eventClass cannot be null.");
+		if (!(eventsPerSecond > 0))
+			throw new IllegalArgumentException("eventsPerSecond must be greater than 0.");
+		if (burst < 1)
+			throw new IllegalArgumentException("burst must be greater than 0.");
+		long interval = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / eventsPerSecond));
+		throttles.computeIfAbsent(eventClass, key -> new Throttle()).setRateLimit(interval, interval * (burst - 1));
+	}
+	
+	/**
+	 * Removes the rate limit of the given event type, keeping it's sampling rate.
+	 * 
+	 * @param eventClass the class of the events whose rate limit to remove.
+	 * 
+	 * @throws NullPointerException if {@code eventClass} is {@code null}.
+	 */
+	public void removeRateLimit(Class<? extends Event> eventClass) {
+		Throttle throttle = throttles.get(requireNonNull(eventClass, "eventClass cannot be null."));
+		if (throttle != null) throttle.setRateLimit(0, 0);
+	}
+	
+	/**
+	 * Sets the probability that an event of the given type is kept. A sampling rate of {@code 1} keeps every event 
+	 * while a sampling rate of {@code 0} drops every event.
+	 * 
+	 * @param eventClass the class of the events to sample.
+	 * @param samplingRate the probability that an event is kept.
+	 * 
+	 * @throws IllegalArgumentException if {@code samplingRate} isn't between {@code 0} and {@code 1} inclusive.
+	 * @throws NullPointerException if {@code eventClass} is {@code null}.
+	 */
+	public void setSamplingRate(Class<? extends Event> eventClass, double samplingRate) {
+		requireNonNull(eventClass, "eventClass cannot be null.");
+		if (!(samplingRate >= 0 && samplingRate <= 1))
+			throw new IllegalArgumentException("samplingRate must be between 0 and 1.");
+		throttles.computeIfAbsent(eventClass, key -> new Throttle()).samplingRate = samplingRate;
+	}
+	
+	/**
+	 * Removes the rate limit and sampling rate of the given event type together with it's counts.
+	 * 
+	 * @param eventClass the class of the events whose limits to remove.
+	 * 
+	 * @throws NullPointerException if {@code eventClass} is {@code null}.
+	 */
+	public void removeLimits(Class<? extends Event> eventClass) {
+		throttles.remove(requireNonNull(eventClass, "eventClass cannot be null."));
+	}
+	
+	/**
+	 * Returns the number of events of the given type that have been accepted since it was first limited.
+	 * 
+	 * @param eventClass the class of the events to count.
+	 * 
+	 * @return the number of accepted events, or 0 if the event type has no limits.
+	 * 
+	 * @throws NullPointerException if {@code eventClass} is {@code null}.
+	 */
+	public long getAcceptedCount(Class<? extends Event> eventClass) {
+		Throttle throttle = throttles.get(requireNonNull(eventClass, "eventClass cannot be null."));
+		return (throttle == null)? 0 : throttle.accepted.sum();
+	}
+	
+	/**
+	 * Returns the number of events of the given type that have been dropped because of the rate limit.
+	 * 
+	 * @param eventClass the class of the events to count.
+	 * 
+	 * @return the number of dropped events, or 0 if the event type has no limits.
+	 * 
+	 * @throws NullPointerException if {@code eventClass} is {@code null}.
+	 */
+	public long getDroppedCount(Class<? extends Event> eventClass) {
+		Throttle throttle = throttles.get(requireNonNull(eventClass, "eventClass cannot be null."));
+		return (throttle == null)? 0 : throttle.dropped.sum();
+	}
+	
+	/**
+	 * Returns the number of events of the given type that have been dropped because they weren't sampled.
+	 * 
+	 * @param eventClass the class of the events to count.
+	 * 
+	 * @return the number of events that weren't sampled, or 0 if the event type has no limits.
+	 * 
+	 * @throws NullPointerException if {@code eventClass} is {@code null}.
+	 */
+	public long getSampledOutCount(Class<? extends Event> eventClass) {
+		Throttle throttle = throttles.get(requireNonNull(eventClass, "eventClass cannot be null."));
+		return (throttle == null)? 0 : throttle.sampledOut.sum();
+	}
+	
+	/**
+	 * The limits and counts of a single event type. The token bucket is tracked as the time at which it will be full 
+	 * again, an event is accepted if taking a token wouldn't push that time further than the burst tolerance into the 
+	 * future, so taking a token is a single compare and set.
+	 */
+	private static final class Throttle {
+		
+		private final LongAdder accepted = new LongAdder();
+		private final LongAdder dropped = new LongAdder();
+		private final LongAdder sampledOut = new LongAdder();
+		private final AtomicLong fullAt = new AtomicLong(Long.MIN_VALUE);
+		private volatile double samplingRate = 1;
+		private volatile RateLimit rateLimit = RateLimit.NONE;
+		
+		private boolean accept(long now) {
+			double samplingRate = this.samplingRate;
+			if (samplingRate < 1 && (samplingRate == 0 || ThreadLocalRandom.current().nextDouble() >= samplingRate)) {
+				sampledOut.increment();
+				return false;
+			}
+			RateLimit limit = rateLimit;
+			if (limit.interval > 0 && !takeToken(limit, now)) {
+				dropped.increment();
+				return false;
+			}
+			accepted.increment();
+			return true;
+		}
+		
+		private boolean takeToken(RateLimit limit, long now) {
+			for (;;) {
+				long full = fullAt.get();
+				long start = (full == Long.MIN_VALUE || full - now < 0)? now : full;
+				long next = start + limit.interval;
+				if (next - now > limit.interval + limit.tolerance) return false;
+				if (fullAt.compareAndSet(full, next)) return true;
+			}
+		}
+		
+		private void setRateLimit(long interval, long tolerance) {
+			rateLimit = (interval == 0)? RateLimit.NONE : new RateLimit(interval, tolerance);
+		}
+	}
+	
+	/**
+	 * An immutable rate limit, so that the interval and tolerance of a limit are always read together.
+	 */
+	private static final class RateLimit {
+		
+		private static final RateLimit NONE = new RateLimit(0, 0);
+		
+		private final long interval;
+		private final long tolerance;
+		
+		private RateLimit(long interval, long tolerance) {
+			this.interval = interval;
+			this.tolerance = tolerance;
+		}
+	}
+}
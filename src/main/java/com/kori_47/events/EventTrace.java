@@ -0,0 +1,184 @@
+/**
+ * 
+ */
+package com.kori_47.events;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * A sequence of {@link Event events} together with the time at which each of them was fired, relative to the first
+ * event of the trace. Traces are recorded from a live listener with a {@link TraceRecorder}, or assembled from stored
+ * production traces with a {@link #builder() builder}, and replayed with a {@link TracePlayer}.
+ * </p>
+ * 
+ * <p>
+ * <i><b>NOTE:</b> Instances of this class are immutable and thread safe, as long as the traced events are.</i>
+ * </p>
+ * 
+ * @author Kennedy Kori
+ *
+ * @since Oct 20, 2026, 1:10:14 PM
+ */
+public final class EventTrace {
+
+	private final long[] times;
+	private final Event[] events;
+
+	/**
+	 * Creates a trace of the first {@code size} entries of the given arrays, the times must be in nanoseconds and
+	 * must not decrease.
+	 */
+	EventTrace(long[] times, Event[] events, int size) {
+		long origin = (size == 0)? 0 : times[0];
+		this.times = new long[size];
+		for (int index = 0; index < size; index++)
+			this.times[index] = times[index] - origin;
+		this.events = Arrays.copyOf(events, size);
+	}
+
+	/**
+	 * Returns a new {@link Builder} for assembling a trace.
+	 * 
+	 * @return a new builder.
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Returns the number of events in this trace.
+	 * 
+	 * @return the size of this trace.
+	 */
+	public int size() {
+		return events.length;
+	}
+
+	/**
+	 * Returns the event at the given position of this trace.
+	 * 
+	 * @param index the position of the event, starting at {@code 0}.
+	 * 
+	 * @return the event at the given position.
+	 * 
+	 * @throws IndexOutOfBoundsException if {@code index} is negative or not less than {@link #size()}.
+	 */
+	public Event getEvent(int index) {
+		return events[index];
+	}
+
+	/**
+	 * Returns the time at which the event at the given position of this trace was fired, relative to the first event.
+	 * 
+	 * @param index the position of the event, starting at {@code 0}.
+	 * @param unit the unit of the returned time.
+	 * 
+	 * @return the time of the event at the given position.
+	 * 
+	 * @throws IndexOutOfBoundsException if {@code index} is negative or not less than {@link #size()}.
+	 * @throws NullPointerException if {@code unit} is {@code null}.
+	 */
+	public long getTime(int index, TimeUnit unit) {
+		return requireNonNull(unit, "unit cannot be null.").convert(times[index], TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Returns the time between the first and the last event of this trace.
+	 * 
+	 * @param unit the unit of the returned time.
+	 * 
+	 * @return the duration of this trace.
+	 * 
+	 * @throws NullPointerException if {@code unit} is {@code null}.
+	 */
+	public long getDuration(TimeUnit unit) {
+		requireNonNull(unit, "unit cannot be null.");
+		return (times.length == 0)? 0 : unit.convert(times[times.length - 1], TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Returns the time of the event at the given position in nanoseconds.
+	 */
+	long timeNanos(int index) {
+		return times[index];
+	}
+
+	@Override
+	public String toString() {
+		return "EventTrace[size=" + size() + ", duration=" + getDuration(TimeUnit.MILLISECONDS) + "ms]";
+	}
+
+	/**
+	 * <p>
+	 * Assembles an {@link EventTrace} from events and the times at which they were fired. The times can be given in
+	 * any order and on any time scale, e.g as epoch milliseconds, {@link #build()} sorts the events by time, keeping
+	 * events with equal times in the order in which they were added, and makes the times relative to the first event.
+	 * </p>
+	 * 
+	 * <p>
+	 * <i><b>NOTE:</b> Builders are not thread safe, but can be used again after {@code build()} is called.</i>
+	 * </p>
+	 * 
+	 * @author Kennedy Kori
+	 *
+	 * @since Oct 20, 2026, 1:16:47 PM
+	 */
+	public static final class Builder {
+
+		private long[] times = new long[16];
+		private Event[] events = new Event[16];
+		private int size;
+		private boolean sorted = true;
+
+		private Builder() {}
+
+		/**
+		 * Adds an event that was fired at the given time.
+		 * 
+		 * @param time the time at which the event was fired.
+		 * @param unit the unit of {@code time}.
+		 * @param event the event that was fired.
+		 * 
+		 * @return this builder.
+		 * 
+		 * @throws NullPointerException if {@code unit} or {@code event} is {@code null}.
+		 */
+		public Builder add(long time, TimeUnit unit, Event event) {
+			requireNonNull(unit, "unit cannot be null.");
+			requireNonNull(event, "event cannot be null.");
+			if (size == events.length) {
+				times = Arrays.copyOf(times, size * 2);
+				events = Arrays.copyOf(events, size * 2);
+			}
+			long nanos = unit.toNanos(time);
+			if (size > 0 && nanos < times[size - 1]) sorted = false;
+			times[size] = nanos;
+			events[size++] = event;
+			return this;
+		}
+
+		/**
+		 * Creates an {@link EventTrace} of the events added so far.
+		 * 
+		 * @return a new trace.
+		 */
+		public EventTrace build() {
+			if (sorted) return new EventTrace(times, events, size);
+			Integer[] order = new Integer[size];
+			for (int index = 0; index < size; index++) order[index] = index;
+			// A stable sort keeps events with equal times in the order in which they were added
+			Arrays.sort(order, (first, second) -> Long.compare(times[first], times[second]));
+			long[] sortedTimes = new long[size];
+			Event[] sortedEvents = new Event[size];
+			for (int index = 0; index < size; index++) {
+				sortedTimes[index] = times[order[index]];
+				sortedEvents[index] = events[order[index]];
+			}
+			return new EventTrace(sortedTimes, sortedEvents, size);
+		}
+	}
+}
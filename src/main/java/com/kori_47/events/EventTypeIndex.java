@@ -0,0 +1,71 @@
+/**
+ * 
+ */
+package com.kori_47.events;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Assigns every {@link Event} type a small, dense integer id the first time it's seen, so that dispatch tables can be
+ * plain arrays indexed by event type instead of hash maps keyed by {@code Class}. Ids are shared by all listeners,
+ * never change and are never reused, and the lookup is backed by a {@code ClassValue} so it doesn't keep event classes
+ * or their class loaders reachable.
+ * 
+ * @author Kennedy Kori
+ *
+ * @since Oct 20, 2026, 9:14:27 AM
+ */
+final class EventTypeIndex {
+
+	private static final AtomicInteger NEXT_ID = new AtomicInteger();
+	private static final ClassValue<Integer> IDS = new ClassValue<Integer>() {
+		@Override
+		protected Integer computeValue(Class<?> type) {
+			return NEXT_ID.getAndIncrement();
+		}
+	};
+
+	private EventTypeIndex() {}
+
+	/**
+	 * Returns the id of the given event type, assigning one if the type doesn't have an id yet.
+	 */
+	static int idOf(Class<?> eventClass) {
+		return IDS.get(eventClass);
+	}
+
+	/**
+	 * Returns a table indexed by event type id that holds the given values and is just large enough for the highest
+	 * id among the given types. Types that are absent map to {@code null}.
+	 */
+	static <V> V[] table(Map<? extends Class<?>, ? extends V> values, V[] empty) {
+		int length = 0;
+		for (Class<?> eventClass : values.keySet())
+			length = Math.max(length, idOf(eventClass) + 1);
+		V[] table = Arrays.copyOf(empty, length);
+		values.forEach((eventClass, value) -> table[idOf(eventClass)] = value);
+		return table;
+	}
+
+	/**
+	 * Returns a copy of the given table, grown if needed, in which the given event type maps to the given value. This 
+	 * is for tables that are filled in one event type at a time and replaced rather than modified once published.
+	 */
+	static <V> V[] with(V[] table, Class<?> eventClass, V value) {
+		int id = idOf(eventClass);
+		V[] copy = Arrays.copyOf(table, Math.max(table.length, id + 1));
+		copy[id] = value;
+		return copy;
+	}
+
+	/**
+	 * Returns the entry of the given event type in a table created by {@link #table(Map, Object[])}, or
+	 * {@code null} if there isn't one.
+	 */
+	static <V> V lookup(V[] table, Class<?> eventClass) {
+		int id = idOf(eventClass);
+		return (id < table.length)? table[id] : null;
+	}
+}
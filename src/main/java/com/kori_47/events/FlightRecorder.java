@@ -0,0 +1,67 @@
+/**
+ *
+ */
+package com.kori_47.events;
+
+/**
+ * <p>
+ * The hooks through which listeners report what they do to the JDK Flight Recorder. This is the Java 8 version of the
+ * class, where every hook does nothing and is optimized away by the JIT compiler. The multi-release jar contains a
+ * Java 11 version of this class, in {@code src/main/java11}, that emits {@code jdk.jfr} events, both versions must
+ * declare the same methods.
+ * </p>
+ * <p>
+ * The following events are emitted, all in the <i>SimpleEvents</i> category:
+ * </p>
+ * <ul>
+ * <li>{@code com.kori_47.events.Publish}: an event was fired on a listener, and whether it's filter accepted it.</li>
+ * <li>{@code com.kori_47.events.Enqueue}: an event was queued to be delivered on another thread.</li>
+ * <li>{@code com.kori_47.events.Dequeue}: a queued event was taken for delivery, with the time it spent queued.</li>
+ * <li>{@code com.kori_47.events.HandlerExecution}: a handler handled an event, with the handler, the event class, the
+ * duration and whether the handler failed.</li>
+ * </ul>
+ *
+ * @author Kennedy Kori
+ *
+ * @since Oct 20, 2026, 2:18:40 PM
+ */
+final class FlightRecorder {
+
+	private FlightRecorder() {}
+
+	/**
+	 * Records that the given event was fired on the given listener.
+	 */
+	static void published(Listener listener, Event event, boolean accepted) {}
+
+	/**
+	 * Records that the given event was queued by the given listener.
+	 */
+	static void enqueued(Listener listener, Event event) {}
+
+	/**
+	 * Returns the time to pass to {@link #dequeued(Listener, Event, long)} for an event that is being queued, or
+	 * {@code 0} if dequeue events are not being recorded.
+	 */
+	static long enqueueTime() {
+		return 0;
+	}
+
+	/**
+	 * Records that the given event, queued at the given {@link #enqueueTime() time}, was taken for delivery.
+	 */
+	static void dequeued(Listener listener, Event event, long enqueueTime) {}
+
+	/**
+	 * Starts recording the execution of a handler, returns the recording to pass to
+	 * {@link #endHandler(Object, Listener, Handler, Event, boolean)} or {@code null} if nothing is being recorded.
+	 */
+	static Object beginHandler() {
+		return null;
+	}
+
+	/**
+	 * Completes the recording of the execution of the given handler.
+	 */
+	static void endHandler(Object recording, Listener listener, Handler<?> handler, Event event, boolean failed) {}
+}
@@ -0,0 +1,54 @@
+/**
+ * 
+ */
+package com.kori_47.events;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * This tracks the consecutive failures of a single {@link Handler} for a {@link CircuitBreaker}. Instances are only 
+ * created once a handler fails and are discarded as soon as the handler succeeds again.
+ * 
+ * @author Kennedy Kori
+ *
+ * @since Oct 19, 2026, 11:31:07 AM
+ */
+final class HandlerCircuit {
+	
+	private static final AtomicIntegerFieldUpdater<HandlerCircuit> FAILURES = 
+			AtomicIntegerFieldUpdater.newUpdater(HandlerCircuit.class, "failures");
+	private static final AtomicLongFieldUpdater<HandlerCircuit> RETRY_AT = 
+			AtomicLongFieldUpdater.newUpdater(HandlerCircuit.class, "retryAt");
+	
+	private volatile int failures;
+	private volatile long retryAt;
+	
+	/**
+	 * Returns {@code true} if the handler may be executed. When the circuit is open, this only returns {@code true} 
+	 * for a single caller once the retry delay has elapsed, that caller's execution is the probe and the circuit stays 
+	 * open for everyone else until the probe completes or another retry delay elapses.
+	 */
+	boolean allowsExecution(CircuitBreaker breaker) {
+		if (failures < breaker.getFailureThreshold()) return true;
+		long retryAt = this.retryAt;
+		long now = System.nanoTime();
+		if (now - retryAt < 0) return false;
+		return RETRY_AT.compareAndSet(this, retryAt, now + breaker.getRetryDelayNanos());
+	}
+	
+	/**
+	 * Records a failure of the handler, opening the circuit if the failure threshold has been reached.
+	 */
+	void recordFailure(CircuitBreaker breaker) {
+		if (FAILURES.incrementAndGet(this) >= breaker.getFailureThreshold())
+			retryAt = System.nanoTime() + breaker.getRetryDelayNanos();
+	}
+	
+	/**
+	 * Returns {@code true} if the given breaker's failure threshold has been reached.
+	 */
+	boolean isOpen(CircuitBreaker breaker) {
+		return failures >= breaker.getFailureThreshold();
+	}
+}
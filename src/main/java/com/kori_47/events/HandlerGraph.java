@@ -0,0 +1,105 @@
+/**
+ * 
+ */
+package com.kori_47.events;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * This is the dependency graph of the pooled handlers of a single event type of a {@link ThreadedListener}, compiled
+ * from the dependencies declared with {@link ThreadedListener#addHandlerAfter(Class, Handler, Handler...)}. A handler
+ * registered more than once becomes a node per registration and a dependency on it is a dependency on all of them.
+ * The nodes are numbered in a topological order, which keeps the order of registration between independent handlers,
+ * so executing the handlers one after the other in that order respects every dependency.
+ * 
+ * @author Kennedy Kori
+ *
+ * @since Oct 20, 2026, 5:02:14 PM
+ */
+final class HandlerGraph {
+
+	/**
+	 * the handlers of the graph, in topological order
+	 */
+	final Handler<? extends Event>[] handlers;
+	/**
+	 * the nodes that can start as soon as an event is fired
+	 */
+	final int[] roots;
+	/**
+	 * the nodes that depend on each node
+	 */
+	final int[][] dependents;
+	/**
+	 * the number of dependencies of each node
+	 */
+	final int[] dependencyCounts;
+
+	private HandlerGraph(Handler<? extends Event>[] handlers, int[] roots, int[][] dependents, int[] dependencyCounts) {
+		this.handlers = handlers;
+		this.roots = roots;
+		this.dependents = dependents;
+		this.dependencyCounts = dependencyCounts;
+	}
+
+	/**
+	 * Compiles the graph of the given pooled handlers, in order of registration, or returns {@code null} if none of
+	 * them depends on another. Dependencies on handlers that aren't among the given handlers are ignored.
+	 */
+	static HandlerGraph compile(Handler<? extends Event>[] pooled,
+			Map<Handler<? extends Event>, Set<Handler<? extends Event>>> dependencies) {
+		int size = pooled.length;
+		List<List<Integer>> edges = new ArrayList<>(size);
+		int[] counts = new int[size];
+		boolean hasEdges = false;
+		for (int node = 0; node < size; node++) edges.add(new ArrayList<>());
+		for (int node = 0; node < size; node++) {
+			Set<Handler<? extends Event>> nodeDependencies = dependencies.get(pooled[node]);
+			if (nodeDependencies == null) continue;
+			for (int dependency = 0; dependency < size; dependency++) {
+				if (!nodeDependencies.contains(pooled[dependency])) continue;
+				edges.get(dependency).add(node);
+				counts[node]++;
+				hasEdges = true;
+			}
+		}
+		if (!hasEdges) return null;
+		// Number the nodes in a topological order, taking the first registered of the ready nodes
+		int[] order = new int[size];
+		int[] position = new int[size];
+		int[] remaining = counts.clone();
+		Queue<Integer> ready = new PriorityQueue<>();
+		for (int node = 0; node < size; node++)
+			if (remaining[node] == 0) ready.add(node);
+		int sorted = 0;
+		while (!ready.isEmpty()) {
+			int node = ready.poll();
+			position[node] = sorted;
+			order[sorted++] = node;
+			for (int dependent : edges.get(node))
+				if (--remaining[dependent] == 0) ready.add(dependent);
+		}
+		// Cycles are rejected when the dependencies are declared
+		if (sorted != size) throw new IllegalStateException("The dependencies of the handlers form a cycle.");
+		Handler<? extends Event>[] handlers = new Handler<?>[size];
+		int[][] dependents = new int[size][];
+		int[] dependencyCounts = new int[size];
+		int rootCount = 0;
+		for (int index = 0; index < size; index++) {
+			int node = order[index];
+			handlers[index] = pooled[node];
+			dependencyCounts[index] = counts[node];
+			dependents[index] = edges.get(node).stream().mapToInt(dependent -> position[dependent]).sorted().toArray();
+			if (counts[node] == 0) rootCount++;
+		}
+		int[] roots = new int[rootCount];
+		for (int index = 0, root = 0; index < size; index++)
+			if (dependencyCounts[index] == 0) roots[root++] = index;
+		return new HandlerGraph(handlers, roots, dependents, dependencyCounts);
+	}
+}
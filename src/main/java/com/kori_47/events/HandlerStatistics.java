@@ -0,0 +1,129 @@
+/**
+ * 
+ */
+package com.kori_47.events;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * The execution statistics of a single {@link Handler}, as collected by a {@link SimulationListener}. The latency of
+ * a handler is the wall clock time that it took to handle a single event, latency percentiles are accurate to within
+ * an eighth of their value.
+ * </p>
+ * 
+ * <p>
+ * <i><b>NOTE:</b> Instances of this class are immutable and thread safe.</i>
+ * </p>
+ * 
+ * @author Kennedy Kori
+ *
+ * @since Oct 20, 2026, 12:34:52 PM
+ */
+public final class HandlerStatistics {
+
+	private final Handler<? extends Event> handler;
+	private final LatencyHistogram latencies;
+
+	HandlerStatistics(Handler<? extends Event> handler, LatencyHistogram latencies) {
+		this.handler = handler;
+		this.latencies = latencies.copy();
+	}
+
+	/**
+	 * Returns the handler that these statistics belong to.
+	 * 
+	 * @return the handler of these statistics.
+	 */
+	public Handler<? extends Event> getHandler() {
+		return handler;
+	}
+
+	/**
+	 * Returns the number of events that the handler has handled.
+	 * 
+	 * @return the number of times the handler was executed.
+	 */
+	public long getInvocations() {
+		return latencies.getCount();
+	}
+
+	/**
+	 * Returns the total time that the handler spent handling events.
+	 * 
+	 * @param unit the unit of the returned time.
+	 * 
+	 * @return the total execution time of the handler.
+	 * 
+	 * @throws NullPointerException if {@code unit} is {@code null}.
+	 */
+	public long getTotalTime(TimeUnit unit) {
+		return requireNonNull(unit, "unit cannot be null.").convert(latencies.getSum(), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Returns the number of events that the handler can handle per second, based on the time it spent handling the
+	 * events it has handled so far, or {@code 0} if it hasn't handled any.
+	 * 
+	 * @return the throughput of the handler in events per second.
+	 */
+	public double getThroughput() {
+		long busyNanos = latencies.getSum();
+		if (busyNanos == 0) return (latencies.getCount() == 0)? 0 : Double.POSITIVE_INFINITY;
+		return latencies.getCount() * 1e9 / busyNanos;
+	}
+
+	/**
+	 * Returns the mean time that the handler took to handle an event.
+	 * 
+	 * @param unit the unit of the returned time.
+	 * 
+	 * @return the mean latency of the handler.
+	 * 
+	 * @throws NullPointerException if {@code unit} is {@code null}.
+	 */
+	public double getMeanLatency(TimeUnit unit) {
+		return latencies.getMean() / requireNonNull(unit, "unit cannot be null.").toNanos(1);
+	}
+
+	/**
+	 * Returns the longest time that the handler took to handle an event.
+	 * 
+	 * @param unit the unit of the returned time.
+	 * 
+	 * @return the maximum latency of the handler.
+	 * 
+	 * @throws NullPointerException if {@code unit} is {@code null}.
+	 */
+	public long getMaxLatency(TimeUnit unit) {
+		return requireNonNull(unit, "unit cannot be null.").convert(latencies.getMax(), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Returns the time within which the handler handled the given percentage of the events, e.g {@code 99} for the
+	 * 99th percentile.
+	 * 
+	 * @param percentile the percentile, between {@code 0} and {@code 100} inclusive.
+	 * @param unit the unit of the returned time.
+	 * 
+	 * @return the latency of the handler at the given percentile.
+	 * 
+	 * @throws IllegalArgumentException if {@code percentile} is not between {@code 0} and {@code 100}.
+	 * @throws NullPointerException if {@code unit} is {@code null}.
+	 */
+	public long getLatency(double percentile, TimeUnit unit) {
+		requireNonNull(unit, "unit cannot be null.");
+		if (!(percentile >= 0 && percentile <= 100))
+			throw new IllegalArgumentException("percentile must be between 0 and 100.");
+		return unit.convert(latencies.getPercentile(percentile), TimeUnit.NANOSECONDS);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("HandlerStatistics[handler=%s, invocations=%d, mean=%.0fns, p50=%dns, p99=%dns, max=%dns]",
+				handler, getInvocations(), latencies.getMean(), latencies.getPercentile(50), latencies.getPercentile(99),
+				latencies.getMax());
+	}
+}
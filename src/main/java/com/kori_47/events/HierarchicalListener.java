@@ -0,0 +1,282 @@
+/**
+ * 
+ */
+package com.kori_47.events;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>
+ * This is an implementation of a {@link Listener} that is part of a tree of listeners, where an event fired on a 
+ * listener is delivered to the handlers of that listener and then to the handlers of each of it's ancestors, up to the 
+ * root of the tree. Each listener has a name and is reached from the root using a dot separated path, so a tree can be 
+ * used to route the events of different modules, e.g. an event fired on {@code root.child("orders.payments")} reaches 
+ * the handlers registered on the {@code "orders.payments"}, {@code "orders"} and root listeners.
+ * </p>
+ * 
+ * <p>
+ * The handlers that an event fired on a listener reaches are compiled into a single route per event type, which is 
+ * cached until the handlers of any listener in the tree change. Firing an event therefore costs a single lookup 
+ * regardless of the depth of the listener, instead of one lookup per level.
+ * </p>
+ * 
+ * <p>
+ * Handlers are executed on the calling thread, those of the listener the event was fired on first. Each handler is 
+ * executed with the {@link ErrorHandler} and {@link CircuitBreaker} of the listener it was registered to, while only 
+ * the {@link EventFilter} and stamping of the listener the event was fired on apply. Methods that read handlers, such 
+ * as {@link #getHandlers(Class)}, only return the handlers registered directly to a listener.
+ * </p>
+ * 
+ * <p>
+ * <i><b>NOTE:</b> Instances of this class are thread safe and can be called from multiple threads.</i>
+ * </p>
+ * 
+ * @author Kennedy Kori
+ *
+ * @since Oct 20, 2026, 12:06:31 AM
+ */
+public class HierarchicalListener extends AbstractListener {
+	
+	private static final Route NO_ROUTE = new Route(new Handler<?>[0], new HierarchicalListener[0]);
+	private static final Route[] NO_ROUTES = new Route[0];
+	
+	private final HierarchicalListener parent;
+	private final String name;
+	private final String path;
+	private final Map<String, HierarchicalListener> children = new ConcurrentHashMap<>();
+	/**
+	 * the version of the whole tree, increased every time the handlers of any listener in the tree change
+	 */
+	private final AtomicLong treeVersion;
+	private volatile RouteTable routeTable;
+	
+	/**
+	 * Creates a new {@code HierarchicalListener} that is the root of a new tree. The root listener has an empty name.
+	 */
+	public HierarchicalListener() {
+		this(null, "", new AtomicLong());
+	}
+	
+	private HierarchicalListener(HierarchicalListener parent, String name, AtomicLong treeVersion) {
+		super(new LinkedHashMap<>());
+		this.parent = parent;
+		this.name = name;
+		this.path = (parent == null || parent.parent == null)? name : parent.path + "." + name;
+		this.treeVersion = treeVersion;
+	}
+	
+	/**
+	 * Returns the descendant of this listener at the given dot separated path, creating it and any missing listeners 
+	 * along the path if necessary.
+	 * 
+	 * @param path the path of the descendant relative to this listener, e.g {@code "orders.payments"}.
+	 * 
+	 * @return the listener at the given path.
+	 * 
+	 * @throws IllegalArgumentException if {@code path} is empty or contains empty names.
+	 * @throws NullPointerException if {@code path} is {@code null}.
+	 */
+	public HierarchicalListener child(String path) {
+		requireNonNull(path, "path cannot be null.");
+		HierarchicalListener listener = this;
+		for (String childName : path.split("\\.", -1)) {
+			if (childName.isEmpty())
+				throw new IllegalArgumentException("path cannot be empty or contain empty names.");
+			HierarchicalListener current = listener;
+			listener = current.children.computeIfAbsent(childName, key -> new HierarchicalListener(current, key, treeVersion));
+		}
+		return listener;
+	}
+	
+	/**
+	 * Returns an {@link Optional} containing the parent of this listener, or an empty {@code Optional} if this listener 
+	 * is the root of it's tree.
+	 * 
+	 * @return an {@code Optional} containing the parent of this listener.
+	 */
+	public Optional<HierarchicalListener> getParent() {
+		return Optional.ofNullable(parent);
+	}
+	
+	/**
+	 * Returns an unmodifiable view of the children of this listener.
+	 * 
+	 * @return the children of this listener.
+	 */
+	public Collection<HierarchicalListener> getChildren() {
+		return Collections.unmodifiableCollection(children.values());
+	}
+	
+	/**
+	 * Returns the name of this listener, which is empty for the root of a tree.
+	 * 
+	 * @return the name of this listener.
+	 */
+	public String getName() {
+		return name;
+	}
+	
+	/**
+	 * Returns the dot separated path of this listener from the root of it's tree, which is empty for the root itself.
+	 * 
+	 * @return the path of this listener.
+	 */
+	public String getPath() {
+		return path;
+	}
+	
+	/**
+	* {@inheritDoc}
+	*/
+	@Override
+	public <T extends Event> void addHandler(Class<T> eventClass, Handler<T> handler) {
+		super.addHandler(eventClass, handler);
+		treeVersion.incrementAndGet();
+	}
+	
+	/**
+	* {@inheritDoc}
+	*/
+	@Override
+	public void addHandlers(ListenerSnapshot handlers) {
+		super.addHandlers(handlers);
+		treeVersion.incrementAndGet();
+	}
+	
+	/**
+	* {@inheritDoc}
+	*/
+	@Override
+	public <T extends Event> void removeHandler(Class<T> eventClass, Handler<T> handler) {
+		super.removeHandler(eventClass, handler);
+		treeVersion.incrementAndGet();
+	}
+	
+	/**
+	* {@inheritDoc}
+	* <p>
+	* Only the handlers of this listener are removed, the handlers of it's ancestors and descendants are kept.
+	* </p>
+	*/
+	@Override
+	public void clear() {
+		super.clear();
+		treeVersion.incrementAndGet();
+	}
+	
+	/**
+	* {@inheritDoc}
+	* <p>
+	* The handlers of this listener are executed first, followed by the handlers of each of it's ancestors in order. If 
+	* a handler fails and the listener it was registered to has no {@link ErrorHandler}, the first such exception is 
+	* rethrown once all the handlers have been executed, with the rest added to it as suppressed exceptions. A 
+	* {@link PooledEvent} is released once all the handlers have been executed.
+	* </p>
+	*/
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T extends Event> void fireEvent(T event) {
+		requireNonNull(event, "event cannot be null.");
+		if (!accept(event)) return;
+		try {
+			Route route = route(event.getClass());
+			EventStamp stamp = stamp(event);
+			RuntimeException failure = null;
+			for (int index = 0; index < route.handlers.length; index++) {
+				RuntimeException exception = route.owners[index].invokeHandler((Handler<T>) route.handlers[index], event, stamp);
+				if (exception == null) continue;
+				if (failure == null) failure = exception;
+				else failure.addSuppressed(exception);
+			}
+			if (failure != null) throw failure;
+		} finally {
+			PooledEvent.releaseIfPooled(event);
+		}
+	}
+	
+	@Override
+	protected List<Handler<? extends Event>> createHandlerList() {
+		return new ArrayList<>();
+	}
+	
+	@Override
+	public String toString() {
+		return String.format("[HierarchicalListener:[ %s ]]", path);
+	}
+	
+	/**
+	 * Returns the route of the given event type, compiling it if the tree has changed since it was last compiled.
+	 */
+	private Route route(Class<? extends Event> eventClass) {
+		long version = treeVersion.get();
+		RouteTable table = routeTable;
+		if (table == null || table.version != version) routeTable = table = new RouteTable(version);
+		Route route = EventTypeIndex.lookup(table.routes, eventClass);
+		return (route != null)? route : table.add(eventClass, compileRoute(eventClass));
+	}
+	
+	/**
+	 * Collects the handlers of the given event type from this listener and each of it's ancestors into a single route.
+	 */
+	private Route compileRoute(Class<? extends Event> eventClass) {
+		List<Handler<? extends Event>> handlers = new ArrayList<>();
+		List<HierarchicalListener> owners = new ArrayList<>();
+		for (HierarchicalListener listener = this; listener != null; listener = listener.parent) {
+			for (Handler<? extends Event> handler : listener.snapshot().handlerArray(eventClass)) {
+				handlers.add(handler);
+				owners.add(listener);
+			}
+		}
+		if (handlers.isEmpty()) return NO_ROUTE;
+		return new Route(handlers.toArray(new Handler<?>[handlers.size()]), owners.toArray(new HierarchicalListener[owners.size()]));
+	}
+	
+	/**
+	 * The routes compiled for a single version of the tree, indexed by {@link EventTypeIndex event type id}. The table 
+	 * grows as the routes of new event types are compiled and is replaced rather than modified, so reads don't lock.
+	 */
+	private static final class RouteTable {
+		
+		private final long version;
+		private volatile Route[] routes = NO_ROUTES;
+		
+		private RouteTable(long version) {
+			this.version = version;
+		}
+		
+		/**
+		 * Adds the given route of the given event type, unless another thread added one first, and returns the route 
+		 * of the event type.
+		 */
+		private synchronized Route add(Class<? extends Event> eventClass, Route route) {
+			Route current = EventTypeIndex.lookup(routes, eventClass);
+			if (current != null) return current;
+			routes = EventTypeIndex.with(routes, eventClass, route);
+			return route;
+		}
+	}
+	
+	/**
+	 * The handlers that an event type reaches, together with the listener each of them was registered to.
+	 */
+	private static final class Route {
+		
+		private final Handler<? extends Event>[] handlers;
+		private final HierarchicalListener[] owners;
+		
+		private Route(Handler<? extends Event>[] handlers, HierarchicalListener[] owners) {
+			this.handlers = handlers;
+			this.owners = owners;
+		}
+	}
+}
@@ -0,0 +1,131 @@
+/**
+ * 
+ */
+package com.kori_47.events;
+
+import java.util.Arrays;
+
+/**
+ * A histogram of non-negative durations, in nanoseconds, with a fixed memory footprint. Every power of two range is
+ * split into eight buckets, so a recorded value is never off by more than an eighth of itself, and recording a value
+ * neither allocates nor takes a lock. Percentiles are reported as the highest value of their bucket, capped by the
+ * highest recorded value.
+ * 
+ * <p>
+ * <i><b>NOTE:</b> Instances of this class are not thread safe.</i>
+ * </p>
+ * 
+ * @author Kennedy Kori
+ *
+ * @since Oct 20, 2026, 12:21:09 PM
+ */
+final class LatencyHistogram {
+
+	private static final int SUB_BUCKET_BITS = 3;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+	private final long[] counts;
+	private long count;
+	private long sum;
+	private long min = Long.MAX_VALUE;
+	private long max;
+
+	LatencyHistogram() {
+		this.counts = new long[BUCKETS];
+	}
+
+	private LatencyHistogram(LatencyHistogram histogram) {
+		this.counts = Arrays.copyOf(histogram.counts, BUCKETS);
+		this.count = histogram.count;
+		this.sum = histogram.sum;
+		this.min = histogram.min;
+		this.max = histogram.max;
+	}
+
+	/**
+	 * Records the given duration, negative durations are recorded as {@code 0}.
+	 */
+	void record(long nanos) {
+		long value = Math.max(nanos, 0);
+		counts[bucketOf(value)]++;
+		count++;
+		sum += value;
+		if (value < min) min = value;
+		if (value > max) max = value;
+	}
+
+	long getCount() {
+		return count;
+	}
+
+	long getSum() {
+		return sum;
+	}
+
+	long getMin() {
+		return (count == 0)? 0 : min;
+	}
+
+	long getMax() {
+		return max;
+	}
+
+	double getMean() {
+		return (count == 0)? 0 : (double) sum / count;
+	}
+
+	/**
+	 * Returns the value below which the given percentage of the recorded values fall, or {@code 0} if no values have
+	 * been recorded.
+	 */
+	long getPercentile(double percentile) {
+		if (count == 0) return 0;
+		long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+		long seen = 0;
+		for (int bucket = 0; bucket < BUCKETS; bucket++) {
+			seen += counts[bucket];
+			if (seen >= rank) return Math.min(highestValueOf(bucket), max);
+		}
+		return max;
+	}
+
+	/**
+	 * Adds all the values recorded by the given histogram to this histogram.
+	 */
+	void add(LatencyHistogram histogram) {
+		for (int bucket = 0; bucket < BUCKETS; bucket++)
+			counts[bucket] += histogram.counts[bucket];
+		count += histogram.count;
+		sum += histogram.sum;
+		min = Math.min(min, histogram.min);
+		max = Math.max(max, histogram.max);
+	}
+
+	void reset() {
+		Arrays.fill(counts, 0);
+		count = 0;
+		sum = 0;
+		min = Long.MAX_VALUE;
+		max = 0;
+	}
+
+	LatencyHistogram copy() {
+		return new LatencyHistogram(this);
+	}
+
+	private static int bucketOf(long value) {
+		if (value < SUB_BUCKETS) return (int) value;
+		int exponent = 63 - Long.numberOfLeadingZeros(value);
+		int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+		return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+	}
+
+	private static long highestValueOf(int bucket) {
+		if (bucket < SUB_BUCKETS) return bucket;
+		int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+		long width = 1L << (exponent - SUB_BUCKET_BITS);
+		long lowest = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << (exponent - SUB_BUCKET_BITS);
+		return lowest + width - 1;
+	}
+}
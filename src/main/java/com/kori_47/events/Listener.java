@@ -21,6 +21,10 @@ import java.util.Set;
  * have handlers registered to this listener. The {@link #clear()} method removes all handlers from a listener and should called once a listener 
  * is ready for disposal in order to avoid memory leaks.
  * </p>
+ * <p>
+ * The {@link #hasHandlers(Class)} and {@link #handlerCount(Class)} methods can be used to check whether an event type has 
+ * handlers without retrieving them.
+ * </p>
  * 
  * @author Kennedy Kori
  *
@@ -52,6 +56,22 @@ public interface Listener {
 	 */
 	<T extends Event> void removeHandler(Class<T> eventClass, Handler<T> handler);
 	
+	/**
+	 * Adds all the {@link Handler handlers} of the given {@link ListenerSnapshot} to this listener, in the order in 
+	 * which they appear in the snapshot. A snapshot built with a {@link ListenerSnapshot.Builder} can be used to 
+	 * register a large number of handlers at once, implementations are encouraged to add them in a single step.
+	 * 
+	 * @param handlers the snapshot whose handlers to add.
+	 * 
+	 * @throws NullPointerException if {@code handlers} is {@code null}.
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	default void addHandlers(ListenerSnapshot handlers) {
+		for (Class eventClass : handlers.getSupportedEventTypes())
+			for (Object handler : handlers.getHandlers(eventClass))
+				addHandler(eventClass, (Handler) handler);
+	}
+	
 	
 	/**
 	 * Executes all {@link Handler handlers} registered under this listener that support 
@@ -93,4 +113,31 @@ public interface Listener {
 	 * @return a {@code Set} of all {@code Events} that have handlers registered in this listener.
 	 */
 	Set<Class<? extends Event>> getSupportedEventTypes();
+	
+	/**
+	 * Returns {@code true} if at least one {@link Handler} that supports the given event type is registered in this 
+	 * listener.
+	 * 
+	 * @param eventClass the class of the event to check.
+	 * 
+	 * @return {@code true} if the given event type has handlers registered in this listener, {@code false} otherwise.
+	 * 
+	 * @throws NullPointerException if {@code eventClass} is {@code null}.
+	 */
+	default boolean hasHandlers(Class<? extends Event> eventClass) {
+		return handlerCount(eventClass) > 0;
+	}
+	
+	/**
+	 * Returns the number of {@link Handler handlers} registered in this listener that support the given event type.
+	 * 
+	 * @param eventClass the class of the event whose handlers to count.
+	 * 
+	 * @return the number of handlers that support the given event type.
+	 * 
+	 * @throws NullPointerException if {@code eventClass} is {@code null}.
+	 */
+	default int handlerCount(Class<? extends Event> eventClass) {
+		return getHandlers(eventClass).map(List::size).orElse(0);
+	}
 }
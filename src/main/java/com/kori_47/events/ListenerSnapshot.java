@@ -0,0 +1,262 @@
+/**
+ * 
+ */
+package com.kori_47.events;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableSet;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>
+ * This is an immutable view of the {@link Handler handlers} registered to an {@link AbstractListener} at a given
+ * point in time. Each snapshot carries the {@link #getVersion() version} of the listener's registry at the time it was
+ * taken, the version changes every time a handler is added or removed, so two snapshots with the same version always
+ * have the same content.
+ * </p>
+ * <p>
+ * A listener reuses the same snapshot until it's handlers change, which means that repeatedly calling
+ * {@link AbstractListener#getSnapshot()} and reading the returned snapshot doesn't allocate any memory. All the
+ * collections returned by a snapshot are unmodifiable.
+ * </p>
+ * <p>
+ * A snapshot can also be created directly with a {@link #builder() builder} and then handed to 
+ * {@link Listener#addHandlers(ListenerSnapshot)}, which is the fastest way to register a large number of handlers.
+ * An {@link AbstractListener} without handlers adopts such a snapshot as is, instead of building it's own.
+ * </p>
+ * 
+ * <p>
+ * <i><b>NOTE:</b> Instances of this class are immutable and thread safe.</i>
+ * </p>
+ * 
+ * @author Kennedy Kori
+ *
+ * @since Oct 19, 2026, 6:05:41 PM
+ */
+public final class ListenerSnapshot {
+
+	private static final Handler<?>[] NO_HANDLERS = new Handler<?>[0];
+	private static final Handler<?>[][] NO_HANDLER_ARRAYS = new Handler<?>[0][];
+
+	private final long version;
+	/**
+	 * the handlers of each event type, indexed by {@link EventTypeIndex event type id}
+	 */
+	private final Handler<? extends Event>[][] handlerTable;
+	private final Map<Class<? extends Event>, List<Handler<? extends Event>>> handlerLists;
+	private final Set<Class<? extends Event>> eventTypes;
+
+	/**
+	 * Creates a new snapshot of the given handlers. The caller must prevent the handlers from being modified while
+	 * the snapshot is being created.
+	 */
+	ListenerSnapshot(long version, Map<Class<? extends Event>, List<Handler<? extends Event>>> registeredHandlers) {
+		this.version = version;
+		Map<Class<? extends Event>, Handler<? extends Event>[]> handlerArrays = new HashMap<>();
+		this.handlerLists = new LinkedHashMap<>();
+		registeredHandlers.forEach((eventClass, handlers) -> {
+			Handler<? extends Event>[] handlerArray = handlers.toArray(new Handler<?>[handlers.size()]);
+			handlerArrays.put(eventClass, handlerArray);
+			handlerLists.put(eventClass, unmodifiableList(Arrays.asList(handlerArray)));
+		});
+		this.handlerTable = EventTypeIndex.table(handlerArrays, NO_HANDLER_ARRAYS);
+		this.eventTypes = unmodifiableSet(handlerLists.keySet());
+	}
+
+	/**
+	 * Creates a snapshot with the given version and the same handlers as the given snapshot.
+	 */
+	private ListenerSnapshot(long version, ListenerSnapshot snapshot) {
+		this.version = version;
+		this.handlerTable = snapshot.handlerTable;
+		this.handlerLists = snapshot.handlerLists;
+		this.eventTypes = snapshot.eventTypes;
+	}
+
+	/**
+	 * Returns a new {@link Builder} for creating a snapshot without a listener.
+	 * 
+	 * @return a new builder.
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Returns the version of the registry that this snapshot was taken from. A listener's version increases every
+	 * time it's handlers change.
+	 * 
+	 * @return the version of this snapshot.
+	 */
+	public long getVersion() {
+		return version;
+	}
+
+	/**
+	 * Returns an unmodifiable {@code List} of the {@link Handler handlers} that support the given event type, or an
+	 * empty list if there are no such handlers.
+	 * 
+	 * @param <T> the type of an {@link Event event} that the handlers to be returned support.
+	 * 
+	 * @param eventClass the class of the event that the handlers to be returned support.
+	 * 
+	 * @return an unmodifiable list of the handlers that support the given event type.
+	 * 
+	 * @throws NullPointerException if {@code eventClass} is {@code null}.
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public <T extends Event> List<Handler<T>> getHandlers(Class<T> eventClass) {
+		List handlers = handlerLists.get(requireNonNull(eventClass, "eventClass cannot be null."));
+		return (handlers == null)? Collections.emptyList() : handlers;
+	}
+
+	/**
+	 * Returns {@code true} if the given event type has at least one {@link Handler} in this snapshot.
+	 * 
+	 * @param eventClass the class of the event to check.
+	 * 
+	 * @return {@code true} if the given event type has handlers, {@code false} otherwise.
+	 * 
+	 * @throws NullPointerException if {@code eventClass} is {@code null}.
+	 */
+	public boolean hasHandlers(Class<? extends Event> eventClass) {
+		return handlerCount(eventClass) > 0;
+	}
+
+	/**
+	 * Returns the number of {@link Handler handlers} in this snapshot that support the given event type.
+	 * 
+	 * @param eventClass the class of the event whose handlers to count.
+	 * 
+	 * @return the number of handlers that support the given event type.
+	 * 
+	 * @throws NullPointerException if {@code eventClass} is {@code null}.
+	 */
+	public int handlerCount(Class<? extends Event> eventClass) {
+		return handlerArray(requireNonNull(eventClass, "eventClass cannot be null.")).length;
+	}
+
+	/**
+	 * Returns an unmodifiable {@code Set} of all the {@link Event} types that had handlers registered when this
+	 * snapshot was taken.
+	 * 
+	 * @return an unmodifiable set of the supported event types.
+	 */
+	public Set<Class<? extends Event>> getSupportedEventTypes() {
+		return eventTypes;
+	}
+
+	/**
+	 * Returns {@code true} if the given event type was registered when this snapshot was taken, even if all of it's
+	 * handlers have since been removed.
+	 */
+	boolean isRegistered(Class<? extends Event> eventClass) {
+		return handlerLists.containsKey(eventClass);
+	}
+
+	/**
+	 * Returns a snapshot with the given version and the same handlers as this snapshot.
+	 */
+	ListenerSnapshot withVersion(long version) {
+		return (version == this.version)? this : new ListenerSnapshot(version, this);
+	}
+
+	/**
+	 * Returns the handlers of the given event type as an unmodifiable list, or an empty list if there are none.
+	 */
+	List<Handler<? extends Event>> handlerList(Class<? extends Event> eventClass) {
+		return handlerLists.getOrDefault(eventClass, Collections.emptyList());
+	}
+
+	/**
+	 * Returns the handlers of the given event type as an array that must not be modified.
+	 */
+	Handler<? extends Event>[] handlerArray(Class<? extends Event> eventClass) {
+		Handler<? extends Event>[] handlers = EventTypeIndex.lookup(handlerTable, eventClass);
+		return (handlers == null)? NO_HANDLERS : handlers;
+	}
+
+	/**
+	 * <p>
+	 * Collects {@link Handler handlers} for a {@link ListenerSnapshot}. Handlers are grouped by event type in the 
+	 * order in which they are added, and {@link #build()} copies them into the compact, immutable tables of a new 
+	 * snapshot in a single pass, so that a large number of handlers can be registered without rebuilding a listener's 
+	 * snapshot after each one.
+	 * </p>
+	 * 
+	 * <p>
+	 * <i><b>NOTE:</b> Builders are not thread safe, but can be used again after {@code build()} is called.</i>
+	 * </p>
+	 * 
+	 * @author Kennedy Kori
+	 *
+	 * @since Oct 20, 2026, 11:38:20 AM
+	 */
+	public static final class Builder {
+
+		private final Map<Class<? extends Event>, List<Handler<? extends Event>>> handlers = new LinkedHashMap<>();
+
+		private Builder() {}
+
+		/**
+		 * Adds a {@link Handler} for the given event type.
+		 * 
+		 * @param <T> the type of {@link Event} that the handler is interested in.
+		 * 
+		 * @param eventClass the class of the event that the handler is interested in.
+		 * @param handler the handler to add.
+		 * 
+		 * @return this builder.
+		 * 
+		 * @throws NullPointerException if any of the arguments given is/are {@code null}.
+		 */
+		public <T extends Event> Builder add(Class<T> eventClass, Handler<T> handler) {
+			requireNonNull(eventClass, "eventClass cannot be null.");
+			requireNonNull(handler, "handler cannot be null.");
+			handlers.computeIfAbsent(eventClass, key -> new ArrayList<>()).add(handler);
+			return this;
+		}
+
+		/**
+		 * Adds all the given {@link Handler handlers} for the given event type.
+		 * 
+		 * @param <T> the type of {@link Event} that the handlers are interested in.
+		 * 
+		 * @param eventClass the class of the event that the handlers are interested in.
+		 * @param handlers the handlers to add.
+		 * 
+		 * @return this builder.
+		 * 
+		 * @throws NullPointerException if any of the arguments given is/are {@code null} or if {@code handlers} 
+		 * contains a {@code null} element.
+		 */
+		public <T extends Event> Builder addAll(Class<T> eventClass, Collection<? extends Handler<T>> handlers) {
+			requireNonNull(eventClass, "eventClass cannot be null.");
+			requireNonNull(handlers, "handlers cannot be null.");
+			List<Handler<? extends Event>> eventHandlers = this.handlers.computeIfAbsent(eventClass, key -> new ArrayList<>());
+			for (Handler<T> handler : handlers)
+				eventHandlers.add(requireNonNull(handler, "handlers cannot contain null."));
+			return this;
+		}
+
+		/**
+		 * Creates a {@link ListenerSnapshot} of the handlers added so far. The version of the returned snapshot is 
+		 * {@code 0}.
+		 * 
+		 * @return a new snapshot.
+		 */
+		public ListenerSnapshot build() {
+			return new ListenerSnapshot(0, handlers);
+		}
+	}
+}
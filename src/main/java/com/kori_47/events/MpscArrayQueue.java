@@ -0,0 +1,127 @@
+/**
+ * 
+ */
+package com.kori_47.events;
+
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.function.Consumer;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * <p>
+ * This is a bounded, array backed, multi-producer single-consumer queue. Producers claim a slot with a single atomic 
+ * increment of the producer index and then publish their element into it, so as long as the queue isn't full, 
+ * {@link #offer(Object)} completes in a bounded number of steps no matter how many producers are contending. A 
+ * producer that claims a slot that the consumer hasn't freed yet waits for it, which means that a full queue applies 
+ * back-pressure to it's producers instead of dropping elements. Once the queue is {@link #close(Consumer) closed}, 
+ * waiting producers give up and elements are no longer accepted.
+ * </p>
+ * <p>
+ * Only a single thread may call {@link #poll()} at any given time.
+ * </p>
+ * 
+ * @param <E> the type of elements held in this queue.
+ * 
+ * @author Kennedy Kori
+ *
+ * @since Oct 19, 2026, 8:34:02 PM
+ */
+final class MpscArrayQueue<E> {
+	
+	@SuppressWarnings("rawtypes")
+	private static final AtomicLongFieldUpdater<MpscArrayQueue> PRODUCER_INDEX = 
+			AtomicLongFieldUpdater.newUpdater(MpscArrayQueue.class, "producerIndex");
+	@SuppressWarnings("rawtypes")
+	private static final AtomicLongFieldUpdater<MpscArrayQueue> CONSUMER_INDEX = 
+			AtomicLongFieldUpdater.newUpdater(MpscArrayQueue.class, "consumerIndex");
+	
+	private final AtomicReferenceArray<E> buffer;
+	private final int mask;
+	private volatile long producerIndex;
+	private volatile long consumerIndex;
+	private volatile boolean closed;
+	
+	/**
+	 * Creates a new queue that can hold at least the given number of elements. The capacity is rounded up to the next 
+	 * power of two.
+	 */
+	MpscArrayQueue(int capacity) {
+		if (capacity < 1 || capacity > (1 << 30))
+			throw new IllegalArgumentException("capacity must be between 1 and 2^30.");
+		int size = (capacity == 1)? 1 : Integer.highestOneBit(capacity - 1) << 1;
+		this.buffer = new AtomicReferenceArray<>(size);
+		this.mask = size - 1;
+	}
+	
+	/**
+	 * Adds the given element to the tail of this queue, waiting for space to be freed if the queue is full. Returns 
+	 * {@code false} if the element wasn't added because the queue was closed, in which case it belongs to the caller 
+	 * again.
+	 */
+	boolean offer(E element) {
+		if (closed) return false;
+		long index = PRODUCER_INDEX.getAndIncrement(this);
+		long wrapPoint = index - buffer.length();
+		// The slot is still held by the element claimed one lap earlier until the consumer passes it
+		while (consumerIndex <= wrapPoint) {
+			// The consumer has stopped and will never free the slot
+			if (closed) return false;
+			Thread.yield();
+		}
+		int offset = (int) index & mask;
+		// A volatile write, so that either close sees the element or the closed flag is seen here
+		buffer.set(offset, element);
+		// Take the element back if close may have missed it, unless close has already taken it
+		return !closed || !buffer.compareAndSet(offset, element, null);
+	}
+	
+	/**
+	 * Removes and returns the head of this queue or returns {@code null} if no element is available. An element whose 
+	 * slot has been claimed but not yet published is not available.
+	 */
+	E poll() {
+		long index = consumerIndex;
+		int offset = (int) index & mask;
+		E element = buffer.get(offset);
+		if (element == null) return null;
+		buffer.lazySet(offset, null);
+		CONSUMER_INDEX.lazySet(this, index + 1);
+		return element;
+	}
+	
+	/**
+	 * Closes this queue and passes every element that was added but not consumed to the given consumer. Producers 
+	 * waiting for space give up, and elements offered after this method is called are rejected. Must only be called 
+	 * by the consumer thread, which must not poll this queue afterwards.
+	 */
+	void close(Consumer<? super E> discarded) {
+		closed = true;
+		for (int offset = 0; offset < buffer.length(); offset++) {
+			E element = buffer.getAndSet(offset, null);
+			if (element != null) discarded.accept(element);
+		}
+	}
+	
+	/**
+	 * Returns {@code true} if no slots have been claimed but not yet consumed.
+	 */
+	boolean isEmpty() {
+		return producerIndex == consumerIndex;
+	}
+	
+	/**
+	 * Returns the number of slots that have been claimed but not yet consumed, which is {@code 0} once this queue is 
+	 * closed.
+	 */
+	int size() {
+		if (closed) return 0;
+		return (int) Math.max(producerIndex - consumerIndex, 0);
+	}
+	
+	/**
+	 * Returns the number of elements this queue can hold.
+	 */
+	int capacity() {
+		return buffer.length();
+	}
+}
@@ -0,0 +1,261 @@
+/**
+ * 
+ */
+package com.kori_47.events;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * <p>
+ * This is an {@code ExecutorService} made of several partitions, each with it's own threads and queue, that keeps the
+ * {@link Event events} of a given stream on the same partition. It is meant to be used as the service of a
+ * {@link ThreadedListener}, or as the executor of a {@link Delivery#on(java.util.concurrent.Executor) delivery}:
+ * the handlers of an event are executed by the threads of the partition chosen by the hash of the event's routing
+ * key, e.g. it's {@link #byEventClass() class} or it's {@link #bySource() source}, so the state touched by the
+ * handlers of a stream stays in the caches of that partition's CPUs. Tasks that don't deliver an event, such as the
+ * consumers of a listener with a {@link BatchPolicy}, are spread over the partitions in turn and aren't partitioned.
+ * </p>
+ * <p>
+ * The threads of a partition can be pinned to a set of CPUs. {@link #perCacheDomain(Function)} creates a partition
+ * for every NUMA node, or socket, of the machine and pins each partition's threads to the CPUs of it's node. Pinning
+ * only works on Linux, where it is done by running {@code taskset} for each thread as it starts, and is skipped
+ * wherever it isn't available, in which case the events are still partitioned but the threads are scheduled on any
+ * CPU. {@link #isPinned()} tells whether every thread was pinned.
+ * </p>
+ * 
+ * <p>
+ * <i><b>NOTE:</b> Instances of this class are thread safe.</i>
+ * </p>
+ * 
+ * @author Kennedy Kori
+ *
+ * @since Oct 20, 2026, 4:45:06 PM
+ */
+public final class PartitionedExecutor extends AbstractExecutorService {
+
+	private static final AtomicInteger executorCount = new AtomicInteger(1);
+
+	private final ThreadPoolExecutor[] partitions;
+	private final Function<? super Event, ?> routingKey;
+	private final AtomicInteger nextPartition = new AtomicInteger();
+	private final AtomicInteger unpinnedThreads = new AtomicInteger();
+	private final CountDownLatch pinAttempts;
+	private final boolean pinning;
+
+	/**
+	 * Creates a new {@code PartitionedExecutor} with the given number of partitions and threads per partition. The
+	 * threads aren't pinned.
+	 * 
+	 * @param partitions the number of partitions.
+	 * @param threadsPerPartition the number of threads of each partition.
+	 * @param routingKey the function used to extract the routing key of an event, e.g. {@link #bySource()}.
+	 * 
+	 * @throws IllegalArgumentException if {@code partitions} or {@code threadsPerPartition} is not greater than
+	 * {@code 0}.
+	 * @throws NullPointerException if {@code routingKey} is {@code null}.
+	 */
+	public PartitionedExecutor(int partitions, int threadsPerPartition, Function<? super Event, ?> routingKey) {
+		this(threadCounts(partitions, threadsPerPartition), routingKey, null);
+	}
+
+	/**
+	 * Creates an executor with a partition for every thread count, pinned to the CPU list of the same index if there
+	 * are CPU lists.
+	 */
+	private PartitionedExecutor(int[] threadCounts, Function<? super Event, ?> routingKey, List<String> cpuLists) {
+		this.routingKey = requireNonNull(routingKey, "routingKey cannot be null.");
+		this.pinning = cpuLists != null;
+		this.partitions = new ThreadPoolExecutor[threadCounts.length];
+		this.pinAttempts = new CountDownLatch(pinning? IntStream.of(threadCounts).sum() : 0);
+		int executor = executorCount.getAndIncrement();
+		for (int index = 0; index < threadCounts.length; index++) {
+			String cpuList = pinning? cpuLists.get(index) : null;
+			String prefix = "PartitionedExecutor " + executor + " Partition " + index + " Thread:";
+			AtomicInteger threadCount = new AtomicInteger(1);
+			this.partitions[index] = new ThreadPoolExecutor(threadCounts[index], threadCounts[index], 0, TimeUnit.MILLISECONDS,
+					new LinkedBlockingQueue<>(), runnable -> {
+						Thread thread = new Thread(() -> {
+							if (cpuList != null) pin(cpuList);
+							runnable.run();
+						}, prefix + threadCount.getAndIncrement());
+						thread.setDaemon(true);
+
+						return thread;
+					});
+		}
+		// Start, and pin, every thread up front so that the first events don't wait for it
+		for (ThreadPoolExecutor partition : this.partitions)
+			partition.prestartAllCoreThreads();
+	}
+
+	/**
+	 * Returns a {@code PartitionedExecutor} with a partition for every NUMA node, or socket if the machine has no
+	 * NUMA nodes, with a thread for every CPU of the node, pinned to the CPUs of the node. If the topology of the
+	 * machine can't be read, the returned executor has a single partition with a thread for every available
+	 * processor and isn't pinned.
+	 * 
+	 * @param routingKey the function used to extract the routing key of an event, e.g. {@link #byEventClass()}.
+	 * 
+	 * @return an executor partitioned by cache domain.
+	 * 
+	 * @throws NullPointerException if {@code routingKey} is {@code null}.
+	 */
+	public static PartitionedExecutor perCacheDomain(Function<? super Event, ?> routingKey) {
+		requireNonNull(routingKey, "routingKey cannot be null.");
+		List<String> cpuLists = CpuAffinity.cacheDomains();
+		if (cpuLists.isEmpty())
+			return new PartitionedExecutor(1, Runtime.getRuntime().availableProcessors(), routingKey);
+		int[] threadCounts = cpuLists.stream().mapToInt(PartitionedExecutor::cpuCount).toArray();
+		return new PartitionedExecutor(threadCounts, routingKey, cpuLists);
+	}
+
+	/**
+	 * Returns a routing key function that keeps all the events of a class on the same partition.
+	 * 
+	 * @return a function that returns the class of an event.
+	 */
+	public static Function<Event, Object> byEventClass() {
+		return Event::getClass;
+	}
+
+	/**
+	 * Returns a routing key function that keeps all the events of a source on the same partition.
+	 * 
+	 * @return a function that returns the source of an event.
+	 */
+	public static Function<Event, Object> bySource() {
+		return Event::source;
+	}
+
+	/**
+	 * Executes the given task on the partition of it's event if it delivers an event fired on a
+	 * {@link ThreadedListener}, or on the next partition in turn otherwise.
+	 * 
+	 * @param command the task to execute.
+	 * 
+	 * @throws java.util.concurrent.RejectedExecutionException if this executor has been shutdown.
+	 * @throws NullPointerException if {@code command} is {@code null}.
+	 */
+	@Override
+	public void execute(Runnable command) {
+		requireNonNull(command, "command cannot be null.");
+		ThreadPoolExecutor partition = (command instanceof ThreadedListener.EventTask)?
+				partitions[partitionOf(((ThreadedListener.EventTask) command).getEvent())]
+				: partitions[Math.floorMod(nextPartition.getAndIncrement(), partitions.length)];
+		partition.execute(command);
+	}
+
+	/**
+	 * Returns the index of the partition that executes the handlers of the given event.
+	 * 
+	 * @param event the event to route.
+	 * 
+	 * @return the partition of the event, between {@code 0} and the number of partitions.
+	 * 
+	 * @throws NullPointerException if {@code event} is {@code null}.
+	 */
+	public int partitionOf(Event event) {
+		requireNonNull(event, "event cannot be null.");
+		Object key = routingKey.apply(event);
+		int hash = (key == null)? 0 : key.hashCode();
+		return Math.floorMod(hash ^ (hash >>> 16), partitions.length);
+	}
+
+	/**
+	 * Returns the number of partitions of this executor.
+	 * 
+	 * @return the number of partitions.
+	 */
+	public int getPartitionCount() {
+		return partitions.length;
+	}
+
+	/**
+	 * Returns {@code true} if the threads of this executor are pinned to the CPUs of their partitions, which is only
+	 * the case for executors created with {@link #perCacheDomain(Function)} on a machine where every thread could be
+	 * pinned.
+	 * 
+	 * @return {@code true} if every thread is pinned, {@code false} otherwise.
+	 */
+	public boolean isPinned() {
+		if (!pinning) return false;
+		// Wait for the threads to have tried pinning themselves
+		try {
+			pinAttempts.await();
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+		return unpinnedThreads.get() == 0;
+	}
+
+	@Override
+	public void shutdown() {
+		for (ThreadPoolExecutor partition : partitions)
+			partition.shutdown();
+	}
+
+	@Override
+	public List<Runnable> shutdownNow() {
+		List<Runnable> pending = new ArrayList<>();
+		for (ThreadPoolExecutor partition : partitions)
+			pending.addAll(partition.shutdownNow());
+		return pending;
+	}
+
+	@Override
+	public boolean isShutdown() {
+		return Arrays.stream(partitions).allMatch(ThreadPoolExecutor::isShutdown);
+	}
+
+	@Override
+	public boolean isTerminated() {
+		return Arrays.stream(partitions).allMatch(ThreadPoolExecutor::isTerminated);
+	}
+
+	@Override
+	public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+		long deadline = System.nanoTime() + unit.toNanos(timeout);
+		for (ThreadPoolExecutor partition : partitions) {
+			if (!partition.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the number of CPUs in the given {@code taskset} CPU list, e.g. {@code 0-3,8-11}.
+	 */
+	static int cpuCount(String cpuList) {
+		int count = 0;
+		for (String range : cpuList.split(",")) {
+			int dash = range.indexOf('-');
+			count += (dash < 0)? 1 : Integer.parseInt(range.substring(dash + 1).trim()) - Integer.parseInt(range.substring(0, dash).trim()) + 1;
+		}
+		return count;
+	}
+
+	private void pin(String cpuList) {
+		if (!CpuAffinity.pinCurrentThread(cpuList)) unpinnedThreads.incrementAndGet();
+		pinAttempts.countDown();
+	}
+
+	private static int[] threadCounts(int partitions, int threadsPerPartition) {
+		if (partitions <= 0) throw new IllegalArgumentException("partitions must be greater than 0.");
+		if (threadsPerPartition <= 0) throw new IllegalArgumentException("threadsPerPartition must be greater than 0.");
+		int[] threadCounts = new int[partitions];
+		Arrays.fill(threadCounts, threadsPerPartition);
+		return threadCounts;
+	}
+}
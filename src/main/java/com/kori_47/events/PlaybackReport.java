@@ -0,0 +1,101 @@
+/**
+ * 
+ */
+package com.kori_47.events;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * The outcome of replaying an {@link EventTrace} with a {@link TracePlayer}: how many events were fired, how long it
+ * took, how far behind schedule a paced replay fell and the {@link HandlerStatistics} of every handler that handled
+ * an event during the replay.
+ * </p>
+ * 
+ * <p>
+ * <i><b>NOTE:</b> Instances of this class are immutable and thread safe.</i>
+ * </p>
+ * 
+ * @author Kennedy Kori
+ *
+ * @since Oct 20, 2026, 1:51:25 PM
+ */
+public final class PlaybackReport {
+
+	private final int events;
+	private final long elapsedNanos;
+	private final long maxLagNanos;
+	private final List<HandlerStatistics> handlerStatistics;
+
+	PlaybackReport(int events, long elapsedNanos, long maxLagNanos, List<HandlerStatistics> handlerStatistics) {
+		this.events = events;
+		this.elapsedNanos = elapsedNanos;
+		this.maxLagNanos = maxLagNanos;
+		this.handlerStatistics = unmodifiableList(handlerStatistics);
+	}
+
+	/**
+	 * Returns the number of traced events that were fired.
+	 * 
+	 * @return the number of fired events.
+	 */
+	public int getEvents() {
+		return events;
+	}
+
+	/**
+	 * Returns the wall clock time that the replay took.
+	 * 
+	 * @param unit the unit of the returned time.
+	 * 
+	 * @return the duration of the replay.
+	 * 
+	 * @throws NullPointerException if {@code unit} is {@code null}.
+	 */
+	public long getElapsedTime(TimeUnit unit) {
+		return requireNonNull(unit, "unit cannot be null.").convert(elapsedNanos, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Returns the number of traced events that were fired per second of the replay.
+	 * 
+	 * @return the throughput of the replay in events per second.
+	 */
+	public double getThroughput() {
+		return (elapsedNanos == 0)? 0 : events * 1e9 / elapsedNanos;
+	}
+
+	/**
+	 * Returns how late, compared to it's paced time, the latest event of the replay was fired. This is always
+	 * {@code 0} for replays that run as fast as possible.
+	 * 
+	 * @param unit the unit of the returned time.
+	 * 
+	 * @return the maximum lag of the replay.
+	 * 
+	 * @throws NullPointerException if {@code unit} is {@code null}.
+	 */
+	public long getMaxLag(TimeUnit unit) {
+		return requireNonNull(unit, "unit cannot be null.").convert(maxLagNanos, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Returns an unmodifiable {@code List} of the statistics of every handler that handled an event during the
+	 * replay, including events scheduled by handlers.
+	 * 
+	 * @return the statistics of the handlers.
+	 */
+	public List<HandlerStatistics> getHandlerStatistics() {
+		return handlerStatistics;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("PlaybackReport[events=%d, elapsed=%dms, throughput=%.0f/s, maxLag=%dms]",
+				events, getElapsedTime(TimeUnit.MILLISECONDS), getThroughput(), getMaxLag(TimeUnit.MILLISECONDS));
+	}
+}
@@ -0,0 +1,88 @@
+/**
+ * 
+ */
+package com.kori_47.events;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * This resizes the {@code ThreadPoolExecutor} of a {@link ThreadedListener} according to a {@link ScalingPolicy}. 
+ * Checks are made by the threads firing events, at most once every check interval, and only the thread that claims a 
+ * check reads or updates the number of quiet checks.
+ * 
+ * @author Kennedy Kori
+ *
+ * @since Oct 19, 2026, 11:44:09 PM
+ */
+final class PoolScaler {
+	
+	private static final AtomicLongFieldUpdater<PoolScaler> LAST_CHECK = 
+			AtomicLongFieldUpdater.newUpdater(PoolScaler.class, "lastCheck");
+	
+	private final ThreadPoolExecutor executor;
+	private final ScalingPolicy policy;
+	private volatile long lastCheck;
+	// Updated without synchronization by the handler threads, lost updates only slow the average down.
+	private volatile long averageHandlerNanos;
+	private int quietChecks;
+	
+	PoolScaler(ThreadPoolExecutor executor, ScalingPolicy policy) {
+		this.executor = executor;
+		this.policy = policy;
+		this.lastCheck = System.nanoTime();
+		int size = executor.getCorePoolSize();
+		resize(executor, Math.max(policy.getMinThreads(), Math.min(policy.getMaxThreads(), size)));
+	}
+	
+	ScalingPolicy getPolicy() {
+		return policy;
+	}
+	
+	/**
+	 * Adds the time taken by a single handler to the moving average of handler times.
+	 */
+	void recordHandlerTime(long nanos) {
+		long average = averageHandlerNanos;
+		averageHandlerNanos = (average == 0)? nanos : average + (nanos - average) / 8;
+	}
+	
+	/**
+	 * Resizes the pool if the check interval has elapsed since the last check and the pool is either too busy or has 
+	 * been quiet for long enough.
+	 */
+	void check(long now) {
+		long last = lastCheck;
+		if (now - last < policy.getCheckIntervalNanos() || !LAST_CHECK.compareAndSet(this, last, now)) return;
+		int size = executor.getCorePoolSize();
+		int queued = executor.getQueue().size();
+		double expectedWait = (double) queued * averageHandlerNanos / size;
+		if (queued > 0 && expectedWait > policy.getLatencyTargetNanos()) {
+			quietChecks = 0;
+			if (size < policy.getMaxThreads()) resize(executor, (int) Math.min(policy.getMaxThreads(), size * 2L));
+		} else if (queued == 0 && executor.getActiveCount() < size / 2) {
+			if (++quietChecks < policy.getScaleDownChecks()) return;
+			quietChecks = 0;
+			if (size > policy.getMinThreads()) resize(executor, Math.max(policy.getMinThreads(), size - Math.max(1, size / 4)));
+		} else {
+			quietChecks = 0;
+		}
+	}
+	
+	/**
+	 * Sets both the core and the maximum size of the given executor, in the order that keeps the core size from ever 
+	 * exceeding the maximum size. Queued tasks are kept and new threads are started for them when the pool grows. 
+	 * Resizes are made while holding the lock of the executor so that concurrent resizes can't interleave.
+	 */
+	static void resize(ThreadPoolExecutor executor, int size) {
+		synchronized (executor) {
+			if (size > executor.getMaximumPoolSize()) {
+				executor.setMaximumPoolSize(size);
+				executor.setCorePoolSize(size);
+			} else {
+				executor.setCorePoolSize(size);
+				executor.setMaximumPoolSize(size);
+			}
+		}
+	}
+}
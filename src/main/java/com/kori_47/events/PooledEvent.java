@@ -0,0 +1,177 @@
+/**
+ * 
+ */
+package com.kori_47.events;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * <p>
+ * This is the base class of {@link Event events} that are recycled by an {@link EventPool} instead of being allocated 
+ * every time they occur. A pooled event is obtained using {@link EventPool#acquire(Object)} and is reference counted, 
+ * the event returned by the pool holds a single reference and is returned to the pool once every reference has been 
+ * {@link #release() released}.
+ * </p>
+ * 
+ * <p>
+ * {@link Listener#fireEvent(Event)} takes over the reference of the caller, the listeners of this library release it 
+ * once all the handlers of the event have been executed. That is, {@link SimpleListener} releases the event after it's 
+ * handlers have been executed while {@link ThreadedListener} and {@link SequentialListener} release it once the last 
+ * handler has completed on whichever thread it was executed. This means that:
+ * </p>
+ * <ul>
+ * 		<li>an event must not be used by the code that fired it after {@code fireEvent} has been called.</li>
+ * 		<li>a handler that needs to keep an event after it returns must {@link #retain()} it and release it once it's 
+ * 		done with it.</li>
+ * 		<li>an event that is fired more than once, e.g. on several listeners, must be retained once for every 
+ * 		additional call to {@code fireEvent}. An {@link EventScheduler} refuses to fire a pooled event periodically.</li>
+ * </ul>
+ * 
+ * <p>
+ * Subclasses hold the state of the event in mutable fields that are set after the event has been acquired, should 
+ * override {@link #reset()} to clear any references they hold and should call {@link #checkNotReleased()} from their 
+ * accessors. When the pool is in debug mode, that check detects events that are used after they have been released.
+ * </p>
+ * 
+ * <p>
+ * <i><b>NOTE:</b> Reference counting is thread safe. The state of a pooled event must only be set by the thread that 
+ * acquired it, before the event is fired.</i>
+ * </p>
+ * 
+ * @author Kennedy Kori
+ *
+ * @since Oct 19, 2026, 9:12:26 PM
+ */
+public abstract class PooledEvent implements Event {
+	
+	private static final AtomicIntegerFieldUpdater<PooledEvent> REF_COUNT = 
+			AtomicIntegerFieldUpdater.newUpdater(PooledEvent.class, "refCount");
+	
+	private EventPool<?> pool;
+	private Object source;
+	private boolean debug;
+	private volatile int refCount = 1;
+	
+	/**
+	 * Creates a new pooled event. Pooled events should only be created by the factory of an {@link EventPool}.
+	 */
+	protected PooledEvent() {
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @throws IllegalStateException if this event has been released and it's pool is in debug mode.
+	 */
+	@Override
+	public Object source() {
+		checkNotReleased();
+		return source;
+	}
+	
+	/**
+	 * Adds a reference to this event, preventing it from being recycled until that reference is {@link #release() released}.
+	 * 
+	 * @return this event.
+	 * 
+	 * @throws IllegalStateException if this event has already been released.
+	 */
+	public final PooledEvent retain() {
+		retain(1);
+		return this;
+	}
+	
+	/**
+	 * Releases a reference to this event and returns the event to it's pool if this was the last reference.
+	 * 
+	 * @return {@code true} if this was the last reference and the event has been recycled, {@code false} otherwise.
+	 * 
+	 * @throws IllegalStateException if this event has already been released.
+	 */
+	public final boolean release() {
+		int remaining = REF_COUNT.decrementAndGet(this);
+		if (remaining > 0) return false;
+		if (remaining < 0) {
+			REF_COUNT.incrementAndGet(this);
+			throw new IllegalStateException("This event has already been released.");
+		}
+		source = null;
+		reset();
+		if (pool != null) pool.recycle(this);
+		return true;
+	}
+	
+	/**
+	 * Returns the number of references that are currently held to this event.
+	 * 
+	 * @return the reference count of this event.
+	 */
+	public final int refCount() {
+		return refCount;
+	}
+	
+	/**
+	 * Returns {@code true} if every reference to this event has been released.
+	 * 
+	 * @return {@code true} if this event has been released, {@code false} otherwise.
+	 */
+	public final boolean isReleased() {
+		return refCount <= 0;
+	}
+	
+	/**
+	 * Clears the state of this event once it has been released. Subclasses should override this method to drop the 
+	 * references they hold so that they aren't kept alive by the pool. The default implementation does nothing.
+	 */
+	protected void reset() {
+	}
+	
+	/**
+	 * Throws an {@link IllegalStateException} if this event has been released and it's pool is in debug mode. 
+	 * Subclasses should call this method from every accessor.
+	 * 
+	 * @throws IllegalStateException if this event has been released and it's pool is in debug mode.
+	 */
+	protected final void checkNotReleased() {
+		if (debug && refCount <= 0)
+			throw new IllegalStateException("This event has already been released.");
+	}
+	
+	/**
+	 * Prepares this event to be handed out by the given pool.
+	 */
+	final void acquired(EventPool<?> pool, Object source) {
+		this.pool = pool;
+		this.source = source;
+		this.debug = pool.isDebug();
+		REF_COUNT.lazySet(this, 1);
+	}
+	
+	/**
+	 * Adds the given number of references to this event.
+	 */
+	final void retain(int count) {
+		int previous = REF_COUNT.getAndAdd(this, count);
+		if (previous <= 0) {
+			REF_COUNT.getAndAdd(this, -count);
+			throw new IllegalStateException("This event has already been released.");
+		}
+	}
+	
+	/**
+	 * Replaces the caller's reference to the given event, if it is pooled, with one reference for each of the given 
+	 * number of holders. If there are no holders, the caller's reference is simply released.
+	 */
+	static void shareIfPooled(Event event, int holders) {
+		if (!(event instanceof PooledEvent)) return;
+		if (holders > 1) ((PooledEvent) event).retain(holders - 1);
+		else if (holders == 0) ((PooledEvent) event).release();
+	}
+	
+	/**
+	 * Releases a reference to the given event if it is pooled.
+	 */
+	static void releaseIfPooled(Event event) {
+		if (event instanceof PooledEvent) ((PooledEvent) event).release();
+	}
+}
@@ -0,0 +1,159 @@
+/**
+ * 
+ */
+package com.kori_47.events;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * This describes how a {@link ThreadedListener} should resize it's pool of threads as the load on it changes. When a 
+ * scaling policy is {@link ThreadedListener#setScalingPolicy(ScalingPolicy) set} on a listener, the listener 
+ * periodically estimates how long a newly fired event would wait before it's handlers are executed, using the number 
+ * of queued tasks and the average time taken by a handler, and:
+ * </p>
+ * <ul>
+ * 		<li>doubles the size of the pool, up to {@link #getMaxThreads()}, when the estimated wait exceeds the 
+ * 		{@link #getLatencyTarget(TimeUnit) latency target}.</li>
+ * 		<li>shrinks the pool by a quarter, down to {@link #getMinThreads()}, once nothing has been queued and fewer than 
+ * 		half the threads have been busy for {@link #getScaleDownChecks()} consecutive checks.</li>
+ * </ul>
+ * <p>
+ * Growing quickly and shrinking slowly, only after several quiet checks in a row, keeps the pool from oscillating when 
+ * the load hovers around a threshold. Checks are made at most once every {@link #getCheckInterval(TimeUnit) check 
+ * interval} by the threads firing events, so a listener that stops receiving events keeps it's current size. Listeners 
+ * that deliver events in batches, according to a {@link BatchPolicy}, don't support scaling policies.
+ * </p>
+ * 
+ * <p>
+ * <i><b>NOTE:</b> Instances of this class are immutable.</i>
+ * </p>
+ * 
+ * @author Kennedy Kori
+ *
+ * @since Oct 19, 2026, 11:31:45 PM
+ */
+public final class ScalingPolicy {
+	
+	private static final int DEFAULT_SCALE_DOWN_CHECKS = 3;
+	
+	private final int minThreads;
+	private final int maxThreads;
+	private final long latencyTargetNanos;
+	private final long checkIntervalNanos;
+	private final int scaleDownChecks;
+	
+	/**
+	 * Creates a new {@code ScalingPolicy} with the given bounds and latency target that checks the pool once every 
+	 * latency target and shrinks it after 3 quiet checks.
+	 * 
+	 * @param minThreads the minimum size of the pool.
+	 * @param maxThreads the maximum size of the pool.
+	 * @param latencyTarget the longest that an event should wait before it's handlers are executed.
+	 * @param unit the {@code TimeUnit} of {@code latencyTarget}.
+	 * 
+	 * @throws IllegalArgumentException if {@code minThreads} or {@code latencyTarget} is less than 1 or 
+	 * 		{@code maxThreads} is less than {@code minThreads}.
+	 * @throws NullPointerException if {@code unit} is {@code null}.
+	 */
+	public ScalingPolicy(int minThreads, int maxThreads, long latencyTarget, TimeUnit unit) {
+		this(minThreads, maxThreads, latencyTarget, latencyTarget, DEFAULT_SCALE_DOWN_CHECKS, unit);
+	}
+	
+	/**
+	 * Creates a new {@code ScalingPolicy} with the given bounds, latency target, check interval and number of quiet 
+	 * checks needed before the pool is shrunk.
+	 * 
+	 * @param minThreads the minimum size of the pool.
+	 * @param maxThreads the maximum size of the pool.
+	 * @param latencyTarget the longest that an event should wait before it's handlers are executed.
+	 * @param checkInterval the minimum length of time between two checks of the pool.
+	 * @param scaleDownChecks the number of consecutive quiet checks needed before the pool is shrunk.
+	 * @param unit the {@code TimeUnit} of {@code latencyTarget} and {@code checkInterval}.
+	 * 
+	 * @throws IllegalArgumentException if {@code minThreads}, {@code latencyTarget}, {@code checkInterval} or 
+	 * 		{@code scaleDownChecks} is less than 1 or {@code maxThreads} is less than {@code minThreads}.
+	 * @throws NullPointerException if {@code unit} is {@code null}.
+	 */
+	public ScalingPolicy(int minThreads, int maxThreads, long latencyTarget, long checkInterval, int scaleDownChecks, TimeUnit unit) {
+		requireNonNull(unit, "unit cannot be null.");
+		if (minThreads < 1)
+			throw new IllegalArgumentException("minThreads must be greater than 0.");
+		if (maxThreads < minThreads)
+			throw new IllegalArgumentException("maxThreads cannot be less than minThreads.");
+		if (latencyTarget < 1)
+			throw new IllegalArgumentException("latencyTarget must be greater than 0.");
+		if (checkInterval < 1)
+			throw new IllegalArgumentException("checkInterval must be greater than 0.");
+		if (scaleDownChecks < 1)
+			throw new IllegalArgumentException("scaleDownChecks must be greater than 0.");
+		this.minThreads = minThreads;
+		this.maxThreads = maxThreads;
+		this.latencyTargetNanos = unit.toNanos(latencyTarget);
+		this.checkIntervalNanos = unit.toNanos(checkInterval);
+		this.scaleDownChecks = scaleDownChecks;
+	}
+	
+	/**
+	 * Returns the minimum size of the pool.
+	 * 
+	 * @return the minimum number of threads.
+	 */
+	public int getMinThreads() {
+		return minThreads;
+	}
+	
+	/**
+	 * Returns the maximum size of the pool.
+	 * 
+	 * @return the maximum number of threads.
+	 */
+	public int getMaxThreads() {
+		return maxThreads;
+	}
+	
+	/**
+	 * Returns the longest that an event should wait before it's handlers are executed in the given unit.
+	 * 
+	 * @param unit the unit of the returned latency target.
+	 * 
+	 * @return the latency target.
+	 * 
+	 * @throws NullPointerException if {@code unit} is {@code null}.
+	 */
+	public long getLatencyTarget(TimeUnit unit) {
+		return requireNonNull(unit, "unit cannot be null.").convert(latencyTargetNanos, TimeUnit.NANOSECONDS);
+	}
+	
+	/**
+	 * Returns the minimum length of time between two checks of the pool in the given unit.
+	 * 
+	 * @param unit the unit of the returned interval.
+	 * 
+	 * @return the check interval.
+	 * 
+	 * @throws NullPointerException if {@code unit} is {@code null}.
+	 */
+	public long getCheckInterval(TimeUnit unit) {
+		return requireNonNull(unit, "unit cannot be null.").convert(checkIntervalNanos, TimeUnit.NANOSECONDS);
+	}
+	
+	/**
+	 * Returns the number of consecutive quiet checks needed before the pool is shrunk.
+	 * 
+	 * @return the number of quiet checks before shrinking.
+	 */
+	public int getScaleDownChecks() {
+		return scaleDownChecks;
+	}
+	
+	long getLatencyTargetNanos() {
+		return latencyTargetNanos;
+	}
+	
+	long getCheckIntervalNanos() {
+		return checkIntervalNanos;
+	}
+}
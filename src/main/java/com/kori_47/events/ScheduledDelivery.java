@@ -0,0 +1,74 @@
+/**
+ * 
+ */
+package com.kori_47.events;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This represents an {@link Event} that has been scheduled to be fired on a {@link Listener} by an 
+ * {@link EventScheduler}. A delivery can be {@link #cancel() cancelled} at any time before it is due, 
+ * periodic deliveries are repeated until they are cancelled.
+ * 
+ * @author Kennedy Kori
+ *
+ * @since Oct 19, 2026, 4:40:12 PM
+ */
+public interface ScheduledDelivery {
+	
+	/**
+	 * Returns the event that will be fired.
+	 * 
+	 * @return the scheduled event.
+	 */
+	Event getEvent();
+	
+	/**
+	 * Returns the listener on which the event will be fired.
+	 * 
+	 * @return the target listener.
+	 */
+	Listener getListener();
+	
+	/**
+	 * Returns {@code true} if this delivery repeats until it is cancelled.
+	 * 
+	 * @return {@code true} if this delivery is periodic, {@code false} otherwise.
+	 */
+	boolean isPeriodic();
+	
+	/**
+	 * Returns the remaining time, in the given {@code TimeUnit}, before the event is next fired. The returned 
+	 * value is zero or negative if the event is due.
+	 * 
+	 * @param unit the {@code TimeUnit} to return the delay in.
+	 * 
+	 * @return the remaining delay.
+	 * 
+	 * @throws NullPointerException if {@code unit} is {@code null}.
+	 */
+	long getDelay(TimeUnit unit);
+	
+	/**
+	 * Cancels this delivery. Has no effect if the delivery has already been cancelled or if it is not periodic 
+	 * and it's event has already been fired.
+	 * 
+	 * @return {@code true} if this call cancelled the delivery, {@code false} otherwise.
+	 */
+	boolean cancel();
+	
+	/**
+	 * Returns {@code true} if this delivery was cancelled before it completed.
+	 * 
+	 * @return {@code true} if this delivery was cancelled, {@code false} otherwise.
+	 */
+	boolean isCancelled();
+	
+	/**
+	 * Returns {@code true} if this delivery will not fire any more events, either because it was cancelled or 
+	 * because it is not periodic and it's event has been fired.
+	 * 
+	 * @return {@code true} if this delivery is done, {@code false} otherwise.
+	 */
+	boolean isDone();
+}
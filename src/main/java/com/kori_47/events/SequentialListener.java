@@ -0,0 +1,359 @@
+/**
+ * 
+ */
+package com.kori_47.events;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <p>
+ * This is an implementation of a {@link Listener} that executes all of it's handlers on a single dedicated thread, in 
+ * the order that events were fired. When {@link #fireEvent(Event)} is called, the event is added to a bounded, 
+ * lock-free queue and the calling thread returns immediately. Firing an event doesn't take any locks or allocate any 
+ * memory, so this listener should be preferred over a single threaded {@link ThreadedListener} when ordered events are 
+ * fired at very high rates. If the queue is full, the thread firing an event waits for the consumer thread to make 
+ * room for it.
+ * </p>
+ * 
+ * <p>
+ * The consumer thread spins, then yields and finally parks itself when there are no events to handle, and is only 
+ * unparked by a thread firing an event while it is parked. The handlers of an event are looked up when the event is 
+ * taken from the queue, so a handler added after an event was fired might still receive that event.
+ * </p>
+ * 
+ * <p>
+ * Like {@link ThreadedListener}, the {@link #dispose()} method is used to stop the consumer thread and once a listener 
+ * has been disposed, it is {@link #clear() cleared}, any events that were still queued are discarded and an 
+ * {@link IllegalStateException} will be thrown if any of the following methods are called:
+ * </p>
+ * <ul>
+ * 		<li>{@link #addHandler(Class, Handler)}</li>
+ * 		<li>{@link #removeHandler(Class, Handler)}</li>
+ * 		<li>{@link #fireEvent(Event)}</li>
+ * 		<li>{@link #getHandlers(Class)}</li>
+ * 		<li>{@link #getSupportedEventTypes()}</li>
+ * 		<li>{@link #hasHandlers(Class)}</li>
+ * 		<li>{@link #handlerCount(Class)}</li>
+ * 		<li>{@link #getSnapshot()}</li>
+ * </ul> 
+ * 
+ * <p>
+ * <i><b>NOTE:</b> Instances of this class are thread safe and can be called from multiple threads.</i>
+ * </p>
+ * 
+ * @author Kennedy Kori
+ *
+ * @since Oct 19, 2026, 8:41:17 PM
+ */
+public class SequentialListener extends AbstractListener {
+	
+	private static final int DEFAULT_CAPACITY = 8192;
+	private static final int SPIN_TRIES = 128;
+	private static final int YIELD_TRIES = 64;
+	
+	/**
+	 * holds the queued events, or their stamps if they were stamped
+	 */
+	private final MpscArrayQueue<Object> queue;
+	private final Thread consumer;
+	private volatile boolean consumerParked;
+	private volatile boolean disposed;
+	
+	/**
+	 * <p>
+	 * Creates a new {@code SequentialListener} that can queue up to 8192 events.
+	 * </p>
+	 * 
+	 * <p>
+	 * <i><b>Note:</b> The consumer thread of the listener returned by this constructor will be a daemon thread.</i>
+	 * </p>
+	 */
+	public SequentialListener() {
+		this(DEFAULT_CAPACITY);
+	}
+	
+	/**
+	 * <p>
+	 * Creates a new {@code SequentialListener} that can queue at least the given number of events. The capacity is 
+	 * rounded up to the next power of two.
+	 * </p>
+	 * 
+	 * <p>
+	 * <i><b>Note:</b> The consumer thread of the listener returned by this constructor will be a daemon thread.</i>
+	 * </p>
+	 * 
+	 * @param capacity the number of events that can be queued before firing an event has to wait.
+	 * 
+	 * @throws IllegalArgumentException if {@code capacity} is less than 1 or greater than 2^30.
+	 */
+	public SequentialListener(int capacity) {
+		this(capacity, createDefaultThreadFactory());
+	}
+	
+	/**
+	 * Creates a new {@code SequentialListener} that can queue at least the given number of events and whose consumer 
+	 * thread is created by the given {@link ThreadFactory}. The capacity is rounded up to the next power of two.
+	 * 
+	 * @param capacity the number of events that can be queued before firing an event has to wait.
+	 * @param factory the {@code ThreadFactory} used to create the consumer thread.
+	 * 
+	 * @throws IllegalArgumentException if {@code capacity} is less than 1 or greater than 2^30.
+	 * @throws NullPointerException if factory is {@code null}.
+	 */
+	public SequentialListener(int capacity, ThreadFactory factory) {
+		super(new LinkedHashMap<>());
+		requireNonNull(factory, "factory cannot be null.");
+		this.queue = new MpscArrayQueue<>(capacity);
+		this.consumer = factory.newThread(this::consume);
+		this.consumer.start();
+	}
+	
+	/**
+	* {@inheritDoc}
+	* 
+	* @throws IllegalStateException if this listener has already been disposed.
+	* @throws NullPointerException if any of the arguments given is/are {@code null}.
+	*/
+	@Override
+	public <T extends Event> void addHandler(Class<T> eventClass, Handler<T> handler) {
+		checkState();
+		super.addHandler(eventClass, handler);
+	}
+	
+	/**
+	* {@inheritDoc}
+	* 
+	* @throws IllegalStateException if this listener has already been disposed.
+	* @throws NullPointerException if {@code handlers} is {@code null}.
+	*/
+	@Override
+	public void addHandlers(ListenerSnapshot handlers) {
+		checkState();
+		super.addHandlers(handlers);
+	}
+	
+	/**
+	* {@inheritDoc}
+	* 
+	* @throws IllegalStateException if this listener has already been disposed.
+	* @throws NullPointerException if any of the arguments given is/are {@code null}.
+	*/
+	@Override
+	public <T extends Event> void removeHandler(Class<T> eventClass, Handler<T> handler) {
+		checkState();
+		super.removeHandler(eventClass, handler);
+	}
+	
+	/**
+	* {@inheritDoc}
+	* 
+	* @throws IllegalStateException if this listener has already been disposed.
+	* @throws NullPointerException if event is {@code null}.
+	*/
+	@Override
+	public <T extends Event> void fireEvent(T event) {
+		checkState();
+		requireNonNull(event, "event cannot be null.");
+		if (!accept(event)) return;
+		// Don't queue events that no handler is interested in
+		if (snapshot().handlerArray(event.getClass()).length == 0) {
+			PooledEvent.releaseIfPooled(event);
+			return;
+		}
+		EventStamp stamp = stamp(event);
+		FlightRecorder.enqueued(this, event);
+		// The queue is closed once the consumer has stopped, the event is dropped like one fired after disposal
+		if (!queue.offer((stamp == null)? event : stamp)) {
+			PooledEvent.releaseIfPooled(event);
+			return;
+		}
+		if (consumerParked) LockSupport.unpark(consumer);
+	}
+	
+	/**
+	* {@inheritDoc}
+	* 
+	* @throws IllegalStateException if this listener has already been disposed.
+	* @throws NullPointerException if {@code eventClass} is {@code null}.
+	*/
+	@Override
+	public <T extends Event> Optional<List<Handler<T>>> getHandlers(Class<T> eventClass) {
+		checkState();
+		return super.getHandlers(eventClass);
+	}
+	
+	/**
+	* {@inheritDoc}
+	* 
+	* @throws IllegalStateException if this listener has already been disposed.
+	*/
+	@Override
+	public Set<Class<? extends Event>> getSupportedEventTypes() {
+		checkState();
+		return super.getSupportedEventTypes();
+	}
+	
+	/**
+	* {@inheritDoc}
+	* 
+	* @throws IllegalStateException if this listener has already been disposed.
+	* @throws NullPointerException if {@code eventClass} is {@code null}.
+	*/
+	@Override
+	public boolean hasHandlers(Class<? extends Event> eventClass) {
+		checkState();
+		return super.hasHandlers(eventClass);
+	}
+	
+	/**
+	* {@inheritDoc}
+	* 
+	* @throws IllegalStateException if this listener has already been disposed.
+	* @throws NullPointerException if {@code eventClass} is {@code null}.
+	*/
+	@Override
+	public int handlerCount(Class<? extends Event> eventClass) {
+		checkState();
+		return super.handlerCount(eventClass);
+	}
+	
+	/**
+	* {@inheritDoc}
+	* 
+	* @throws IllegalStateException if this listener has already been disposed.
+	*/
+	@Override
+	public ListenerSnapshot getSnapshot() {
+		checkState();
+		return super.getSnapshot();
+	}
+	
+	/**
+	 * Returns the number of events that have been fired but not yet taken by the consumer thread.
+	 * 
+	 * @return the number of queued events.
+	 */
+	public int queuedEvents() {
+		return queue.size();
+	}
+	
+	/**
+	 * Disposes this listener, stops it's consumer thread and {@link #clear() clears} it. Events that are still queued 
+	 * when this method is called, or fired while it runs, are discarded. After this method returns, this listener will 
+	 * be unusable and calling most of the methods of this call will throw an {@link IllegalStateException}. Calling this 
+	 * method after a listener has already been disposed has no effect.
+	 */
+	public void dispose() {
+		// if the listener has already been disposed, there's no need to continue, return immediately
+		if (disposed) return;
+		synchronized (this) {
+			// Clear this listener, a frozen listener keeps it's handlers
+			if (!isFrozen()) clear();
+			// set disposed to true and wake the consumer so that it can exit
+			disposed = true;
+			LockSupport.unpark(consumer);
+		}
+	}
+	
+	/**
+	 * Returns {@code true} if this listener is disposed, i.e, if {@link #dispose()} has already 
+	 * been called on this listener.
+	 * 
+	 * @return {@code true} if this listener is disposed, {@code false} otherwise.
+	 */
+	public boolean isDisposed() {
+		return disposed;
+	}
+	
+	@Override
+	protected List<Handler<? extends Event>> createHandlerList() {
+		return new ArrayList<>();
+	}
+	
+	/**
+	 * The body of the consumer thread, takes events from the queue until this listener is disposed.
+	 */
+	private void consume() {
+		int idleCount = 0;
+		while (!disposed) {
+			Object event = queue.poll();
+			if (event != null) {
+				idleCount = 0;
+				try {
+					deliver(event);
+				} catch (Throwable ex) {
+					// Report the failure without letting it stop the consumer, producers would wait for it forever
+					reportUncaught(ex);
+				}
+			} else if (idleCount < SPIN_TRIES) {
+				idleCount++;
+			} else if (idleCount < SPIN_TRIES + YIELD_TRIES) {
+				idleCount++;
+				Thread.yield();
+			} else {
+				// Announce that we are about to park before checking the queue one last time so that a thread 
+				// firing an event either sees the flag or has already claimed a slot that we can see
+				consumerParked = true;
+				if (queue.isEmpty() && !disposed) LockSupport.park(this);
+				consumerParked = false;
+				idleCount = 0;
+			}
+		}
+		// Discard the events that were still queued, this also frees any thread waiting for room in the queue
+		queue.close(event -> PooledEvent.releaseIfPooled((event instanceof EventStamp)? ((EventStamp) event).getEvent() : (Event) event));
+	}
+	
+	/**
+	 * Executes all the handlers of the given event, or of the event of the given stamp, on the calling thread, one after 
+	 * the other, and then releases the event if it is pooled.
+	 */
+	@SuppressWarnings("unchecked")
+	private <T extends Event> void deliver(Object eventOrStamp) {
+		EventStamp stamp = (eventOrStamp instanceof EventStamp)? (EventStamp) eventOrStamp : null;
+		T event = (T) ((stamp == null)? eventOrStamp : stamp.getEvent());
+		FlightRecorder.dequeued(this, event, (stamp == null)? 0 : stamp.getPublishTime());
+		try {
+			for (Handler<? extends Event> handler : snapshot().handlerArray(event.getClass())) {
+				RuntimeException exception = invokeHandler((Handler<T>) handler, event, stamp);
+				if (exception != null) reportUncaught(exception);
+			}
+		} finally {
+			PooledEvent.releaseIfPooled(event);
+		}
+	}
+	
+	/**
+	 * Checks that if if this listener is disposed and throws an {@link IllegalStateException} if it 
+	 * has been disposed.
+	 * 
+	 * @throws IllegalStateException if this listener is disposed.
+	 */
+	private void checkState() {
+		if (isDisposed())
+			throw new IllegalStateException("This listener is already disposed.");
+	}
+	
+	/**
+	 * Creates a {@code ThreadFactory} that returns daemon threads 
+	 */
+	private static ThreadFactory createDefaultThreadFactory() {
+		AtomicLong threadCount = new AtomicLong(1);
+		ThreadFactory threadFactory = runnable -> {
+			Thread thread = new Thread(runnable, "SequentialListener Consumer Thread:" + threadCount.getAndIncrement());
+			thread.setDaemon(true);
+			
+			return thread;
+		};
+		
+		return threadFactory;
+	}
+}
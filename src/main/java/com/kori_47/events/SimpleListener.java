@@ -8,8 +8,22 @@ import java.util.LinkedHashMap;
 import java.util.List;
 
 /**
+ * <p>
  * This is a simple implementation of the {@link Listener} interface. This class should be sufficient for 
  * most use cases where a listener is needed.
+ * </p>
+ * 
+ * <p>
+ * Handlers are executed on the thread that fires an event, so a slow handler naturally slows down the threads 
+ * publishing to it instead of letting events pile up in a queue. Events can be fired from many threads at once, even 
+ * while handlers are being added or removed; registration changes are made under a lock and publish a new immutable 
+ * {@link ListenerSnapshot}, while {@link #fireEvent(Event)} only reads the current snapshot and never takes a lock 
+ * once the snapshot has been built.
+ * </p>
+ * 
+ * <p>
+ * <i><b>NOTE:</b> Instances of this class are thread safe and can be called from multiple threads.</i>
+ * </p>
  * 
  * @author Kennedy Kori
  *
@@ -0,0 +1,289 @@
+/**
+ * 
+ */
+package com.kori_47.events;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * This is a {@link Listener} for tests and simulations that runs on a virtual clock instead of the wall clock. Time
+ * only moves when it is {@link #advanceBy(long, TimeUnit) advanced} explicitly, and events can be scheduled to be fired
+ * at a given point in virtual time using {@link #fireEventAfter(Event, long, TimeUnit)} and
+ * {@link #fireEventAt(Event, long, TimeUnit)}. Advancing the clock fires the events that become due on the calling
+ * thread, in the order of their due times and, for events due at the same time, in the order in which they were
+ * scheduled, so a simulation always runs the same way no matter how fast or slow it's handlers are.
+ * </p>
+ * <p>
+ * Handlers are executed on the thread that fires an event, just like those of a {@link SimpleListener}, and the
+ * time each of them takes to handle each event is recorded in it's {@link HandlerStatistics}. Pending events are kept
+ * in a binary heap over plain arrays, so scheduling an event doesn't allocate memory once the heap has grown to fit
+ * the simulation. A {@link TracePlayer} can be used to replay a recorded {@link EventTrace} through a simulation
+ * listener.
+ * </p>
+ * 
+ * <p>
+ * <i><b>NOTE:</b> Handlers can be added and removed from any thread, but firing events, scheduling events and
+ * advancing the clock must be done by a single thread at a time.</i>
+ * </p>
+ * 
+ * @author Kennedy Kori
+ *
+ * @since Oct 20, 2026, 12:48:30 PM
+ */
+public class SimulationListener extends AbstractListener {
+
+	private static final int INITIAL_CAPACITY = 16;
+
+	/**
+	 * the current virtual time in nanoseconds
+	 */
+	private long time;
+	private long nextSequence;
+	/*
+	 * The pending events as a binary heap ordered by due time and then by sequence
+	 */
+	private long[] dueTimes = new long[INITIAL_CAPACITY];
+	private long[] sequences = new long[INITIAL_CAPACITY];
+	private Event[] events = new Event[INITIAL_CAPACITY];
+	private int pending;
+	private final Map<Handler<? extends Event>, LatencyHistogram> latencies = new LinkedHashMap<>();
+
+	/**
+	 * Creates a new {@code SimulationListener} whose clock starts at {@code 0}.
+	 */
+	public SimulationListener() {
+		super(new LinkedHashMap<>());
+	}
+
+	/**
+	* {@inheritDoc}
+	* <p>
+	* The handlers are executed immediately, at the current virtual time. If no {@link ErrorHandler} has been set, the
+	* first {@code RuntimeException} thrown by a handler is rethrown once all the other handlers have been executed,
+	* with the exceptions thrown by the rest of the failing handlers added to it as suppressed exceptions.
+	* </p>
+	*/
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T extends Event> void fireEvent(T event) {
+		requireNonNull(event, "event cannot be null.");
+		if (!accept(event)) return;
+		EventStamp stamp = stamp(event);
+		RuntimeException failure = null;
+		try {
+			for (Handler<? extends Event> handler : snapshot().handlerArray(event.getClass())) {
+				long start = System.nanoTime();
+				RuntimeException exception = invokeHandler((Handler<T>) handler, event, stamp);
+				latencies.computeIfAbsent(handler, key -> new LatencyHistogram()).record(System.nanoTime() - start);
+				if (exception == null) continue;
+				if (failure == null) failure = exception;
+				else failure.addSuppressed(exception);
+			}
+		} finally {
+			PooledEvent.releaseIfPooled(event);
+		}
+		if (failure != null) throw failure;
+	}
+
+	/**
+	 * Schedules the given event to be fired once the clock has been advanced by the given delay.
+	 * 
+	 * @param <T> the type of {@link Event} to fire.
+	 * 
+	 * @param event the event to fire.
+	 * @param delay the virtual time from now after which to fire the event, a delay that is not positive fires the
+	 * event the next time the clock is advanced.
+	 * @param unit the unit of {@code delay}.
+	 * 
+	 * @throws NullPointerException if {@code event} or {@code unit} is {@code null}.
+	 */
+	public <T extends Event> void fireEventAfter(T event, long delay, TimeUnit unit) {
+		requireNonNull(unit, "unit cannot be null.");
+		fireEventAt(event, time + Math.max(unit.toNanos(delay), 0), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Schedules the given event to be fired once the clock reaches the given virtual time.
+	 * 
+	 * @param <T> the type of {@link Event} to fire.
+	 * 
+	 * @param event the event to fire.
+	 * @param time the virtual time at which to fire the event, a time that has already passed fires the event the
+	 * next time the clock is advanced.
+	 * @param unit the unit of {@code time}.
+	 * 
+	 * @throws NullPointerException if {@code event} or {@code unit} is {@code null}.
+	 */
+	public <T extends Event> void fireEventAt(T event, long time, TimeUnit unit) {
+		requireNonNull(event, "event cannot be null.");
+		requireNonNull(unit, "unit cannot be null.");
+		if (pending == events.length) grow();
+		push(Math.max(unit.toNanos(time), this.time), nextSequence++, event);
+	}
+
+	/**
+	 * Advances the clock by the given amount of virtual time, firing every event that becomes due along the way. The
+	 * clock is set to the due time of each event before it is fired, so handlers can schedule further events relative
+	 * to it.
+	 * 
+	 * @param duration the amount of virtual time to advance the clock by.
+	 * @param unit the unit of {@code duration}.
+	 * 
+	 * @return the number of events fired.
+	 * 
+	 * @throws IllegalArgumentException if {@code duration} is negative.
+	 * @throws NullPointerException if {@code unit} is {@code null}.
+	 */
+	public int advanceBy(long duration, TimeUnit unit) {
+		requireNonNull(unit, "unit cannot be null.");
+		if (duration < 0) throw new IllegalArgumentException("duration cannot be negative.");
+		return advanceTo(time + unit.toNanos(duration), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Advances the clock to the given virtual time, firing every event that becomes due along the way. Advancing the
+	 * clock to a time that has already passed fires the events that are already due without moving the clock.
+	 * 
+	 * @param time the virtual time to advance the clock to.
+	 * @param unit the unit of {@code time}.
+	 * 
+	 * @return the number of events fired.
+	 * 
+	 * @throws NullPointerException if {@code unit} is {@code null}.
+	 */
+	public int advanceTo(long time, TimeUnit unit) {
+		long target = requireNonNull(unit, "unit cannot be null.").toNanos(time);
+		int fired = 0;
+		while (pending > 0 && dueTimes[0] <= target) {
+			this.time = Math.max(this.time, dueTimes[0]);
+			fireEvent(pop());
+			fired++;
+		}
+		this.time = Math.max(this.time, target);
+		return fired;
+	}
+
+	/**
+	 * Advances the clock until there are no more pending events, including any events scheduled by handlers while
+	 * the clock is advancing.
+	 * 
+	 * @return the number of events fired.
+	 */
+	public int runAll() {
+		int fired = 0;
+		while (pending > 0)
+			fired += advanceTo(dueTimes[0], TimeUnit.NANOSECONDS);
+		return fired;
+	}
+
+	/**
+	 * Returns the current virtual time, the clock starts at {@code 0}.
+	 * 
+	 * @param unit the unit of the returned time.
+	 * 
+	 * @return the current virtual time.
+	 * 
+	 * @throws NullPointerException if {@code unit} is {@code null}.
+	 */
+	public long getTime(TimeUnit unit) {
+		return requireNonNull(unit, "unit cannot be null.").convert(time, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Returns the number of scheduled events that haven't been fired yet.
+	 * 
+	 * @return the number of pending events.
+	 */
+	public int pendingEvents() {
+		return pending;
+	}
+
+	/**
+	 * Returns the statistics of every {@link Handler} that has handled at least one event since the statistics were
+	 * last reset, in the order in which the handlers first handled an event.
+	 * 
+	 * @return the statistics of the handlers of this listener.
+	 */
+	public List<HandlerStatistics> getStatistics() {
+		List<HandlerStatistics> statistics = new ArrayList<>(latencies.size());
+		latencies.forEach((handler, histogram) -> statistics.add(new HandlerStatistics(handler, histogram)));
+		return statistics;
+	}
+
+	/**
+	 * Discards the statistics of all handlers.
+	 */
+	public void resetStatistics() {
+		latencies.clear();
+	}
+
+	/**
+	* {@inheritDoc}
+	*/
+	@Override
+	protected List<Handler<? extends Event>> createHandlerList() {
+		return new ArrayList<>();
+	}
+
+	private void grow() {
+		int capacity = events.length * 2;
+		dueTimes = Arrays.copyOf(dueTimes, capacity);
+		sequences = Arrays.copyOf(sequences, capacity);
+		events = Arrays.copyOf(events, capacity);
+	}
+
+	private void push(long dueTime, long sequence, Event event) {
+		int index = pending++;
+		while (index > 0) {
+			int parent = (index - 1) >>> 1;
+			if (!before(dueTime, sequence, parent)) break;
+			move(parent, index);
+			index = parent;
+		}
+		set(index, dueTime, sequence, event);
+	}
+
+	private Event pop() {
+		Event event = events[0];
+		int last = --pending;
+		long dueTime = dueTimes[last];
+		long sequence = sequences[last];
+		Event lastEvent = events[last];
+		events[last] = null;
+		int index = 0;
+		for (int child = 1; child < pending; child = 2 * index + 1) {
+			if (child + 1 < pending && before(dueTimes[child + 1], sequences[child + 1], child)) child++;
+			if (!before(dueTimes[child], sequences[child], last)) break;
+			move(child, index);
+			index = child;
+		}
+		if (pending > 0) set(index, dueTime, sequence, lastEvent);
+		return event;
+	}
+
+	/**
+	 * Returns {@code true} if an event with the given due time and sequence must be fired before the event at the
+	 * given index of the heap.
+	 */
+	private boolean before(long dueTime, long sequence, int index) {
+		return (dueTime != dueTimes[index])? dueTime < dueTimes[index] : sequence < sequences[index];
+	}
+
+	private void move(int from, int to) {
+		set(to, dueTimes[from], sequences[from], events[from]);
+	}
+
+	private void set(int index, long dueTime, long sequence, Event event) {
+		dueTimes[index] = dueTime;
+		sequences[index] = sequence;
+		events[index] = event;
+	}
+}
@@ -10,13 +10,23 @@ import static java.util.Collections.synchronizedList;
 import static com.kori_47.utils.ObjectUtils.requireNonNegative;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -42,11 +52,42 @@ import java.util.concurrent.atomic.AtomicLong;
  * 		<li>{@link #fireEvent(Event)}</li>
  * 		<li>{@link #getHandlers(Class)}</li>
  * 		<li>{@link #getSupportedEventTypes()}</li>
+ * 		<li>{@link #hasHandlers(Class)}</li>
+ * 		<li>{@link #handlerCount(Class)}</li>
+ * 		<li>{@link #getSnapshot()}</li>
  * </ul> 
  * The {@link #isDisposed()} method can be used to check if a listener has been disposed. Both {@code isDisposed()} 
  * and {@link #clear()} method are safe to call even after after the listener has been disposed.
  * 
  * <p>
+ * A listener created with a {@link BatchPolicy} queues fired events instead, and a small number of consumer tasks 
+ * running on the {@code ExecutorService} drain the queue in batches, executing the handlers of each event one after 
+ * the other. This trades the concurrency between the handlers of a single event for a much lower cost per event 
+ * and should be preferred when events are fired at high rates.
+ * </p>
+ * 
+ * <p>
+ * When the {@code ExecutorService} is a bounded {@link ThreadPoolExecutor}, which is the case for listeners created 
+ * with a positive {@code maxThreads}, the size of the pool can be {@link #setPoolSize(int) changed} at any time 
+ * without losing queued events, or resized automatically as the load changes by setting a {@link ScalingPolicy}.
+ * </p>
+ * 
+ * <p>
+ * Handlers can also be registered with a {@link Delivery} using {@link #addHandler(Class, Handler, Delivery)}, which 
+ * allows handlers that must run on the thread that fires the event, or on a specific thread such as an event loop, to 
+ * share a listener with handlers that run on the listener's threads. The handlers of each event type are grouped by 
+ * delivery whenever the handlers change, so firing an event only has to dispatch each group.
+ * </p>
+ * 
+ * <p>
+ * Pooled handlers that must run after other handlers of the same event type, e.g. a handler that notifies clients 
+ * once another has saved the event, can be registered with {@link #addHandlerAfter(Class, Handler, Handler...)}. 
+ * The rest of the handlers still run in parallel, and each dependent handler is dispatched as soon as the last of 
+ * it's dependencies completes, so the time taken to handle an event is that of it's longest chain of dependent 
+ * handlers rather than that of all of them.
+ * </p>
+ * 
+ * <p>
  * <i><b>NOTE:</b> Instances of this class are thread safe and can be called from multiple threads.</i>
  * </p>
  * 
@@ -61,6 +102,17 @@ public class ThreadedListener extends AbstractListener {
 	
 	private final ExecutorService listenerService;
 	private final boolean shutdownServiceOnDispose;
+	private final EventBatcher batcher;
+	/**
+	 * the deliveries of handlers that aren't pooled, guarded by the lock of {@code registeredHandlers}
+	 */
+	private final Map<Class<? extends Event>, Map<Handler<? extends Event>, Delivery>> deliveries;
+	/**
+	 * the handlers that each pooled handler must run after, guarded by the lock of {@code registeredHandlers}
+	 */
+	private final Map<Class<? extends Event>, Map<Handler<? extends Event>, Set<Handler<? extends Event>>>> dependencies;
+	private volatile DeliveryPlan deliveryPlan;
+	private volatile PoolScaler scaler;
 	private volatile boolean disposed;
 	
 	/**
@@ -130,17 +182,156 @@ public class ThreadedListener extends AbstractListener {
 		super(synchronizedMap(new LinkedHashMap<>()));
 		this.listenerService = requireNonNull(service, "service cannot be null.");
 		this.shutdownServiceOnDispose = shutdownServiceOnDispose;
+		this.batcher = null;
+		this.deliveries = new HashMap<>();
+		this.dependencies = new HashMap<>();
+	}
+	
+	/**
+	 * Creates a new {@code ThreadedListener} with the given {@code ExecutorService} that delivers events in batches 
+	 * according to the given {@link BatchPolicy}. The {@code shutdownServiceOnDispose} determines whether the executor 
+	 * is immediately shutdown after {@link #dispose()} is called. If {@code shutdownServiceOnDispose} is {@code false}, 
+	 * the service will not be shutdown after dispose and it's up to the caller to shutdown the service.
+	 * 
+	 * @param service the executor to be used by the new listener.
+	 * @param shutdownServiceOnDispose if {@code true}, shutdown the executor service when this listener is disposed.
+	 * @param batchPolicy the policy that determines how events are batched.
+	 * 
+	 * @throws NullPointerException if {@code service} or {@code batchPolicy} is {@code null}.
+	 */
+	public ThreadedListener(ExecutorService service, boolean shutdownServiceOnDispose, BatchPolicy batchPolicy) {
+		super(synchronizedMap(new LinkedHashMap<>()));
+		this.listenerService = requireNonNull(service, "service cannot be null.");
+		this.shutdownServiceOnDispose = shutdownServiceOnDispose;
+		this.batcher = new EventBatcher(this, service, requireNonNull(batchPolicy, "batchPolicy cannot be null."));
+		this.deliveries = new HashMap<>();
+		this.dependencies = new HashMap<>();
 	}
 
 	/**
 	* {@inheritDoc}
+	* <p>
+	* The handler is executed on the listener's pool. A handler added more than once is executed once per registration, 
+	* all of them pooled and without dependencies.
+	* </p>
 	* @throws IllegalStateException if this listener has already been disposed.
 	* @throws NullPointerException if any of the arguments given is/are {@code null}.
 	*/
 	@Override
 	public <T extends Event> void addHandler(Class<T> eventClass, Handler<T> handler) {
 		checkState();
-		super.addHandler(eventClass, handler);
+		synchronized (registeredHandlers) {
+			super.addHandler(eventClass, handler);
+			setDelivery(eventClass, handler, Delivery.pooled());
+		}
+	}
+	
+	/**
+	 * Adds a new {@link Handler} to this listener that will be executed according to the given {@link Delivery}. If 
+	 * the handler is already registered for the given event type, it isn't registered again, the given delivery 
+	 * replaces it's current delivery and the handler no longer depends on other handlers.
+	 * 
+	 * @param <T> the type of {@link Event} that the handler is interested in.
+	 * 
+	 * @param eventClass the class of the event that the handler is interested in.
+	 * @param handler the handler being registered to this listener.
+	 * @param delivery determines which thread executes the handler.
+	 * 
+	 * @throws IllegalStateException if this listener has already been disposed.
+	 * @throws NullPointerException if any of the arguments given is/are {@code null}.
+	 */
+	public <T extends Event> void addHandler(Class<T> eventClass, Handler<T> handler, Delivery delivery) {
+		checkState();
+		requireNonNull(eventClass, "eventClass cannot be null.");
+		requireNonNull(handler, "handler cannot be null.");
+		requireNonNull(delivery, "delivery cannot be null.");
+		synchronized (registeredHandlers) {
+			if (!registeredHandlers.getOrDefault(eventClass, Collections.emptyList()).contains(handler)) {
+				super.addHandler(eventClass, handler);
+			} else {
+				if (isFrozen()) throw new IllegalStateException("This listener is frozen.");
+				// Only the delivery changes, the delivery plan still has to be compiled again
+				handlersChanged();
+			}
+			setDelivery(eventClass, handler, delivery);
+		}
+	}
+	
+	/**
+	 * <p>
+	 * Adds a new pooled {@link Handler} to this listener that will only be executed once all the given handlers have 
+	 * handled the event. The given handlers must already be registered for the given event type with a 
+	 * {@link Delivery#pooled() pooled} delivery. If the handler is already registered for the given event type, it 
+	 * isn't registered again, it becomes pooled and the given dependencies replace it's current dependencies.
+	 * </p>
+	 * <p>
+	 * When an event is fired, the handlers that don't depend on other handlers are dispatched at once and each of the 
+	 * other handlers is dispatched by the thread that completes the last of it's dependencies, which executes one of 
+	 * the dispatched handlers itself, so no thread ever waits for a dependency. A handler that fails still completes, 
+	 * and the handlers that depend on it are executed. An {@link #addAsyncHandler(Class, AsyncHandler, AsyncPolicy) 
+	 * asynchronous handler} completes once it has started it's operation. If this listener has a {@link BatchPolicy}, 
+	 * the pooled handlers are executed one after the other in an order that respects their dependencies.
+	 * </p>
+	 * <p>
+	 * A dependency is dropped once the handler depended on is removed or registered with another delivery.
+	 * </p>
+	 * 
+	 * @param <T> the type of {@link Event} that the handler is interested in.
+	 * 
+	 * @param eventClass the class of the event that the handler is interested in.
+	 * @param handler the handler being registered to this listener.
+	 * @param dependencies the handlers that must handle an event before the given handler.
+	 * 
+	 * @throws IllegalArgumentException if one of the dependencies isn't a pooled handler of the given event type, or 
+	 * if it is, or depends on, the given handler.
+	 * @throws IllegalStateException if this listener has already been disposed.
+	 * @throws NullPointerException if any of the arguments given, or any of the dependencies, is/are {@code null}.
+	 */
+	public <T extends Event> void addHandlerAfter(Class<T> eventClass, Handler<T> handler, Handler<?>... dependencies) {
+		checkState();
+		requireNonNull(eventClass, "eventClass cannot be null.");
+		requireNonNull(handler, "handler cannot be null.");
+		requireNonNull(dependencies, "dependencies cannot be null.");
+		synchronized (registeredHandlers) {
+			List<Handler<? extends Event>> handlers = registeredHandlers.getOrDefault(eventClass, Collections.emptyList());
+			Map<Handler<? extends Event>, Set<Handler<? extends Event>>> classDependencies = 
+					this.dependencies.getOrDefault(eventClass, Collections.emptyMap());
+			Set<Handler<? extends Event>> handlerDependencies = new HashSet<>();
+			for (Handler<? extends Event> dependency : dependencies) {
+				requireNonNull(dependency, "dependencies cannot contain null.");
+				if (!handlers.contains(dependency) || deliveries.getOrDefault(eventClass, Collections.emptyMap()).containsKey(dependency))
+					throw new IllegalArgumentException("dependencies must be pooled handlers of eventClass.");
+				if (dependency.equals(handler) || dependsOn(classDependencies, dependency, handler))
+					throw new IllegalArgumentException("dependencies cannot depend on handler.");
+				handlerDependencies.add(dependency);
+			}
+			addHandler(eventClass, handler, Delivery.pooled());
+			if (!handlerDependencies.isEmpty())
+				this.dependencies.computeIfAbsent(eventClass, key -> new HashMap<>()).put(handler, handlerDependencies);
+		}
+	}
+
+	/**
+	* {@inheritDoc}
+	* <p>
+	* The handlers are executed on the listener's pool, as if they had been added with a {@link Delivery#pooled() pooled} 
+	* delivery, and no longer depend on other handlers.
+	* </p>
+	* @throws IllegalStateException if this listener has already been disposed.
+	* @throws NullPointerException if {@code handlers} is {@code null}.
+	*/
+	@Override
+	public void addHandlers(ListenerSnapshot handlers) {
+		checkState();
+		synchronized (registeredHandlers) {
+			super.addHandlers(handlers);
+			for (Class<? extends Event> eventClass : handlers.getSupportedEventTypes()) {
+				if (deliveries.containsKey(eventClass)) 
+					deliveries.get(eventClass).keySet().removeAll(handlers.handlerList(eventClass));
+				if (dependencies.containsKey(eventClass)) 
+					dependencies.get(eventClass).keySet().removeAll(handlers.handlerList(eventClass));
+			}
+		}
 	}
 
 	/**
@@ -151,26 +342,93 @@ public class ThreadedListener extends AbstractListener {
 	@Override
 	public <T extends Event> void removeHandler(Class<T> eventClass, Handler<T> handler) {
 		checkState();
-		super.removeHandler(eventClass, handler);
+		synchronized (registeredHandlers) {
+			super.removeHandler(eventClass, handler);
+			// Forget the delivery once the last registration of the handler is gone
+			if (!registeredHandlers.getOrDefault(eventClass, Collections.emptyList()).contains(handler)) {
+				if (deliveries.containsKey(eventClass)) deliveries.get(eventClass).remove(handler);
+				if (dependencies.containsKey(eventClass)) dependencies.get(eventClass).remove(handler);
+			}
+		}
 	}
 
 	/**
 	* {@inheritDoc}
+	* <p>
+	* A single task is created for the given event and handed to the {@code ExecutorService} once for 
+	* every qualifying pooled handler, each execution of the task claims and executes the next handler. A 
+	* {@code RuntimeException} thrown by a handler is passed to the {@link ErrorHandler} if one has 
+	* been {@link #setErrorHandler(ErrorHandler) set}, otherwise it is reported to the 
+	* {@link Thread.UncaughtExceptionHandler} of the thread that executed the handler. If this listener has a 
+	* {@link BatchPolicy}, the event is queued instead and it's pooled handlers are executed by a consumer task.
+	* </p>
+	* <p>
+	* Handlers registered with a {@link Delivery#on(Executor) custom executor} are dispatched the same way on their 
+	* executor. {@link Delivery#inline() Inline} handlers are executed last, on the calling thread, and if one of them 
+	* fails and no {@code ErrorHandler} has been set, the exception is rethrown once they have all been executed.
+	* </p>
+	* <p>
+	* If some of the pooled handlers {@link #addHandlerAfter(Class, Handler, Handler...) depend} on others, a task is 
+	* handed to the {@code ExecutorService} for every handler instead, once it's dependencies have completed.
+	* </p>
+	* <p>
+	* A {@link PooledEvent} is given one reference for every task or group of handlers it is handed to and is 
+	* released once the last of them has completed. An event fired while the listener is being disposed is either 
+	* delivered or silently dropped.
+	* </p>
 	* @throws IllegalStateException if this listener has already been disposed.
 	* @throws NullPointerException if event is {@code null}.
 	*/
-	@SuppressWarnings("unchecked")
 	@Override
 	public <T extends Event> void fireEvent(T event) {
 		checkState();
 		requireNonNull(event, "event cannot be null.");
-		if (registeredHandlers.containsKey(event.getClass())) {
-			registeredHandlers.get(event.getClass()).forEach(
-				handler -> listenerService.submit(() -> ((Handler<T>) handler).handle(event))
-			);
+		if (!accept(event)) return;
+		PoolScaler scaler = this.scaler;
+		if (scaler != null) scaler.check(System.nanoTime());
+		DeliveryPlan.Route route = deliveryPlan().route(event.getClass());
+		if (route == null) {
+			PooledEvent.releaseIfPooled(event);
+			return;
+		}
+		if (event instanceof PooledEvent) PooledEvent.shareIfPooled(event, references(route));
+		EventStamp stamp = stamp(event);
+		if (batcher == null) {
+			if (route.graph == null) dispatch(listenerService, event, stamp, route.pooled);
+			else new GraphDispatch<>(this, event, stamp, route.graph).start();
+		}
+		else if (route.pooled.length > 0) {
+			try {
+				FlightRecorder.enqueued(this, event);
+				batcher.enqueue(event, stamp);
+			} catch (RejectedExecutionException ex) {
+				checkRejection(listenerService, ex);
+			}
+		}
+		for (int index = 0; index < route.executors.length; index++)
+			dispatch(route.executors[index], event, stamp, route.executorHandlers[index]);
+		if (route.inline.length > 0) {
+			try {
+				invokeHandlers(route.inline, event, stamp);
+			} finally {
+				PooledEvent.releaseIfPooled(event);
+			}
+		}
+	}
+	
+	/**
+	* {@inheritDoc}
+	*/
+	@Override
+	public void clear() {
+		synchronized (registeredHandlers) {
+			super.clear();
+			deliveries.clear();
+			dependencies.clear();
 		}
 	}
 
+
 	/**
 	* {@inheritDoc}
 	* @throws IllegalStateException if this listener has already been disposed.
@@ -192,6 +450,112 @@ public class ThreadedListener extends AbstractListener {
 		return super.getSupportedEventTypes();
 	}
 	
+	/**
+	* {@inheritDoc}
+	* @throws IllegalStateException if this listener has already been disposed.
+	* @throws NullPointerException if {@code eventClass} is {@code null}.
+	*/
+	@Override
+	public boolean hasHandlers(Class<? extends Event> eventClass) {
+		checkState();
+		return super.hasHandlers(eventClass);
+	}
+	
+	/**
+	* {@inheritDoc}
+	* @throws IllegalStateException if this listener has already been disposed.
+	* @throws NullPointerException if {@code eventClass} is {@code null}.
+	*/
+	@Override
+	public int handlerCount(Class<? extends Event> eventClass) {
+		checkState();
+		return super.handlerCount(eventClass);
+	}
+	
+	/**
+	* {@inheritDoc}
+	* @throws IllegalStateException if this listener has already been disposed.
+	*/
+	@Override
+	public ListenerSnapshot getSnapshot() {
+		checkState();
+		return super.getSnapshot();
+	}
+	
+	/**
+	 * Returns {@code true} if the size of this listener's pool of threads can be changed, i.e, if it's 
+	 * {@code ExecutorService} is a {@link ThreadPoolExecutor} with a bounded number of threads.
+	 * 
+	 * @return {@code true} if this listener's pool can be resized, {@code false} otherwise.
+	 */
+	public boolean isResizable() {
+		return listenerService instanceof ThreadPoolExecutor 
+				&& !(((ThreadPoolExecutor) listenerService).getQueue() instanceof SynchronousQueue);
+	}
+	
+	/**
+	 * Returns the number of threads that this listener's pool currently keeps.
+	 * 
+	 * @return the size of this listener's pool.
+	 * 
+	 * @throws UnsupportedOperationException if this listener's pool {@link #isResizable() cannot be resized}.
+	 */
+	public int getPoolSize() {
+		return resizablePool().getCorePoolSize();
+	}
+	
+	/**
+	 * Sets the number of threads that this listener's pool keeps. Events that are already queued are not lost, when the 
+	 * pool grows new threads are started to handle them and when it shrinks the extra threads exit once they finish 
+	 * their current handler. If a {@link ScalingPolicy} has been set, it may change the size again.
+	 * 
+	 * @param poolSize the new size of the pool.
+	 * 
+	 * @throws IllegalArgumentException if {@code poolSize} is less than 1.
+	 * @throws IllegalStateException if this listener has already been disposed.
+	 * @throws UnsupportedOperationException if this listener's pool {@link #isResizable() cannot be resized}.
+	 */
+	public void setPoolSize(int poolSize) {
+		checkState();
+		if (poolSize < 1)
+			throw new IllegalArgumentException("poolSize must be greater than 0.");
+		PoolScaler.resize(resizablePool(), poolSize);
+	}
+	
+	/**
+	 * Sets the {@link ScalingPolicy} used to resize this listener's pool as the load changes. The pool is immediately 
+	 * resized to fit within the bounds of the policy. Passing {@code null} stops resizing the pool automatically and 
+	 * keeps it's current size.
+	 * <p>
+	 * A listener with a {@link BatchPolicy} cannot have a scaling policy. It's events wait in the batcher's queue 
+	 * rather than the pool's, and no more than {@link BatchPolicy#getConsumers()} threads ever deliver them, so there 
+	 * is nothing for the policy to measure and growing the pool wouldn't deliver events any faster.
+	 * </p>
+	 * 
+	 * @param scalingPolicy the scaling policy to use or {@code null} to stop resizing the pool automatically.
+	 * 
+	 * @throws IllegalStateException if this listener has already been disposed.
+	 * @throws UnsupportedOperationException if this listener's pool {@link #isResizable() cannot be resized} or if 
+	 * this listener has a {@code BatchPolicy} and {@code scalingPolicy} isn't {@code null}.
+	 */
+	public void setScalingPolicy(ScalingPolicy scalingPolicy) {
+		checkState();
+		if (batcher != null && scalingPolicy != null)
+			throw new UnsupportedOperationException("A listener with a BatchPolicy cannot have a ScalingPolicy.");
+		ThreadPoolExecutor executor = resizablePool();
+		scaler = (scalingPolicy == null)? null : new PoolScaler(executor, scalingPolicy);
+	}
+	
+	/**
+	 * Returns an {@link Optional} containing the {@link ScalingPolicy} currently used by this listener.
+	 * 
+	 * @return an {@code Optional} containing the current scaling policy.
+	 */
+	public Optional<ScalingPolicy> getScalingPolicy() {
+		PoolScaler scaler = this.scaler;
+		return (scaler == null)? Optional.empty() : Optional.of(scaler.getPolicy());
+	}
+	
 	/**
 	 * Disposes this listener and {@link #clear() clears} it. After this method returns, this listener 
 	 * will be unusable and calling most of the methods of this call will throw an {@link IllegalStateException}. 
@@ -207,10 +571,12 @@ public class ThreadedListener extends AbstractListener {
 				// if the listenerService did not shutdown properly, forcefully shut it down.
 				if (!listenerService.isTerminated()) listenerService.shutdownNow();
 			}
-			// Clear this listener
-			clear();
+			// Clear this listener, a frozen listener keeps it's handlers
+			if (!isFrozen()) clear();
 			// set disposed to true
 			disposed = true;
+			// Consumers that were queued but never ran, e.g. dropped by shutdownNow, leave their events behind
+			if (batcher != null) batcher.discard();
 		}
 	}
 	
@@ -229,6 +595,112 @@ public class ThreadedListener extends AbstractListener {
 		return synchronizedList(new ArrayList<>());
 	}
 
+	/**
+	 * Executes all the handlers of the given event, or of the event of the given stamp, on the calling thread, one after 
+	 * the other in an order that respects their dependencies, and then releases the event if it is pooled.
+	 */
+	@SuppressWarnings("unchecked")
+	<T extends Event> void deliver(Object eventOrStamp) {
+		EventStamp stamp = (eventOrStamp instanceof EventStamp)? (EventStamp) eventOrStamp : null;
+		T event = (T) ((stamp == null)? eventOrStamp : stamp.getEvent());
+		FlightRecorder.dequeued(this, event, (stamp == null)? 0 : stamp.getPublishTime());
+		DeliveryPlan.Route route = deliveryPlan().route(event.getClass());
+		if (route != null) {
+			for (Handler<? extends Event> handler : route.pooled) {
+				RuntimeException exception = invokeHandler((Handler<T>) handler, event, stamp);
+				if (exception != null) reportUncaught(exception);
+			}
+		}
+		PooledEvent.releaseIfPooled(event);
+	}
+	
+	/**
+	 * Returns the {@code ThreadPoolExecutor} of this listener or throws an {@link UnsupportedOperationException} if it 
+	 * cannot be resized.
+	 */
+	private ThreadPoolExecutor resizablePool() {
+		if (!isResizable())
+			throw new UnsupportedOperationException("The pool of this listener cannot be resized.");
+		return (ThreadPoolExecutor) listenerService;
+	}
+	
+	/**
+	 * Hands a single task for the given event to the given executor once for every handler.
+	 */
+	private <T extends Event> void dispatch(Executor executor, T event, EventStamp stamp, Handler<? extends Event>[] handlers) {
+		if (handlers.length == 0) return;
+		DispatchTask<T> task = new DispatchTask<>(this, event, stamp, handlers, executor == listenerService);
+		FlightRecorder.enqueued(this, event);
+		for (int count = 0; count < handlers.length; count++) {
+			try {
+				executor.execute(task);
+			} catch (RejectedExecutionException ex) {
+				checkRejection(executor, ex);
+				PooledEvent.releaseIfPooled(event);
+			}
+		}
+	}
+	
+	/**
+	 * Rethrows the given exception unless it was caused by this listener being disposed, and it's service shutdown, 
+	 * while an event was being fired. Such an event is dropped, just like an event fired after the listener is 
+	 * disposed would have been.
+	 */
+	private void checkRejection(Executor executor, RejectedExecutionException ex) {
+		if (executor != listenerService || !shutdownServiceOnDispose || !listenerService.isShutdown()) throw ex;
+	}
+	
+	/**
+	 * Returns the number of references that a pooled event needs to be delivered through the given route, one for 
+	 * every dispatched handler, one for the batcher and one for the inline handlers.
+	 */
+	private int references(DeliveryPlan.Route route) {
+		int references = (batcher == null)? route.pooled.length : (route.pooled.length > 0)? 1 : 0;
+		for (Handler<? extends Event>[] handlers : route.executorHandlers)
+			references += handlers.length;
+		return (route.inline.length > 0)? references + 1 : references;
+	}
+	
+	/**
+	 * Returns the delivery plan of the current snapshot, compiling a new one if the handlers have changed.
+	 */
+	private DeliveryPlan deliveryPlan() {
+		ListenerSnapshot snapshot = snapshot();
+		DeliveryPlan plan = deliveryPlan;
+		if (plan != null && plan.getVersion() == snapshot.getVersion()) return plan;
+		synchronized (registeredHandlers) {
+			snapshot = snapshot();
+			plan = deliveryPlan;
+			if (plan == null || plan.getVersion() != snapshot.getVersion())
+				deliveryPlan = plan = new DeliveryPlan(snapshot, deliveries, dependencies);
+			return plan;
+		}
+	}
+	
+	/**
+	 * Sets the delivery of the given handler and drops it's dependencies, must be called while holding the lock of 
+	 * {@code registeredHandlers}.
+	 */
+	private void setDelivery(Class<? extends Event> eventClass, Handler<? extends Event> handler, Delivery delivery) {
+		if (!delivery.isPooled()) 
+			deliveries.computeIfAbsent(eventClass, key -> new HashMap<>()).put(handler, delivery);
+		else if (deliveries.containsKey(eventClass)) 
+			deliveries.get(eventClass).remove(handler);
+		if (dependencies.containsKey(eventClass)) 
+			dependencies.get(eventClass).remove(handler);
+	}
+
+	/**
+	 * Returns {@code true} if the given handler depends, directly or through other handlers, on the given dependency.
+	 */
+	private static boolean dependsOn(Map<Handler<? extends Event>, Set<Handler<? extends Event>>> dependencies, 
+			Handler<? extends Event> handler, Handler<? extends Event> dependency) {
+		for (Handler<? extends Event> direct : dependencies.getOrDefault(handler, Collections.emptySet())) {
+			if (direct.equals(dependency) || dependsOn(dependencies, direct, dependency)) return true;
+		}
+		return false;
+	}
+	
 	/**
 	 * Checks that if if this listener is disposed and throws an {@link IllegalStateException} if it 
 	 * has been disposed.
@@ -263,7 +735,186 @@ public class ThreadedListener extends AbstractListener {
 		requireNonNull(factory, "factory cannot be null.");
 		
 		return (maxThreads == 0)? Executors.newCachedThreadPool(factory)
-				: (maxThreads == 1)? Executors.newSingleThreadExecutor(factory)
-						: Executors.newFixedThreadPool(maxThreads, factory);
+				: Executors.newFixedThreadPool(maxThreads, factory);
+	}
+	
+	/**
+	 * A task that delivers an event to one or more handlers.
+	 */
+	interface EventTask extends Runnable {
+		
+		/**
+		 * Returns the event delivered by this task, used by a {@link PartitionedExecutor} to route the task.
+		 */
+		Event getEvent();
+	}
+	
+	/**
+	 * A task that delivers an event to an array of handlers. The task is executed once for every handler 
+	 * in the array and each run claims the next handler that hasn't been executed yet, which means that 
+	 * only one task needs to be allocated per event regardless of the number of handlers.
+	 */
+	static final class DispatchTask<T extends Event> implements EventTask {
+		
+		@SuppressWarnings("rawtypes")
+		private static final AtomicIntegerFieldUpdater<DispatchTask> NEXT_HANDLER = 
+				AtomicIntegerFieldUpdater.newUpdater(DispatchTask.class, "nextHandler");
+		
+		private final ThreadedListener listener;
+		private final T event;
+		private final EventStamp stamp;
+		private final Handler<? extends Event>[] handlers;
+		private final boolean pooled;
+		private final long enqueueTime;
+		private volatile int nextHandler;
+		
+		private DispatchTask(ThreadedListener listener, T event, EventStamp stamp, Handler<? extends Event>[] handlers, 
+				boolean pooled) {
+			this.listener = listener;
+			this.event = event;
+			this.stamp = stamp;
+			this.handlers = handlers;
+			this.pooled = pooled;
+			this.enqueueTime = FlightRecorder.enqueueTime();
+		}
+
+		@Override
+		public T getEvent() {
+			return event;
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public void run() {
+			Handler<T> handler = (Handler<T>) handlers[NEXT_HANDLER.getAndIncrement(this)];
+			FlightRecorder.dequeued(listener, event, enqueueTime);
+			// Only handlers executed on the listener's pool count towards it's scaling
+			PoolScaler scaler = pooled? listener.scaler : null;
+			long start = (scaler == null)? 0 : System.nanoTime();
+			RuntimeException exception = listener.invokeHandler(handler, event, stamp);
+			if (scaler != null) scaler.recordHandlerTime(System.nanoTime() - start);
+			PooledEvent.releaseIfPooled(event);
+			// There is no caller to rethrow to, report exceptions not taken by an ErrorHandler to the thread
+			if (exception != null) reportUncaught(exception);
+		}
+	}
+	
+	/**
+	 * The delivery of an event to the handlers of a {@link HandlerGraph}. Every handler has a count of the 
+	 * dependencies it is still waiting for and the thread that brings it to zero dispatches it, so threads never 
+	 * wait for each other. A thread that completes a handler keeps one of the handlers it made ready for itself, 
+	 * which runs a chain of dependent handlers on a single thread without going through the executor's queue.
+	 */
+	static final class GraphDispatch<T extends Event> {
+		
+		private final ThreadedListener listener;
+		private final T event;
+		private final EventStamp stamp;
+		private final HandlerGraph graph;
+		private final AtomicIntegerArray pendingDependencies;
+		
+		private GraphDispatch(ThreadedListener listener, T event, EventStamp stamp, HandlerGraph graph) {
+			this.listener = listener;
+			this.event = event;
+			this.stamp = stamp;
+			this.graph = graph;
+			this.pendingDependencies = new AtomicIntegerArray(graph.dependencyCounts);
+		}
+		
+		/**
+		 * Dispatches the handlers that don't depend on other handlers from the thread firing the event.
+		 */
+		private void start() {
+			FlightRecorder.enqueued(listener, event);
+			for (int root : graph.roots)
+				dispatch(root, false);
+		}
+		
+		/**
+		 * Hands the given node to the listener's executor. A node rejected while the listener is being disposed is 
+		 * dropped along with it's dependents, unless it was made ready by one of the listener's threads, in which case 
+		 * the thread executes it so that the rest of the graph isn't lost.
+		 */
+		private void dispatch(int node, boolean onPool) {
+			GraphTask<T> task = new GraphTask<>(this, node);
+			try {
+				listener.listenerService.execute(task);
+			} catch (RejectedExecutionException ex) {
+				if (onPool) {
+					task.run();
+					return;
+				}
+				listener.checkRejection(listener.listenerService, ex);
+				drop(node);
+			}
+		}
+		
+		/**
+		 * Releases the references held by the given node and the nodes that depend on it without executing them.
+		 */
+		private void drop(int node) {
+			PooledEvent.releaseIfPooled(event);
+			for (int dependent : graph.dependents[node]) {
+				if (pendingDependencies.decrementAndGet(dependent) == 0) drop(dependent);
+			}
+		}
+		
+		/**
+		 * Executes the given node and the dependents it makes ready that aren't handed to the executor.
+		 */
+		@SuppressWarnings("unchecked")
+		private void execute(int node, long enqueueTime) {
+			FlightRecorder.dequeued(listener, event, enqueueTime);
+			while (node >= 0) {
+				PoolScaler scaler = listener.scaler;
+				long start = (scaler == null)? 0 : System.nanoTime();
+				RuntimeException exception = listener.invokeHandler((Handler<T>) graph.handlers[node], event, stamp);
+				if (scaler != null) scaler.recordHandlerTime(System.nanoTime() - start);
+				// There is no caller to rethrow to, report exceptions not taken by an ErrorHandler to the thread
+				if (exception != null) reportUncaught(exception);
+				node = completed(node);
+			}
+		}
+		
+		/**
+		 * Records that the given node has completed, dispatches the dependents that it has made ready and returns one 
+		 * of them for the calling thread to execute next, or {@code -1} if none of them is ready.
+		 */
+		private int completed(int node) {
+			int next = -1;
+			for (int dependent : graph.dependents[node]) {
+				if (pendingDependencies.decrementAndGet(dependent) != 0) continue;
+				if (next >= 0) dispatch(next, true);
+				next = dependent;
+			}
+			PooledEvent.releaseIfPooled(event);
+			return next;
+		}
+	}
+	
+	/**
+	 * A task that executes a single node of a {@link GraphDispatch}.
+	 */
+	static final class GraphTask<T extends Event> implements EventTask {
+		
+		private final GraphDispatch<T> dispatch;
+		private final int node;
+		private final long enqueueTime;
+		
+		private GraphTask(GraphDispatch<T> dispatch, int node) {
+			this.dispatch = dispatch;
+			this.node = node;
+			this.enqueueTime = FlightRecorder.enqueueTime();
+		}
+		
+		@Override
+		public T getEvent() {
+			return dispatch.event;
+		}
+		
+		@Override
+		public void run() {
+			dispatch.execute(node, enqueueTime);
+		}
 	}
 }
@@ -0,0 +1,112 @@
+/**
+ * 
+ */
+package com.kori_47.events;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <p>
+ * Replays an {@link EventTrace} through a {@link SimulationListener}, either as fast as the listener's handlers allow
+ * or paced against the wall clock at a multiple of the speed at which the trace was recorded. Either way the
+ * listener's virtual clock follows the times of the trace, so events that handlers schedule during the replay are
+ * fired at the right point between the traced events.
+ * </p>
+ * <p>
+ * Each replay resets the listener's {@link HandlerStatistics} and returns a {@link PlaybackReport} with the overall
+ * throughput of the replay and the statistics of every handler. An exception thrown by a handler stops the replay
+ * unless the listener has an {@link ErrorHandler}.
+ * </p>
+ * 
+ * <p>
+ * <i><b>NOTE:</b> Instances of this class are immutable and thread safe, but a listener must not be used by more than
+ * one replay at a time.</i>
+ * </p>
+ * 
+ * @author Kennedy Kori
+ *
+ * @since Oct 20, 2026, 1:39:02 PM
+ */
+public final class TracePlayer {
+
+	private final EventTrace trace;
+
+	/**
+	 * Creates a new {@code TracePlayer} for the given trace.
+	 * 
+	 * @param trace the trace to replay.
+	 * 
+	 * @throws NullPointerException if {@code trace} is {@code null}.
+	 */
+	public TracePlayer(EventTrace trace) {
+		this.trace = requireNonNull(trace, "trace cannot be null.");
+	}
+
+	/**
+	 * Returns the trace replayed by this player.
+	 * 
+	 * @return the trace of this player.
+	 */
+	public EventTrace getTrace() {
+		return trace;
+	}
+
+	/**
+	 * Replays the trace through the given listener as fast as possible.
+	 * 
+	 * @param listener the listener to fire the events of the trace on.
+	 * 
+	 * @return a report of the replay.
+	 * 
+	 * @throws NullPointerException if {@code listener} is {@code null}.
+	 */
+	public PlaybackReport play(SimulationListener listener) {
+		return replay(requireNonNull(listener, "listener cannot be null."), 0);
+	}
+
+	/**
+	 * Replays the trace through the given listener, firing each event once the given multiple of the speed at which
+	 * the trace was recorded allows it, e.g a speed of {@code 2} replays a trace that took a minute to record in thirty
+	 * seconds. An event whose handlers can't keep up with the pace is fired late, the report records how late the
+	 * latest event was.
+	 * 
+	 * @param listener the listener to fire the events of the trace on.
+	 * @param speed the speed of the replay relative to the speed of the recording.
+	 * 
+	 * @return a report of the replay.
+	 * 
+	 * @throws IllegalArgumentException if {@code speed} is not greater than {@code 0}.
+	 * @throws NullPointerException if {@code listener} is {@code null}.
+	 */
+	public PlaybackReport play(SimulationListener listener, double speed) {
+		requireNonNull(listener, "listener cannot be null.");
+		if (!(speed > 0)) throw new IllegalArgumentException("speed must be greater than 0.");
+		return replay(listener, speed);
+	}
+
+	/**
+	 * Replays the trace at the given speed or as fast as possible if {@code speed} is {@code 0}.
+	 */
+	private PlaybackReport replay(SimulationListener listener, double speed) {
+		listener.resetStatistics();
+		long origin = listener.getTime(TimeUnit.NANOSECONDS);
+		long start = System.nanoTime();
+		long maxLag = 0;
+		for (int index = 0; index < trace.size(); index++) {
+			long time = trace.timeNanos(index);
+			if (speed > 0) {
+				long due = start + (long) (time / speed);
+				long remaining;
+				while ((remaining = due - System.nanoTime()) > 0)
+					LockSupport.parkNanos(remaining);
+				maxLag = Math.max(maxLag, -remaining);
+			}
+			listener.advanceTo(origin + time, TimeUnit.NANOSECONDS);
+			listener.fireEvent(trace.getEvent(index));
+		}
+		return new PlaybackReport(trace.size(), System.nanoTime() - start, maxLag, listener.getStatistics());
+	}
+}
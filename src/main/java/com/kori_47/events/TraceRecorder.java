@@ -0,0 +1,137 @@
+/**
+ * 
+ */
+package com.kori_47.events;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * This is an {@link EventFilter} that records every event fired through the listeners it is
+ * {@link AbstractListener#setEventFilter(EventFilter) set} on, together with the time at which it was fired, so that
+ * the events can later be replayed as an {@link EventTrace}. A recorder accepts every event, to record only the events
+ * accepted by another filter, combine them with {@code filter.and(recorder)}.
+ * </p>
+ * <p>
+ * Recording an event only appends it's time and a reference to it to a pair of arrays, and the recorder holds on to
+ * every recorded event until it is {@link #clear() cleared}. To keep a forgotten recorder from growing without bound,
+ * it records at most {@link #getCapacity() capacity} events. {@link PooledEvent Pooled events} are never recorded
+ * since they are reused once they have been handled and a trace of them would replay whatever they hold by then.
+ * Events that aren't recorded, for either reason, are still accepted and are counted as {@link #getDropped()
+ * dropped}.
+ * </p>
+ * 
+ * <p>
+ * <i><b>NOTE:</b> Instances of this class are thread safe and can be shared by multiple listeners.</i>
+ * </p>
+ * 
+ * @author Kennedy Kori
+ *
+ * @since Oct 20, 2026, 1:27:38 PM
+ */
+public final class TraceRecorder implements EventFilter {
+
+	/**
+	 * the capacity of recorders created with {@link #TraceRecorder()}
+	 */
+	public static final int DEFAULT_CAPACITY = 1 << 20;
+
+	private final int capacity;
+	private long[] times;
+	private Event[] events;
+	private int size;
+	private long dropped;
+
+	/**
+	 * Creates a new, empty, {@code TraceRecorder} that records at most {@link #DEFAULT_CAPACITY} events.
+	 */
+	public TraceRecorder() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates a new, empty, {@code TraceRecorder} that records at most the given number of events.
+	 * 
+	 * @param capacity the maximum number of events to record. Must be greater than 0.
+	 * 
+	 * @throws IllegalArgumentException if {@code capacity} is less than or equal to 0.
+	 */
+	public TraceRecorder(int capacity) {
+		if (capacity <= 0) throw new IllegalArgumentException("capacity must be greater than 0.");
+		this.capacity = capacity;
+		times = new long[Math.min(capacity, 64)];
+		events = new Event[times.length];
+	}
+
+	/**
+	* {@inheritDoc}
+	* <p>
+	* Records the given event, unless it is a {@link PooledEvent} or the recorder is full, and accepts it.
+	* </p>
+	*/
+	@Override
+	public boolean accept(Event event) {
+		long now = System.nanoTime();
+		synchronized (this) {
+			if (event instanceof PooledEvent || size == capacity) {
+				dropped++;
+				return true;
+			}
+			if (size == events.length) {
+				int length = (int) Math.min((long) size * 2, capacity);
+				times = Arrays.copyOf(times, length);
+				events = Arrays.copyOf(events, length);
+			}
+			// Threads may reach the lock out of order, keep the times from going backwards
+			times[size] = (size > 0)? Math.max(now, times[size - 1]) : now;
+			events[size++] = event;
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the number of events recorded so far.
+	 * 
+	 * @return the number of recorded events.
+	 */
+	public synchronized int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the maximum number of events this recorder records.
+	 * 
+	 * @return the capacity of this recorder.
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * Returns the number of events accepted but not recorded since this recorder was created or last
+	 * {@link #clear() cleared}, either because they were pooled or because the recorder was full.
+	 * 
+	 * @return the number of dropped events.
+	 */
+	public synchronized long getDropped() {
+		return dropped;
+	}
+
+	/**
+	 * Returns an {@link EventTrace} of the events recorded so far.
+	 * 
+	 * @return a trace of the recorded events.
+	 */
+	public synchronized EventTrace getTrace() {
+		return new EventTrace(times, events, size);
+	}
+
+	/**
+	 * Discards all the recorded events and resets the count of dropped events.
+	 */
+	public synchronized void clear() {
+		Arrays.fill(events, 0, size, null);
+		size = 0;
+		dropped = 0;
+	}
+}
@@ -0,0 +1,155 @@
+/**
+ * 
+ */
+package com.kori_47.events;
+
+import java.util.Arrays;
+
+/**
+ * A sparse histogram of {@code double} values, positive or negative. Like {@link LatencyHistogram}, every power of two
+ * range is split into eight buckets, so a recorded value is never off by more than an eighth of itself, but only the
+ * buckets that have values are kept, in a small open addressed table, so that a histogram of values that fall in a
+ * few ranges stays small. Percentiles are reported as the bound of their bucket that is furthest from {@code 0},
+ * capped by the lowest and highest recorded values.
+ * 
+ * <p>
+ * <i><b>NOTE:</b> Instances of this class are not thread safe.</i>
+ * </p>
+ * 
+ * @author Kennedy Kori
+ *
+ * @since Oct 20, 2026, 3:38:57 PM
+ */
+final class ValueHistogram {
+
+	private static final int EMPTY = Integer.MIN_VALUE;
+	/**
+	 * the number of bits of a double's mantissa below it's sub bucket
+	 */
+	private static final int SUB_BUCKET_SHIFT = 52 - 3;
+
+	private int[] buckets;
+	private long[] counts;
+	private int size;
+	private long count;
+	private double min = Double.POSITIVE_INFINITY;
+	private double max = Double.NEGATIVE_INFINITY;
+
+	ValueHistogram() {
+		this.buckets = new int[8];
+		this.counts = new long[8];
+		Arrays.fill(buckets, EMPTY);
+	}
+
+	/**
+	 * Records the given value, which must be finite.
+	 */
+	void record(double value) {
+		add(bucketOf(value), 1);
+		count++;
+		if (value < min) min = value;
+		if (value > max) max = value;
+	}
+
+	/**
+	 * Adds the values recorded by the given histogram to this histogram.
+	 */
+	void add(ValueHistogram histogram) {
+		for (int index = 0; index < histogram.buckets.length; index++)
+			if (histogram.buckets[index] != EMPTY) add(histogram.buckets[index], histogram.counts[index]);
+		count += histogram.count;
+		min = Math.min(min, histogram.min);
+		max = Math.max(max, histogram.max);
+	}
+
+	long getCount() {
+		return count;
+	}
+
+	double getMin() {
+		return (count == 0)? Double.NaN : min;
+	}
+
+	double getMax() {
+		return (count == 0)? Double.NaN : max;
+	}
+
+	/**
+	 * Returns the value below which the given percentage of the recorded values fall, or {@code NaN} if no values have
+	 * been recorded.
+	 */
+	double getPercentile(double percentile) {
+		if (count == 0) return Double.NaN;
+		if (percentile <= 0) return min;
+		int[] filled = new int[size];
+		int next = 0;
+		for (int bucket : buckets)
+			if (bucket != EMPTY) filled[next++] = bucket;
+		// Buckets are numbered in the order of their values
+		Arrays.sort(filled);
+		long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+		long seen = 0;
+		for (int bucket : filled) {
+			seen += counts[indexOf(bucket)];
+			if (seen >= rank) return Math.max(min, Math.min(max, boundOf(bucket)));
+		}
+		return max;
+	}
+
+	private void add(int bucket, long bucketCount) {
+		int index = indexOf(bucket);
+		if (buckets[index] == EMPTY) {
+			if ((size + 1) * 2 > buckets.length) {
+				grow();
+				index = indexOf(bucket);
+			}
+			buckets[index] = bucket;
+			size++;
+		}
+		counts[index] += bucketCount;
+	}
+
+	/**
+	 * Returns the slot of the given bucket, or the empty slot where it belongs.
+	 */
+	private int indexOf(int bucket) {
+		int mask = buckets.length - 1;
+		int index = (bucket * 0x9E3779B9) >>> 16 & mask;
+		while (buckets[index] != EMPTY && buckets[index] != bucket)
+			index = (index + 1) & mask;
+		return index;
+	}
+
+	private void grow() {
+		int[] oldBuckets = buckets;
+		long[] oldCounts = counts;
+		buckets = new int[oldBuckets.length * 2];
+		counts = new long[oldCounts.length * 2];
+		Arrays.fill(buckets, EMPTY);
+		for (int index = 0; index < oldBuckets.length; index++) {
+			if (oldBuckets[index] == EMPTY) continue;
+			int slot = indexOf(oldBuckets[index]);
+			buckets[slot] = oldBuckets[index];
+			counts[slot] = oldCounts[index];
+		}
+	}
+
+	/**
+	 * Returns the bucket of the given value, {@code 0} for zero and the bucket of it's magnitude, negated for negative
+	 * values.
+	 */
+	private static int bucketOf(double value) {
+		if (value == 0) return 0;
+		int magnitude = (int) (Double.doubleToRawLongBits(Math.abs(value)) >>> SUB_BUCKET_SHIFT) + 1;
+		return (value > 0)? magnitude : -magnitude;
+	}
+
+	/**
+	 * Returns the bound of the given bucket that is furthest from {@code 0}.
+	 */
+	private static double boundOf(int bucket) {
+		if (bucket == 0) return 0;
+		if (bucket > 0) return Double.longBitsToDouble((long) bucket << SUB_BUCKET_SHIFT);
+		return -Double.longBitsToDouble((long) (-bucket) << SUB_BUCKET_SHIFT);
+	}
+}
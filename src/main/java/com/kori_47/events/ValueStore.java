@@ -0,0 +1,461 @@
+/**
+ * 
+ */
+package com.kori_47.events;
+
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Objects.requireNonNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiConsumer;
+
+/**
+ * <p>
+ * This keeps the latest {@link ValueChangedEvent#getNewValue() new value} of the {@link ValueChangedEvent value changed
+ * events} of every {@link Event#source() source}. A store is fed by {@link #subscribe(Listener, Class) subscribing} it
+ * to the events of a listener, or by calling {@link #update(ValueChangedEvent)} or {@link #put(Object, Object)}
+ * directly, and conflates the events of each source, i.e. only the latest value is kept and intermediate values that
+ * were never read are simply overwritten.
+ * </p>
+ * <p>
+ * The values are kept in an open addressed hash table. Reads never lock or wait, updates of a source that
+ * is already in the store replace it's entry with a single compare and set, and only the first value of a new source
+ * takes the lock of the store to claim a slot, which is also when the table grows.
+ * </p>
+ * <p>
+ * Every change is versioned. The version of a source counts the changes of it's value and the version of the store
+ * counts the changes of all the sources, so a reader can cheaply check whether anything it has read has changed since
+ * by comparing versions. A value that is equal to the current value of it's source isn't a change and is ignored.
+ * A {@link #snapshot() snapshot} copies the current values together with the version of the store.
+ * </p>
+ * <p>
+ * A {@code null} value {@link #remove(Object) removes} the value of it's source. Removed sources keep their slot, and
+ * their version, until they get a new value, so a store should only be used for a bounded set of sources.
+ * </p>
+ * <p>
+ * The latest value is the value of the event fired last. Events that were {@link EventStamp stamped} carry the order in 
+ * which they were fired, so an update with a stamped event that was fired before the event whose value is stored is 
+ * stale and is ignored. Without stamps, the store can only keep the value of the event that was handled last, which 
+ * is also the one fired last on listeners that handle the events of a source in order, such as a 
+ * {@link SimpleListener} or a {@link SequentialListener}. On a {@link ThreadedListener}, the store subscribes with an 
+ * {@link Delivery#inline() inline} delivery for that reason, while a store subscribed to any other listener that 
+ * handles events concurrently must have stamping enabled on it to keep the latest value.
+ * </p>
+ * 
+ * <p>
+ * <i><b>NOTE:</b> Instances of this class are thread safe and can be fed by several listeners at once.</i>
+ * </p>
+ * 
+ * @param <T> the type of the stored values.
+ * 
+ * @author Kennedy Kori
+ *
+ * @since Oct 20, 2026, 3:06:44 PM
+ */
+public final class ValueStore<T> {
+
+	private static final int MIN_CAPACITY = 16;
+	/**
+	 * the sequence number of values that weren't stored from a stamped event, sequence numbers start at 0
+	 */
+	private static final long UNSEQUENCED = -1;
+
+	/**
+	 * the slots of the table, only ever filled while holding the lock of this store and never emptied
+	 */
+	private volatile AtomicReferenceArray<Entry<T>> table;
+	/**
+	 * the number of filled slots of the current table, guarded by the lock of this store
+	 */
+	private int filled;
+	/**
+	 * the number of changes that are visible to readers, incremented once a change has been made
+	 */
+	private final AtomicLong version = new AtomicLong();
+
+	/**
+	 * Creates a new, empty, {@code ValueStore}.
+	 */
+	public ValueStore() {
+		this(MIN_CAPACITY / 2);
+	}
+
+	/**
+	 * Creates a new, empty, {@code ValueStore} that can hold the given number of sources before it's table grows.
+	 * 
+	 * @param expectedSources the number of sources expected to be stored.
+	 * 
+	 * @throws IllegalArgumentException if {@code expectedSources} is negative.
+	 */
+	public ValueStore(int expectedSources) {
+		if (expectedSources < 0) throw new IllegalArgumentException("expectedSources cannot be negative.");
+		this.table = new AtomicReferenceArray<>(capacityFor(expectedSources));
+	}
+
+	/**
+	 * Registers a handler that {@link #update(ValueChangedEvent) updates} this store with the events of the given
+	 * class that are fired on the given listener. The handler is returned so that it can later be removed from the
+	 * listener. On a {@link ThreadedListener}, the handler is registered with an {@link Delivery#inline() inline} 
+	 * delivery so that the events fired by a thread update the store in the order in which they were fired.
+	 * 
+	 * @param <E> the type of the events.
+	 * 
+	 * @param listener the listener to subscribe to.
+	 * @param eventClass the class of the events to store the values of, e.g. {@code ProgressChangedEvent.class}.
+	 * 
+	 * @return the handler registered to the listener.
+	 * 
+	 * @throws NullPointerException if {@code listener} or {@code eventClass} is {@code null}.
+	 */
+	public <E extends ValueChangedEvent<? extends T>> Handler<E> subscribe(Listener listener, Class<E> eventClass) {
+		requireNonNull(listener, "listener cannot be null.");
+		requireNonNull(eventClass, "eventClass cannot be null.");
+		Handler<E> handler = this::update;
+		if (listener instanceof ThreadedListener) ((ThreadedListener) listener).addHandler(eventClass, handler, Delivery.inline());
+		else listener.addHandler(eventClass, handler);
+		return handler;
+	}
+
+	/**
+	 * Stores the new value of the given event as the value of it's source. If the event is being handled and was 
+	 * {@link EventStamp stamped}, the update is ignored if the stored value is that of an event fired later.
+	 * 
+	 * @param event the event whose value to store.
+	 * 
+	 * @return the version of the event's source after the update.
+	 * 
+	 * @throws NullPointerException if {@code event} is {@code null}.
+	 */
+	public long update(ValueChangedEvent<? extends T> event) {
+		requireNonNull(event, "event cannot be null.");
+		EventStamp stamp = EventStamp.current().orElse(null);
+		long sequence = (stamp != null && stamp.getEvent() == event)? stamp.getSequence() : UNSEQUENCED;
+		return put(event.source(), event.getNewValue(), sequence);
+	}
+
+	/**
+	 * Stores the given value as the value of the given source, replacing it's current value. A {@code null} value
+	 * removes the current value.
+	 * 
+	 * @param source the source of the value.
+	 * @param value the new value of the source.
+	 * 
+	 * @return the version of the source after the update, {@code 0} if the source has never had a value.
+	 * 
+	 * @throws NullPointerException if {@code source} is {@code null}.
+	 */
+	public long put(Object source, T value) {
+		requireNonNull(source, "source cannot be null.");
+		return put(source, value, UNSEQUENCED);
+	}
+
+	/**
+	 * Stores the given value unless the given sequence number is older than that of the current value.
+	 */
+	private long put(Object source, T value, long sequence) {
+		for (;;) {
+			AtomicReferenceArray<Entry<T>> table = this.table;
+			int index = indexOf(table, source);
+			if (index < 0) {
+				if (value == null) return 0;
+				if (insert(source, value, sequence)) return 1;
+				// Another thread added the source first, update it's entry instead
+				continue;
+			}
+			Entry<T> current = table.get(index);
+			if (current.moved) {
+				// The table is growing, the lock is only released once it has been replaced
+				synchronized (this) {}
+				continue;
+			}
+			// The value of an event fired later is already stored
+			if (sequence != UNSEQUENCED && sequence < current.sequence) return current.version;
+			if (Objects.equals(current.value, value)) return current.version;
+			Entry<T> next = new Entry<>(current.source, value, current.version + 1, Math.max(sequence, current.sequence), false);
+			if (table.compareAndSet(index, current, next)) {
+				version.incrementAndGet();
+				return next.version;
+			}
+		}
+	}
+
+	/**
+	 * Removes the value of the given source.
+	 * 
+	 * @param source the source whose value to remove.
+	 * 
+	 * @return {@code true} if the source had a value, {@code false} otherwise.
+	 * 
+	 * @throws NullPointerException if {@code source} is {@code null}.
+	 */
+	public boolean remove(Object source) {
+		requireNonNull(source, "source cannot be null.");
+		long version = getVersion(source);
+		return version != put(source, null);
+	}
+
+	/**
+	 * Returns an {@code Optional} describing the latest value of the given source, or an empty {@code Optional} if the
+	 * source has no value.
+	 * 
+	 * @param source the source whose value to return.
+	 * 
+	 * @return the latest value of the source.
+	 * 
+	 * @throws NullPointerException if {@code source} is {@code null}.
+	 */
+	public Optional<T> get(Object source) {
+		Entry<T> entry = entry(requireNonNull(source, "source cannot be null."));
+		return (entry == null)? Optional.empty() : Optional.ofNullable(entry.value);
+	}
+
+	/**
+	 * Returns the number of times that the value of the given source has changed, {@code 0} if the source has never had
+	 * a value.
+	 * 
+	 * @param source the source whose version to return.
+	 * 
+	 * @return the version of the source.
+	 * 
+	 * @throws NullPointerException if {@code source} is {@code null}.
+	 */
+	public long getVersion(Object source) {
+		Entry<T> entry = entry(requireNonNull(source, "source cannot be null."));
+		return (entry == null)? 0 : entry.version;
+	}
+
+	/**
+	 * Returns {@code true} if the value of the given source has changed since it had the given version.
+	 * 
+	 * @param source the source to check.
+	 * @param version a version of the source returned by this store.
+	 * 
+	 * @return {@code true} if the source's version is greater than {@code version}, {@code false} otherwise.
+	 * 
+	 * @throws NullPointerException if {@code source} is {@code null}.
+	 */
+	public boolean hasChangedSince(Object source, long version) {
+		return getVersion(source) > version;
+	}
+
+	/**
+	 * Returns the number of changes made to this store. A change is only counted once it is visible, so every change
+	 * counted by a version is seen by any read that follows the read of that version.
+	 * 
+	 * @return the version of this store.
+	 */
+	public long getVersion() {
+		return version.get();
+	}
+
+	/**
+	 * Returns {@code true} if any value in this store has changed since it had the given version.
+	 * 
+	 * @param version a version of this store.
+	 * 
+	 * @return {@code true} if this store's version is greater than {@code version}, {@code false} otherwise.
+	 */
+	public boolean hasChangedSince(long version) {
+		return this.version.get() > version;
+	}
+
+	/**
+	 * Returns the number of sources that currently have a value. This counts the entries of the table and should not
+	 * be called on every read.
+	 * 
+	 * @return the number of sources with a value.
+	 */
+	public int size() {
+		int size = 0;
+		AtomicReferenceArray<Entry<T>> table = this.table;
+		for (int index = 0; index < table.length(); index++) {
+			Entry<T> entry = table.get(index);
+			if (entry != null && entry.value != null) size++;
+		}
+		return size;
+	}
+
+	/**
+	 * Performs the given action for the latest value of every source, without locking. Values that change while the
+	 * action is being performed may or may not be seen.
+	 * 
+	 * @param action the action to perform with each source and it's value.
+	 * 
+	 * @throws NullPointerException if {@code action} is {@code null}.
+	 */
+	public void forEach(BiConsumer<Object, ? super T> action) {
+		requireNonNull(action, "action cannot be null.");
+		AtomicReferenceArray<Entry<T>> table = this.table;
+		for (int index = 0; index < table.length(); index++) {
+			Entry<T> entry = table.get(index);
+			if (entry != null && entry.value != null) action.accept(entry.source, entry.value);
+		}
+	}
+
+	/**
+	 * Returns a copy of the current values. The snapshot's version is the version of this store before the values
+	 * were copied, so the snapshot has every change counted by it's version and may have some later ones.
+	 * 
+	 * @return a snapshot of this store.
+	 */
+	public Snapshot<T> snapshot() {
+		long version = this.version.get();
+		Map<Object, T> values = new LinkedHashMap<>();
+		forEach(values::put);
+		return new Snapshot<>(version, values);
+	}
+
+	/**
+	 * Returns the entry of the given source, or {@code null} if the source has never had a value.
+	 */
+	private Entry<T> entry(Object source) {
+		for (;;) {
+			AtomicReferenceArray<Entry<T>> table = this.table;
+			int index = indexOf(table, source);
+			if (index < 0) return null;
+			Entry<T> entry = table.get(index);
+			// A moved entry is current until the grown table replaces this one
+			if (!entry.moved || table == this.table) return entry;
+		}
+	}
+
+	/**
+	 * Adds the given source with the given value, growing the table if needed. Returns {@code false} if the source is
+	 * already in the table.
+	 */
+	private synchronized boolean insert(Object source, T value, long sequence) {
+		AtomicReferenceArray<Entry<T>> table = this.table;
+		if (indexOf(table, source) >= 0) return false;
+		if ((filled + 1) * 2 > table.length()) table = grow(table);
+		int mask = table.length() - 1;
+		int index = hash(source) & mask;
+		while (table.get(index) != null)
+			index = (index + 1) & mask;
+		table.set(index, new Entry<>(source, value, 1, sequence, false));
+		filled++;
+		version.incrementAndGet();
+		return true;
+	}
+
+	/**
+	 * Replaces the given table with a table twice as large. Each entry is marked as moved before it is copied so that
+	 * updates racing with the copy fail and wait for the new table.
+	 */
+	private AtomicReferenceArray<Entry<T>> grow(AtomicReferenceArray<Entry<T>> table) {
+		AtomicReferenceArray<Entry<T>> grown = new AtomicReferenceArray<>(table.length() * 2);
+		int mask = grown.length() - 1;
+		for (int index = 0; index < table.length(); index++) {
+			Entry<T> entry;
+			do {
+				entry = table.get(index);
+			} while (entry != null && !table.compareAndSet(index, entry, new Entry<>(entry.source, entry.value, entry.version, entry.sequence, true)));
+			if (entry == null) continue;
+			int slot = hash(entry.source) & mask;
+			while (grown.get(slot) != null)
+				slot = (slot + 1) & mask;
+			grown.set(slot, entry);
+		}
+		this.table = grown;
+		return grown;
+	}
+
+	/**
+	 * Returns the slot of the given source in the given table, or {@code -1} if it isn't in the table.
+	 */
+	private static int indexOf(AtomicReferenceArray<? extends Entry<?>> table, Object source) {
+		int mask = table.length() - 1;
+		// The table is never more than half full, so there is always an empty slot to stop at
+		for (int index = hash(source) & mask;; index = (index + 1) & mask) {
+			Entry<?> entry = table.get(index);
+			if (entry == null) return -1;
+			if (entry.source == source || entry.source.equals(source)) return index;
+		}
+	}
+
+	private static int hash(Object source) {
+		int hash = source.hashCode();
+		return hash ^ (hash >>> 16);
+	}
+
+	private static int capacityFor(int sources) {
+		int capacity = MIN_CAPACITY;
+		while (capacity < sources * 2L)
+			capacity <<= 1;
+		return capacity;
+	}
+
+	/**
+	 * The immutable value of a source, replaced on every change.
+	 */
+	private static final class Entry<T> {
+
+		private final Object source;
+		private final T value;
+		private final long version;
+		/**
+		 * the sequence number of the latest stamped event stored, {@code UNSEQUENCED} if none was stamped
+		 */
+		private final long sequence;
+		/**
+		 * whether the entry has been copied to a new table
+		 */
+		private final boolean moved;
+
+		private Entry(Object source, T value, long version, long sequence, boolean moved) {
+			this.source = source;
+			this.value = value;
+			this.version = version;
+			this.sequence = sequence;
+			this.moved = moved;
+		}
+	}
+
+	/**
+	 * <p>
+	 * A copy of the values of a {@link ValueStore} at a point in time.
+	 * </p>
+	 * 
+	 * <p>
+	 * <i><b>NOTE:</b> Instances of this class are immutable and thread safe.</i>
+	 * </p>
+	 * 
+	 * @param <T> the type of the stored values.
+	 * 
+	 * @author Kennedy Kori
+	 *
+	 * @since Oct 20, 2026, 3:21:09 PM
+	 */
+	public static final class Snapshot<T> {
+
+		private final long version;
+		private final Map<Object, T> values;
+
+		private Snapshot(long version, Map<Object, T> values) {
+			this.version = version;
+			this.values = unmodifiableMap(values);
+		}
+
+		/**
+		 * Returns the version of the store when this snapshot was taken.
+		 * 
+		 * @return the version of this snapshot.
+		 */
+		public long getVersion() {
+			return version;
+		}
+
+		/**
+		 * Returns an unmodifiable {@code Map} of every source that had a value to it's value.
+		 * 
+		 * @return the values of this snapshot.
+		 */
+		public Map<Object, T> getValues() {
+			return values;
+		}
+	}
+}
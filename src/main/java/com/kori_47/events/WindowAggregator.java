@@ -0,0 +1,365 @@
+/**
+ * 
+ */
+package com.kori_47.events;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * <p>
+ * This is a {@link Handler} that aggregates a numeric value of the events it handles over windows of time, separately
+ * for every event class and {@link Event#source() source}, and fires an {@link AggregateEvent} with the count, sum,
+ * minimum, maximum and percentiles of the values on a target listener once a window closes. The target can be the
+ * listener the aggregator is registered to or any other listener. E.g.
+ * </p>
+ * <pre>
+ * WindowAggregator&lt;ProgressChangedEvent&gt; aggregator =
+ * 		new WindowAggregator&lt;&gt;(event -&gt; event.getNewValue(), 1, TimeUnit.SECONDS, statistics);
+ * listener.addHandler(ProgressChangedEvent.class, aggregator);
+ * aggregator.start(scheduler);
+ * </pre>
+ * <p>
+ * Windows are either tumbling, where each window starts when the previous one closes, or sliding, where a window of a
+ * given size closes every time a shorter slide elapses, so consecutive windows overlap. Time is split into panes as
+ * long as the slide, each handled value is recorded in the pane during which it was handled, and a window is the merge
+ * of the panes it covers, so every value is only recorded once however many windows it belongs to.
+ * </p>
+ * <p>
+ * Handling an event records it's value in a partial aggregate of the pane that belongs to one of several stripes,
+ * chosen by the handling thread, so that threads handling events at the same time rarely share a lock or a cache line.
+ * The partial aggregates of all the stripes are only merged when the pane closes. Values that are not finite are
+ * ignored.
+ * </p>
+ * <p>
+ * Windows are closed by {@link #closeWindows()}, which is called on time, just after every slide, once the aggregator
+ * has been {@link #start(EventScheduler) started} with an {@link EventScheduler}, but can also be called directly. An
+ * event handled just as it's pane closes is counted in the next pane.
+ * </p>
+ * 
+ * <p>
+ * <i><b>NOTE:</b> Instances of this class are thread safe and can be registered to several listeners at once.</i>
+ * </p>
+ * 
+ * @param <E> the type of the aggregated events.
+ * 
+ * @author Kennedy Kori
+ *
+ * @since Oct 20, 2026, 4:02:15 PM
+ */
+public final class WindowAggregator<E extends Event> implements Handler<E> {
+
+	private static final int MAX_STRIPES = 16;
+
+	private final ToDoubleFunction<? super E> valueExtractor;
+	private final Listener target;
+	private final long sizeNanos;
+	private final long slideNanos;
+	private final int panesPerWindow;
+	/**
+	 * the time at which the first pane starts
+	 */
+	private final long origin;
+	private final Stripe[] stripes;
+	/**
+	 * the merged aggregates of the closed panes of the current window, oldest first, guarded by the lock of this
+	 * aggregator
+	 */
+	private final ArrayDeque<Map<Key, Accumulator>> panes = new ArrayDeque<>();
+	/**
+	 * the index of the latest closed pane, guarded by the lock of this aggregator
+	 */
+	private long closedPane = -1;
+
+	/**
+	 * Creates a new {@code WindowAggregator} with tumbling windows of the given size.
+	 * 
+	 * @param valueExtractor the function used to extract the value of an event.
+	 * @param size the length of each window.
+	 * @param unit the unit of {@code size}.
+	 * @param target the listener to fire the aggregates on.
+	 * 
+	 * @throws IllegalArgumentException if {@code size} is not greater than {@code 0}.
+	 * @throws NullPointerException if {@code valueExtractor}, {@code unit} or {@code target} is {@code null}.
+	 */
+	public WindowAggregator(ToDoubleFunction<? super E> valueExtractor, long size, TimeUnit unit, Listener target) {
+		this(valueExtractor, size, size, unit, target);
+	}
+
+	/**
+	 * Creates a new {@code WindowAggregator} with sliding windows of the given size, one of which closes every time
+	 * the given slide elapses. A slide equal to the size gives tumbling windows.
+	 * 
+	 * @param valueExtractor the function used to extract the value of an event.
+	 * @param size the length of each window.
+	 * @param slide the length of time between the closing of two consecutive windows.
+	 * @param unit the unit of {@code size} and {@code slide}.
+	 * @param target the listener to fire the aggregates on.
+	 * 
+	 * @throws IllegalArgumentException if {@code size} or {@code slide} is not greater than {@code 0} or if
+	 * {@code size} is not a multiple of {@code slide}.
+	 * @throws NullPointerException if {@code valueExtractor}, {@code unit} or {@code target} is {@code null}.
+	 */
+	public WindowAggregator(ToDoubleFunction<? super E> valueExtractor, long size, long slide, TimeUnit unit, Listener target) {
+		this.valueExtractor = requireNonNull(valueExtractor, "valueExtractor cannot be null.");
+		requireNonNull(unit, "unit cannot be null.");
+		this.target = requireNonNull(target, "target cannot be null.");
+		if (size <= 0) throw new IllegalArgumentException("size must be greater than 0.");
+		if (slide <= 0) throw new IllegalArgumentException("slide must be greater than 0.");
+		if (size % slide != 0) throw new IllegalArgumentException("size must be a multiple of slide.");
+		this.sizeNanos = unit.toNanos(size);
+		this.slideNanos = unit.toNanos(slide);
+		this.panesPerWindow = (int) Math.min(Integer.MAX_VALUE, size / slide);
+		this.origin = System.nanoTime();
+		int processors = Runtime.getRuntime().availableProcessors();
+		this.stripes = new Stripe[Math.min(MAX_STRIPES, Integer.highestOneBit(processors * 2 - 1))];
+		for (int index = 0; index < stripes.length; index++)
+			stripes[index] = new Stripe();
+	}
+
+	/**
+	 * Records the value of the given event in the current pane.
+	 * 
+	 * @param event the event to aggregate.
+	 */
+	@Override
+	public void handle(E event) {
+		record(event, System.nanoTime());
+	}
+
+	/**
+	 * Closes windows on time, using the given scheduler to call {@link #closeWindows()} just after every slide. The
+	 * returned delivery can be {@link ScheduledDelivery#cancel() cancelled} to stop closing windows on time.
+	 * 
+	 * @param scheduler the scheduler to close windows with.
+	 * 
+	 * @return the periodic delivery that closes the windows.
+	 * 
+	 * @throws IllegalStateException if {@code scheduler} has been shutdown.
+	 * @throws NullPointerException if {@code scheduler} is {@code null}.
+	 */
+	public ScheduledDelivery start(EventScheduler scheduler) {
+		requireNonNull(scheduler, "scheduler cannot be null.");
+		SimpleListener ticker = new SimpleListener();
+		ticker.addHandler(SimpleEvent.class, event -> closeWindows());
+		long untilNextPane = slideNanos - Math.floorMod(System.nanoTime() - origin, slideNanos);
+		return scheduler.fireEventAtFixedRate(ticker, new SimpleEvent(this), untilNextPane, slideNanos, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Closes every window that has ended since windows were last closed, firing an {@link AggregateEvent} on the
+	 * target listener for every event class and source that had events during each window. The aggregates are fired
+	 * on the calling thread, after the windows have been closed.
+	 * 
+	 * @return the number of aggregates fired.
+	 */
+	public int closeWindows() {
+		return closeWindows(System.nanoTime());
+	}
+
+	/**
+	 * Returns the length of each window.
+	 * 
+	 * @param unit the unit of the returned length.
+	 * 
+	 * @return the size of the windows.
+	 * 
+	 * @throws NullPointerException if {@code unit} is {@code null}.
+	 */
+	public long getSize(TimeUnit unit) {
+		return requireNonNull(unit, "unit cannot be null.").convert(sizeNanos, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Returns the length of time between the closing of two consecutive windows.
+	 * 
+	 * @param unit the unit of the returned length.
+	 * 
+	 * @return the slide of the windows.
+	 * 
+	 * @throws NullPointerException if {@code unit} is {@code null}.
+	 */
+	public long getSlide(TimeUnit unit) {
+		return requireNonNull(unit, "unit cannot be null.").convert(slideNanos, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Returns the listener the aggregates are fired on.
+	 * 
+	 * @return the target listener.
+	 */
+	public Listener getTarget() {
+		return target;
+	}
+
+	/**
+	 * Records the value of the given event in the pane of the given time.
+	 */
+	void record(E event, long now) {
+		double value = valueExtractor.applyAsDouble(event);
+		if (!Double.isFinite(value)) return;
+		long pane = Math.floorDiv(now - origin, slideNanos);
+		Key key = new Key(event.getClass(), event.source());
+		Stripe stripe = stripes[(int) Thread.currentThread().getId() & (stripes.length - 1)];
+		synchronized (stripe) {
+			stripe.partials(pane).computeIfAbsent(key, k -> new Accumulator()).record(value);
+		}
+	}
+
+	/**
+	 * Closes every pane that has ended at the given time and fires the aggregates of the windows that closed with them.
+	 */
+	int closeWindows(long now) {
+		List<AggregateEvent> aggregates = new ArrayList<>();
+		synchronized (this) {
+			long lastEnded = Math.floorDiv(now - origin, slideNanos) - 1;
+			while (closedPane < lastEnded) {
+				if (isWindowEmpty()) {
+					// Skip the panes before the earliest partial aggregate, their windows are empty
+					long earliest = Long.MAX_VALUE;
+					for (Stripe stripe : stripes) {
+						synchronized (stripe) {
+							earliest = Math.min(earliest, stripe.earliestPane());
+						}
+					}
+					long skipTo = Math.min(earliest, lastEnded + 1) - 1;
+					if (skipTo > closedPane) {
+						panes.clear();
+						closedPane = skipTo;
+						continue;
+					}
+				}
+				long pane = closedPane + 1;
+				Map<Key, Accumulator> merged = new HashMap<>();
+				for (Stripe stripe : stripes) {
+					synchronized (stripe) {
+						stripe.drain(pane, merged);
+					}
+				}
+				panes.addLast(merged);
+				if (panes.size() > panesPerWindow) panes.removeFirst();
+				closedPane = pane;
+				addAggregates(aggregates);
+			}
+		}
+		for (AggregateEvent aggregate : aggregates)
+			target.fireEvent(aggregate);
+		return aggregates.size();
+	}
+
+	private boolean isWindowEmpty() {
+		for (Map<Key, Accumulator> pane : panes)
+			if (!pane.isEmpty()) return false;
+		return true;
+	}
+
+	/**
+	 * Merges the panes of the current window into a new aggregate for every key.
+	 */
+	private void addAggregates(List<AggregateEvent> aggregates) {
+		Map<Key, Accumulator> window = new HashMap<>();
+		for (Map<Key, Accumulator> pane : panes)
+			pane.forEach((key, accumulator) -> window.computeIfAbsent(key, k -> new Accumulator()).add(accumulator));
+		window.forEach((key, accumulator) -> aggregates.add(
+				new AggregateEvent(key.source, key.eventClass, sizeNanos, accumulator.sum, accumulator.histogram)));
+	}
+
+	/**
+	 * The partial aggregates recorded by the threads of a single stripe, by pane. Only accessed while holding the lock
+	 * of the stripe.
+	 */
+	private static final class Stripe {
+
+		private final TreeMap<Long, Map<Key, Accumulator>> partials = new TreeMap<>();
+		/**
+		 * the pane whose partial aggregates were used last, so that most events don't need to look their pane up
+		 */
+		private long currentPane = Long.MIN_VALUE;
+		private Map<Key, Accumulator> current;
+
+		private Map<Key, Accumulator> partials(long pane) {
+			if (pane != currentPane) {
+				current = partials.computeIfAbsent(pane, key -> new HashMap<>());
+				currentPane = pane;
+			}
+			return current;
+		}
+
+		/**
+		 * Merges the partial aggregates of the given pane, and of any earlier pane recorded late, into the given map.
+		 */
+		private void drain(long pane, Map<Key, Accumulator> merged) {
+			Iterator<Map<Key, Accumulator>> closed = partials.headMap(pane, true).values().iterator();
+			while (closed.hasNext()) {
+				closed.next().forEach((key, accumulator) -> merged.merge(key, accumulator, Accumulator::add));
+				closed.remove();
+			}
+			if (currentPane <= pane) {
+				currentPane = Long.MIN_VALUE;
+				current = null;
+			}
+		}
+
+		private long earliestPane() {
+			return partials.isEmpty()? Long.MAX_VALUE : partials.firstKey();
+		}
+	}
+
+	/**
+	 * The sum and histogram of the values of a single key.
+	 */
+	private static final class Accumulator {
+
+		private final ValueHistogram histogram = new ValueHistogram();
+		private double sum;
+
+		private void record(double value) {
+			sum += value;
+			histogram.record(value);
+		}
+
+		private Accumulator add(Accumulator accumulator) {
+			sum += accumulator.sum;
+			histogram.add(accumulator.histogram);
+			return this;
+		}
+	}
+
+	/**
+	 * The class and source of the aggregated events.
+	 */
+	private static final class Key {
+
+		private final Class<? extends Event> eventClass;
+		private final Object source;
+		private final int hash;
+
+		private Key(Class<? extends Event> eventClass, Object source) {
+			this.eventClass = eventClass;
+			this.source = source;
+			this.hash = 31 * eventClass.hashCode() + source.hashCode();
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) return true;
+			if (!(obj instanceof Key)) return false;
+			Key other = (Key) obj;
+			return eventClass == other.eventClass && source.equals(other.source);
+		}
+	}
+}
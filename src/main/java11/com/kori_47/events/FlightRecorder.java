@@ -0,0 +1,220 @@
+/**
+ * 
+ */
+package com.kori_47.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import jdk.jfr.Timespan;
+
+/**
+ * <p>
+ * The hooks through which listeners report what they do to the JDK Flight Recorder. This is the Java 11 version of 
+ * the class, it emits the events described in the Java 8 version, which does nothing, and must declare the same 
+ * methods.
+ * </p>
+ * <p>
+ * Every hook first checks whether it's event is enabled in a running recording, and only then creates an event, so 
+ * listeners don't allocate anything for the recorder while no recording is running. {@code HandlerExecution} events 
+ * are enabled by default with a threshold of 1 millisecond, so that only slow handlers are recorded, while the 
+ * high volume {@code Publish}, {@code Enqueue} and {@code Dequeue} events are disabled by default. Both can be 
+ * changed in the recording's settings, e.g {@code com.kori_47.events.HandlerExecution#threshold=100 us} in a 
+ * {@code .jfc} file, or with {@code Recording.enable("com.kori_47.events.HandlerExecution").withThreshold(...)}.
+ * </p>
+ * <p>
+ * The {@code jdk.jfr} module is optional, if the runtime doesn't have it every hook does nothing, as in the Java 8
+ * version, instead of failing to initialize this class.
+ * </p>
+ * 
+ * @author Kennedy Kori
+ *
+ * @since Oct 20, 2026, 2:31:07 PM
+ */
+final class FlightRecorder {
+	
+	/**
+	 * whether the {@code jdk.jfr} module is available, it is optional and a runtime image may have been built without it
+	 */
+	private static final boolean AVAILABLE = isAvailable();
+
+	private FlightRecorder() {}
+
+	private static boolean isAvailable() {
+		try {
+			Recorder.initialize();
+			return true;
+		} catch (LinkageError ex) {
+			// Without jdk.jfr every hook does nothing, as in the Java 8 version
+			return false;
+		}
+	}
+
+	static void published(Listener listener, Event event, boolean accepted) {
+		if (AVAILABLE) Recorder.published(listener, event, accepted);
+	}
+
+	static void enqueued(Listener listener, Event event) {
+		if (AVAILABLE) Recorder.enqueued(listener, event);
+	}
+
+	static long enqueueTime() {
+		return AVAILABLE? Recorder.enqueueTime() : 0;
+	}
+
+	static void dequeued(Listener listener, Event event, long enqueueTime) {
+		if (AVAILABLE) Recorder.dequeued(listener, event, enqueueTime);
+	}
+
+	static Object beginHandler() {
+		return AVAILABLE? Recorder.beginHandler() : null;
+	}
+
+	static void endHandler(Object recording, Listener listener, Handler<?> handler, Event event, boolean failed) {
+		if (recording != null) Recorder.endHandler(recording, listener, handler, event, failed);
+	}
+
+	/**
+	 * Holds everything that refers to {@code jdk.jfr}, so that it is only loaded once {@link FlightRecorder} has found
+	 * the module to be available.
+	 */
+	private static final class Recorder {
+
+		private static final EventType PUBLISH = EventType.getEventType(Publish.class);
+		private static final EventType ENQUEUE = EventType.getEventType(Enqueue.class);
+		private static final EventType DEQUEUE = EventType.getEventType(Dequeue.class);
+		private static final EventType HANDLER_EXECUTION = EventType.getEventType(HandlerExecution.class);
+
+		private Recorder() {}
+
+		static void initialize() {
+			// Calling this initializes the class, which fails without jdk.jfr
+		}
+
+		static void published(Listener listener, Event event, boolean accepted) {
+			if (!PUBLISH.isEnabled()) return;
+			Publish recording = new Publish();
+			recording.listener = String.valueOf(listener);
+			recording.eventClass = event.getClass();
+			recording.accepted = accepted;
+			recording.commit();
+		}
+
+		static void enqueued(Listener listener, Event event) {
+			if (!ENQUEUE.isEnabled()) return;
+			Enqueue recording = new Enqueue();
+			recording.listener = String.valueOf(listener);
+			recording.eventClass = event.getClass();
+			recording.commit();
+		}
+
+		static long enqueueTime() {
+			return DEQUEUE.isEnabled()? System.nanoTime() : 0;
+		}
+
+		static void dequeued(Listener listener, Event event, long enqueueTime) {
+			if (!DEQUEUE.isEnabled()) return;
+			Dequeue recording = new Dequeue();
+			recording.listener = String.valueOf(listener);
+			recording.eventClass = event.getClass();
+			// The event may have been queued before the recording started
+			recording.queueTime = (enqueueTime == 0)? 0 : System.nanoTime() - enqueueTime;
+			recording.commit();
+		}
+
+		static Object beginHandler() {
+			if (!HANDLER_EXECUTION.isEnabled()) return null;
+			HandlerExecution recording = new HandlerExecution();
+			recording.begin();
+			return recording;
+		}
+
+		static void endHandler(Object recording, Listener listener, Handler<?> handler, Event event, boolean failed) {
+			HandlerExecution execution = (HandlerExecution) recording;
+			execution.end();
+			if (!execution.shouldCommit()) return;
+			execution.listener = String.valueOf(listener);
+			execution.handler = String.valueOf(handler);
+			execution.handlerClass = handler.getClass();
+			execution.eventClass = event.getClass();
+			execution.failed = failed;
+			execution.commit();
+		}
+	}
+
+	@Name("com.kori_47.events.Publish")
+	@Label("Event Published")
+	@Category("SimpleEvents")
+	@Enabled(false)
+	@StackTrace(false)
+	static final class Publish extends jdk.jfr.Event {
+
+		@Label("Listener")
+		String listener;
+
+		@Label("Event Class")
+		Class<?> eventClass;
+
+		@Label("Accepted")
+		boolean accepted;
+	}
+
+	@Name("com.kori_47.events.Enqueue")
+	@Label("Event Enqueued")
+	@Category("SimpleEvents")
+	@Enabled(false)
+	@StackTrace(false)
+	static final class Enqueue extends jdk.jfr.Event {
+
+		@Label("Listener")
+		String listener;
+
+		@Label("Event Class")
+		Class<?> eventClass;
+	}
+
+	@Name("com.kori_47.events.Dequeue")
+	@Label("Event Dequeued")
+	@Category("SimpleEvents")
+	@Enabled(false)
+	@StackTrace(false)
+	static final class Dequeue extends jdk.jfr.Event {
+
+		@Label("Listener")
+		String listener;
+
+		@Label("Event Class")
+		Class<?> eventClass;
+
+		@Label("Queue Time")
+		@Timespan(Timespan.NANOSECONDS)
+		long queueTime;
+	}
+
+	@Name("com.kori_47.events.HandlerExecution")
+	@Label("Handler Execution")
+	@Category("SimpleEvents")
+	@Threshold("1 ms")
+	@StackTrace(false)
+	static final class HandlerExecution extends jdk.jfr.Event {
+
+		@Label("Listener")
+		String listener;
+
+		@Label("Handler")
+		String handler;
+
+		@Label("Handler Class")
+		Class<?> handlerClass;
+
+		@Label("Event Class")
+		Class<?> eventClass;
+
+		@Label("Failed")
+		boolean failed;
+	}
+}
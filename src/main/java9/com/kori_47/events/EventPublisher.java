@@ -0,0 +1,138 @@
+/**
+ * 
+ */
+package com.kori_47.events;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+
+/**
+ * <p>
+ * This is a {@link Flow.Publisher} that publishes the {@link Event events} of a given type that are fired on a 
+ * {@link Listener}. Regardless of the number of subscribers, a publisher registers a single {@link Handler} to it's 
+ * listener, the handler is registered when the first subscriber subscribes and is removed once all the subscribers 
+ * have cancelled their subscriptions or the publisher is {@link #close() closed}.
+ * </p>
+ * <p>
+ * Each subscriber is only sent as many events as it has {@link Flow.Subscription#request(long) requested}. Events 
+ * fired while a subscriber has no outstanding demand are held in a bounded buffer that belongs to that subscriber, 
+ * once the buffer is full, the publisher's {@link OverflowStrategy} decides which events are discarded. Events are 
+ * sent to a subscriber either on the thread that executes the handler or on the thread that requests more events.
+ * </p>
+ * <p>
+ * A {@link PooledEvent} is retained once for every subscriber that buffers it and that reference is released once the 
+ * subscriber's {@link Flow.Subscriber#onNext(Object) onNext} returns, or once the event is discarded. A subscriber that 
+ * keeps an event after {@code onNext} returns must {@link PooledEvent#retain() retain} it.
+ * </p>
+ * 
+ * <p>
+ * <i><b>NOTE:</b> Instances of this class are thread safe.</i>
+ * </p>
+ * 
+ * @param <T> the type of {@code Event} published.
+ * 
+ * @author Kennedy Kori
+ *
+ * @since Oct 19, 2026, 3:24:37 PM
+ */
+public class EventPublisher<T extends Event> implements Flow.Publisher<T>, AutoCloseable {
+	
+	private final Listener listener;
+	private final Class<T> eventClass;
+	private final int bufferSize;
+	private final OverflowStrategy overflowStrategy;
+	private final List<EventSubscription<T>> subscriptions;
+	private final Handler<T> handler;
+	private boolean registered;
+	private boolean closed;
+
+	/**
+	 * Creates a new {@code EventPublisher} that publishes the events of the given type fired on the given listener. 
+	 * 
+	 * @param listener the listener whose events should be published.
+	 * @param eventClass the class of the events to publish.
+	 * @param bufferSize the maximum number of events to buffer for each subscriber.
+	 * @param overflowStrategy what to do when the buffer of a subscriber is full.
+	 * 
+	 * @throws IllegalArgumentException if {@code bufferSize} is less than 1.
+	 * @throws NullPointerException if {@code listener}, {@code eventClass} or {@code overflowStrategy} is {@code null}.
+	 */
+	public EventPublisher(Listener listener, Class<T> eventClass, int bufferSize, OverflowStrategy overflowStrategy) {
+		if (bufferSize < 1)
+			throw new IllegalArgumentException("bufferSize must be greater than 0.");
+		this.listener = requireNonNull(listener, "listener cannot be null.");
+		this.eventClass = requireNonNull(eventClass, "eventClass cannot be null.");
+		this.bufferSize = bufferSize;
+		this.overflowStrategy = requireNonNull(overflowStrategy, "overflowStrategy cannot be null.");
+		this.subscriptions = new CopyOnWriteArrayList<>();
+		this.handler = this::publish;
+	}
+
+	/**
+	* {@inheritDoc}
+	*/
+	@Override
+	public void subscribe(Flow.Subscriber<? super T> subscriber) {
+		requireNonNull(subscriber, "subscriber cannot be null.");
+		EventSubscription<T> subscription = new EventSubscription<>(this, subscriber, bufferSize, overflowStrategy);
+		boolean accepted;
+		synchronized (this) {
+			accepted = !closed;
+			if (accepted) {
+				subscriptions.add(subscription);
+				if (!registered) {
+					listener.addHandler(eventClass, handler);
+					registered = true;
+				}
+			}
+		}
+		subscriber.onSubscribe(subscription);
+		if (!accepted) subscription.complete();
+	}
+	
+	/**
+	 * Returns the number of subscribers currently subscribed to this publisher.
+	 * 
+	 * @return the number of subscribers.
+	 */
+	public int getSubscriberCount() {
+		return subscriptions.size();
+	}
+	
+	/**
+	 * Closes this publisher, removing it's handler from the listener. Each subscriber is sent the events remaining in 
+	 * it's buffer as it requests them, followed by {@link Flow.Subscriber#onComplete() onComplete}. Calling this method 
+	 * after a publisher has already been closed has no effect.
+	 */
+	@Override
+	public void close() {
+		synchronized (this) {
+			if (closed) return;
+			closed = true;
+			unregister();
+		}
+		subscriptions.forEach(EventSubscription::complete);
+		subscriptions.clear();
+	}
+	
+	/**
+	 * Removes a cancelled or terminated subscription, removing the handler once no subscriptions remain.
+	 */
+	synchronized void remove(EventSubscription<T> subscription) {
+		if (subscriptions.remove(subscription) && subscriptions.isEmpty()) unregister();
+	}
+	
+	private void publish(T event) {
+		for (EventSubscription<T> subscription : subscriptions)
+			subscription.offer(event);
+	}
+	
+	private void unregister() {
+		if (!registered) return;
+		listener.removeHandler(eventClass, handler);
+		registered = false;
+	}
+}
@@ -0,0 +1,160 @@
+/**
+ * 
+ */
+package com.kori_47.events;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.concurrent.Flow;
+
+/**
+ * <p>
+ * This is a {@link Flow.Subscriber} that {@link Listener#fireEvent(Event) fires} every item it receives on a 
+ * {@link Listener}. The subscriber requests {@code prefetch} items as soon as it subscribes and requests more once 
+ * half of them have been fired, so the rate at which items are received is bounded by the rate at which the listener 
+ * accepts them. With a {@link SimpleListener}, this means that an item is only requested once the handlers of the 
+ * previous items have completed.
+ * </p>
+ * <p>
+ * If firing an item throws, which only happens when the listener has no {@link ErrorHandler} or has been disposed, 
+ * the subscriber cancels it's subscription instead of throwing to the publisher. The exception is passed to the 
+ * listener's {@code ErrorHandler} if it has one, and can be retrieved using {@link #getFailure()}.
+ * </p>
+ * <p>
+ * A {@link PooledEvent} received is only borrowed for the duration of {@code onNext}, as with an 
+ * {@link EventPublisher}, so the subscriber retains it before firing it since the listener takes over the reference.
+ * </p>
+ * 
+ * @param <T> the type of {@code Event} received.
+ * 
+ * @author Kennedy Kori
+ *
+ * @since Oct 19, 2026, 4:02:13 PM
+ */
+public class EventSubscriber<T extends Event> implements Flow.Subscriber<T> {
+	
+	private final Listener listener;
+	/**
+	 * fires items on the listener, and is the failing handler passed to the listener's error handler
+	 */
+	private final Handler<T> delivery;
+	private final int prefetch;
+	private final int replenishThreshold;
+	private volatile Flow.Subscription subscription;
+	private volatile boolean done;
+	private volatile RuntimeException failure;
+	private int fired;
+	
+	/**
+	 * Creates a new {@code EventSubscriber} that fires the items it receives on the given listener.
+	 * 
+	 * @param listener the listener to fire the received items on.
+	 * @param prefetch the maximum number of items requested but not yet received at any time.
+	 * 
+	 * @throws IllegalArgumentException if {@code prefetch} is less than 1.
+	 * @throws NullPointerException if {@code listener} is {@code null}.
+	 */
+	public EventSubscriber(Listener listener, int prefetch) {
+		if (prefetch < 1)
+			throw new IllegalArgumentException("prefetch must be greater than 0.");
+		this.listener = requireNonNull(listener, "listener cannot be null.");
+		this.delivery = listener::fireEvent;
+		this.prefetch = prefetch;
+		this.replenishThreshold = Math.max(prefetch / 2, 1);
+	}
+
+	/**
+	* {@inheritDoc}
+	*/
+	@Override
+	public void onSubscribe(Flow.Subscription subscription) {
+		requireNonNull(subscription, "subscription cannot be null.");
+		if (this.subscription != null || done) {
+			// Only a single subscription is supported
+			subscription.cancel();
+			return;
+		}
+		this.subscription = subscription;
+		subscription.request(prefetch);
+	}
+
+	/**
+	* {@inheritDoc}
+	*/
+	@Override
+	public void onNext(T item) {
+		requireNonNull(item, "item cannot be null.");
+		if (done) return;
+		try {
+			if (item instanceof PooledEvent) ((PooledEvent) item).retain();
+			delivery.handle(item);
+		} catch (RuntimeException ex) {
+			// A subscriber must not throw to it's publisher, give up on the subscription instead
+			failed(item, ex);
+			return;
+		}
+		if (++fired == replenishThreshold) {
+			fired = 0;
+			subscription.request(replenishThreshold);
+		}
+	}
+
+	/**
+	* {@inheritDoc}
+	*/
+	@Override
+	public void onError(Throwable throwable) {
+		requireNonNull(throwable, "throwable cannot be null.");
+		done = true;
+	}
+
+	/**
+	* {@inheritDoc}
+	*/
+	@Override
+	public void onComplete() {
+		done = true;
+	}
+	
+	/**
+	 * Cancels the subscription of this subscriber, after which no more items are fired on the listener.
+	 */
+	public void cancel() {
+		done = true;
+		Flow.Subscription subscription = this.subscription;
+		if (subscription != null) subscription.cancel();
+	}
+	
+	/**
+	 * Returns an {@link Optional} containing the exception thrown while firing an item, if firing an item failed and 
+	 * cancelled this subscriber.
+	 * 
+	 * @return an {@code Optional} containing the exception that cancelled this subscriber.
+	 */
+	public Optional<RuntimeException> getFailure() {
+		return Optional.ofNullable(failure);
+	}
+	
+	/**
+	 * Returns {@code true} if this subscriber has been completed, failed or cancelled.
+	 * 
+	 * @return {@code true} if this subscriber will not receive more items, {@code false} otherwise.
+	 */
+	public boolean isDone() {
+		return done;
+	}
+	
+	private void failed(T item, RuntimeException ex) {
+		failure = ex;
+		cancel();
+		Optional<ErrorHandler> errorHandler = (listener instanceof AbstractListener)? 
+				((AbstractListener) listener).getErrorHandler() : Optional.empty();
+		if (!errorHandler.isPresent()) return;
+		try {
+			errorHandler.get().handleError(item, delivery, ex);
+		} catch (RuntimeException ignored) {
+			// A failing ErrorHandler has no one to report to
+		}
+	}
+}
@@ -0,0 +1,166 @@
+/**
+ * 
+ */
+package com.kori_47.events;
+
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This is the {@link Flow.Subscription} of a single subscriber of an {@link EventPublisher}. Events offered to the 
+ * subscription are held in a bounded ring buffer until the subscriber requests them. Signals to the subscriber are 
+ * serialized by a work-in-progress counter, so that only one thread ever calls the subscriber at a time. A 
+ * {@link PooledEvent} is retained while it is buffered and released once the subscriber's {@code onNext} returns, or 
+ * once it is discarded.
+ * 
+ * @param <T> the type of {@code Event} published.
+ * 
+ * @author Kennedy Kori
+ *
+ * @since Oct 19, 2026, 3:41:55 PM
+ */
+final class EventSubscription<T extends Event> implements Flow.Subscription {
+	
+	private final EventPublisher<T> publisher;
+	private final Flow.Subscriber<? super T> subscriber;
+	private final OverflowStrategy overflowStrategy;
+	private final AtomicLong requested;
+	private final AtomicInteger workInProgress;
+	// The buffer is guarded by this subscription's lock.
+	private final Object[] buffer;
+	private int head;
+	private int size;
+	private volatile boolean cancelled;
+	private volatile boolean completed;
+	private volatile Throwable error;
+	private boolean terminated;
+	
+	EventSubscription(EventPublisher<T> publisher, Flow.Subscriber<? super T> subscriber, int bufferSize, OverflowStrategy overflowStrategy) {
+		this.publisher = publisher;
+		this.subscriber = subscriber;
+		this.overflowStrategy = overflowStrategy;
+		this.requested = new AtomicLong();
+		this.workInProgress = new AtomicInteger();
+		this.buffer = new Object[bufferSize];
+	}
+
+	@Override
+	public void request(long n) {
+		if (n <= 0) {
+			fail(new IllegalArgumentException("n must be greater than 0."));
+			return;
+		}
+		requested.getAndAccumulate(n, (current, added) -> (current + added < 0)? Long.MAX_VALUE : current + added);
+		drain();
+	}
+
+	@Override
+	public void cancel() {
+		cancelled = true;
+		publisher.remove(this);
+		synchronized (this) {
+			clearBuffer();
+		}
+	}
+	
+	/**
+	 * Buffers the given event, applying the overflow strategy if the buffer is full, and sends as many events as 
+	 * have been requested to the subscriber.
+	 */
+	void offer(T event) {
+		if (cancelled || completed) return;
+		synchronized (this) {
+			// The subscription may have been cancelled or completed after the check above
+			if (cancelled || completed) return;
+			if (size == buffer.length) {
+				switch (overflowStrategy) {
+				case DROP_LATEST:
+					return;
+				case DROP_OLDEST:
+					PooledEvent.releaseIfPooled((Event) buffer[head]);
+					buffer[head] = null;
+					head = (head + 1) % buffer.length;
+					size--;
+					break;
+				case ERROR:
+					clearBuffer();
+					error = new IllegalStateException("The buffer of a subscriber overflowed.");
+					completed = true;
+					break;
+				}
+			}
+			if (!completed) {
+				// The listener releases the event once the handler returns, the buffer holds a reference of it's own
+				if (event instanceof PooledEvent) ((PooledEvent) event).retain();
+				buffer[(head + size) % buffer.length] = event;
+				size++;
+			}
+		}
+		drain();
+	}
+	
+	/**
+	 * Completes this subscription once the subscriber has consumed the events remaining in the buffer.
+	 */
+	void complete() {
+		completed = true;
+		drain();
+	}
+	
+	private void fail(Throwable throwable) {
+		synchronized (this) {
+			clearBuffer();
+		}
+		error = throwable;
+		completed = true;
+		drain();
+	}
+	
+	@SuppressWarnings("unchecked")
+	private void drain() {
+		if (workInProgress.getAndIncrement() != 0) return;
+		int missed = 1;
+		do {
+			long demand = requested.get();
+			long emitted = 0;
+			while (emitted != demand && !cancelled && error == null) {
+				T event;
+				synchronized (this) {
+					if (size == 0) break;
+					event = (T) buffer[head];
+					buffer[head] = null;
+					head = (head + 1) % buffer.length;
+					size--;
+				}
+				try {
+					subscriber.onNext(event);
+				} finally {
+					PooledEvent.releaseIfPooled(event);
+				}
+				emitted++;
+			}
+			if (emitted > 0 && demand != Long.MAX_VALUE) requested.addAndGet(-emitted);
+			if (!cancelled && !terminated && completed && (error != null || isEmpty())) {
+				terminated = true;
+				publisher.remove(this);
+				if (error != null) subscriber.onError(error);
+				else subscriber.onComplete();
+			}
+			missed = workInProgress.addAndGet(-missed);
+		} while (missed != 0);
+	}
+	
+	private synchronized boolean isEmpty() {
+		return size == 0;
+	}
+	
+	private void clearBuffer() {
+		for (int index = 0; index < size; index++) {
+			PooledEvent.releaseIfPooled((Event) buffer[(head + index) % buffer.length]);
+			buffer[(head + index) % buffer.length] = null;
+		}
+		head = 0;
+		size = 0;
+	}
+}
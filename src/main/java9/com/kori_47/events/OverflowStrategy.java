@@ -0,0 +1,30 @@
+/**
+ * 
+ */
+package com.kori_47.events;
+
+/**
+ * This determines what an {@link EventPublisher} does when an {@link Event} is fired but the buffer of one 
+ * of it's subscribers is full, i.e, when a subscriber hasn't requested the events it has been sent fast enough.
+ * 
+ * @author Kennedy Kori
+ *
+ * @since Oct 19, 2026, 3:20:09 PM
+ */
+public enum OverflowStrategy {
+	
+	/**
+	 * Discard the oldest buffered event to make room for the new one.
+	 */
+	DROP_OLDEST,
+	
+	/**
+	 * Discard the new event and keep the buffered events.
+	 */
+	DROP_LATEST,
+	
+	/**
+	 * Discard all the buffered events and terminate the subscription with an {@link IllegalStateException}.
+	 */
+	ERROR
+}
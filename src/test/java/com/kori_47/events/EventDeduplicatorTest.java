@@ -0,0 +1,140 @@
+package com.kori_47.events;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class EventDeduplicatorTest {
+	
+	@Test
+	public void testExactDeduplication() throws InterruptedException {
+		SimpleListener listener = new SimpleListener();
+		AtomicInteger testValue = new AtomicInteger();
+		EventDeduplicator deduplicator = EventDeduplicator.exact(200, TimeUnit.MILLISECONDS, 16);
+		
+		// Register a handler and set the deduplicator as the listener's filter
+		listener.addHandler(ValueChangedEvent.class, event -> testValue.getAndIncrement());
+		listener.setEventFilter(deduplicator);
+		assertFalse(deduplicator.isApproximate());
+		
+		// Fire the same change three times and assert that it was only handled once
+		listener.fireEvent(new ValueChangedEvent<>(this, 1, 2));
+		listener.fireEvent(new ValueChangedEvent<>(this, 1, 2));
+		listener.fireEvent(new ValueChangedEvent<>(this, 1, 2));
+		assertEquals(1, testValue.get());
+		assertEquals(2, deduplicator.getDuplicateCount());
+		
+		// Assert that a different change, or the same change from another source, isn't dropped
+		listener.fireEvent(new ValueChangedEvent<>(this, 2, 3));
+		listener.fireEvent(new ValueChangedEvent<>(listener, 1, 2));
+		assertEquals(3, testValue.get());
+		
+		// Wait for the window to elapse and assert that the first change is handled again
+		Thread.sleep(300);
+		listener.fireEvent(new ValueChangedEvent<>(this, 1, 2));
+		assertEquals(4, testValue.get());
+		
+		// Clean up
+		listener.clear();
+	}
+	
+	@Test
+	public void testExactDeduplicationIsBounded() {
+		EventDeduplicator deduplicator = EventDeduplicator.exact(1, TimeUnit.HOURS, 16);
+		
+		// Record more distinct events than the deduplicator can remember
+		for (int count = 0; count < 1000; count++)
+			assertTrue(deduplicator.accept(new ValueChangedEvent<>(this, count, count + 1)));
+		
+		// Assert that the most recent events are still remembered while the oldest have been evicted
+		assertFalse(deduplicator.accept(new ValueChangedEvent<>(this, 999, 1000)));
+		assertTrue(deduplicator.accept(new ValueChangedEvent<>(this, 0, 1)));
+	}
+	
+	@Test
+	public void testApproximateDeduplication() {
+		EventDeduplicator deduplicator = EventDeduplicator.approximate(1, TimeUnit.HOURS, 1000, 0.01);
+		int falsePositives = 0;
+		
+		// Assert that the deduplicator is approximate
+		assertTrue(deduplicator.isApproximate());
+		assertEquals(1, deduplicator.getWindow(TimeUnit.HOURS));
+		
+		// Record the expected number of distinct events and count the ones dropped by mistake
+		for (int count = 0; count < 1000; count++)
+			if (!deduplicator.accept(new ValueChangedEvent<>(this, count, count + 1))) falsePositives++;
+		
+		// Assert that every repeat is dropped and that few distinct events were dropped
+		for (int count = 0; count < 1000; count++)
+			assertFalse(deduplicator.accept(new ValueChangedEvent<>(this, count, count + 1)));
+		assertTrue(falsePositives < 50);
+	}
+	
+	@Test
+	public void testRecycledPooledEvents() {
+		EventPool<CountEvent> pool = new EventPool<>(CountEvent::new, 1);
+		SimpleListener listener = new SimpleListener();
+		AtomicInteger handled = new AtomicInteger();
+		listener.addHandler(CountEvent.class, event -> handled.getAndIncrement());
+		
+		// Assert that pooled events are refused without a key extractor, since they can't be told apart
+		EventDeduplicator byDefault = EventDeduplicator.exact(1, TimeUnit.HOURS, 16);
+		CountEvent refused = pool.acquire(this);
+		assertThrows(IllegalArgumentException.class, () -> byDefault.accept(refused));
+		refused.release();
+		
+		// Fire the same recycled event twice within the window, with a different count each time
+		EventDeduplicator deduplicator = EventDeduplicator.exact(1, TimeUnit.HOURS, 16, event -> ((CountEvent) event).count);
+		listener.setEventFilter(deduplicator);
+		CountEvent first = pool.acquire(this).setCount(1);
+		listener.fireEvent(first);
+		CountEvent second = pool.acquire(this).setCount(2);
+		assertSame(first, second);
+		listener.fireEvent(second);
+		
+		// Assert that both were handled while a repeat of the second count is dropped
+		assertEquals(2, handled.get());
+		listener.fireEvent(pool.acquire(this).setCount(2));
+		assertEquals(2, handled.get());
+		assertEquals(1, deduplicator.getDuplicateCount());
+		
+		// Assert that events that aren't pooled are identified by their class and source by default
+		assertTrue(byDefault.accept(new SimpleEvent(this)));
+		assertFalse(byDefault.accept(new SimpleEvent(this)));
+		assertTrue(byDefault.accept(new SimpleEvent(listener)));
+		
+		// Clean up
+		listener.clear();
+	}
+	
+	@Test
+	public void testInvalidArguments() {
+		// Assert that invalid arguments are rejected
+		assertThrows(IllegalArgumentException.class, () -> EventDeduplicator.exact(0, TimeUnit.SECONDS, 16));
+		assertThrows(IllegalArgumentException.class, () -> EventDeduplicator.exact(1, TimeUnit.SECONDS, 0));
+		assertThrows(IllegalArgumentException.class, () -> EventDeduplicator.approximate(1, TimeUnit.SECONDS, 16, 1));
+		assertThrows(NullPointerException.class, () -> EventDeduplicator.exact(1, null, 16));
+		assertThrows(NullPointerException.class, () -> EventDeduplicator.exact(1, TimeUnit.SECONDS, 16, null));
+	}
+	
+	/**
+	 * A pooled event that carries a count.
+	 */
+	private static final class CountEvent extends PooledEvent {
+		
+		private int count;
+		
+		private CountEvent setCount(int count) {
+			this.count = count;
+			return this;
+		}
+		
+		@Override
+		protected void reset() {
+			count = 0;
+		}
+	}
+}
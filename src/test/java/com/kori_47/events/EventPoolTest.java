@@ -0,0 +1,154 @@
+package com.kori_47.events;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class EventPoolTest {
+	
+	@Test
+	public void testAcquireAndRelease() {
+		EventPool<CountEvent> pool = new EventPool<>(CountEvent::new, 4);
+		
+		// Assert that the capacity is rounded up to a power of two and that a null source isn't accepted
+		assertEquals(4, new EventPool<>(CountEvent::new, 3).getCapacity());
+		assertThrows(IllegalArgumentException.class, () -> new EventPool<>(CountEvent::new, 0));
+		assertThrows(NullPointerException.class, () -> pool.acquire(null));
+		
+		// Acquire an event and assert that it holds a single reference
+		CountEvent event = pool.acquire(this);
+		assertSame(this, event.source());
+		assertEquals(1, event.refCount());
+		
+		// Retain the event and assert that it is only recycled once both references have been released
+		event.retain();
+		assertFalse(event.release());
+		assertTrue(event.release());
+		assertTrue(event.isReleased());
+		assertNull(event.source());
+		
+		// Assert that releasing an event more than once throws an IllegalStateException
+		assertThrows(IllegalStateException.class, () -> event.release());
+		assertThrows(IllegalStateException.class, () -> event.retain());
+		
+		// Assert that the released event is reused by the next acquisition from the same thread
+		assertSame(event, pool.acquire(this));
+	}
+	
+	@Test
+	public void testSimpleListenerReleasesEvents() {
+		EventPool<CountEvent> pool = new EventPool<>(CountEvent::new, 4);
+		SimpleListener listener = new SimpleListener();
+		AtomicInteger testValue = new AtomicInteger();
+		
+		// Register two handlers and fire a pooled event
+		listener.addHandler(CountEvent.class, event -> testValue.addAndGet(event.getCount()));
+		listener.addHandler(CountEvent.class, event -> assertFalse(event.isReleased()));
+		CountEvent event = pool.acquire(this).setCount(2);
+		listener.fireEvent(event);
+		
+		// Assert that the handlers were executed and the event was released after them
+		assertEquals(2, testValue.get());
+		assertTrue(event.isReleased());
+		
+		// Assert that an event without handlers is released too
+		CountEvent unhandled = pool.acquire(this);
+		new SimpleListener().fireEvent(unhandled);
+		assertTrue(unhandled.isReleased());
+		
+		// Assert that an event is released even if a handler fails
+		listener.addHandler(CountEvent.class, e -> { throw new IllegalStateException(); });
+		CountEvent failing = pool.acquire(this);
+		assertThrows(IllegalStateException.class, () -> listener.fireEvent(failing));
+		assertTrue(failing.isReleased());
+	}
+	
+	@Test
+	public void testThreadedListenerReleasesEventsAfterTheLastHandler() throws InterruptedException {
+		// Use a pool in debug mode so that released events aren't handed out again
+		EventPool<CountEvent> pool = new EventPool<>(CountEvent::new, 64, true);
+		ThreadedListener listener = new ThreadedListener(4);
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		int eventCount = 1000;
+		CountDownLatch latch = new CountDownLatch(eventCount * 3);
+		AtomicInteger releasedTooEarly = new AtomicInteger();
+		
+		// Register handlers on the pool, on another executor and inline, all of which check that the event is still alive
+		Handler<CountEvent> handler = event -> {
+			if (event.isReleased()) releasedTooEarly.getAndIncrement();
+			latch.countDown();
+		};
+		listener.addHandler(CountEvent.class, handler);
+		listener.addHandler(CountEvent.class, handler::handle, Delivery.on(executor));
+		listener.addHandler(CountEvent.class, handler::handle, Delivery.inline());
+		
+		// Fire the events and wait for them to be handled
+		CountEvent[] events = new CountEvent[eventCount];
+		for (int count = 0; count < eventCount; count++)
+			listener.fireEvent(events[count] = pool.acquire(this).setCount(count));
+		assertTrue(latch.await(10, TimeUnit.SECONDS));
+		
+		// Assert that no event was released before all of it's handlers had been executed
+		assertEquals(0, releasedTooEarly.get());
+		
+		// Assert that every event is eventually released
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		for (CountEvent event : events) {
+			while (!event.isReleased() && System.nanoTime() < deadline) Thread.yield();
+			assertTrue(event.isReleased());
+		}
+		
+		// Clean up
+		listener.dispose();
+		executor.shutdownNow();
+	}
+	
+	@Test
+	public void testDebugModeDetectsUseAfterRelease() {
+		EventPool<CountEvent> pool = new EventPool<>(CountEvent::new, 4, true);
+		SimpleListener listener = new SimpleListener();
+		CountEvent[] kept = new CountEvent[1];
+		
+		// Register a handler that keeps the event without retaining it
+		listener.addHandler(CountEvent.class, event -> kept[0] = event);
+		CountEvent event = pool.acquire(this);
+		listener.fireEvent(event);
+		
+		// Assert that using the kept event throws an IllegalStateException
+		assertTrue(pool.isDebug());
+		assertThrows(IllegalStateException.class, () -> kept[0].source());
+		assertThrows(IllegalStateException.class, () -> kept[0].getCount());
+		
+		// Assert that released events are never recycled in debug mode
+		assertNotSame(event, pool.acquire(this));
+	}
+	
+	/**
+	 * A pooled event that carries a count.
+	 */
+	private static final class CountEvent extends PooledEvent {
+		
+		private int count;
+		
+		private CountEvent setCount(int count) {
+			this.count = count;
+			return this;
+		}
+		
+		private int getCount() {
+			checkNotReleased();
+			return count;
+		}
+		
+		@Override
+		protected void reset() {
+			count = 0;
+		}
+	}
+}
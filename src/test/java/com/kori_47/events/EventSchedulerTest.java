@@ -0,0 +1,133 @@
+package com.kori_47.events;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class EventSchedulerTest {
+	
+	@Test
+	public void testFireEventAfter() throws InterruptedException {
+		EventScheduler scheduler = new EventScheduler();
+		SimpleListener listener = new SimpleListener();
+		CountDownLatch latch = new CountDownLatch(1);
+		long[] firedAt = new long[1];
+		
+		// Register a handler that records the time it was executed
+		listener.addHandler(SimpleEvent.class, event -> {
+			firedAt[0] = System.nanoTime();
+			latch.countDown();
+		});
+		
+		// Schedule an event far enough in the future for it to be cascaded from a higher level of the wheel
+		long scheduledAt = System.nanoTime();
+		ScheduledDelivery delivery = scheduler.fireEventAfter(listener, new SimpleEvent(this), 150, TimeUnit.MILLISECONDS);
+		assertFalse(delivery.isDone());
+		
+		// Assert that the event was fired, and not before it was due
+		assertTrue(latch.await(5, TimeUnit.SECONDS));
+		assertTrue(firedAt[0] - scheduledAt >= TimeUnit.MILLISECONDS.toNanos(150));
+		assertTrue(delivery.isDone());
+		assertFalse(delivery.isCancelled());
+		
+		// Clean up
+		scheduler.shutdown();
+	}
+	
+	@Test
+	public void testFireEventAt() throws InterruptedException {
+		EventScheduler scheduler = new EventScheduler();
+		SimpleListener listener = new SimpleListener();
+		CountDownLatch latch = new CountDownLatch(2);
+		listener.addHandler(SimpleEvent.class, event -> latch.countDown());
+		
+		// Schedule one event in the future and one in the past and assert that both are fired
+		scheduler.fireEventAt(listener, new SimpleEvent(this), Instant.now().plusMillis(20));
+		scheduler.fireEventAt(listener, new SimpleEvent(this), Instant.now().minusSeconds(1));
+		assertTrue(latch.await(5, TimeUnit.SECONDS));
+		
+		// Clean up
+		scheduler.shutdown();
+	}
+	
+	@Test
+	public void testCancel() throws InterruptedException {
+		EventScheduler scheduler = new EventScheduler();
+		SimpleListener listener = new SimpleListener();
+		AtomicInteger testValue = new AtomicInteger();
+		listener.addHandler(SimpleEvent.class, event -> testValue.getAndIncrement());
+		
+		// Schedule an event and cancel it before it is due
+		ScheduledDelivery delivery = scheduler.fireEventAfter(listener, new SimpleEvent(this), 50, TimeUnit.MILLISECONDS);
+		assertTrue(delivery.cancel());
+		assertTrue(delivery.isCancelled());
+		assertFalse(delivery.cancel());
+		
+		// Wait for the event to become due and assert that it was never fired
+		Thread.sleep(200);
+		assertEquals(0, testValue.get());
+		
+		// Clean up
+		scheduler.shutdown();
+	}
+	
+	@Test
+	public void testFireEventAtFixedRate() throws InterruptedException {
+		EventScheduler scheduler = new EventScheduler();
+		SimpleListener listener = new SimpleListener();
+		CountDownLatch latch = new CountDownLatch(5);
+		AtomicInteger testValue = new AtomicInteger();
+		listener.addHandler(SimpleEvent.class, event -> {
+			testValue.getAndIncrement();
+			latch.countDown();
+		});
+		
+		// Schedule a periodic event and assert that it is fired repeatedly
+		ScheduledDelivery delivery = scheduler.fireEventAtFixedRate(listener, new SimpleEvent(this), 0, 10, TimeUnit.MILLISECONDS);
+		assertTrue(delivery.isPeriodic());
+		assertTrue(latch.await(5, TimeUnit.SECONDS));
+		
+		// Cancel the delivery and assert that the event is no longer fired
+		assertTrue(delivery.cancel());
+		Thread.sleep(50);
+		int firings = testValue.get();
+		Thread.sleep(100);
+		assertEquals(firings, testValue.get());
+		
+		// Assert that a non positive period is rejected
+		assertThrows(IllegalArgumentException.class, () -> scheduler.fireEventAtFixedRate(listener, new SimpleEvent(this), 0, 0, TimeUnit.MILLISECONDS));
+		
+		// Assert that a pooled event, which is recycled once it has been handled, can't be fired periodically
+		PooledEvent pooled = new PooledEvent() {};
+		assertThrows(IllegalArgumentException.class, () -> scheduler.fireEventAtFixedRate(listener, pooled, 0, 10, TimeUnit.MILLISECONDS));
+		
+		// Clean up
+		scheduler.shutdown();
+	}
+	
+	@Test
+	public void testShutdown() {
+		EventScheduler scheduler = new EventScheduler();
+		SimpleListener listener = new SimpleListener();
+		
+		// Assert that the scheduler is not shutdown initially
+		assertFalse(scheduler.isShutdown());
+		
+		// Shutdown the scheduler and assert that no more deliveries can be scheduled
+		scheduler.shutdown();
+		assertTrue(scheduler.isShutdown());
+		assertThrows(IllegalStateException.class, () -> scheduler.fireEventAfter(listener, new SimpleEvent(this), 1, TimeUnit.SECONDS));
+		
+		// Assert that a NullPointerException is thrown when null arguments are passed
+		assertThrows(NullPointerException.class, () -> scheduler.fireEventAfter(null, new SimpleEvent(this), 1, TimeUnit.SECONDS));
+		assertThrows(NullPointerException.class, () -> scheduler.fireEventAfter(listener, null, 1, TimeUnit.SECONDS));
+		
+		// Call shutdown multiple times to make sure it returns cleanly
+		scheduler.shutdown();
+	}
+}
@@ -0,0 +1,83 @@
+package com.kori_47.events;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class EventThrottleTest {
+	
+	@Test
+	public void testRateLimit() throws InterruptedException {
+		SimpleListener listener = new SimpleListener();
+		EventThrottle throttle = new EventThrottle();
+		AtomicInteger testValue = new AtomicInteger();
+		
+		// Register a handler and limit SimpleEvents to bursts of 5 events at 10 events per second
+		listener.addHandler(SimpleEvent.class, event -> testValue.getAndIncrement());
+		listener.setEventFilter(throttle);
+		throttle.setRateLimit(SimpleEvent.class, 10, 5);
+		
+		// Fire 20 events at once and assert that only the burst was handled
+		for (int count = 0; count < 20; count++)
+			listener.fireEvent(new SimpleEvent(this));
+		assertEquals(5, testValue.get());
+		assertEquals(5, throttle.getAcceptedCount(SimpleEvent.class));
+		assertEquals(15, throttle.getDroppedCount(SimpleEvent.class));
+		
+		// Wait for a few tokens to be added and assert that more events are accepted
+		Thread.sleep(250);
+		listener.fireEvent(new SimpleEvent(this));
+		assertEquals(6, testValue.get());
+		
+		// Assert that events of other types aren't limited
+		assertTrue(throttle.accept(new ProgressChangedEvent(this, 0f, 1f)));
+		assertEquals(0, throttle.getAcceptedCount(ProgressChangedEvent.class));
+		
+		// Remove the rate limit and assert that every event is accepted again while the counts are kept
+		throttle.removeRateLimit(SimpleEvent.class);
+		for (int count = 0; count < 20; count++)
+			listener.fireEvent(new SimpleEvent(this));
+		assertEquals(26, testValue.get());
+		assertEquals(15, throttle.getDroppedCount(SimpleEvent.class));
+		
+		// Clean up
+		listener.clear();
+	}
+	
+	@Test
+	public void testSampling() {
+		EventThrottle throttle = new EventThrottle();
+		int eventCount = 10_000;
+		int accepted = 0;
+		
+		// Sample a quarter of the events
+		throttle.setSamplingRate(SimpleEvent.class, 0.25);
+		for (int count = 0; count < eventCount; count++)
+			if (throttle.accept(new SimpleEvent(this))) accepted++;
+		
+		// Assert that roughly a quarter of the events was accepted and the rest were counted as sampled out
+		assertTrue(accepted > 2000 && accepted < 3000);
+		assertEquals(accepted, throttle.getAcceptedCount(SimpleEvent.class));
+		assertEquals(eventCount - accepted, throttle.getSampledOutCount(SimpleEvent.class));
+		
+		// Assert that a sampling rate of 0 drops everything and removing the limits forgets the counts
+		throttle.setSamplingRate(SimpleEvent.class, 0);
+		assertFalse(throttle.accept(new SimpleEvent(this)));
+		throttle.removeLimits(SimpleEvent.class);
+		assertTrue(throttle.accept(new SimpleEvent(this)));
+		assertEquals(0, throttle.getSampledOutCount(SimpleEvent.class));
+	}
+	
+	@Test
+	public void testInvalidArguments() {
+		EventThrottle throttle = new EventThrottle();
+		
+		// Assert that invalid limits are rejected
+		assertThrows(IllegalArgumentException.class, () -> throttle.setRateLimit(SimpleEvent.class, 0, 1));
+		assertThrows(IllegalArgumentException.class, () -> throttle.setRateLimit(SimpleEvent.class, 1, 0));
+		assertThrows(IllegalArgumentException.class, () -> throttle.setSamplingRate(SimpleEvent.class, 1.5));
+		assertThrows(NullPointerException.class, () -> throttle.setSamplingRate(null, 1));
+	}
+}
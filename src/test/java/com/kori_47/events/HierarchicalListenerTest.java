@@ -0,0 +1,105 @@
+package com.kori_47.events;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+public class HierarchicalListenerTest implements ListenerTest<HierarchicalListener> {
+	
+	@Override
+	public void cleanUp(HierarchicalListener listener) {
+		listener.clear();
+	}
+	
+	@Override
+	public Stream<HierarchicalListener> listenerProvider() {
+		return Stream.of(
+				new HierarchicalListener(),							// The root of a tree
+				new HierarchicalListener().child("orders.payments")	// A listener two levels below the root
+			);
+	}
+	
+	@Test
+	public void testTree() {
+		HierarchicalListener root = new HierarchicalListener();
+		HierarchicalListener payments = root.child("orders.payments");
+		HierarchicalListener orders = payments.getParent().get();
+		
+		// Assert that the tree was created with the expected names and paths
+		assertEquals("", root.getPath());
+		assertEquals("orders", orders.getPath());
+		assertEquals("payments", payments.getName());
+		assertEquals("orders.payments", payments.getPath());
+		assertSame(root, orders.getParent().get());
+		assertFalse(root.getParent().isPresent());
+		
+		// Assert that the same listener is returned for the same path
+		assertSame(payments, root.child("orders.payments"));
+		assertSame(payments, orders.child("payments"));
+		assertEquals(1, root.getChildren().size());
+		
+		// Assert that invalid paths are rejected
+		assertThrows(IllegalArgumentException.class, () -> root.child(""));
+		assertThrows(IllegalArgumentException.class, () -> root.child("orders..payments"));
+		assertThrows(NullPointerException.class, () -> root.child(null));
+	}
+	
+	@Test
+	public void testEventsPropagateToAncestors() {
+		HierarchicalListener root = new HierarchicalListener();
+		HierarchicalListener orders = root.child("orders");
+		HierarchicalListener payments = root.child("orders.payments");
+		HierarchicalListener shipping = root.child("orders.shipping");
+		List<String> received = new ArrayList<>();
+		
+		// Register a handler on every listener that records the path of the listener it was registered to
+		for (HierarchicalListener listener : new HierarchicalListener[] { root, orders, payments, shipping })
+			listener.addHandler(SimpleEvent.class, event -> received.add(listener.getPath()));
+		
+		// Fire an event on the payments listener and assert that it reached the listener and it's ancestors in order
+		payments.fireEvent(new SimpleEvent(this));
+		assertEquals(3, received.size());
+		assertEquals("orders.payments", received.get(0));
+		assertEquals("orders", received.get(1));
+		assertEquals("", received.get(2));
+		
+		// Assert that an event fired on the root doesn't reach it's descendants
+		received.clear();
+		root.fireEvent(new SimpleEvent(this));
+		assertEquals(1, received.size());
+		
+		// Add a handler to an ancestor and assert that the compiled route of it's descendants is updated
+		received.clear();
+		orders.addHandler(SimpleEvent.class, event -> received.add("added"));
+		shipping.fireEvent(new SimpleEvent(this));
+		assertEquals(4, received.size());
+		assertTrue(received.contains("added"));
+		
+		// Clear an ancestor and assert that it's handlers are no longer reached
+		received.clear();
+		orders.clear();
+		shipping.fireEvent(new SimpleEvent(this));
+		assertEquals(2, received.size());
+		assertFalse(received.contains("orders"));
+	}
+	
+	@Test
+	public void testHandlersUseTheErrorHandlerOfTheirListener() {
+		HierarchicalListener root = new HierarchicalListener();
+		HierarchicalListener child = root.child("child");
+		List<Listener> failedOn = new ArrayList<>();
+		
+		// Register a failing handler on both listeners and an error handler on the root only
+		root.addHandler(SimpleEvent.class, event -> { throw new IllegalStateException(); });
+		child.addHandler(SimpleEvent.class, event -> { throw new IllegalArgumentException(); });
+		root.setErrorHandler((event, handler, exception) -> failedOn.add(root));
+		
+		// Assert that the failure of the child's handler is rethrown while the root's failure is passed to it's error handler
+		assertThrows(IllegalArgumentException.class, () -> child.fireEvent(new SimpleEvent(this)));
+		assertEquals(1, failedOn.size());
+	}
+}
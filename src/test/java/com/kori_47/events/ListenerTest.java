@@ -8,6 +8,8 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
@@ -84,6 +86,41 @@ public interface ListenerTest<T extends Listener> {
 		cleanUp(listener);
 	}
 
+	@ParameterizedTest
+	@MethodSource("listenerProvider")
+	default void testAddHandlers(T listener) {
+		// Create lists of handlers from the handlers provider
+		List<Handler<SimpleEvent>> simpleEventHandlers = simpleEventHandlersProducer().collect(toList());
+		List<Handler<ProgressChangedEvent>> progressChangedEventHandlers = progressChangedEventHandlersProducer().collect(toList());
+		
+		// Build a snapshot of all the handlers
+		ListenerSnapshot handlers = ListenerSnapshot.builder()
+				.addAll(SimpleEvent.class, simpleEventHandlers)
+				.addAll(ProgressChangedEvent.class, progressChangedEventHandlers)
+				.build();
+		
+		// Add them to the listener and assert that all of them were added, in order
+		listener.addHandlers(handlers);
+		assertEquals(simpleEventHandlers, listener.getHandlers(SimpleEvent.class).get());
+		assertEquals(progressChangedEventHandlers, listener.getHandlers(ProgressChangedEvent.class).get());
+		
+		// Add them again and assert that they were added after the existing handlers
+		listener.addHandlers(handlers);
+		assertEquals(simpleEventHandlers.size() * 2, listener.handlerCount(SimpleEvent.class));
+		assertEquals(simpleEventHandlers, listener.getHandlers(SimpleEvent.class).get().subList(simpleEventHandlers.size(), simpleEventHandlers.size() * 2));
+		
+		// Assert that the bulk added handlers can be removed one by one
+		simpleEventHandlers.forEach(handler -> listener.removeHandler(SimpleEvent.class, handler));
+		assertEquals(simpleEventHandlers.size(), listener.handlerCount(SimpleEvent.class));
+		
+		// Assert that a NullPointerException is thrown when null arguments are passed
+		assertThrows(NullPointerException.class, () -> listener.addHandlers(null));
+		assertThrows(NullPointerException.class, () -> ListenerSnapshot.builder().add(SimpleEvent.class, null));
+		
+		// Clean up
+		cleanUp(listener);
+	}
+
 	@ParameterizedTest
 	@MethodSource("listenerProvider")
 	default void testRemoveHandler(T listener) {
@@ -197,6 +234,49 @@ public interface ListenerTest<T extends Listener> {
 		cleanUp(listener);
 	}
 	
+	@ParameterizedTest
+	@MethodSource("listenerProvider")
+	default void testHandlerCount(T listener) {
+		// Assert that the listener has no SimpleEvent handlers initially
+		assertFalse(listener.hasHandlers(SimpleEvent.class));
+		assertEquals(0, listener.handlerCount(SimpleEvent.class));
+		
+		// Add SimpleEvent handlers and assert that they are counted
+		simpleEventHandlersProducer().forEach(handler -> listener.addHandler(SimpleEvent.class, handler));
+		assertTrue(listener.hasHandlers(SimpleEvent.class));
+		assertEquals(simpleEventHandlersProducer().count(), listener.handlerCount(SimpleEvent.class));
+		
+		// Assert that handlers of other event types are not counted
+		assertFalse(listener.hasHandlers(ProgressChangedEvent.class));
+		
+		// Assert that a NullPointerException is thrown when a null eventClass is passed
+		assertThrows(NullPointerException.class, () -> listener.hasHandlers(null));
+		assertThrows(NullPointerException.class, () -> listener.handlerCount(null));
+		
+		// Clean up
+		cleanUp(listener);
+	}
+	
+	@ParameterizedTest
+	@MethodSource("listenerProvider")
+	default void testThrowingErrorHandler(T listener) throws InterruptedException {
+		int eventCount = 100;
+		CountDownLatch latch = new CountDownLatch(eventCount);
+		
+		// Register a failing handler followed by a counting handler and an error handler that fails too
+		((AbstractListener) listener).setErrorHandler((event, handler, exception) -> { throw new IllegalStateException(); });
+		listener.addHandler(SimpleEvent.class, event -> { throw new IllegalArgumentException(); });
+		listener.addHandler(SimpleEvent.class, event -> latch.countDown());
+		
+		// Assert that firing events doesn't throw and that every event is still delivered
+		for (int count = 0; count < eventCount; count++)
+			assertDoesNotThrow(() -> listener.fireEvent(new SimpleEvent(this)));
+		assertTrue(latch.await(10, TimeUnit.SECONDS));
+		
+		// Clean up
+		cleanUp(listener);
+	}
+	
 	/**
 	 * This is a {@link Handler} producer. All {@code Handler}s produced by the {@code Stream} returned by this 
 	 * method are attached to {@link SimpleEvent}.
@@ -0,0 +1,64 @@
+package com.kori_47.events;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class PartitionedExecutorTest {
+
+	@Test
+	public void testPartitionedDispatch() throws InterruptedException {
+		PartitionedExecutor executor = new PartitionedExecutor(4, 2, PartitionedExecutor.bySource());
+		assertThrows(IllegalArgumentException.class, () -> new PartitionedExecutor(0, 1, PartitionedExecutor.bySource()));
+		assertThrows(IllegalArgumentException.class, () -> new PartitionedExecutor(1, 0, PartitionedExecutor.bySource()));
+		assertThrows(NullPointerException.class, () -> new PartitionedExecutor(1, 1, null));
+		assertEquals(4, executor.getPartitionCount());
+		assertFalse(executor.isPinned());
+		ThreadedListener listener = new ThreadedListener(executor, true);
+		Map<Object, Set<String>> threadsBySource = new ConcurrentHashMap<>();
+		int eventCount = 1_000;
+		CountDownLatch latch = new CountDownLatch(eventCount);
+
+		// Fire the events of several sources
+		listener.addHandler(SimpleEvent.class, event -> {
+			threadsBySource.computeIfAbsent(event.source(), source -> ConcurrentHashMap.newKeySet()).add(Thread.currentThread().getName());
+			latch.countDown();
+		});
+		for (int count = 0; count < eventCount; count++)
+			listener.fireEvent(new SimpleEvent("source " + (count % 10)));
+		assertTrue(latch.await(10, TimeUnit.SECONDS));
+
+		// Assert that the events of each source were only handled by the threads of it's partition
+		assertEquals(10, threadsBySource.size());
+		threadsBySource.forEach((source, threads) -> {
+			String partition = " Partition " + executor.partitionOf(new SimpleEvent(source)) + " ";
+			threads.forEach(thread -> assertTrue(thread.contains(partition), thread + " doesn't belong to" + partition));
+		});
+
+		// Clean up
+		listener.dispose();
+		assertTrue(executor.awaitTermination(1, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void testPerCacheDomain() throws Exception {
+		PartitionedExecutor executor = PartitionedExecutor.perCacheDomain(PartitionedExecutor.byEventClass());
+		assertEquals(5, PartitionedExecutor.cpuCount("0-3,8"));
+
+		// Assert that the executor runs tasks whether or not it's threads could be pinned
+		executor.isPinned();
+		assertTrue(executor.getPartitionCount() > 0);
+		assertEquals("done", executor.submit(() -> "done").get(1, TimeUnit.SECONDS));
+
+		// Clean up
+		executor.shutdownNow();
+		assertTrue(executor.awaitTermination(1, TimeUnit.SECONDS));
+		assertTrue(executor.isTerminated());
+	}
+}
@@ -0,0 +1,287 @@
+package com.kori_47.events;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+public class SequentialListenerTest implements ListenerTest<SequentialListener> {
+	
+	@Override
+	public void cleanUp(SequentialListener listener) {
+		listener.dispose();
+	}
+	
+	@Override
+	public Stream<SequentialListener> listenerProvider() {
+		return Stream.of(
+				new SequentialListener(),										// A sequential listener using the default constructor
+				new SequentialListener(1),										// A sequential listener whose queue can only hold a single event
+				new SequentialListener(64, Executors.defaultThreadFactory())	// A sequential listener with a custom thread factory
+			);
+	}
+	
+	@ParameterizedTest
+	@MethodSource("listenerProvider")
+	@Override
+	public void testFireEvent(SequentialListener listener) {
+		CountDownLatch latch = new CountDownLatch(1);
+		AtomicInteger testValue = new AtomicInteger();
+		
+		// Add a handler that waits for the latch before incrementing testValue
+		listener.addHandler(SimpleEvent.class, event -> {
+			await(latch);
+			testValue.getAndIncrement();
+		});
+		
+		// Fire a SimpleEvent and assert that fireEvent returned before the handler completed
+		listener.fireEvent(new SimpleEvent(this));
+		assertEquals(0, testValue.get());
+		
+		// Release the handler and wait for the event to be handled
+		latch.countDown();
+		awaitValue(testValue, 1);
+		
+		// Assert that no errors occur if fireEvent is called with an event with no registered handlers
+		assertFalse(listener.getHandlers(ProgressChangedEvent.class).isPresent());
+		assertDoesNotThrow(() -> listener.fireEvent(new ProgressChangedEvent(this, Float.valueOf(".1"), Float.valueOf(".2"))));
+		
+		// Fire a SimpleEvent 3 times and assert that all of them are handled
+		listener.fireEvent(new SimpleEvent(this));
+		listener.fireEvent(new SimpleEvent(this));
+		listener.fireEvent(new SimpleEvent(this));
+		awaitValue(testValue, 4);
+		
+		// Clean up
+		cleanUp(listener);
+	}
+	
+	@ParameterizedTest
+	@MethodSource("listenerProvider")
+	public void testDispose(SequentialListener listener) {
+		// Assert that the listener is not disposed initially
+		assertFalse(listener.isDisposed());
+		
+		// Dispose the listener
+		listener.dispose();
+		
+		// Assert that the listener is now disposed
+		assertTrue(listener.isDisposed());
+		
+		// Assert that an IllegalStateException is thrown when some methods are called after the listener has been disposed
+		assertThrows(IllegalStateException.class, () -> listener.addHandler(SimpleEvent.class, simpleEventHandlersProducer().findAny().get()));
+		assertThrows(IllegalStateException.class, () -> listener.removeHandler(SimpleEvent.class, simpleEventHandlersProducer().findAny().get()));
+		assertThrows(IllegalStateException.class, () -> listener.fireEvent(new SimpleEvent(this)));
+		assertThrows(IllegalStateException.class, () -> listener.getHandlers(SimpleEvent.class));
+		assertThrows(IllegalStateException.class, () -> listener.getSupportedEventTypes());
+		
+		// Call dispose multiple times to make sure it returns cleanly even after a listener has already been disposed
+		listener.dispose();
+		listener.dispose();
+	}
+	
+	@Test
+	public void testEventsFromEachProducerAreHandledInOrder() throws InterruptedException {
+		// Use a small queue so that producers regularly have to wait for room
+		SequentialListener listener = new SequentialListener(16);
+		int producerCount = 4;
+		int eventCount = 50_000;
+		CountDownLatch latch = new CountDownLatch(producerCount * eventCount);
+		int[] lastValues = new int[producerCount];
+		AtomicInteger outOfOrder = new AtomicInteger();
+		
+		// Register a handler that checks that the events of every producer are received in the order they were fired. 
+		// The source of each event holds the producer that fired it and the event's position.
+		listener.addHandler(SimpleEvent.class, event -> {
+			int[] position = (int[]) event.source();
+			if (position[1] != lastValues[position[0]] + 1) outOfOrder.getAndIncrement();
+			lastValues[position[0]] = position[1];
+			latch.countDown();
+		});
+		
+		// Fire the events from multiple threads and wait for them to be handled
+		for (int producer = 0; producer < producerCount; producer++) {
+			int id = producer;
+			new Thread(() -> {
+				for (int count = 1; count <= eventCount; count++)
+					listener.fireEvent(new SimpleEvent(new int[] { id, count }));
+			}).start();
+		}
+		assertTrue(latch.await(30, TimeUnit.SECONDS));
+		
+		// Assert that no events were lost or reordered
+		assertEquals(0, outOfOrder.get());
+		assertEquals(0, listener.queuedEvents());
+		
+		// Clean up
+		cleanUp(listener);
+	}
+	
+	@Test
+	public void testErrorHandler() throws InterruptedException {
+		SequentialListener listener = new SequentialListener();
+		CountDownLatch latch = new CountDownLatch(2);
+		RuntimeException failure = new IllegalStateException();
+		AtomicInteger testValue = new AtomicInteger();
+		
+		// Register a failing handler and a handler that counts down once it has been executed
+		listener.addHandler(SimpleEvent.class, event -> { throw failure; });
+		listener.addHandler(SimpleEvent.class, event -> latch.countDown());
+		listener.setErrorHandler((event, handler, exception) -> {
+			if (exception == failure) testValue.getAndIncrement();
+			latch.countDown();
+		});
+		
+		// Fire an event and assert that the failure was passed to the error handler
+		listener.fireEvent(new SimpleEvent(this));
+		assertTrue(latch.await(5, TimeUnit.SECONDS));
+		assertEquals(1, testValue.get());
+		
+		// Clean up
+		cleanUp(listener);
+	}
+	
+	@Test
+	public void testConsumerSurvivesErrors() throws InterruptedException {
+		AtomicInteger reported = new AtomicInteger();
+		SequentialListener listener = new SequentialListener(1, runnable -> {
+			Thread thread = new Thread(runnable);
+			thread.setDaemon(true);
+			thread.setUncaughtExceptionHandler((failed, ex) -> reported.getAndIncrement());
+			
+			return thread;
+		});
+		int eventCount = 10;
+		CountDownLatch latch = new CountDownLatch(eventCount);
+		
+		// Register a handler that throws an Error for the first event
+		listener.addHandler(SimpleEvent.class, event -> {
+			if (event.source() == this) throw new AssertionError();
+			latch.countDown();
+		});
+		
+		// Fire more events than the queue can hold from another thread, which can't finish if the consumer has died
+		listener.fireEvent(new SimpleEvent(this));
+		Thread producer = new Thread(() -> {
+			for (int count = 0; count < eventCount; count++)
+				listener.fireEvent(new SimpleEvent("next"));
+		});
+		producer.start();
+		
+		// Assert that the failure was reported and every other event delivered
+		assertTrue(latch.await(5, TimeUnit.SECONDS));
+		producer.join(5000);
+		assertFalse(producer.isAlive());
+		assertEquals(1, reported.get());
+		
+		// Clean up
+		cleanUp(listener);
+	}
+	
+	@Test
+	public void testUnhandledExceptionsAreReported() throws InterruptedException {
+		BlockingQueue<Throwable> reported = new LinkedBlockingQueue<>();
+		SequentialListener listener = new SequentialListener(16, runnable -> {
+			Thread thread = new Thread(runnable);
+			thread.setDaemon(true);
+			thread.setUncaughtExceptionHandler((failed, ex) -> reported.add(ex));
+			
+			return thread;
+		});
+		
+		// Register a failing handler without an ErrorHandler
+		IllegalStateException failure = new IllegalStateException();
+		listener.addHandler(SimpleEvent.class, event -> { throw failure; });
+		
+		// Assert that the failure is reported to the uncaught exception handler of the consumer
+		listener.fireEvent(new SimpleEvent(this));
+		assertSame(failure, reported.poll(5, TimeUnit.SECONDS));
+		
+		// Clean up
+		cleanUp(listener);
+	}
+	
+	@Test
+	public void testProducersGiveUpAfterDispose() throws InterruptedException {
+		SequentialListener listener = new SequentialListener(1);
+		CountDownLatch handling = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		
+		// Register a handler that blocks the consumer until it is released
+		listener.addHandler(SimpleEvent.class, event -> {
+			handling.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		
+		// Fill the queue while the consumer is blocked and start a producer that has to wait for room
+		listener.fireEvent(new SimpleEvent(this));
+		assertTrue(handling.await(5, TimeUnit.SECONDS));
+		listener.fireEvent(new SimpleEvent(this));
+		Thread producer = new Thread(() -> listener.fireEvent(new SimpleEvent(this)));
+		producer.start();
+		while (producer.getState() == Thread.State.NEW) Thread.yield();
+		
+		// Assert that the waiting producer gives up once the listener is disposed and the consumer stops
+		cleanUp(listener);
+		release.countDown();
+		producer.join(5000);
+		assertFalse(producer.isAlive());
+		assertEquals(0, listener.queuedEvents());
+	}
+	
+	@Test
+	public void testStamping() throws InterruptedException {
+		SequentialListener listener = new SequentialListener();
+		CountDownLatch latch = new CountDownLatch(2);
+		long[] sequences = new long[2];
+		
+		// Register a handler that records the sequence numbers of the events it handles
+		listener.addHandler(SimpleEvent.class, event -> {
+			sequences[2 - (int) latch.getCount()] = EventStamp.current().get().getSequence();
+			latch.countDown();
+		});
+		
+		// Enable stamping, fire two events and assert that they were handled in the order of their sequence numbers
+		listener.setStampingEnabled(true);
+		listener.fireEvent(new SimpleEvent(this));
+		listener.fireEvent(new SimpleEvent(this));
+		assertTrue(latch.await(5, TimeUnit.SECONDS));
+		assertTrue(sequences[0] < sequences[1]);
+		
+		// Clean up
+		cleanUp(listener);
+	}
+	
+	/**
+	 * Waits for the given latch, failing if it takes longer than 5 seconds.
+	 */
+	private void await(CountDownLatch latch) {
+		try {
+			assertTrue(latch.await(5, TimeUnit.SECONDS));
+		} catch (InterruptedException ex) {
+			throw new RuntimeException("Waiting was interrupted", ex);
+		}
+	}
+	
+	/**
+	 * Waits for the given value to reach the expected value, failing if it takes longer than 5 seconds.
+	 */
+	private void awaitValue(AtomicInteger value, int expected) {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (value.get() < expected && System.nanoTime() < deadline) Thread.yield();
+		assertEquals(expected, value.get());
+	}
+}
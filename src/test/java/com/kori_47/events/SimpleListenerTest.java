@@ -1,7 +1,16 @@
 package com.kori_47.events;
 
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
+import org.junit.jupiter.api.Test;
+
 public class SimpleListenerTest implements ListenerTest<SimpleListener> {
 
 	@Override
@@ -13,4 +22,225 @@ public class SimpleListenerTest implements ListenerTest<SimpleListener> {
 	public Stream<SimpleListener> listenerProvider() {
 		return Stream.of(new SimpleListener());
 	}
+	
+	@Test
+	public void testSnapshot() {
+		SimpleListener listener = new SimpleListener();
+		Handler<SimpleEvent> handler = event -> event.source();
+		
+		// Assert that the same snapshot is returned while the handlers don't change
+		ListenerSnapshot initial = listener.getSnapshot();
+		assertSame(initial, listener.getSnapshot());
+		assertTrue(initial.getSupportedEventTypes().isEmpty());
+		
+		// Add a handler and assert that a new snapshot with a higher version is taken
+		listener.addHandler(SimpleEvent.class, handler);
+		ListenerSnapshot snapshot = listener.getSnapshot();
+		assertTrue(snapshot.getVersion() > initial.getVersion());
+		assertEquals(1, snapshot.handlerCount(SimpleEvent.class));
+		assertSame(handler, snapshot.getHandlers(SimpleEvent.class).get(0));
+		
+		// Assert that the old snapshot wasn't changed
+		assertFalse(initial.hasHandlers(SimpleEvent.class));
+		assertTrue(initial.getHandlers(SimpleEvent.class).isEmpty());
+		
+		// Assert that the views returned by the snapshot and the listener are unmodifiable
+		assertThrows(UnsupportedOperationException.class, () -> snapshot.getHandlers(SimpleEvent.class).clear());
+		assertThrows(UnsupportedOperationException.class, () -> snapshot.getSupportedEventTypes().clear());
+		assertThrows(UnsupportedOperationException.class, () -> listener.getHandlers(SimpleEvent.class).get().clear());
+		
+		// Remove the handler and assert that the version increases again
+		listener.removeHandler(SimpleEvent.class, handler);
+		assertTrue(listener.getSnapshot().getVersion() > snapshot.getVersion());
+		assertEquals(0, listener.getSnapshot().handlerCount(SimpleEvent.class));
+		
+		// Clean up
+		cleanUp(listener);
+	}
+	
+	@Test
+	public void testFreeze() {
+		SimpleListener listener = new SimpleListener();
+		AtomicInteger deliveries = new AtomicInteger();
+		Handler<SimpleEvent> handler = event -> deliveries.incrementAndGet();
+		
+		// Add the handlers in bulk to an empty listener and assert that it adopts the given snapshot's handlers
+		ListenerSnapshot handlers = ListenerSnapshot.builder().add(SimpleEvent.class, handler).build();
+		listener.addHandlers(handlers);
+		assertEquals(handlers.getHandlers(SimpleEvent.class), listener.getSnapshot().getHandlers(SimpleEvent.class));
+		assertTrue(listener.getSnapshot().getVersion() > 0);
+		
+		// Freeze the listener and assert that it's handlers can no longer change
+		assertFalse(listener.isFrozen());
+		listener.freeze();
+		assertTrue(listener.isFrozen());
+		ListenerSnapshot snapshot = listener.getSnapshot();
+		assertThrows(IllegalStateException.class, () -> listener.addHandler(SimpleEvent.class, handler));
+		assertThrows(IllegalStateException.class, () -> listener.addHandlers(handlers));
+		assertThrows(IllegalStateException.class, () -> listener.removeHandler(SimpleEvent.class, handler));
+		assertThrows(IllegalStateException.class, () -> listener.clear());
+		assertSame(snapshot, listener.getSnapshot());
+		
+		// Assert that a frozen listener still delivers events
+		listener.fireEvent(new SimpleEvent(this));
+		assertEquals(1, deliveries.get());
+	}
+	
+	@Test
+	public void testFailingHandlerDoesNotStopOtherHandlers() {
+		SimpleListener listener = new SimpleListener();
+		AtomicInteger testValue = new AtomicInteger();
+		RuntimeException firstFailure = new IllegalStateException("first");
+		RuntimeException secondFailure = new IllegalStateException("second");
+		
+		// Register two failing handlers around a handler that should still be executed
+		listener.addHandler(SimpleEvent.class, event -> { throw firstFailure; });
+		listener.addHandler(SimpleEvent.class, event -> testValue.getAndIncrement());
+		listener.addHandler(SimpleEvent.class, event -> { throw secondFailure; });
+		
+		// Assert that the first failure is rethrown after all the handlers have been executed
+		RuntimeException thrown = assertThrows(IllegalStateException.class, () -> listener.fireEvent(new SimpleEvent(this)));
+		assertSame(firstFailure, thrown);
+		assertSame(secondFailure, thrown.getSuppressed()[0]);
+		assertEquals(1, testValue.get());
+		
+		// Set an error handler and assert that failures are passed to it instead of being rethrown
+		List<RuntimeException> failures = new ArrayList<>();
+		listener.setErrorHandler((event, handler, exception) -> failures.add(exception));
+		assertDoesNotThrow(() -> listener.fireEvent(new SimpleEvent(this)));
+		assertEquals(2, failures.size());
+		assertEquals(2, testValue.get());
+		
+		// Clean up
+		cleanUp(listener);
+	}
+	
+	@Test
+	public void testCircuitBreaker() throws InterruptedException {
+		SimpleListener listener = new SimpleListener();
+		AtomicInteger executions = new AtomicInteger();
+		AtomicInteger failures = new AtomicInteger();
+		Handler<SimpleEvent> handler = event -> {
+			executions.getAndIncrement();
+			throw new IllegalStateException();
+		};
+		
+		listener.addHandler(SimpleEvent.class, handler);
+		listener.setErrorHandler((event, failedHandler, exception) -> failures.getAndIncrement());
+		listener.setCircuitBreaker(new CircuitBreaker(2, 200, TimeUnit.MILLISECONDS));
+		
+		// Fail the handler twice to open it's circuit
+		listener.fireEvent(new SimpleEvent(this));
+		assertFalse(listener.isCircuitOpen(handler));
+		listener.fireEvent(new SimpleEvent(this));
+		assertTrue(listener.isCircuitOpen(handler));
+		
+		// Assert that the handler is skipped while it's circuit is open
+		listener.fireEvent(new SimpleEvent(this));
+		assertEquals(2, executions.get());
+		assertEquals(2, failures.get());
+		
+		// Wait for the retry delay to elapse and assert that the handler is probed once
+		Thread.sleep(300);
+		listener.fireEvent(new SimpleEvent(this));
+		listener.fireEvent(new SimpleEvent(this));
+		assertEquals(3, executions.get());
+		
+		// Assert that removing the circuit breaker executes the handler on every event again
+		listener.setCircuitBreaker(null);
+		listener.fireEvent(new SimpleEvent(this));
+		assertEquals(4, executions.get());
+		
+		// Clean up
+		cleanUp(listener);
+	}
+	
+	@Test
+	public void testConcurrentFireAndRegistration() throws InterruptedException {
+		SimpleListener listener = new SimpleListener();
+		AtomicInteger handled = new AtomicInteger();
+		AtomicInteger failures = new AtomicInteger();
+		AtomicBoolean publishing = new AtomicBoolean(true);
+		int publisherCount = 4;
+		int eventCount = 50_000;
+		
+		// Register a handler that stays registered for the whole test
+		listener.addHandler(SimpleEvent.class, event -> handled.getAndIncrement());
+		
+		// Start publishers that fire events while another thread keeps adding and removing handlers
+		List<Thread> threads = new ArrayList<>();
+		for (int publisher = 0; publisher < publisherCount; publisher++) {
+			threads.add(new Thread(() -> {
+				try {
+					for (int count = 0; count < eventCount; count++)
+						listener.fireEvent(new SimpleEvent(this));
+				} catch (RuntimeException ex) {
+					failures.getAndIncrement();
+				}
+			}));
+		}
+		Thread registrar = new Thread(() -> {
+			try {
+				while (publishing.get()) {
+					Handler<SimpleEvent> handler = event -> event.source();
+					listener.addHandler(SimpleEvent.class, handler);
+					listener.removeHandler(SimpleEvent.class, handler);
+				}
+			} catch (RuntimeException ex) {
+				failures.getAndIncrement();
+			}
+		});
+		threads.add(registrar);
+		threads.forEach(thread -> thread.setDaemon(true));
+		threads.forEach(Thread::start);
+		// Stop the registrar once the publishers are done, or have taken too long, so that a failure can't hang the test
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+		for (Thread thread : threads.subList(0, publisherCount))
+			thread.join(Math.max(TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()), 1));
+		publishing.set(false);
+		registrar.join(5000);
+		threads.forEach(thread -> assertFalse(thread.isAlive()));
+		
+		// Assert that nothing failed and that the permanent handler received every event
+		assertEquals(0, failures.get());
+		assertEquals(publisherCount * eventCount, handled.get());
+		assertEquals(1, listener.handlerCount(SimpleEvent.class));
+		
+		// Clean up
+		cleanUp(listener);
+	}
+	
+	@Test
+	public void testStamping() {
+		SimpleListener listener = new SimpleListener();
+		List<EventStamp> stamps = new ArrayList<>();
+		
+		// Register a handler that records the stamp of every event it handles
+		listener.addHandler(SimpleEvent.class, event -> stamps.add(EventStamp.current().orElse(null)));
+		
+		// Assert that events aren't stamped by default
+		assertFalse(listener.isStampingEnabled());
+		listener.fireEvent(new SimpleEvent(this));
+		assertNull(stamps.get(0));
+		
+		// Enable stamping and fire two events
+		listener.setStampingEnabled(true);
+		SimpleEvent first = new SimpleEvent(this);
+		SimpleEvent second = new SimpleEvent(this);
+		listener.fireEvent(first);
+		listener.fireEvent(second);
+		
+		// Assert that the events were stamped in the order they were fired
+		assertSame(first, stamps.get(1).getEvent());
+		assertSame(second, stamps.get(2).getEvent());
+		assertTrue(stamps.get(1).getSequence() < stamps.get(2).getSequence());
+		assertTrue(stamps.get(1).getPublishTime() <= stamps.get(2).getPublishTime());
+		assertTrue(stamps.get(2).getLatency(TimeUnit.NANOSECONDS) >= 0);
+		
+		// Assert that the stamp is only visible while a handler is executing
+		assertFalse(EventStamp.current().isPresent());
+		
+		// Clean up
+		cleanUp(listener);
+	}
 }
@@ -0,0 +1,209 @@
+package com.kori_47.events;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+public class SimulationListenerTest implements ListenerTest<SimulationListener> {
+
+	@Override
+	public void cleanUp(SimulationListener listener) {
+		listener.clear();
+	}
+
+	@Override
+	public Stream<SimulationListener> listenerProvider() {
+		return Stream.of(new SimulationListener());
+	}
+
+	@Test
+	public void testVirtualTime() {
+		SimulationListener listener = new SimulationListener();
+		List<String> fired = new ArrayList<>();
+		listener.addHandler(SimpleEvent.class, event -> fired.add(event.source() + "@" + listener.getTime(TimeUnit.SECONDS)));
+
+		// Schedule events out of order, two of them at the same time
+		listener.fireEventAfter(new SimpleEvent("c"), 3, TimeUnit.SECONDS);
+		listener.fireEventAfter(new SimpleEvent("a"), 1, TimeUnit.SECONDS);
+		listener.fireEventAt(new SimpleEvent("b1"), 2, TimeUnit.SECONDS);
+		listener.fireEventAt(new SimpleEvent("b2"), 2, TimeUnit.SECONDS);
+		assertEquals(4, listener.pendingEvents());
+		assertTrue(fired.isEmpty());
+
+		// Assert that advancing the clock fires the due events, in order, at their due times
+		assertEquals(3, listener.advanceBy(2, TimeUnit.SECONDS));
+		assertEquals(Arrays.asList("a@1", "b1@2", "b2@2"), fired);
+		assertEquals(2, listener.getTime(TimeUnit.SECONDS));
+
+		// Assert that the clock doesn't move backwards
+		assertEquals(0, listener.advanceTo(1, TimeUnit.SECONDS));
+		assertEquals(2, listener.getTime(TimeUnit.SECONDS));
+		assertThrows(IllegalArgumentException.class, () -> listener.advanceBy(-1, TimeUnit.SECONDS));
+
+		// Assert that the rest of the events are fired by runAll
+		assertEquals(1, listener.runAll());
+		assertEquals(Arrays.asList("a@1", "b1@2", "b2@2", "c@3"), fired);
+		assertEquals(0, listener.pendingEvents());
+
+		// Clean up
+		cleanUp(listener);
+	}
+
+	@Test
+	public void testHandlersCanScheduleEvents() {
+		SimulationListener listener = new SimulationListener();
+		List<Long> ticks = new ArrayList<>();
+
+		// A handler that keeps rescheduling it's event every 10 milliseconds, 100 times
+		listener.addHandler(SimpleEvent.class, event -> {
+			ticks.add(listener.getTime(TimeUnit.MILLISECONDS));
+			if (ticks.size() < 100) listener.fireEventAfter(event, 10, TimeUnit.MILLISECONDS);
+		});
+		listener.fireEventAfter(new SimpleEvent(this), 10, TimeUnit.MILLISECONDS);
+
+		// Assert that all the events are fired at the right virtual times without waiting
+		assertEquals(100, listener.runAll());
+		assertEquals(100, ticks.size());
+		for (int index = 0; index < ticks.size(); index++)
+			assertEquals(10L * (index + 1), ticks.get(index).longValue());
+		assertEquals(1, TimeUnit.MILLISECONDS.toSeconds(listener.getTime(TimeUnit.MILLISECONDS)));
+
+		// Assert that the handler's statistics were recorded
+		List<HandlerStatistics> statistics = listener.getStatistics();
+		assertEquals(1, statistics.size());
+		assertEquals(100, statistics.get(0).getInvocations());
+		assertTrue(statistics.get(0).getLatency(50, TimeUnit.NANOSECONDS) <= statistics.get(0).getMaxLatency(TimeUnit.NANOSECONDS));
+		assertThrows(IllegalArgumentException.class, () -> statistics.get(0).getLatency(101, TimeUnit.NANOSECONDS));
+		listener.resetStatistics();
+		assertTrue(listener.getStatistics().isEmpty());
+
+		// Clean up
+		cleanUp(listener);
+	}
+
+	@Test
+	public void testRecordAndReplayTrace() {
+		// Record the events fired on a regular listener
+		TraceRecorder recorder = new TraceRecorder();
+		SimpleListener production = new SimpleListener();
+		production.setEventFilter(recorder);
+		for (int count = 0; count < 1000; count++)
+			production.fireEvent(new SimpleEvent(count));
+		EventTrace trace = recorder.getTrace();
+		assertEquals(1000, trace.size());
+		assertEquals(0, trace.getTime(0, TimeUnit.NANOSECONDS));
+		assertEquals(trace.getTime(999, TimeUnit.NANOSECONDS), trace.getDuration(TimeUnit.NANOSECONDS));
+
+		// Replay the trace as fast as possible through two handlers
+		SimulationListener listener = new SimulationListener();
+		List<Object> handled = new ArrayList<>();
+		Handler<SimpleEvent> fast = event -> handled.add(event.source());
+		Handler<SimpleEvent> slow = event -> Math.sqrt(event.hashCode());
+		listener.addHandler(SimpleEvent.class, fast);
+		listener.addHandler(SimpleEvent.class, slow);
+		PlaybackReport report = new TracePlayer(trace).play(listener);
+
+		// Assert that all the events were replayed in order and that each handler has it's own statistics
+		assertEquals(1000, report.getEvents());
+		assertEquals(1000, handled.size());
+		for (int count = 0; count < 1000; count++)
+			assertEquals(count, handled.get(count));
+		assertEquals(2, report.getHandlerStatistics().size());
+		assertSame(fast, report.getHandlerStatistics().get(0).getHandler());
+		assertSame(slow, report.getHandlerStatistics().get(1).getHandler());
+		assertEquals(1000, report.getHandlerStatistics().get(1).getInvocations());
+		assertTrue(report.getThroughput() > 0);
+		assertEquals(0, report.getMaxLag(TimeUnit.NANOSECONDS));
+		assertEquals(trace.getDuration(TimeUnit.NANOSECONDS), listener.getTime(TimeUnit.NANOSECONDS));
+
+		// Replay it again, paced at the speed at which it was recorded, and assert that the statistics were reset
+		report = new TracePlayer(trace).play(listener, 1);
+		assertEquals(2000, handled.size());
+		assertEquals(1000, report.getHandlerStatistics().get(0).getInvocations());
+		assertTrue(report.getElapsedTime(TimeUnit.NANOSECONDS) >= trace.getDuration(TimeUnit.NANOSECONDS));
+		assertThrows(IllegalArgumentException.class, () -> new TracePlayer(trace).play(listener, 0));
+
+		// Clean up
+		recorder.clear();
+		assertEquals(0, recorder.size());
+		cleanUp(listener);
+	}
+
+	@Test
+	public void testTraceRecorderDropsPooledAndExcessEvents() {
+		TraceRecorder recorder = new TraceRecorder(100);
+		SimpleListener production = new SimpleListener();
+		production.setEventFilter(recorder);
+		assertEquals(100, recorder.getCapacity());
+		assertThrows(IllegalArgumentException.class, () -> new TraceRecorder(0));
+
+		// Assert that pooled events are accepted but not recorded
+		assertTrue(recorder.accept(new PooledEvent() {
+			@Override
+			protected void reset() {}
+		}));
+		assertEquals(0, recorder.size());
+		assertEquals(1, recorder.getDropped());
+
+		// Assert that the recorder stops recording once it is full, without keeping events from being handled
+		List<Object> handled = new ArrayList<>();
+		production.addHandler(SimpleEvent.class, event -> handled.add(event.source()));
+		for (int count = 0; count < 150; count++)
+			production.fireEvent(new SimpleEvent(count));
+		assertEquals(150, handled.size());
+		assertEquals(100, recorder.size());
+		assertEquals(51, recorder.getDropped());
+		EventTrace trace = recorder.getTrace();
+		assertEquals(100, trace.size());
+		assertEquals(99, trace.getEvent(99).source());
+
+		// Assert that clearing the recorder resets it
+		recorder.clear();
+		assertEquals(0, recorder.size());
+		assertEquals(0, recorder.getDropped());
+		production.fireEvent(new SimpleEvent(0));
+		assertEquals(1, recorder.size());
+	}
+
+	@Test
+	public void testTraceBuilderSortsEvents() {
+		SimpleEvent first = new SimpleEvent(1), second = new SimpleEvent(2), third = new SimpleEvent(3);
+		EventTrace trace = EventTrace.builder()
+				.add(1_500, TimeUnit.MILLISECONDS, third)
+				.add(1_000, TimeUnit.MILLISECONDS, first)
+				.add(1_000, TimeUnit.MILLISECONDS, second)
+				.build();
+
+		// Assert that the events were sorted by time, keeping the order of events with the same time
+		assertSame(first, trace.getEvent(0));
+		assertSame(second, trace.getEvent(1));
+		assertSame(third, trace.getEvent(2));
+		assertEquals(0, trace.getTime(1, TimeUnit.MILLISECONDS));
+		assertEquals(500, trace.getTime(2, TimeUnit.MILLISECONDS));
+		assertEquals(500, trace.getDuration(TimeUnit.MILLISECONDS));
+	}
+
+	@Test
+	public void testLatencyHistogram() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		for (long value = 1; value <= 10_000; value++)
+			histogram.record(value);
+
+		// Assert that percentiles are within an eighth of their exact values
+		assertEquals(10_000, histogram.getCount());
+		assertEquals(1, histogram.getMin());
+		assertEquals(10_000, histogram.getMax());
+		for (double percentile : new double[] {1, 50, 90, 99, 99.9}) {
+			long exact = (long) Math.ceil(percentile * 100);
+			long reported = histogram.getPercentile(percentile);
+			assertTrue(reported >= exact && reported <= exact + exact / 8, percentile + ": " + reported);
+		}
+		assertEquals(10_000, histogram.getPercentile(100));
+	}
+}
@@ -2,8 +2,22 @@ package com.kori_47.events;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
@@ -21,11 +35,13 @@ public class ThreadedListenerTest implements ListenerTest<ThreadedListener> {
 	@Override
 	public Stream<ThreadedListener> listenerProvider() {
 		ExecutorService service = Executors.newFixedThreadPool(3);
+		BatchPolicy batchPolicy = new BatchPolicy(64, 1, TimeUnit.MILLISECONDS);
 		return Stream.of(
 				new ThreadedListener(),										// An instance of thread listener using the default constructor
 				new ThreadedListener(0),									// A thread listener with unlimited threads
 				new ThreadedListener(1, Executors.defaultThreadFactory()),	// A thread listener with a single thread and a custome thread factory
-				new ThreadedListener(service, true)							// A thread with a custom executor service
+				new ThreadedListener(service, true),						// A thread with a custom executor service
+				new ThreadedListener(Executors.newFixedThreadPool(2), true, batchPolicy)	// A thread listener that batches events
 			);
 	}
 	
@@ -152,6 +168,505 @@ public class ThreadedListenerTest implements ListenerTest<ThreadedListener> {
 		service.shutdownNow();
 	}
 	
+	@Test
+	public void testDisposeFrozenListener() {
+		ThreadedListener listener = new ThreadedListener();
+		listener.addHandlers(ListenerSnapshot.builder().add(SimpleEvent.class, event -> {}).build());
+		listener.freeze();
+		
+		// Assert that a frozen listener can still be disposed
+		assertDoesNotThrow(listener::dispose);
+		assertTrue(listener.isDisposed());
+		assertThrows(IllegalStateException.class, () -> listener.addHandlers(listener.getSnapshot()));
+	}
+	
+	@Test
+	public void testErrorHandler() throws InterruptedException {
+		ThreadedListener listener = new ThreadedListener(2);
+		CountDownLatch latch = new CountDownLatch(2);
+		RuntimeException failure = new IllegalStateException();
+		AtomicInteger testValue = new AtomicInteger();
+		
+		// Register a failing handler and a handler that counts down once it has been executed
+		listener.addHandler(SimpleEvent.class, event -> { throw failure; });
+		listener.addHandler(SimpleEvent.class, event -> latch.countDown());
+		listener.setErrorHandler((event, handler, exception) -> {
+			if (exception == failure) testValue.getAndIncrement();
+			latch.countDown();
+		});
+		
+		// Fire an event and assert that the failure was passed to the error handler
+		listener.fireEvent(new SimpleEvent(this));
+		assertTrue(latch.await(5, TimeUnit.SECONDS));
+		assertEquals(1, testValue.get());
+		
+		// Clean up
+		cleanUp(listener);
+	}
+	
+	@Test
+	public void testBatchedDeliveryPreservesOrder() throws InterruptedException {
+		ThreadedListener listener = new ThreadedListener(Executors.newFixedThreadPool(2), true, new BatchPolicy(16, 1, TimeUnit.MILLISECONDS));
+		int eventCount = 10_000;
+		CountDownLatch latch = new CountDownLatch(eventCount);
+		AtomicInteger expected = new AtomicInteger();
+		AtomicInteger outOfOrder = new AtomicInteger();
+		
+		// Register a handler that checks that events are received in the order they were fired
+		listener.addHandler(ProgressChangedEvent.class, event -> {
+			if (event.getNewValue() != expected.getAndIncrement() / (float) eventCount) outOfOrder.getAndIncrement();
+			latch.countDown();
+		});
+		
+		// Fire the events and wait for them to be delivered
+		for (int count = 0; count < eventCount; count++)
+			listener.fireEvent(new ProgressChangedEvent(this, 0f, count / (float) eventCount));
+		assertTrue(latch.await(10, TimeUnit.SECONDS));
+		
+		// Assert that all the events were received in order
+		assertEquals(0, outOfOrder.get());
+		
+		// Clean up
+		cleanUp(listener);
+	}
+	
+	@Test
+	public void testBatchedDeliverySurvivesErrors() throws InterruptedException {
+		ExecutorService service = Executors.newFixedThreadPool(1, runnable -> {
+			Thread thread = new Thread(runnable);
+			thread.setDaemon(true);
+			thread.setUncaughtExceptionHandler((failed, ex) -> {});
+			
+			return thread;
+		});
+		ThreadedListener listener = new ThreadedListener(service, true, new BatchPolicy(16, 1, TimeUnit.MILLISECONDS));
+		CountDownLatch latch = new CountDownLatch(1);
+		
+		// Register a handler that throws an Error, which kills the consumer that delivers it
+		listener.addHandler(SimpleEvent.class, event -> {
+			if (event.source() == this) throw new AssertionError();
+			latch.countDown();
+		});
+		listener.fireEvent(new SimpleEvent(this));
+		
+		// Assert that the consumer retired and a new one delivers the next event
+		for (int attempt = 0; attempt < 100 && latch.getCount() > 0; attempt++) {
+			listener.fireEvent(new SimpleEvent("next"));
+			latch.await(50, TimeUnit.MILLISECONDS);
+		}
+		assertEquals(0, latch.getCount());
+		
+		// Clean up
+		cleanUp(listener);
+	}
+	
+	@Test
+	public void testBatchedDeliveryReleasesUndeliveredEvents() throws InterruptedException {
+		EventPool<BatchedEvent> pool = new EventPool<>(BatchedEvent::new, 8, true);
+		
+		// Assert that an event queued for a consumer that the executor rejects is released
+		ExecutorService shutdown = Executors.newSingleThreadExecutor();
+		shutdown.shutdown();
+		ThreadedListener rejecting = new ThreadedListener(shutdown, false, new BatchPolicy(16, 1, TimeUnit.MILLISECONDS));
+		rejecting.addHandler(BatchedEvent.class, event -> {});
+		BatchedEvent rejected = pool.acquire(this);
+		assertThrows(RejectedExecutionException.class, () -> rejecting.fireEvent(rejected));
+		assertTrue(rejected.isReleased());
+		
+		// Keep the only thread of a listener busy so that it's consumer is queued but never runs
+		ThreadedListener listener = new ThreadedListener(Executors.newSingleThreadExecutor(), true, new BatchPolicy(16, 1, TimeUnit.MILLISECONDS));
+		CountDownLatch blocked = new CountDownLatch(1);
+		listener.addHandler(SimpleEvent.class, event -> {
+			blocked.countDown();
+			try {
+				new CountDownLatch(1).await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException ex) {
+				// Interrupted by the listener's disposal
+			}
+		});
+		listener.addHandler(BatchedEvent.class, event -> {});
+		listener.fireEvent(new SimpleEvent(this));
+		assertTrue(blocked.await(5, TimeUnit.SECONDS));
+		List<BatchedEvent> queued = new ArrayList<>();
+		for (int count = 0; count < 4; count++) {
+			BatchedEvent event = pool.acquire(this);
+			queued.add(event);
+			listener.fireEvent(event);
+		}
+		
+		// Assert that disposing the listener releases the events that were never delivered
+		listener.dispose();
+		for (BatchedEvent event : queued)
+			assertTrue(event.isReleased());
+	}
+	
+	@Test
+	public void testUnhandledExceptionsAreReported() throws InterruptedException {
+		BlockingQueue<Throwable> reported = new LinkedBlockingQueue<>();
+		ThreadFactory factory = runnable -> {
+			Thread thread = new Thread(runnable);
+			thread.setDaemon(true);
+			thread.setUncaughtExceptionHandler((failed, ex) -> reported.add(ex));
+			
+			return thread;
+		};
+		ThreadedListener pooled = new ThreadedListener(2, factory);
+		ThreadedListener batched = new ThreadedListener(Executors.newFixedThreadPool(2, factory), true, new BatchPolicy(16, 1, TimeUnit.MILLISECONDS));
+		
+		// Register a failing handler, without an ErrorHandler, to be executed as a task, in a graph and in a batch
+		IllegalStateException failure = new IllegalStateException();
+		Handler<SimpleEvent> failing = event -> { throw failure; };
+		pooled.addHandler(SimpleEvent.class, failing);
+		batched.addHandler(SimpleEvent.class, failing);
+		
+		// Assert that each failure is reported to the uncaught exception handler of the thread that executed it
+		pooled.fireEvent(new SimpleEvent(this));
+		assertSame(failure, reported.poll(5, TimeUnit.SECONDS));
+		pooled.addHandlerAfter(SimpleEvent.class, event -> {}, failing);
+		pooled.fireEvent(new SimpleEvent(this));
+		assertSame(failure, reported.poll(5, TimeUnit.SECONDS));
+		batched.fireEvent(new SimpleEvent(this));
+		assertSame(failure, reported.poll(5, TimeUnit.SECONDS));
+		
+		// Assert that a failure passed to an ErrorHandler isn't reported again
+		pooled.setErrorHandler((event, handler, ex) -> {});
+		pooled.fireEvent(new SimpleEvent(this));
+		assertNull(reported.poll(100, TimeUnit.MILLISECONDS));
+		
+		// Clean up
+		cleanUp(pooled);
+		cleanUp(batched);
+	}
+	
+	@Test
+	public void testDeliveries() throws InterruptedException {
+		ThreadedListener listener = new ThreadedListener(2);
+		ExecutorService eventLoop = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "Event Loop"));
+		CountDownLatch latch = new CountDownLatch(2);
+		Thread[] threads = new Thread[3];
+		
+		// Register a handler for each kind of delivery that records the thread it was executed on
+		listener.addHandler(SimpleEvent.class, event -> threads[0] = Thread.currentThread(), Delivery.inline());
+		listener.addHandler(SimpleEvent.class, event -> {
+			threads[1] = Thread.currentThread();
+			latch.countDown();
+		}, Delivery.pooled());
+		listener.addHandler(SimpleEvent.class, event -> {
+			threads[2] = Thread.currentThread();
+			latch.countDown();
+		}, Delivery.on(eventLoop));
+		assertEquals(3, listener.handlerCount(SimpleEvent.class));
+		
+		// Fire an event and wait for the asynchronous handlers
+		listener.fireEvent(new SimpleEvent(this));
+		assertTrue(latch.await(5, TimeUnit.SECONDS));
+		
+		// Assert that each handler was executed on the expected thread
+		assertSame(Thread.currentThread(), threads[0]);
+		assertNotSame(Thread.currentThread(), threads[1]);
+		assertEquals("Event Loop", threads[2].getName());
+		
+		// Assert that failures of inline handlers are rethrown when there's no error handler
+		listener.addHandler(ProgressChangedEvent.class, event -> { throw new IllegalStateException(); }, Delivery.inline());
+		assertThrows(IllegalStateException.class, () -> listener.fireEvent(new ProgressChangedEvent(this, 0f, 1f)));
+		
+		// Assert that a NullPointerException is thrown when a null delivery is passed
+		assertThrows(NullPointerException.class, () -> listener.addHandler(SimpleEvent.class, event -> event.source(), null));
+		
+		// Clean up
+		cleanUp(listener);
+		eventLoop.shutdownNow();
+	}
+	
+	@ParameterizedTest
+	@MethodSource("listenerProvider")
+	public void testStamping(ThreadedListener listener) throws InterruptedException {
+		int eventCount = 100;
+		CountDownLatch latch = new CountDownLatch(eventCount * 2);
+		AtomicInteger unstamped = new AtomicInteger();
+		
+		// Register a pooled and an inline handler that check that the event they handle was stamped
+		Handler<SimpleEvent> handler = event -> {
+			if (!EventStamp.current().filter(stamp -> stamp.getEvent() == event).isPresent()) unstamped.getAndIncrement();
+			latch.countDown();
+		};
+		listener.addHandler(SimpleEvent.class, handler);
+		listener.addHandler(SimpleEvent.class, handler::handle, Delivery.inline());
+		
+		// Enable stamping, fire the events and wait for them to be handled
+		listener.setStampingEnabled(true);
+		for (int count = 0; count < eventCount; count++)
+			listener.fireEvent(new SimpleEvent(this));
+		assertTrue(latch.await(10, TimeUnit.SECONDS));
+		
+		// Assert that every handler could read the stamp of it's event
+		assertEquals(0, unstamped.get());
+		
+		// Clean up
+		cleanUp(listener);
+	}
+	
+	@Test
+	public void testPoolSize() {
+		ThreadedListener listener = new ThreadedListener(2);
+		ThreadedListener unbounded = new ThreadedListener(0);
+		
+		// Assert that only a bounded pool can be resized
+		assertTrue(listener.isResizable());
+		assertFalse(unbounded.isResizable());
+		assertThrows(UnsupportedOperationException.class, () -> unbounded.setPoolSize(4));
+		
+		// Resize the pool and assert that it's size changed
+		assertEquals(2, listener.getPoolSize());
+		listener.setPoolSize(4);
+		assertEquals(4, listener.getPoolSize());
+		listener.setPoolSize(1);
+		assertEquals(1, listener.getPoolSize());
+		assertThrows(IllegalArgumentException.class, () -> listener.setPoolSize(0));
+		
+		// Assert that setting a scaling policy fits the pool within it's bounds
+		listener.setScalingPolicy(new ScalingPolicy(3, 6, 10, TimeUnit.MILLISECONDS));
+		assertEquals(3, listener.getPoolSize());
+		assertTrue(listener.getScalingPolicy().isPresent());
+		listener.setScalingPolicy(null);
+		assertFalse(listener.getScalingPolicy().isPresent());
+		
+		// Assert that a listener that batches events can be resized but can't have a scaling policy
+		ThreadedListener batched = new ThreadedListener(Executors.newFixedThreadPool(2), true, new BatchPolicy(16, 1, TimeUnit.MILLISECONDS));
+		batched.setPoolSize(3);
+		assertEquals(3, batched.getPoolSize());
+		assertThrows(UnsupportedOperationException.class, () -> batched.setScalingPolicy(new ScalingPolicy(1, 4, 10, TimeUnit.MILLISECONDS)));
+		batched.setScalingPolicy(null);
+		assertFalse(batched.getScalingPolicy().isPresent());
+		
+		// Clean up
+		cleanUp(listener);
+		cleanUp(unbounded);
+		cleanUp(batched);
+	}
+	
+	@Test
+	public void testScalingPolicy() throws InterruptedException {
+		ThreadedListener listener = new ThreadedListener(1);
+		int eventCount = 200;
+		CountDownLatch latch = new CountDownLatch(eventCount);
+		
+		// Register a slow handler and a policy that checks the pool every millisecond
+		listener.addHandler(SimpleEvent.class, event -> {
+			block(5);
+			latch.countDown();
+		});
+		listener.setScalingPolicy(new ScalingPolicy(1, 8, 1, 1, 2, TimeUnit.MILLISECONDS));
+		
+		// Fire events faster than a single thread can handle them and assert that the pool grew
+		for (int count = 0; count < eventCount; count++) {
+			listener.fireEvent(new SimpleEvent(this));
+			if (count % 10 == 0) block(2);
+		}
+		assertTrue(listener.getPoolSize() > 1);
+		
+		// Assert that no events were lost while the pool was resized
+		assertTrue(latch.await(10, TimeUnit.SECONDS));
+		
+		// Fire events slowly once the queue has drained and assert that the pool shrank back to it's minimum size
+		listener.removeHandler(SimpleEvent.class, listener.getHandlers(SimpleEvent.class).get().get(0));
+		listener.addHandler(SimpleEvent.class, event -> {});
+		for (int count = 0; count < 100 && listener.getPoolSize() > 1; count++) {
+			listener.fireEvent(new SimpleEvent(this));
+			block(2);
+		}
+		assertEquals(1, listener.getPoolSize());
+		
+		// Clean up
+		cleanUp(listener);
+	}
+	
+	@Test
+	public void testAsyncHandler() throws InterruptedException {
+		ThreadedListener listener = new ThreadedListener(1);
+		Queue<CompletableFuture<Void>> operations = new ConcurrentLinkedQueue<>();
+		int eventCount = 1000;
+		
+		// Register an asynchronous handler whose operations only complete when the test completes them
+		Handler<SimpleEvent> handler = listener.addAsyncHandler(SimpleEvent.class, event -> {
+			CompletableFuture<Void> operation = new CompletableFuture<>();
+			operations.add(operation);
+			return operation;
+		}, new AsyncPolicy(100));
+		assertTrue(listener.getHandlers(SimpleEvent.class).get().contains(handler));
+		
+		// Assert that a single thread starts operations up to the in-flight limit and queues the rest of the events
+		for (int count = 0; count < eventCount; count++)
+			listener.fireEvent(new SimpleEvent(count));
+		AsyncInvoker<?> invoker = (AsyncInvoker<?>) handler;
+		for (int wait = 0; wait < 1000 && invoker.inFlight() + invoker.pending() < eventCount; wait++)
+			block(5);
+		assertEquals(100, operations.size());
+		assertEquals(100, invoker.inFlight());
+		assertEquals(eventCount - 100, invoker.pending());
+		
+		// Assert that completing operations starts the queued events
+		int completed = 0;
+		CompletableFuture<Void> operation;
+		while ((operation = operations.poll()) != null) {
+			operation.complete(null);
+			completed++;
+		}
+		assertEquals(eventCount, completed);
+		assertEquals(0, invoker.inFlight());
+		assertEquals(0, invoker.pending());
+		
+		// Clean up
+		cleanUp(listener);
+	}
+	
+	@Test
+	public void testAsyncHandlerFailures() throws InterruptedException {
+		SimpleListener listener = new SimpleListener();
+		BlockingQueue<RuntimeException> errors = new LinkedBlockingQueue<>();
+		listener.setErrorHandler((event, handler, exception) -> errors.add(exception));
+		
+		// Register a handler that never completes and one that fails
+		Handler<SimpleEvent> stuck = listener.addAsyncHandler(SimpleEvent.class, event -> new CompletableFuture<>(), 
+				new AsyncPolicy(1, 20, TimeUnit.MILLISECONDS));
+		listener.addAsyncHandler(SimpleEvent.class, event -> {
+			CompletableFuture<Void> operation = new CompletableFuture<>();
+			operation.completeExceptionally(new IllegalStateException("failed"));
+			return operation;
+		}, new AsyncPolicy(1));
+		assertThrows(IllegalArgumentException.class, () -> new AsyncPolicy(0));
+		assertThrows(IllegalArgumentException.class, () -> new AsyncPolicy(1, -1, TimeUnit.SECONDS));
+		
+		// Assert that the failure is passed to the error handler, without being thrown to the caller
+		listener.fireEvent(new SimpleEvent(this));
+		listener.fireEvent(new SimpleEvent(this));
+		assertTrue(errors.poll(1, TimeUnit.SECONDS) instanceof IllegalStateException);
+		assertTrue(errors.poll(1, TimeUnit.SECONDS) instanceof IllegalStateException);
+		
+		// Assert that both operations of the stuck handler time out, one after the other
+		for (int count = 0; count < 2; count++) {
+			RuntimeException error = errors.poll(1, TimeUnit.SECONDS);
+			assertNotNull(error);
+			assertTrue(error.getCause() instanceof TimeoutException);
+		}
+		AsyncInvoker<?> invoker = (AsyncInvoker<?>) stuck;
+		for (int wait = 0; wait < 100 && invoker.inFlight() > 0; wait++)
+			block(5);
+		assertEquals(0, invoker.inFlight());
+		assertTrue(errors.isEmpty());
+		
+		// Clean up
+		listener.clear();
+	}
+	
+	@Test
+	public void testHandlerDependencies() throws InterruptedException {
+		ThreadedListener listener = new ThreadedListener(4);
+		int eventCount = 100;
+		CountDownLatch latch = new CountDownLatch(eventCount);
+		CountDownLatch independentStarted = new CountDownLatch(1);
+		Queue<String> outOfOrder = new ConcurrentLinkedQueue<>();
+		Map<Event, Queue<String>> handled = new ConcurrentHashMap<>();
+		Queue<Throwable> errors = new ConcurrentLinkedQueue<>();
+		listener.setErrorHandler((event, handler, ex) -> errors.add(ex));
+		
+		// Register a handler that waits for an independent handler and fails, and two handlers that depend on it
+		Handler<SimpleEvent> persist = event -> {
+			try {
+				independentStarted.await();
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			handled.computeIfAbsent(event, key -> new ConcurrentLinkedQueue<>()).add("persist");
+			throw new IllegalStateException();
+		};
+		Handler<SimpleEvent> index = event -> handled.computeIfAbsent(event, key -> new ConcurrentLinkedQueue<>()).add("index");
+		Handler<SimpleEvent> notify = event -> {
+			Queue<String> names = handled.get(event);
+			if (names == null || !names.contains("persist") || !names.contains("index")) outOfOrder.add(String.valueOf(names));
+			latch.countDown();
+		};
+		listener.addHandler(SimpleEvent.class, persist);
+		listener.addHandler(SimpleEvent.class, event -> independentStarted.countDown());
+		listener.addHandlerAfter(SimpleEvent.class, index, persist);
+		listener.addHandlerAfter(SimpleEvent.class, notify, persist, index);
+		
+		// Fire the events and wait for the last handler of each
+		for (int count = 0; count < eventCount; count++)
+			listener.fireEvent(new SimpleEvent(this));
+		assertTrue(latch.await(10, TimeUnit.SECONDS));
+		
+		// Assert that the dependent handlers ran in order even though the first one failed
+		assertTrue(outOfOrder.isEmpty(), outOfOrder.toString());
+		assertEquals(eventCount, errors.size());
+		
+		// Assert that dependencies must be pooled handlers of the event type that don't form a cycle
+		Handler<SimpleEvent> inline = event -> {};
+		listener.addHandler(SimpleEvent.class, inline, Delivery.inline());
+		assertThrows(IllegalArgumentException.class, () -> listener.addHandlerAfter(SimpleEvent.class, event -> {}, inline));
+		assertThrows(IllegalArgumentException.class, () -> listener.addHandlerAfter(SimpleEvent.class, event -> {}, event -> {}));
+		assertThrows(IllegalArgumentException.class, () -> listener.addHandlerAfter(SimpleEvent.class, persist, notify));
+		assertThrows(IllegalArgumentException.class, () -> listener.addHandlerAfter(SimpleEvent.class, index, index));
+		assertThrows(NullPointerException.class, () -> listener.addHandlerAfter(SimpleEvent.class, index, (Handler<?>) null));
+		
+		// Assert that removing a handler drops the dependencies on it
+		CountDownLatch removed = new CountDownLatch(1);
+		listener.removeHandler(SimpleEvent.class, notify);
+		listener.removeHandler(SimpleEvent.class, persist);
+		listener.addHandlerAfter(SimpleEvent.class, event -> removed.countDown(), index);
+		listener.fireEvent(new SimpleEvent(this));
+		assertTrue(removed.await(5, TimeUnit.SECONDS));
+		
+		// Clean up
+		cleanUp(listener);
+	}
+	
+	@Test
+	public void testReregisteringDependentHandler() throws InterruptedException {
+		ThreadedListener listener = new ThreadedListener(4);
+		int eventCount = 100;
+		CountDownLatch latch = new CountDownLatch(eventCount);
+		AtomicInteger invocations = new AtomicInteger();
+		Queue<String> outOfOrder = new ConcurrentLinkedQueue<>();
+		Map<Event, Queue<String>> handled = new ConcurrentHashMap<>();
+		Handler<SimpleEvent> first = event -> handled.computeIfAbsent(event, key -> new ConcurrentLinkedQueue<>()).add("first");
+		Handler<SimpleEvent> second = event -> {
+			block(1);
+			handled.computeIfAbsent(event, key -> new ConcurrentLinkedQueue<>()).add("second");
+		};
+		Handler<SimpleEvent> last = event -> {
+			Queue<String> names = handled.get(event);
+			if (names == null || !names.contains("second")) outOfOrder.add(String.valueOf(names));
+			invocations.incrementAndGet();
+			latch.countDown();
+		};
+		listener.addHandler(SimpleEvent.class, first);
+		listener.addHandler(SimpleEvent.class, second);
+		listener.addHandlerAfter(SimpleEvent.class, last, first);
+		
+		// Register the last handler again with new dependencies and assert that it wasn't registered twice
+		listener.addHandlerAfter(SimpleEvent.class, last, second);
+		assertEquals(3, listener.handlerCount(SimpleEvent.class));
+		listener.addHandler(SimpleEvent.class, last, Delivery.pooled());
+		listener.addHandlerAfter(SimpleEvent.class, last, second);
+		assertEquals(3, listener.handlerCount(SimpleEvent.class));
+		
+		// Fire the events and assert that the last handler ran once per event, after it's new dependency
+		for (int count = 0; count < eventCount; count++)
+			listener.fireEvent(new SimpleEvent(this));
+		assertTrue(latch.await(10, TimeUnit.SECONDS));
+		block(50);
+		assertEquals(eventCount, invocations.get());
+		assertTrue(outOfOrder.isEmpty(), outOfOrder.toString());
+		
+		// Assert that adding the handler from a snapshot drops it's dependencies, so the second one can depend on it
+		listener.addHandlers(ListenerSnapshot.builder().add(SimpleEvent.class, last).build());
+		assertDoesNotThrow(() -> listener.addHandlerAfter(SimpleEvent.class, second, last));
+		
+		// Clean up
+		cleanUp(listener);
+	}
+	
 	/**
 	 * Block the calling thread for the specified duration in milliseconds.
 	 * 
@@ -164,4 +679,9 @@ public class ThreadedListenerTest implements ListenerTest<ThreadedListener> {
 			throw new RuntimeException("Blocking was interrupted", ex);
 		}
 	}
+	
+	/**
+	 * A pooled event delivered in batches.
+	 */
+	private static final class BatchedEvent extends PooledEvent {}
 }
@@ -0,0 +1,154 @@
+package com.kori_47.events;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class ValueStoreTest {
+
+	@Test
+	public void testLatestValues() {
+		SimpleListener listener = new SimpleListener();
+		ValueStore<Float> store = new ValueStore<>();
+		Handler<ProgressChangedEvent> handler = store.subscribe(listener, ProgressChangedEvent.class);
+
+		// Fire a few changes from two sources and assert that only the latest value of each is kept
+		listener.fireEvent(new ProgressChangedEvent("download", 0f, 0.25f));
+		listener.fireEvent(new ProgressChangedEvent("download", 0.25f, 0.5f));
+		listener.fireEvent(new ProgressChangedEvent("upload", 0f, 0.75f));
+		assertEquals(0.5f, store.get("download").get().floatValue());
+		assertEquals(0.75f, store.get("upload").get().floatValue());
+		assertFalse(store.get("install").isPresent());
+		assertEquals(2, store.size());
+
+		// Assert that versions count the changes of each source and of the store
+		assertEquals(2, store.getVersion("download"));
+		assertEquals(1, store.getVersion("upload"));
+		assertEquals(0, store.getVersion("install"));
+		assertEquals(3, store.getVersion());
+
+		// Assert that a repeated value isn't a change
+		long version = store.getVersion();
+		listener.fireEvent(new ProgressChangedEvent("download", 0.5f, 0.5f));
+		assertFalse(store.hasChangedSince(version));
+		assertFalse(store.hasChangedSince("download", 2));
+		listener.fireEvent(new ProgressChangedEvent("download", 0.5f, 1f));
+		assertTrue(store.hasChangedSince(version));
+		assertTrue(store.hasChangedSince("download", 2));
+		assertFalse(store.hasChangedSince("upload", 1));
+
+		// Assert that removing a value is a change and that the source keeps it's version
+		assertTrue(store.remove("upload"));
+		assertFalse(store.remove("upload"));
+		assertFalse(store.get("upload").isPresent());
+		assertEquals(2, store.getVersion("upload"));
+		assertEquals(3, store.put("upload", 0.1f));
+
+		// Assert that the store stops receiving events once it's handler is removed
+		listener.removeHandler(ProgressChangedEvent.class, handler);
+		listener.fireEvent(new ProgressChangedEvent("download", 1f, 0f));
+		assertEquals(1f, store.get("download").get().floatValue());
+
+		// Clean up
+		listener.clear();
+	}
+
+	@Test
+	public void testSnapshot() {
+		ValueStore<Integer> store = new ValueStore<>(0);
+		for (int source = 0; source < 100; source++)
+			store.put(source, source * 2);
+
+		// Assert that the snapshot has every value and the version of the store
+		ValueStore.Snapshot<Integer> snapshot = store.snapshot();
+		assertEquals(100, snapshot.getVersion());
+		Map<Object, Integer> values = snapshot.getValues();
+		assertEquals(100, values.size());
+		for (int source = 0; source < 100; source++)
+			assertEquals(source * 2, values.get(source).intValue());
+		assertThrows(UnsupportedOperationException.class, () -> values.clear());
+
+		// Assert that later changes don't affect the snapshot
+		store.put(0, -1);
+		assertEquals(0, snapshot.getValues().get(0).intValue());
+		assertTrue(store.hasChangedSince(snapshot.getVersion()));
+		assertThrows(IllegalArgumentException.class, () -> new ValueStore<>(-1));
+	}
+
+	@Test
+	public void testStaleUpdates() {
+		ValueStore<Float> store = new ValueStore<>();
+		ProgressChangedEvent older = new ProgressChangedEvent("download", 0f, 0.25f);
+		ProgressChangedEvent newer = new ProgressChangedEvent("download", 0.25f, 0.5f);
+		EventStamp olderStamp = EventStamp.stamp(older);
+		EventStamp newerStamp = EventStamp.stamp(newer);
+
+		// Handle the newer event before the older one, as concurrent handlers may
+		update(store, newer, newerStamp);
+		update(store, older, olderStamp);
+
+		// Assert that the older event didn't overwrite the newer value
+		assertEquals(0.5f, store.get("download").get().floatValue());
+		assertEquals(1, store.getVersion("download"));
+
+		// Assert that events that weren't stamped, or values put directly, still replace the value
+		store.update(new ProgressChangedEvent("download", 0.5f, 0.75f));
+		assertEquals(0.75f, store.get("download").get().floatValue());
+		update(store, older, olderStamp);
+		assertEquals(0.75f, store.get("download").get().floatValue());
+
+		// Assert that a ThreadedListener updates the store on the firing thread, in the order the events were fired
+		ThreadedListener listener = new ThreadedListener(2);
+		store.subscribe(listener, ProgressChangedEvent.class);
+		for (int count = 1; count <= 100; count++)
+			listener.fireEvent(new ProgressChangedEvent("upload", (count - 1) / 100f, count / 100f));
+		assertEquals(1f, store.get("upload").get().floatValue());
+
+		// Clean up
+		listener.dispose();
+	}
+
+	private static void update(ValueStore<Float> store, ProgressChangedEvent event, EventStamp stamp) {
+		EventStamp previous = EventStamp.enter(stamp);
+		try {
+			store.update(event);
+		} finally {
+			EventStamp.exit(previous);
+		}
+	}
+
+	@Test
+	public void testConcurrentUpdates() throws Exception {
+		ValueStore<Long> store = new ValueStore<>();
+		ExecutorService service = Executors.newFixedThreadPool(4);
+		int sources = 1000, updates = 20;
+
+		// Update the same sources from several threads while the table grows
+		Future<?>[] writers = new Future<?>[4];
+		for (int writer = 0; writer < writers.length; writer++) {
+			writers[writer] = service.submit(() -> {
+				for (long update = 1; update <= updates; update++)
+					for (int source = 0; source < sources; source++)
+						store.put(source, update * sources + source);
+			});
+		}
+		for (Future<?> writer : writers)
+			writer.get(10, TimeUnit.SECONDS);
+
+		// Assert that no source was lost and that each ends with it's last value
+		assertEquals(sources, store.size());
+		for (int source = 0; source < sources; source++) {
+			assertEquals(updates * sources + source, store.get(source).get().longValue());
+			assertTrue(store.getVersion(source) >= updates);
+		}
+
+		// Clean up
+		service.shutdown();
+	}
+}
@@ -0,0 +1,144 @@
+package com.kori_47.events;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class WindowAggregatorTest {
+
+	private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+	private static final long MILLISECOND = TimeUnit.MILLISECONDS.toNanos(1);
+
+	@Test
+	public void testTumblingWindows() {
+		SimpleListener target = new SimpleListener();
+		List<AggregateEvent> aggregates = new ArrayList<>();
+		target.addHandler(AggregateEvent.class, aggregates::add);
+		WindowAggregator<ValueChangedEvent<Double>> aggregator = new WindowAggregator<>(event -> event.getNewValue(), 1, TimeUnit.SECONDS, target);
+		long start = System.nanoTime();
+
+		// Record the values of two sources during the first window and of one of them during the second
+		for (int value = 1; value <= 100; value++)
+			aggregator.record(new ValueChangedEvent<>("download", 0d, (double) value), start + value * MILLISECOND);
+		aggregator.record(new ValueChangedEvent<>("upload", 0d, -2d), start + 500 * MILLISECOND);
+		aggregator.record(new ValueChangedEvent<>("upload", 0d, Double.NaN), start + 500 * MILLISECOND);
+		aggregator.record(new ValueChangedEvent<>("download", 0d, 7d), start + 1500 * MILLISECOND);
+
+		// Assert that nothing is fired before the first window ends
+		assertEquals(0, aggregator.closeWindows(start + 500 * MILLISECOND));
+		assertTrue(aggregates.isEmpty());
+
+		// Assert that the first window is aggregated per source
+		assertEquals(2, aggregator.closeWindows(start + 1100 * MILLISECOND));
+		Map<Object, AggregateEvent> bySource = new HashMap<>();
+		aggregates.forEach(aggregate -> bySource.put(aggregate.source(), aggregate));
+		AggregateEvent download = bySource.get("download");
+		assertSame(ValueChangedEvent.class, download.getEventClass());
+		assertEquals(1, download.getWindow(TimeUnit.SECONDS));
+		assertEquals(100, download.getCount());
+		assertEquals(5050, download.getSum());
+		assertEquals(1, download.getMin());
+		assertEquals(100, download.getMax());
+		assertEquals(50.5, download.getMean());
+		double median = download.getPercentile(50);
+		assertTrue(median >= 50 && median <= 50 + 50 / 8.0, "median: " + median);
+		assertThrows(IllegalArgumentException.class, () -> download.getPercentile(101));
+		AggregateEvent upload = bySource.get("upload");
+		assertEquals(1, upload.getCount());
+		assertEquals(-2, upload.getPercentile(99));
+
+		// Assert that the second window only has it's own values
+		aggregates.clear();
+		assertEquals(1, aggregator.closeWindows(start + 2100 * MILLISECOND));
+		assertEquals(1, aggregates.get(0).getCount());
+		assertEquals(7, aggregates.get(0).getSum());
+
+		// Assert that empty windows aren't fired
+		aggregates.clear();
+		assertEquals(0, aggregator.closeWindows(start + 3600 * SECOND));
+		assertTrue(aggregates.isEmpty());
+	}
+
+	@Test
+	public void testSlidingWindows() {
+		SimpleListener target = new SimpleListener();
+		List<AggregateEvent> aggregates = new ArrayList<>();
+		target.addHandler(AggregateEvent.class, aggregates::add);
+		WindowAggregator<ValueChangedEvent<Integer>> aggregator =
+				new WindowAggregator<>(event -> event.getNewValue(), 3, 1, TimeUnit.SECONDS, target);
+		assertThrows(IllegalArgumentException.class, () -> new WindowAggregator<>(event -> 0, 3, 2, TimeUnit.SECONDS, target));
+		long start = System.nanoTime();
+
+		// Record a value during each of the first four seconds
+		for (int second = 0; second < 4; second++)
+			aggregator.record(new ValueChangedEvent<>(this, 0, second + 1), start + second * SECOND + 100 * MILLISECOND);
+
+		// Assert that a window closes every second with the values of the last three seconds
+		double[] sums = {1, 1 + 2, 1 + 2 + 3, 2 + 3 + 4, 3 + 4, 4};
+		for (int second = 0; second < sums.length; second++) {
+			assertEquals(1, aggregator.closeWindows(start + (second + 1) * SECOND + 200 * MILLISECOND));
+			assertEquals(sums[second], aggregates.get(second).getSum());
+			assertEquals(3, aggregates.get(second).getWindow(TimeUnit.SECONDS));
+		}
+		assertEquals(0, aggregator.closeWindows(start + 10 * SECOND));
+	}
+
+	@Test
+	public void testConcurrentAggregation() throws InterruptedException {
+		ThreadedListener listener = new ThreadedListener(4);
+		BlockingQueue<AggregateEvent> aggregates = new LinkedBlockingQueue<>();
+		SimpleListener target = new SimpleListener();
+		target.addHandler(AggregateEvent.class, aggregates::add);
+		WindowAggregator<ValueChangedEvent<Integer>> aggregator = new WindowAggregator<>(event -> event.getNewValue(), 1, TimeUnit.HOURS, target);
+		int eventCount = 10_000;
+		CountDownLatch latch = new CountDownLatch(eventCount);
+
+		// Aggregate events handled by several threads at once
+		listener.addHandler(ValueChangedEvent.class, event -> {
+			aggregator.handle(event);
+			latch.countDown();
+		});
+		for (int count = 0; count < eventCount; count++)
+			listener.fireEvent(new ValueChangedEvent<>(count % 2, 0, 1));
+		assertTrue(latch.await(10, TimeUnit.SECONDS));
+
+		// Assert that the partial aggregates of every thread were merged
+		assertEquals(2, aggregator.closeWindows(System.nanoTime() + TimeUnit.HOURS.toNanos(1)));
+		assertEquals(eventCount, aggregates.take().getSum() + aggregates.take().getSum());
+
+		// Clean up
+		listener.dispose();
+	}
+
+	@Test
+	public void testScheduledWindows() throws InterruptedException {
+		EventScheduler scheduler = new EventScheduler();
+		BlockingQueue<AggregateEvent> aggregates = new LinkedBlockingQueue<>();
+		SimpleListener listener = new SimpleListener();
+		listener.addHandler(AggregateEvent.class, aggregates::add);
+
+		// Aggregate events on the listener they are fired on and close the windows with the scheduler
+		WindowAggregator<ProgressChangedEvent> aggregator = new WindowAggregator<>(event -> event.getNewValue(), 20, TimeUnit.MILLISECONDS, listener);
+		listener.addHandler(ProgressChangedEvent.class, aggregator);
+		ScheduledDelivery delivery = aggregator.start(scheduler);
+		listener.fireEvent(new ProgressChangedEvent(this, 0f, 0.5f));
+
+		// Assert that the window is closed on time without being closed directly
+		AggregateEvent aggregate = aggregates.poll(1, TimeUnit.SECONDS);
+		assertNotNull(aggregate);
+		assertEquals(0.5, aggregate.getMax());
+
+		// Clean up
+		delivery.cancel();
+		scheduler.shutdown();
+	}
+}
@@ -0,0 +1,285 @@
+package com.kori_47.events;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class EventPublisherTest {
+
+	@Test
+	public void testDemand() {
+		SimpleListener listener = new SimpleListener();
+		EventPublisher<ProgressChangedEvent> publisher = new EventPublisher<>(listener, ProgressChangedEvent.class, 8, OverflowStrategy.ERROR);
+		RecordingSubscriber subscriber = new RecordingSubscriber();
+		publisher.subscribe(subscriber);
+		
+		// Assert that the publisher registers a single handler once it has a subscriber
+		assertEquals(1, publisher.getSubscriberCount());
+		assertEquals(1, listener.handlerCount(ProgressChangedEvent.class));
+		
+		// Assert that nothing is sent before it is requested
+		fire(listener, 5);
+		assertTrue(subscriber.received.isEmpty());
+		
+		// Assert that only the requested events are sent, in order
+		subscriber.subscription.request(2);
+		assertEquals(2, subscriber.received.size());
+		subscriber.subscription.request(10);
+		assertEquals(5, subscriber.received.size());
+		for (int index = 0; index < 5; index++)
+			assertEquals(index, Math.round(subscriber.received.get(index).getNewValue() * 10));
+		
+		// Assert that events are sent as they are fired while there is outstanding demand
+		fire(listener, 1);
+		assertEquals(6, subscriber.received.size());
+		
+		// Assert that a request that isn't positive fails the subscription
+		subscriber.subscription.request(0);
+		assertTrue(subscriber.error instanceof IllegalArgumentException);
+		assertEquals(0, publisher.getSubscriberCount());
+	}
+
+	@Test
+	public void testCancellation() {
+		SimpleListener listener = new SimpleListener();
+		EventPublisher<ProgressChangedEvent> publisher = new EventPublisher<>(listener, ProgressChangedEvent.class, 8, OverflowStrategy.ERROR);
+		RecordingSubscriber first = new RecordingSubscriber();
+		RecordingSubscriber second = new RecordingSubscriber();
+		publisher.subscribe(first);
+		publisher.subscribe(second);
+		first.subscription.request(Long.MAX_VALUE);
+		second.subscription.request(Long.MAX_VALUE);
+		
+		// Assert that a cancelled subscriber receives nothing more while the others still do
+		fire(listener, 1);
+		first.subscription.cancel();
+		fire(listener, 1);
+		assertEquals(1, first.received.size());
+		assertEquals(2, second.received.size());
+		assertEquals(1, publisher.getSubscriberCount());
+		
+		// Assert that the handler is removed once the last subscriber cancels
+		second.subscription.cancel();
+		assertEquals(0, publisher.getSubscriberCount());
+		assertEquals(0, listener.handlerCount(ProgressChangedEvent.class));
+		assertFalse(first.completed || second.completed);
+	}
+
+	@Test
+	public void testClose() {
+		SimpleListener listener = new SimpleListener();
+		EventPublisher<ProgressChangedEvent> publisher = new EventPublisher<>(listener, ProgressChangedEvent.class, 8, OverflowStrategy.ERROR);
+		RecordingSubscriber subscriber = new RecordingSubscriber();
+		publisher.subscribe(subscriber);
+		fire(listener, 2);
+		
+		// Assert that the buffered events are still sent after closing, followed by onComplete
+		publisher.close();
+		assertEquals(0, listener.handlerCount(ProgressChangedEvent.class));
+		assertFalse(subscriber.completed);
+		subscriber.subscription.request(5);
+		assertEquals(2, subscriber.received.size());
+		assertTrue(subscriber.completed);
+		
+		// Assert that a subscriber that subscribes after closing is completed at once
+		RecordingSubscriber late = new RecordingSubscriber();
+		publisher.subscribe(late);
+		assertNotNull(late.subscription);
+		assertTrue(late.completed);
+	}
+
+	@Test
+	public void testOverflowStrategies() {
+		SimpleListener listener = new SimpleListener();
+		RecordingSubscriber dropOldest = subscribe(listener, OverflowStrategy.DROP_OLDEST);
+		RecordingSubscriber dropLatest = subscribe(listener, OverflowStrategy.DROP_LATEST);
+		RecordingSubscriber error = subscribe(listener, OverflowStrategy.ERROR);
+		
+		// Fire more events than the buffers can hold before requesting any
+		fire(listener, 5);
+		dropOldest.subscription.request(10);
+		dropLatest.subscription.request(10);
+		error.subscription.request(10);
+		
+		// Assert that DROP_OLDEST keeps the last events and DROP_LATEST the first ones
+		assertEquals(3, dropOldest.received.size());
+		assertEquals(0.2f, dropOldest.received.get(0).getNewValue().floatValue());
+		assertEquals(3, dropLatest.received.size());
+		assertEquals(0.2f, dropLatest.received.get(2).getNewValue().floatValue());
+		
+		// Assert that ERROR discards the buffered events and fails the subscription
+		assertTrue(error.received.isEmpty());
+		assertTrue(error.error instanceof IllegalStateException);
+	}
+	
+	@Test
+	public void testPooledEvents() {
+		EventPool<CountEvent> pool = new EventPool<>(CountEvent::new, 8, true);
+		SimpleListener listener = new SimpleListener();
+		EventPublisher<CountEvent> publisher = new EventPublisher<>(listener, CountEvent.class, 2, OverflowStrategy.DROP_OLDEST);
+		List<Integer> received = new ArrayList<>();
+		List<Flow.Subscription> subscriptions = new ArrayList<>();
+		publisher.subscribe(new Flow.Subscriber<CountEvent>() {
+			@Override
+			public void onSubscribe(Flow.Subscription subscription) {
+				subscriptions.add(subscription);
+			}
+			
+			@Override
+			public void onNext(CountEvent item) {
+				received.add(item.getCount());
+			}
+			
+			@Override
+			public void onError(Throwable throwable) {}
+			
+			@Override
+			public void onComplete() {}
+		});
+		
+		// Fire more pooled events than the buffer can hold before requesting any
+		List<CountEvent> fired = new ArrayList<>();
+		for (int count = 1; count <= 3; count++) {
+			CountEvent event = pool.acquire(this).setCount(count);
+			fired.add(event);
+			listener.fireEvent(event);
+		}
+		
+		// Assert that the buffered events outlived their handler while the dropped one was released
+		assertTrue(fired.get(0).isReleased());
+		assertFalse(fired.get(1).isReleased());
+		assertFalse(fired.get(2).isReleased());
+		
+		// Assert that a buffered event is sent intact and released once it has been sent
+		subscriptions.get(0).request(1);
+		assertEquals(List.of(2), received);
+		assertTrue(fired.get(1).isReleased());
+		assertFalse(fired.get(2).isReleased());
+		
+		// Assert that cancelling releases the events left in the buffer
+		subscriptions.get(0).cancel();
+		assertTrue(fired.get(2).isReleased());
+		assertEquals(List.of(2), received);
+	}
+	
+	@Test
+	public void testConcurrentDelivery() throws InterruptedException {
+		ThreadedListener listener = new ThreadedListener(4);
+		int eventCount = 10_000;
+		EventPublisher<SimpleEvent> publisher = new EventPublisher<>(listener, SimpleEvent.class, eventCount, OverflowStrategy.ERROR);
+		CountDownLatch latch = new CountDownLatch(eventCount);
+		AtomicBoolean delivering = new AtomicBoolean();
+		AtomicInteger overlaps = new AtomicInteger();
+		
+		// Subscribe with a subscriber that requests one event at a time and checks that it is never called concurrently
+		publisher.subscribe(new Flow.Subscriber<SimpleEvent>() {
+			private Flow.Subscription subscription;
+			
+			@Override
+			public void onSubscribe(Flow.Subscription subscription) {
+				this.subscription = subscription;
+				subscription.request(1);
+			}
+			
+			@Override
+			public void onNext(SimpleEvent item) {
+				if (!delivering.compareAndSet(false, true)) overlaps.getAndIncrement();
+				latch.countDown();
+				delivering.set(false);
+				subscription.request(1);
+			}
+			
+			@Override
+			public void onError(Throwable throwable) {}
+			
+			@Override
+			public void onComplete() {}
+		});
+		
+		// Fire the events from the listener's threads and wait for all of them to be sent
+		for (int count = 0; count < eventCount; count++)
+			listener.fireEvent(new SimpleEvent(this));
+		assertTrue(latch.await(10, TimeUnit.SECONDS));
+		
+		// Assert that the signals to the subscriber were serialized
+		assertEquals(0, overlaps.get());
+		
+		// Clean up
+		publisher.close();
+		listener.dispose();
+	}
+	
+	private RecordingSubscriber subscribe(Listener listener, OverflowStrategy overflowStrategy) {
+		EventPublisher<ProgressChangedEvent> publisher = new EventPublisher<>(listener, ProgressChangedEvent.class, 3, overflowStrategy);
+		RecordingSubscriber subscriber = new RecordingSubscriber();
+		publisher.subscribe(subscriber);
+		return subscriber;
+	}
+	
+	private void fire(Listener listener, int eventCount) {
+		for (int count = 0; count < eventCount; count++)
+			listener.fireEvent(new ProgressChangedEvent(this, 0f, count / 10f));
+	}
+	
+	/**
+	 * A subscriber that records every signal it receives, on the calling thread.
+	 */
+	private static final class RecordingSubscriber implements Flow.Subscriber<ProgressChangedEvent> {
+		
+		private final List<ProgressChangedEvent> received = new ArrayList<>();
+		private Flow.Subscription subscription;
+		private Throwable error;
+		private boolean completed;
+
+		@Override
+		public void onSubscribe(Flow.Subscription subscription) {
+			this.subscription = subscription;
+		}
+
+		@Override
+		public void onNext(ProgressChangedEvent item) {
+			received.add(item);
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			error = throwable;
+		}
+
+		@Override
+		public void onComplete() {
+			completed = true;
+		}
+	}
+	
+	/**
+	 * A pooled event that carries a count.
+	 */
+	private static final class CountEvent extends PooledEvent {
+		
+		private int count;
+		
+		private CountEvent setCount(int count) {
+			this.count = count;
+			return this;
+		}
+		
+		private int getCount() {
+			checkNotReleased();
+			return count;
+		}
+		
+		@Override
+		protected void reset() {
+			count = 0;
+		}
+	}
+}
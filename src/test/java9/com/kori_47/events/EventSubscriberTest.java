@@ -0,0 +1,114 @@
+package com.kori_47.events;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+import org.junit.jupiter.api.Test;
+
+public class EventSubscriberTest {
+
+	@Test
+	public void testPrefetch() {
+		SimpleListener listener = new SimpleListener();
+		List<SimpleEvent> fired = new ArrayList<>();
+		listener.addHandler(SimpleEvent.class, fired::add);
+		EventSubscriber<SimpleEvent> subscriber = new EventSubscriber<>(listener, 4);
+		RecordingSubscription subscription = new RecordingSubscription();
+		assertThrows(IllegalArgumentException.class, () -> new EventSubscriber<>(listener, 0));
+		
+		// Assert that prefetch items are requested on subscription
+		subscriber.onSubscribe(subscription);
+		assertEquals(4, subscription.requested);
+		
+		// Assert that more items are requested once half of them have been fired
+		subscriber.onNext(new SimpleEvent(this));
+		assertEquals(4, subscription.requested);
+		subscriber.onNext(new SimpleEvent(this));
+		assertEquals(6, subscription.requested);
+		assertEquals(2, fired.size());
+		
+		// Assert that a second subscription is cancelled
+		RecordingSubscription second = new RecordingSubscription();
+		subscriber.onSubscribe(second);
+		assertTrue(second.cancelled);
+		assertEquals(0, second.requested);
+		
+		// Assert that cancelling the subscriber cancels it's subscription
+		subscriber.cancel();
+		assertTrue(subscription.cancelled);
+		assertTrue(subscriber.isDone());
+	}
+
+	@Test
+	public void testPooledItems() {
+		SimpleListener listener = new SimpleListener();
+		List<Event> fired = new ArrayList<>();
+		listener.addHandler(ItemEvent.class, fired::add);
+		EventSubscriber<ItemEvent> subscriber = new EventSubscriber<>(listener, 4);
+		subscriber.onSubscribe(new RecordingSubscription());
+		ItemEvent item = new ItemEvent();
+		
+		// Assert that the listener released the subscriber's reference rather than the one lent by the publisher
+		subscriber.onNext(item);
+		assertEquals(1, fired.size());
+		assertFalse(item.isReleased());
+		assertTrue(item.release());
+	}
+	
+	@Test
+	public void testFailure() {
+		SimpleListener listener = new SimpleListener();
+		List<RuntimeException> errors = new ArrayList<>();
+		listener.addHandler(SimpleEvent.class, event -> { throw new IllegalStateException(); });
+		EventSubscriber<SimpleEvent> subscriber = new EventSubscriber<>(listener, 4);
+		RecordingSubscription subscription = new RecordingSubscription();
+		subscriber.onSubscribe(subscription);
+		
+		// Assert that a failing item cancels the subscription instead of throwing to the publisher
+		assertDoesNotThrow(() -> subscriber.onNext(new SimpleEvent(this)));
+		assertTrue(subscription.cancelled);
+		assertTrue(subscriber.isDone());
+		assertTrue(subscriber.getFailure().get() instanceof IllegalStateException);
+		
+		// Assert that the failure is passed to the listener's error handler if it has one
+		SimpleListener disposed = new SimpleListener() {
+			@Override
+			public <T extends Event> void fireEvent(T event) {
+				throw new IllegalStateException("This listener is already disposed.");
+			}
+		};
+		disposed.setErrorHandler((event, handler, exception) -> errors.add(exception));
+		EventSubscriber<SimpleEvent> reporting = new EventSubscriber<>(disposed, 4);
+		reporting.onSubscribe(new RecordingSubscription());
+		reporting.onNext(new SimpleEvent(this));
+		reporting.onNext(new SimpleEvent(this));
+		assertEquals(1, errors.size());
+	}
+	
+	/**
+	 * A subscription that records the demand signalled by it's subscriber.
+	 */
+	private static final class RecordingSubscription implements Flow.Subscription {
+		
+		private long requested;
+		private boolean cancelled;
+
+		@Override
+		public void request(long n) {
+			requested += n;
+		}
+
+		@Override
+		public void cancel() {
+			cancelled = true;
+		}
+	}
+	
+	/**
+	 * A pooled event that isn't part of a pool.
+	 */
+	private static final class ItemEvent extends PooledEvent {}
+}